@@ -0,0 +1,69 @@
+package com.community.soap.common.aop;
+
+import static com.community.soap.common.util.AuthKeys.ATTR_USER_ROLE;
+
+import com.community.soap.common.exception.AppException;
+import com.community.soap.common.exception.CommonErrorCode;
+import com.community.soap.user.domain.entity.UserRole;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * {@link Permission} 검사 1회 비용: 기동 시 만든 EnumSet 테이블 조회 vs 기존 PermissionAspect 의 호출당 작업
+ * (AOP 프록시 비용은 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PermissionInterceptorBenchmark {
+
+    public static class SampleController {
+
+        @Permission
+        public void anyone() {
+        }
+    }
+
+    PermissionInterceptor interceptor;
+    HandlerMethod handler;
+    Permission permission;
+    MockHttpServletRequest request;
+    MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        handler = new HandlerMethod(new SampleController(), "anyone");
+        interceptor = new PermissionInterceptor(PermissionInterceptor.compile(List.of(handler)));
+        permission = handler.getMethodAnnotation(Permission.class);
+        request = new MockHttpServletRequest();
+        request.setAttribute(ATTR_USER_ROLE, UserRole.USER);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return interceptor.preHandle(request, response, handler);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        Set<UserRole> allowed = Arrays.stream(permission.value()).collect(Collectors.toSet());
+        if (!allowed.contains((UserRole) request.getAttribute(ATTR_USER_ROLE))) {
+            throw new AppException(CommonErrorCode.FORBIDDEN);
+        }
+        return true;
+    }
+}
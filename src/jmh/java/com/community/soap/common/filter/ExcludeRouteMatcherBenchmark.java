@@ -0,0 +1,89 @@
+package com.community.soap.common.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * JwtAuthenticationFilter.shouldNotFilter 경로 비교: 컴파일된 matcher vs 요청마다 PathPattern 순회.
+ * 제외 규칙은 application.yml 과 같고, 요청은 제외/보호 경로를 섞은 목록 (결과는 요청 1건당 시간)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExcludeRouteMatcherBenchmark {
+
+    static final List<String> EXCLUDE_PATHS = List.of(
+            "/actuator/**",
+            "/docs/**",
+            "/v3/api-docs/**",
+            "/swagger-ui/**",
+            "/error",
+            "/api/v1/auth/signup",
+            "/api/v1/auth/sign-in",
+            "/api/v1/auth/token/refresh",
+            "/api/v1/auth/email/request-verification-code",
+            "/api/v1/auth/email/verify-code"
+    );
+
+    static final String[] REQUESTS = {
+            "/api/v1/users/me", "/api/v1/auth/logout", "/api/v1/auth/sign-in",
+            "/api/v1/auth/token/refresh", "/actuator/prometheus", "/actuator/health",
+            "/docs/index.html", "/error", "/api/v1/posts/10/comments", "/"
+    };
+
+    ExcludeRouteMatcher matcher;
+    List<PathPattern> legacy;
+
+    @Setup
+    public void setUp() {
+        JwtFilterProperties props = new JwtFilterProperties();
+        props.setExcludePaths(new ArrayList<>(EXCLUDE_PATHS));
+        matcher = ExcludeRouteMatcher.compile(props);
+        legacy = legacyPatterns(props);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10) // REQUESTS.length
+    public void compiled(Blackhole bh) {
+        for (String path : REQUESTS) {
+            bh.consume(matcher.matchesPath(path));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10) // REQUESTS.length
+    public void legacy(Blackhole bh) {
+        for (String path : REQUESTS) {
+            PathContainer container = PathContainer.parsePath(path);
+            bh.consume(legacy.stream().anyMatch(p -> p.matches(container)));
+        }
+    }
+
+    // 기존 JwtAuthenticationFilter 의 제외 패턴 구성
+    private static List<PathPattern> legacyPatterns(JwtFilterProperties props) {
+        return props.getExcludePaths().stream()
+                .flatMap(raw -> {
+                    Stream<String> s = Stream.of(raw);
+                    if (raw.endsWith("/**")) {
+                        s = Stream.concat(s, Stream.of(raw.substring(0, raw.length() - 3)));
+                    }
+                    return s;
+                })
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+}
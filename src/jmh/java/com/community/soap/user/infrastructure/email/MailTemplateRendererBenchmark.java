@@ -0,0 +1,49 @@
+package com.community.soap.user.infrastructure.email;
+
+import com.community.soap.user.infrastructure.email.config.MailTemplateConfig;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+/**
+ * 인증 코드 메일 1건 렌더링: 매번 Thymeleaf 전체 렌더 vs 캐시된 skeleton 에 코드만 끼워 넣기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MailTemplateRendererBenchmark {
+
+    static final Map<String, Object> MODEL = Map.of("brand", "Community SOAP", "minutes", 5L);
+
+    MailTemplateRenderer renderer;
+    int seq;
+
+    @Setup
+    public void setUp() {
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(new MailTemplateConfig().emailTemplateResolver());
+        renderer = new MailTemplateRenderer(engine);
+    }
+
+    private String nextCode() {
+        return String.valueOf(100000 + (seq++ & 0xFFFF));
+    }
+
+    @Benchmark
+    public String thymeleaf() {
+        return renderer.render("verification-code",
+                Map.of("brand", "Community SOAP", "minutes", 5L, "code", nextCode()));
+    }
+
+    @Benchmark
+    public String skeleton() {
+        return renderer.renderWithSlot("verification-code", MODEL, "code", nextCode());
+    }
+}
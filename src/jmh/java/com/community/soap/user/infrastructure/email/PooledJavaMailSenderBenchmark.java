@@ -0,0 +1,73 @@
+package com.community.soap.user.infrastructure.email;
+
+import com.community.soap.user.infrastructure.email.config.MailPoolProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * 로컬 SMTP stand-in(FakeSmtpServer, 응답마다 2ms 지연) 대상 발송 처리량.
+ * plain: 메시지마다 연결/핸드셰이크, pooled: 스레드 수만큼의 연결을 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class PooledJavaMailSenderBenchmark {
+
+    @Param({"plain", "pooled"})
+    String sender;
+
+    FakeSmtpServer smtp;
+    JavaMailSenderImpl mailSender;
+    final AtomicInteger seq = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        smtp = new FakeSmtpServer();
+        smtp.setResponseDelay(Duration.ofMillis(2));
+        if ("pooled".equals(sender)) {
+            MailPoolProperties props = new MailPoolProperties();
+            props.setMaxConnections(4);
+            mailSender = new PooledJavaMailSender("fake", props, new SimpleMeterRegistry());
+        } else {
+            mailSender = new JavaMailSenderImpl();
+        }
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtp.port());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (mailSender instanceof PooledJavaMailSender pooled) {
+            pooled.destroy();
+        }
+        smtp.close();
+    }
+
+    @Benchmark
+    public void send() {
+        int n = seq.incrementAndGet();
+        SimpleMailMessage msg = new SimpleMailMessage();
+        msg.setFrom("noreply@soap.test");
+        msg.setTo("user" + n + "@soap.test");
+        msg.setSubject("[Community SOAP] 이메일 인증코드");
+        msg.setText("인증코드: " + (100000 + n % 900000));
+        mailSender.send(msg);
+    }
+}
@@ -0,0 +1,72 @@
+package com.community.soap.user.infrastructure.jwt;
+
+import com.community.soap.user.application.port.out.TokenRepositoryAsyncPort;
+import com.community.soap.user.infrastructure.jwt.TokenFlowLatencyTest.DelayedTokenRepository;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * logout 흐름(SISMEMBER, GET, SET NX, 폐기 스크립트)의 흐름당 지연을 Redis RTT 별로 비교.
+ * 저장소는 모든 명령이 RTT 후에 완료되는 TokenFlowLatencyTest.DelayedTokenRepository
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenFlowBenchmark {
+
+    @Param({"1000", "5000"})
+    long rttMicros;
+
+    ScheduledExecutorService network;
+    TokenRepositoryAsyncPort port;
+
+    @Setup
+    public void setUp() {
+        network = Executors.newScheduledThreadPool(4);
+        port = new DelayedTokenRepository(network, rttMicros);
+    }
+
+    @TearDown
+    public void tearDown() {
+        network.shutdownNow();
+    }
+
+    // 명령마다 응답을 기다림 (기존 동기 포트) → 4 RTT
+    @Benchmark
+    public void sequential() {
+        join(port.hasUserRefreshJti(1L, "r"));
+        join(port.blacklistAccessJti("a", 60_000));
+        join(port.getRefreshTokenHashByJti(1L, "r"));
+        join(port.revokeRefreshToken(1L, "r"));
+    }
+
+    // 독립 명령을 함께 보냄 (조회 2건 → 쓰기 2건) → 2 RTT
+    @Benchmark
+    public void concurrent() {
+        CompletionStage<Boolean> indexed = port.hasUserRefreshJti(1L, "r");
+        CompletionStage<Optional<String>> stored = port.getRefreshTokenHashByJti(1L, "r");
+        join(indexed);
+        join(stored);
+        CompletableFuture.allOf(
+                port.blacklistAccessJti("a", 60_000).toCompletableFuture(),
+                port.revokeRefreshToken(1L, "r").toCompletableFuture()
+        ).join();
+    }
+
+    private static <T> T join(CompletionStage<T> stage) {
+        return stage.toCompletableFuture().join();
+    }
+}
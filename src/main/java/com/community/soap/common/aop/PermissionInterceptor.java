@@ -0,0 +1,104 @@
+package com.community.soap.common.aop;
+
+import static com.community.soap.common.util.AuthKeys.ATTR_USER_ROLE;
+
+import com.community.soap.common.exception.AppException;
+import com.community.soap.common.exception.CommonErrorCode;
+import com.community.soap.user.domain.entity.UserRole;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * {@link Permission} 검사.
+ * - 컨텍스트 기동 완료 시 모든 핸들러 메서드의 @Permission 을 EnumSet 으로 한 번만 해석해 불변 테이블로 보관
+ * - 요청마다 테이블 조회 + JwtAuthenticationFilter 가 넣어 둔 role attribute 비교만 수행 (AOP 프록시/할당 없음)
+ */
+@Slf4j(topic = "PermissionInterceptor")
+@Component
+public class PermissionInterceptor implements HandlerInterceptor,
+        ApplicationListener<ContextRefreshedEvent> {
+
+    // 테이블 생성 전(기동 직후 짧은 구간)에는 null → 어노테이션 직접 해석
+    private volatile Map<Method, Set<UserRole>> table;
+
+    public PermissionInterceptor() {
+    }
+
+    PermissionInterceptor(Map<Method, Set<UserRole>> table) {
+        this.table = Map.copyOf(table);
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        Map<Method, Set<UserRole>> compiled = new HashMap<>();
+        for (RequestMappingHandlerMapping mapping : event.getApplicationContext()
+                .getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            compiled.putAll(compile(mapping.getHandlerMethods().values()));
+        }
+        this.table = Map.copyOf(compiled);
+        log.info("권한 테이블 생성: @Permission 핸들러 {}개", compiled.size());
+    }
+
+    static Map<Method, Set<UserRole>> compile(Collection<HandlerMethod> handlerMethods) {
+        Map<Method, Set<UserRole>> compiled = new HashMap<>();
+        for (HandlerMethod hm : handlerMethods) {
+            Set<UserRole> allowed = resolve(hm.getMethod());
+            if (allowed != null) {
+                compiled.put(hm.getMethod(), allowed);
+            }
+        }
+        return compiled;
+    }
+
+    private static Set<UserRole> resolve(Method method) {
+        Permission permission = AnnotatedElementUtils.findMergedAnnotation(method, Permission.class);
+        if (permission == null) {
+            return null;
+        }
+        EnumSet<UserRole> allowed = EnumSet.noneOf(UserRole.class);
+        allowed.addAll(Arrays.asList(permission.value()));
+        return allowed;
+    }
+
+    @Override
+    public boolean preHandle(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler
+    ) {
+        if (!(handler instanceof HandlerMethod hm)) {
+            return true;
+        }
+        Map<Method, Set<UserRole>> t = table;
+        Set<UserRole> allowed = (t != null) ? t.get(hm.getMethod()) : resolve(hm.getMethod());
+        if (allowed == null) {
+            return true; // @Permission 없는 핸들러
+        }
+
+        Object roleAttr = request.getAttribute(ATTR_USER_ROLE);
+        if (!(roleAttr instanceof UserRole current)) {
+            log.warn("요청에 역할 attribute가 없습니다: {}", ATTR_USER_ROLE);
+            throw new AppException(CommonErrorCode.UNAUTHORIZED);
+        }
+        if (!allowed.contains(current)) {
+            log.info("권한 거부: 현재 역할={}, 허용 역할={}", current, allowed);
+            throw new AppException(CommonErrorCode.FORBIDDEN);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+package com.community.soap.common.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 key 로 동시에 들어온 호출을 하나로 합친다.
+ * - 먼저 들어온 호출(leader)만 loader 를 실행하고, 나머지는 leader 의 결과(또는 예외)를 그대로 받는다.
+ * - 완료 즉시 key 를 비우므로 결과 캐시가 아님 (동시 실행 구간만 합침)
+ * - fingerprint 를 주면 leader 와 같은 fingerprint 인 호출만 결과를 받는다 (같은 key 에 다른 입력이면 onMismatch)
+ */
+public final class SingleFlight<K, V> {
+
+    private record Flight<V>(Object fingerprint, CompletableFuture<V> future) {
+    }
+
+    private final ConcurrentHashMap<K, Flight<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(
+            K key,
+            Duration waitTimeout,
+            Supplier<V> loader,
+            Supplier<? extends RuntimeException> onTimeout
+    ) {
+        return execute(key, null, waitTimeout, loader, onTimeout, onTimeout);
+    }
+
+    public V execute(
+            K key,
+            Object fingerprint,
+            Duration waitTimeout,
+            Supplier<V> loader,
+            Supplier<? extends RuntimeException> onTimeout,
+            Supplier<? extends RuntimeException> onMismatch
+    ) {
+        Flight<V> mine = new Flight<>(fingerprint, new CompletableFuture<>());
+        Flight<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            // leader 의 입력과 다르면 결과를 넘기지 않는다 (기다리지도 않음)
+            if (!Objects.equals(existing.fingerprint(), fingerprint)) {
+                throw onMismatch.get();
+            }
+            return await(existing.future(), waitTimeout, onTimeout);
+        }
+
+        try {
+            V value = loader.get();
+            mine.future().complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.future().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(
+            CompletableFuture<V> leader,
+            Duration waitTimeout,
+            Supplier<? extends RuntimeException> onTimeout
+    ) {
+        try {
+            return leader.get(waitTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error err) {
+                throw err;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            throw onTimeout.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw onTimeout.get();
+        }
+    }
+}
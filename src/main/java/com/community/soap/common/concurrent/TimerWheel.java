@@ -0,0 +1,123 @@
+package com.community.soap.common.concurrent;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 해시드 타이머 휠: 만료 작업을 deadline 이 속한 tick 칸(bucket)에 넣고, 1 tick 마다 한 칸만 훑는다.
+ * - schedule O(1), 틱당 비용은 그 칸의 작업 수에 비례 (전체 스캔 없음)
+ * - 정밀도는 tick 단위. 정확한 만료 판정은 호출 측이 읽을 때 deadline 으로 직접 하고,
+ *   휠은 만료된 항목의 메모리 회수만 담당한다
+ * - 한 바퀴(tick * wheelSize)보다 먼 작업은 칸에 남아 있다가 deadline 이 지난 바퀴에서 실행
+ */
+@Slf4j(topic = "TimerWheel")
+public final class TimerWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final int mask;
+    private final ConcurrentLinkedQueue<Task>[] buckets;
+    private final LongSupplier nanoClock;
+    private final long origin;
+    private final Thread ticker;
+
+    // 마지막으로 처리한 tick (ticker 스레드만 쓰기)
+    private volatile long processedTick;
+    private volatile boolean closed;
+
+    public TimerWheel(String name, Duration tick, int wheelSize) {
+        this(tick, wheelSize, System::nanoTime, name);
+    }
+
+    @SuppressWarnings("unchecked")
+    TimerWheel(Duration tick, int wheelSize, LongSupplier nanoClock, String name) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize 는 2의 거듭제곱이어야 합니다: " + wheelSize);
+        }
+        this.tickNanos = tick.toNanos();
+        this.mask = wheelSize - 1;
+        this.buckets = new ConcurrentLinkedQueue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+        this.ticker = name == null ? null
+                : Thread.ofPlatform().name(name + "-ticker").daemon().start(this::tickLoop);
+    }
+
+    /**
+     * deadline(System.nanoTime 기준) 이후 task 를 ticker 스레드에서 실행한다. task 는 짧고 예외 없이 끝나야 한다
+     */
+    public void schedule(long deadlineNanos, Runnable task) {
+        long tick = Math.max(ceilTick(deadlineNanos), processedTick + 1);
+        buckets[(int) (tick & mask)].add(new Task(deadlineNanos, task));
+    }
+
+    public void schedule(Duration delay, Runnable task) {
+        schedule(nanoClock.getAsLong() + delay.toNanos(), task);
+    }
+
+    public int pending() {
+        int n = 0;
+        for (ConcurrentLinkedQueue<Task> b : buckets) {
+            n += b.size();
+        }
+        return n;
+    }
+
+    /**
+     * 현재 시각까지의 칸을 처리한다 (ticker 스레드, 또는 테스트에서 직접 호출)
+     */
+    void advance() {
+        long now = nanoClock.getAsLong();
+        long target = (now - origin) / tickNanos;
+        // 한 바퀴 이상 밀렸으면 모든 칸을 한 번씩만 훑으면 충분
+        long from = Math.max(processedTick + 1, target - mask);
+        for (long t = from; t <= target; t++) {
+            Iterator<Task> it = buckets[(int) (t & mask)].iterator();
+            while (it.hasNext()) {
+                Task task = it.next();
+                if (task.deadlineNanos - now <= 0) {
+                    it.remove();
+                    run(task);
+                }
+            }
+        }
+        processedTick = Math.max(processedTick, target);
+    }
+
+    private long ceilTick(long deadlineNanos) {
+        long elapsed = deadlineNanos - origin;
+        return elapsed <= 0 ? 0 : (elapsed + tickNanos - 1) / tickNanos;
+    }
+
+    private void run(Task task) {
+        try {
+            task.action.run();
+        } catch (RuntimeException e) {
+            log.warn("타이머 작업 실패", e);
+        }
+    }
+
+    private void tickLoop() {
+        while (!closed) {
+            LockSupport.parkNanos(tickNanos);
+            advance();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (ticker != null) {
+            LockSupport.unpark(ticker);
+        }
+    }
+
+    private record Task(long deadlineNanos, Runnable action) {
+    }
+}
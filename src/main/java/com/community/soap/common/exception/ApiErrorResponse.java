@@ -2,23 +2,24 @@ package com.community.soap.common.exception;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
-import org.springframework.http.HttpStatus;
 
+/**
+ * 필터/컨트롤러 어드바이스 공통 에러 응답 형식.
+ * - data 가 없는 응답은 ErrorResponseWriter 가 ErrorCode 별로 미리 인코딩한 바이트로 직접 쓴다
+ * - 필드 순서를 바꾸면 ErrorResponseWriter 의 인코딩 순서도 같이 바꿔야 한다
+ */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record ApiErrorResponse(
-        int code,
+        String timestamp,
+        int status,
+        String error,
+        String code,
         String message,
+        String path,
         List<FieldError> data
 ) {
-    public static ApiErrorResponse of(HttpStatus status, String message, List<FieldError> data) {
-        return new ApiErrorResponse(status.value(), message, (data == null || data.isEmpty()) ? null : data);
-    }
-    public static ApiErrorResponse of(HttpStatus status, String message) {
-        return new ApiErrorResponse(status.value(), message, null);
-    }
 
     public record FieldError(String field, String reason) {
         public static FieldError of(String field, String reason) { return new FieldError(field, reason); }
     }
 }
-
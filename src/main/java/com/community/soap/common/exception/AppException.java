@@ -2,13 +2,31 @@ package com.community.soap.common.exception;
 
 import lombok.Getter;
 
+/**
+ * - 4xx(클라이언트 오류)는 예상된 흐름이라 스택 트레이스를 수집하지 않는다 (토큰 스팸 등에서 CPU/로그 I/O 절감)
+ * - 5xx 또는 원인 예외가 있는 경우는 기존처럼 전체 스택 유지
+ * - 디버깅이 필요하면 -Dapp.exception.client-stacktrace=true 로 4xx 도 스택 수집
+ */
 @Getter
 public class AppException extends RuntimeException {
 
+    private static final boolean CLIENT_STACKTRACE =
+            Boolean.getBoolean("app.exception.client-stacktrace");
+
     private final ErrorCode errorCode;
 
     public AppException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
+        this(errorCode, null);
+    }
+
+    public AppException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode.getMessage(), cause, true, cause != null || !isStackless(errorCode));
         this.errorCode = errorCode;
     }
+
+    private static boolean isStackless(ErrorCode errorCode) {
+        return !CLIENT_STACKTRACE
+                && errorCode.getStatus() != null
+                && errorCode.getStatus().is4xxClientError();
+    }
 }
@@ -20,7 +20,9 @@ public enum CommonErrorCode implements ErrorCode {
 
     FORBIDDEN(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
 
-    INVALID_HEADER(HttpStatus.BAD_REQUEST, "잘못된 헤더 정보입니다.");
+    INVALID_HEADER(HttpStatus.BAD_REQUEST, "잘못된 헤더 정보입니다."),
+
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "일시적으로 서비스를 이용할 수 없습니다. 잠시 후 다시 시도해 주세요.");
 
 
     private final HttpStatus status;
@@ -0,0 +1,110 @@
+package com.community.soap.common.exception;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * 처리된 AppException 로그 정책.
+ * - 5xx(또는 status 없음): 매번 ERROR + 전체 스택
+ * - 4xx: ErrorCode 별 카운터는 항상 증가, 개별 로그는 초당 burstPerSecond 건까지 스택 없이 WARN,
+ *        초과분은 1/sampleEvery 확률로만 남기고 나머지는 주기 요약(summaryInterval)으로 집계
+ */
+@Slf4j(topic = "ErrorLogSampler")
+@Component
+public class ErrorLogSampler implements DisposableBean {
+
+    private final int burstPerSecond;
+    private final int sampleEvery;
+
+    private final ConcurrentHashMap<String, LongAdder> clientErrorCounts = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+    private final AtomicLong windowSec = new AtomicLong();
+    private final AtomicInteger windowLogged = new AtomicInteger();
+    private final ScheduledExecutorService summaryExecutor;
+
+    public ErrorLogSampler(
+            @Value("${observability.error-log.burst-per-second:20}") int burstPerSecond,
+            @Value("${observability.error-log.sample-every:100}") int sampleEvery,
+            @Value("${observability.error-log.summary-interval:60s}") Duration summaryInterval
+    ) {
+        this.burstPerSecond = burstPerSecond;
+        this.sampleEvery = sampleEvery;
+        this.summaryExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "error-log-summary");
+            t.setDaemon(true);
+            return t;
+        });
+        long periodMs = summaryInterval.toMillis();
+        summaryExecutor.scheduleWithFixedDelay(this::logSummary, periodMs, periodMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    public void record(ErrorCode code, String path, Throwable ex) {
+        HttpStatus status = (code != null) ? code.getStatus() : null;
+        String name = codeName(code);
+
+        if (status == null || !status.is4xxClientError()) {
+            log.error("Handled AppException: {} ({}) path={}", name, status, path, ex);
+            return;
+        }
+
+        clientErrorCounts.computeIfAbsent(name, k -> new LongAdder()).increment();
+        if (allow()) {
+            log.warn("Handled AppException: {} ({}) path={} message={}",
+                    name, status, path, ex.getMessage());
+        } else {
+            suppressed.increment();
+        }
+    }
+
+    private boolean allow() {
+        long now = System.currentTimeMillis() / 1000;
+        long current = windowSec.get();
+        if (current != now && windowSec.compareAndSet(current, now)) {
+            windowLogged.set(0);
+        }
+        if (windowLogged.incrementAndGet() <= burstPerSecond) {
+            return true;
+        }
+        return sampleEvery > 0 && ThreadLocalRandom.current().nextInt(sampleEvery) == 0;
+    }
+
+    void logSummary() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        clientErrorCounts.forEach((name, adder) -> {
+            long n = adder.sumThenReset();
+            if (n > 0) {
+                snapshot.put(name, n);
+            }
+        });
+        long dropped = suppressed.sumThenReset();
+        if (!snapshot.isEmpty()) {
+            log.info("4xx summary: {} (개별 로그 생략 {}건)", snapshot, dropped);
+        }
+    }
+
+    public static String codeName(ErrorCode code) {
+        return (code instanceof Enum<?> e) ? e.name()
+                : (code != null ? code.getClass().getSimpleName() : "APP_ERROR");
+    }
+
+    @Override
+    public void destroy() {
+        summaryExecutor.shutdown();
+        logSummary();
+    }
+}
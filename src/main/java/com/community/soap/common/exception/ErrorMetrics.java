@@ -0,0 +1,35 @@
+package com.community.soap.common.exception;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 에러 응답 수 지표: app.errors{code, status, layer=filter|handler}
+ * - ErrorCode 는 enum 이라 태그 수가 고정 → Counter 를 (layer, code) 별로 한 번만 만든다
+ */
+@Component
+public class ErrorMetrics {
+
+    public static final String LAYER_FILTER = "filter";
+    public static final String LAYER_HANDLER = "handler";
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, ConcurrentHashMap<ErrorCode, Counter>> counters =
+            new ConcurrentHashMap<>();
+
+    public ErrorMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void increment(ErrorCode code, String layer) {
+        counters.computeIfAbsent(layer, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(code, c -> Counter.builder("app.errors")
+                        .tag("code", ErrorLogSampler.codeName(c))
+                        .tag("status", c.getStatus() != null ? String.valueOf(c.getStatus().value()) : "none")
+                        .tag("layer", layer)
+                        .register(registry))
+                .increment();
+    }
+}
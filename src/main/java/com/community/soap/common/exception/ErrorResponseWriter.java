@@ -0,0 +1,244 @@
+package com.community.soap.common.exception;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * ApiErrorResponse 형식의 에러 응답 writer (ExceptionHandlingFilter, GlobalExceptionHandler 공용).
+ * - 기동 시 ErrorCode enum 을 스캔해 고정 부분(status, error, code, message)을 UTF-8 바이트로 미리 인코딩
+ * - 요청마다 timestamp(초 단위 캐시)와 path 만 이어 붙여 출력 → 401/429 폭주 시 할당 최소화
+ * - 본문 길이를 먼저 계산해 딱 맞는 배열 하나에 채운다 (스레드별 버퍼를 두지 않음: virtual thread 는 요청마다 새 스레드)
+ * - data(필드 오류)가 있는 응답은 드물어서 ObjectMapper 로 직렬화
+ */
+@Slf4j(topic = "ErrorResponseWriter")
+@Component
+public class ErrorResponseWriter {
+
+    private static final String CONTENT_TYPE = "application/json;charset=UTF-8";
+    private static final byte[] OPEN = "{\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CLOSE = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final ObjectMapper objectMapper;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final Map<ErrorCode, byte[]> encoded = new ConcurrentHashMap<>();
+
+    private volatile CachedTimestamp timestamp = new CachedTimestamp(-1, new byte[0]);
+
+    private record CachedTimestamp(long epochSec, byte[] bytes) {
+
+    }
+
+    public ErrorResponseWriter(ObjectMapper objectMapper, BeanFactory beanFactory) {
+        this.objectMapper = objectMapper;
+        preEncode(AutoConfigurationPackages.has(beanFactory)
+                ? AutoConfigurationPackages.get(beanFactory)
+                : List.of(ClassUtils.getPackageName(ErrorCode.class)));
+    }
+
+    private void preEncode(List<String> basePackages) {
+        ClassPathScanningCandidateComponentProvider scanner =
+                new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(ErrorCode.class));
+        for (String base : basePackages) {
+            scanner.findCandidateComponents(base).forEach(bd -> {
+                Class<?> type = ClassUtils.resolveClassName(bd.getBeanClassName(), null);
+                if (type.isEnum()) {
+                    for (Object constant : type.getEnumConstants()) {
+                        encodedOf((ErrorCode) constant);
+                    }
+                }
+            });
+        }
+        log.info("에러 응답 사전 인코딩: ErrorCode {}개", encoded.size());
+    }
+
+    public void write(HttpServletRequest req, HttpServletResponse resp, ErrorCode code)
+            throws IOException {
+        if (resp.isCommitted()) {
+            return;
+        }
+        byte[] fixed = encodedOf(code);
+        byte[] ts = timestampBytes();
+        String path = req.getRequestURI();
+
+        byte[] buf = new byte[OPEN.length + ts.length + fixed.length + escapedLength(path) + CLOSE.length];
+        int pos = put(buf, 0, OPEN);
+        pos = put(buf, pos, ts);
+        pos = put(buf, pos, fixed);
+        pos = putEscaped(buf, pos, path);
+        pos = put(buf, pos, CLOSE);
+
+        prepare(resp, code.getStatus());
+        resp.setContentLength(pos);
+        try {
+            resp.getOutputStream().write(buf, 0, pos);
+        } catch (IllegalStateException e) {
+            // 이미 getWriter() 가 사용된 응답
+            resp.getWriter().write(new String(buf, 0, pos, StandardCharsets.UTF_8));
+        }
+    }
+
+    public void write(
+            HttpServletRequest req,
+            HttpServletResponse resp,
+            ErrorCode code,
+            List<ApiErrorResponse.FieldError> data
+    ) throws IOException {
+        if (data == null || data.isEmpty()) {
+            write(req, resp, code);
+            return;
+        }
+        if (resp.isCommitted()) {
+            return;
+        }
+        HttpStatus status = statusOf(code);
+        ApiErrorResponse body = new ApiErrorResponse(
+                OffsetDateTime.now(zone).truncatedTo(ChronoUnit.SECONDS).toString(),
+                status.value(),
+                status.getReasonPhrase(),
+                codeName(code),
+                code.getMessage(),
+                req.getRequestURI(),
+                data
+        );
+        prepare(resp, status);
+        objectMapper.writeValue(resp.getOutputStream(), body);
+    }
+
+    private void prepare(HttpServletResponse resp, HttpStatus status) {
+        resp.resetBuffer();
+        resp.setStatus(statusOf(status).value());
+        resp.setContentType(CONTENT_TYPE);
+    }
+
+    private byte[] encodedOf(ErrorCode code) {
+        return encoded.computeIfAbsent(code, this::encode);
+    }
+
+    // "\",\"status\":401,\"error\":\"Unauthorized\",\"code\":\"...\",\"message\":\"...\",\"path\":\""
+    private byte[] encode(ErrorCode code) {
+        HttpStatus status = statusOf(code);
+        try {
+            String fixed = "\",\"status\":" + status.value()
+                    + ",\"error\":" + objectMapper.writeValueAsString(status.getReasonPhrase())
+                    + ",\"code\":" + objectMapper.writeValueAsString(codeName(code))
+                    + ",\"message\":" + objectMapper.writeValueAsString(code.getMessage())
+                    + ",\"path\":\"";
+            return fixed.getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에러 응답 인코딩 실패: " + codeName(code), e);
+        }
+    }
+
+    private byte[] timestampBytes() {
+        long nowSec = System.currentTimeMillis() / 1000;
+        CachedTimestamp cached = timestamp;
+        if (cached.epochSec() == nowSec) {
+            return cached.bytes();
+        }
+        byte[] bytes = OffsetDateTime.ofInstant(Instant.ofEpochSecond(nowSec), zone).toString()
+                .getBytes(StandardCharsets.US_ASCII);
+        timestamp = new CachedTimestamp(nowSec, bytes);
+        return bytes;
+    }
+
+    private static HttpStatus statusOf(ErrorCode code) {
+        return statusOf(code != null ? code.getStatus() : null);
+    }
+
+    private static HttpStatus statusOf(HttpStatus status) {
+        return status != null ? status : HttpStatus.BAD_REQUEST;
+    }
+
+    private static String codeName(ErrorCode code) {
+        return ErrorLogSampler.codeName(code);
+    }
+
+    private static int put(byte[] buf, int pos, byte[] src) {
+        System.arraycopy(src, 0, buf, pos, src.length);
+        return pos + src.length;
+    }
+
+    // putEscaped 가 쓰는 바이트 수
+    private static int escapedLength(String s) {
+        int n = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                n += 2;
+            } else if (c < 0x20) {
+                n += 6;
+            } else if (c < 0x80) {
+                n += 1;
+            } else if (c < 0x800) {
+                n += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                n += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                n += 1;
+            } else {
+                n += 3;
+            }
+        }
+        return n;
+    }
+
+    // JSON 문자열 escape + UTF-8 인코딩 (escapedLength 와 같은 규칙)
+    private static int putEscaped(byte[] buf, int pos, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                buf[pos++] = '\\';
+                buf[pos++] = (byte) c;
+            } else if (c < 0x20) {
+                buf[pos++] = '\\';
+                buf[pos++] = 'u';
+                buf[pos++] = '0';
+                buf[pos++] = '0';
+                buf[pos++] = HEX[c >> 4];
+                buf[pos++] = HEX[c & 0xF];
+            } else if (c < 0x80) {
+                buf[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, s.charAt(++i));
+                buf[pos++] = (byte) (0xF0 | (cp >> 18));
+                buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buf[pos++] = '?'; // 짝이 없는 surrogate
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return pos;
+    }
+}
@@ -1,86 +1,103 @@
 package com.community.soap.common.exception;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
+import java.io.IOException;
 import java.util.List;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
-
+/**
+ * 응답 본문은 ExceptionHandlingFilter 와 같은 ErrorResponseWriter 로 직접 출력한다. (ApiErrorResponse 형식)
+ */
 @Slf4j
+@RequiredArgsConstructor
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final ErrorLogSampler errorLogSampler;
+    private final ErrorResponseWriter errorResponseWriter;
+    private final ErrorMetrics errorMetrics;
+
     // 도메인 단건 예외
     @ExceptionHandler(AppException.class)
-    public ResponseEntity<ApiErrorResponse> handleApp(AppException ex) {
+    public void handleApp(AppException ex, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
         var code = ex.getErrorCode();
-        return ResponseEntity.status(code.getStatus())
-                .body(ApiErrorResponse.of(code.getStatus(), code.getMessage()));
+        errorLogSampler.record(code, request.getRequestURI(), ex);
+        errorMetrics.increment(code, ErrorMetrics.LAYER_HANDLER);
+        errorResponseWriter.write(request, response, code);
     }
 
     // @Valid 바인딩 실패 → 여러 필드 오류를 data에
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ApiErrorResponse> handleInvalid(MethodArgumentNotValidException ex) {
+    public void handleInvalid(
+            MethodArgumentNotValidException ex,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
         List<ApiErrorResponse.FieldError> errors = ex.getBindingResult().getFieldErrors().stream()
                 .map(err -> ApiErrorResponse.FieldError.of(err.getField(), err.getDefaultMessage()))
                 .toList();
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ApiErrorResponse.of(HttpStatus.BAD_REQUEST,
-                        CommonErrorCode.INVALID_INPUT_VALUE.getMessage(),
-                        errors));
+        errorResponseWriter.write(request, response, CommonErrorCode.INVALID_INPUT_VALUE, errors);
     }
 
     // Validator 직접 사용 시 (여러 필드)
     @ExceptionHandler(ConstraintViolationException.class)
-    public ResponseEntity<ApiErrorResponse> handleConstraint(ConstraintViolationException ex) {
+    public void handleConstraint(
+            ConstraintViolationException ex,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
         var errors = ex.getConstraintViolations().stream()
                 .map(v -> ApiErrorResponse.FieldError.of(v.getPropertyPath().toString(),
                         v.getMessage()))
                 .toList();
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ApiErrorResponse.of(HttpStatus.BAD_REQUEST,
-                        CommonErrorCode.INVALID_INPUT_VALUE.getMessage(),
-                        errors));
+        errorResponseWriter.write(request, response, CommonErrorCode.INVALID_INPUT_VALUE, errors);
     }
 
     // 잘못된 JSON 본문
     @ExceptionHandler(HttpMessageNotReadableException.class)
-    public ResponseEntity<ApiErrorResponse> handleNotReadable(HttpMessageNotReadableException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                .body(ApiErrorResponse.of(HttpStatus.BAD_REQUEST,
-                        CommonErrorCode.INVALID_INPUT_VALUE.getMessage()));
+    public void handleNotReadable(
+            HttpMessageNotReadableException ex,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        errorResponseWriter.write(request, response, CommonErrorCode.INVALID_INPUT_VALUE);
     }
 
     // 허용되지 않은 메서드
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
-    public ResponseEntity<ApiErrorResponse> handleMethodNotAllowed(
-            HttpRequestMethodNotSupportedException ex) {
-        return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED)
-                .body(ApiErrorResponse.of(HttpStatus.METHOD_NOT_ALLOWED,
-                        CommonErrorCode.METHOD_NOT_ALLOWED.getMessage()));
+    public void handleMethodNotAllowed(
+            HttpRequestMethodNotSupportedException ex,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        errorResponseWriter.write(request, response, CommonErrorCode.METHOD_NOT_ALLOWED);
     }
 
     // JPA 404
     @ExceptionHandler(EntityNotFoundException.class)
-    public ResponseEntity<ApiErrorResponse> handleNotFound(EntityNotFoundException ex) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                .body(ApiErrorResponse.of(HttpStatus.NOT_FOUND,
-                        CommonErrorCode.ENTITY_NOT_FOUND.getMessage()));
+    public void handleNotFound(
+            EntityNotFoundException ex,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        errorResponseWriter.write(request, response, CommonErrorCode.ENTITY_NOT_FOUND);
     }
 
     // 500 안전망
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiErrorResponse> handleAny(Exception ex) {
+    public void handleAny(Exception ex, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
         log.error("Unhandled exception", ex);
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ApiErrorResponse.of(HttpStatus.INTERNAL_SERVER_ERROR,
-                        CommonErrorCode.INTERNAL_SERVER_ERROR.getMessage()));
+        errorResponseWriter.write(request, response, CommonErrorCode.INTERNAL_SERVER_ERROR);
     }
 }
@@ -0,0 +1,61 @@
+package com.community.soap.common.filter;
+
+import com.community.soap.common.observability.RedisCommandMetrics;
+import com.community.soap.common.observability.RequestMetrics;
+import com.community.soap.common.observability.SqlMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 가장 바깥 필터: 요청별 자원 사용량 집계(RequestMetrics)를 열고, 끝나면 지표 기록 + 접근 로그 1줄.
+ * - route 는 매핑된 URI 패턴 (없으면 UNKNOWN) → 지표 tag 카디널리티 제한
+ * - 로그 예: POST /api/v1/users/refresh 200 12ms db=1q/3ms redis=3cmd/2rt/1ms
+ *   SQL 수나 Redis 명령/round trip 수가 늘면 (예: SISMEMBER 추가) 바로 보인다
+ */
+@Slf4j(topic = "AccessLog")
+@RequiredArgsConstructor
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    static final String UNKNOWN_ROUTE = "UNKNOWN";
+
+    private final RedisCommandMetrics redisCommandMetrics;
+    private final SqlMetrics sqlMetrics;
+    private final boolean logEnabled;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestMetrics metrics = RequestMetrics.start();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestMetrics.end();
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000L;
+            String route = routeOf(request);
+            redisCommandMetrics.recordRequest(route, metrics);
+            sqlMetrics.recordRequest(route, metrics);
+            if (logEnabled) {
+                log.info("{} {} {} {}ms db={}q/{}ms redis={}cmd/{}rt/{}ms",
+                        request.getMethod(), route, response.getStatus(), elapsedMs,
+                        metrics.dbStatements(), metrics.dbMillis(),
+                        metrics.redisCommands(), metrics.redisRoundTrips(), metrics.redisMillis());
+            }
+        }
+    }
+
+    static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof String s ? s : UNKNOWN_ROUTE;
+    }
+}
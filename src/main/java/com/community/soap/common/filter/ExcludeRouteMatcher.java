@@ -0,0 +1,229 @@
+package com.community.soap.common.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * JwtFilterProperties 의 인증 제외 규칙을 기동 시 한 번 컴파일한 matcher.
+ * - 메서드: EnumSet 조회
+ * - 경로: 정확 일치(HashSet) → "/**" prefix trie(세그먼트 단위) → 진짜 와일드카드만 PathPattern
+ * - '%', ';' 가 들어간 URI 는 디코딩/path param 처리가 필요하므로 기존과 같은 PathPattern 전체 비교로 처리
+ */
+final class ExcludeRouteMatcher {
+
+    private static final PathPatternParser PARSER = PathPatternParser.defaultInstance;
+
+    private final EnumSet<RequestMethod> methods;
+    private final Set<String> extraMethods; // RequestMethod 에 없는 메서드 (대문자)
+    private final Set<String> exactPaths;
+    private final PrefixNode prefixRoot;
+    private final List<PathPattern> wildcardPatterns;
+    private final List<PathPattern> allPatterns;
+
+    private ExcludeRouteMatcher(
+            EnumSet<RequestMethod> methods,
+            Set<String> extraMethods,
+            Set<String> exactPaths,
+            PrefixNode prefixRoot,
+            List<PathPattern> wildcardPatterns,
+            List<PathPattern> allPatterns
+    ) {
+        this.methods = methods;
+        this.extraMethods = extraMethods;
+        this.exactPaths = exactPaths;
+        this.prefixRoot = prefixRoot;
+        this.wildcardPatterns = wildcardPatterns;
+        this.allPatterns = allPatterns;
+    }
+
+    static ExcludeRouteMatcher compile(JwtFilterProperties props) {
+        EnumSet<RequestMethod> methods = EnumSet.noneOf(RequestMethod.class);
+        Set<String> extraMethods = new HashSet<>();
+        for (String m : props.getExcludeMethods()) {
+            String upper = m.trim().toUpperCase(Locale.ROOT);
+            RequestMethod resolved = RequestMethod.resolve(upper);
+            if (resolved != null) {
+                methods.add(resolved);
+            } else {
+                extraMethods.add(upper);
+            }
+        }
+
+        Set<String> exactPaths = new HashSet<>();
+        PrefixNode prefixRoot = new PrefixNode();
+        List<PathPattern> wildcardPatterns = new ArrayList<>();
+        Set<String> allRaw = new LinkedHashSet<>();
+
+        for (String raw : props.getExcludePaths()) {
+            List<String> variants = variantsOf(raw);
+            allRaw.addAll(variants);
+
+            if (raw.endsWith("/**") && !hasWildcard(raw.substring(0, raw.length() - 3))) {
+                prefixRoot.insert(raw.substring(0, raw.length() - 3));
+            } else if (!hasWildcard(raw)) {
+                exactPaths.addAll(variants);
+            } else {
+                variants.stream().map(PARSER::parse).forEach(wildcardPatterns::add);
+            }
+        }
+
+        return new ExcludeRouteMatcher(
+                methods,
+                Set.copyOf(extraMethods),
+                Set.copyOf(exactPaths),
+                prefixRoot,
+                List.copyOf(wildcardPatterns),
+                allRaw.stream().map(PARSER::parse).toList()
+        );
+    }
+
+    /**
+     * "/**"의 base, 트레일링 슬래시 제거 변형을 함께 등록해 오탐/미탐을 방지
+     */
+    private static List<String> variantsOf(String raw) {
+        Set<String> s = new LinkedHashSet<>();
+        s.add(raw);
+        if (raw.endsWith("/**")) {
+            s.add(raw.substring(0, raw.length() - 3));
+        }
+        if (raw.endsWith("/") && raw.length() > 1) {
+            s.add(raw.substring(0, raw.length() - 1));
+        }
+        return new ArrayList<>(s);
+    }
+
+    private static boolean hasWildcard(String p) {
+        for (int i = 0; i < p.length(); i++) {
+            char c = p.charAt(i);
+            if (c == '*' || c == '?' || c == '{') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean matchesMethod(String method) {
+        if (method == null) {
+            return false;
+        }
+        RequestMethod resolved = RequestMethod.resolve(method);
+        if (resolved == null) {
+            String upper = method.toUpperCase(Locale.ROOT);
+            resolved = RequestMethod.resolve(upper);
+            if (resolved == null) {
+                return extraMethods.contains(upper);
+            }
+        }
+        return methods.contains(resolved);
+    }
+
+    boolean matchesPath(String path) {
+        if (needsDecoding(path)) {
+            PathContainer container = PathContainer.parsePath(path);
+            for (PathPattern p : allPatterns) {
+                if (p.matches(container)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        if (exactPaths.contains(path) || prefixRoot.matches(path)) {
+            return true;
+        }
+        if (wildcardPatterns.isEmpty()) {
+            return false;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern p : wildcardPatterns) {
+            if (p.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean needsDecoding(String path) {
+        return path.indexOf('%') >= 0 || path.indexOf(';') >= 0;
+    }
+
+    /**
+     * 세그먼트 단위 prefix trie. terminal 노드까지 내려가면 그 아래 모든 경로가 제외 대상("/**").
+     * 자식 수가 적어 배열 선형 탐색 + regionMatches 로 비교 (요청 경로에서 substring 을 만들지 않음)
+     */
+    private static final class PrefixNode {
+
+        private String[] segments = new String[0];
+        private PrefixNode[] children = new PrefixNode[0];
+        private boolean terminal;
+
+        void insert(String prefix) {
+            PrefixNode node = this;
+            for (String seg : prefix.split("/")) {
+                if (seg.isEmpty()) {
+                    continue;
+                }
+                node = node.childOrCreate(seg);
+            }
+            node.terminal = true;
+        }
+
+        private PrefixNode childOrCreate(String seg) {
+            for (int i = 0; i < segments.length; i++) {
+                if (segments[i].equals(seg)) {
+                    return children[i];
+                }
+            }
+            PrefixNode child = new PrefixNode();
+            segments = Arrays.copyOf(segments, segments.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            segments[segments.length - 1] = seg;
+            children[children.length - 1] = child;
+            return child;
+        }
+
+        boolean matches(String path) {
+            PrefixNode node = this;
+            if (node.terminal) {
+                return true;
+            }
+            int len = path.length();
+            int start = (len > 0 && path.charAt(0) == '/') ? 1 : 0;
+            while (start < len) {
+                int end = path.indexOf('/', start);
+                if (end < 0) {
+                    end = len;
+                }
+                node = node.child(path, start, end - start);
+                if (node == null) {
+                    return false;
+                }
+                if (node.terminal) {
+                    return true;
+                }
+                start = end + 1;
+            }
+            return false;
+        }
+
+        private PrefixNode child(String path, int offset, int length) {
+            for (int i = 0; i < segments.length; i++) {
+                String seg = segments[i];
+                if (seg.length() == length && path.regionMatches(offset, seg, 0, length)) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+    }
+}
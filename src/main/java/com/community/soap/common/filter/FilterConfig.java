@@ -1,35 +1,72 @@
 package com.community.soap.common.filter;
 
+import com.community.soap.common.exception.ErrorLogSampler;
+import com.community.soap.common.exception.ErrorMetrics;
+import com.community.soap.common.exception.ErrorResponseWriter;
 import com.community.soap.common.jwt.JwtProvider;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.community.soap.common.jwt.TokenWatermarkStore;
+import com.community.soap.common.observability.ObservedFilter;
+import com.community.soap.common.observability.RedisCommandMetrics;
+import com.community.soap.common.observability.SqlMetrics;
+import com.community.soap.user.application.port.out.TokenRepositoryPort;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.Filter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
 
 @Configuration
 public class FilterConfig {
 
-    private static final int ORDER_EXCEPTION = 1; // 맨 앞
+    private static final int ORDER_ACCESS_LOG = 0; // 맨 앞 (예외 응답까지 포함해 기록)
+    private static final int ORDER_EXCEPTION = 1;
     private static final int ORDER_JWT = 2;       // 그 다음
 
+    private final ObservationRegistry observationRegistry;
+
+    public FilterConfig(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
     @Bean
-    public FilterRegistrationBean<ExceptionHandlingFilter> exceptionFilter(ObjectMapper om) {
-        FilterRegistrationBean<ExceptionHandlingFilter> reg = new FilterRegistrationBean<>();
-        reg.setFilter(new ExceptionHandlingFilter(om));
-        reg.addUrlPatterns("/*");
-        reg.setOrder(ORDER_EXCEPTION);
-        return reg;
+    public FilterRegistrationBean<Filter> accessLogFilter(
+            RedisCommandMetrics redisCommandMetrics,
+            SqlMetrics sqlMetrics,
+            @Value("${observability.access-log.enabled:true}") boolean logEnabled
+    ) {
+        return register(new AccessLogFilter(redisCommandMetrics, sqlMetrics, logEnabled), ORDER_ACCESS_LOG);
     }
 
     @Bean
-    public FilterRegistrationBean<JwtAuthenticationFilter> jwtFilter(
+    public FilterRegistrationBean<Filter> exceptionFilter(
+            ErrorResponseWriter errorResponseWriter,
+            ErrorLogSampler errorLogSampler,
+            ErrorMetrics errorMetrics
+    ) {
+        return register(new ExceptionHandlingFilter(errorResponseWriter, errorLogSampler, errorMetrics),
+                ORDER_EXCEPTION);
+    }
+
+    @Bean
+    public FilterRegistrationBean<Filter> jwtFilter(
             JwtProvider jwtProvider,
+            TokenWatermarkStore tokenWatermarkStore,
+            TokenRepositoryPort tokenRepositoryPort,
             JwtFilterProperties props
     ) {
-        FilterRegistrationBean<JwtAuthenticationFilter> reg = new FilterRegistrationBean<>();
-        reg.setFilter(new JwtAuthenticationFilter(jwtProvider, props));
+        return register(new JwtAuthenticationFilter(jwtProvider, tokenWatermarkStore, tokenRepositoryPort, props),
+                ORDER_JWT);
+    }
+
+    // 각 필터의 전처리 구간을 span 으로 (ObservedFilter)
+    private FilterRegistrationBean<Filter> register(Filter filter, int order) {
+        FilterRegistrationBean<Filter> reg = new FilterRegistrationBean<>();
+        reg.setFilter(new ObservedFilter(filter, observationRegistry));
+        reg.setName(StringUtils.uncapitalize(filter.getClass().getSimpleName())); // 래퍼 이름(observedFilter) 중복 방지
         reg.addUrlPatterns("/*");
-        reg.setOrder(ORDER_JWT);
+        reg.setOrder(order);
         return reg;
     }
 }
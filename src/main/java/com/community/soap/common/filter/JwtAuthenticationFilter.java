@@ -5,7 +5,13 @@ import static com.community.soap.common.util.AuthKeys.ATTR_USER_ROLE;
 
 import com.community.soap.common.exception.AppException;
 import com.community.soap.common.exception.CommonErrorCode;
+import com.community.soap.common.jwt.AccessTokenClaims;
+import com.community.soap.common.jwt.JwtErrorCode;
 import com.community.soap.common.jwt.JwtProvider;
+import com.community.soap.common.jwt.TokenException;
+import com.community.soap.common.jwt.TokenWatermarkStore;
+import com.community.soap.common.redis.RedisUnavailableException;
+import com.community.soap.user.application.port.out.TokenRepositoryPort;
 import com.community.soap.user.domain.entity.UserRole;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -13,65 +19,52 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.server.PathContainer;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.pattern.PathPattern;
-import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
  * - excludePaths, excludeMethods 기반으로 인증 제외
  * - Authorization 헤더의 Bearer 토큰 또는 쿠키에서 액세스 토큰 추출
  * - 토큰에서 userId/role 파싱 후 request attribute 로 저장
+ * - 유저 워터마크 이전에 발급된 토큰(전체 로그아웃/탈퇴)은 거부
+ * - 로그아웃으로 블랙리스트에 오른 AT(jti)는 거부. near cache 가 음성 결과도 들고 있어 보통 Redis 왕복 없음,
+ *   Redis 장애(회로 열림) 중에는 서명/워터마크 검증만 한다
  * - 예외는 던지고, 상위 ExceptionHandlingFilter 가 처리
  */
 @Slf4j(topic = "JwtAuthenticationFilter")
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtProvider jwtProvider;
+    private final TokenWatermarkStore tokenWatermarkStore;
+    private final TokenRepositoryPort tokenRepositoryPort;
     private final JwtFilterProperties props;
-    private final List<PathPattern> excludePatterns;
-    private final PathPatternParser parser = PathPatternParser.defaultInstance;
-
-    public JwtAuthenticationFilter(JwtProvider jwtProvider, JwtFilterProperties props) {
+    private final ExcludeRouteMatcher excludeMatcher;
+
+    public JwtAuthenticationFilter(
+            JwtProvider jwtProvider,
+            TokenWatermarkStore tokenWatermarkStore,
+            TokenRepositoryPort tokenRepositoryPort,
+            JwtFilterProperties props
+    ) {
         this.jwtProvider = Objects.requireNonNull(jwtProvider);
+        this.tokenWatermarkStore = Objects.requireNonNull(tokenWatermarkStore);
+        this.tokenRepositoryPort = Objects.requireNonNull(tokenRepositoryPort);
         this.props = Objects.requireNonNull(props);
-        this.excludePatterns = props.getExcludePaths().stream()
-                .flatMap(this::expandPatternVariants)
-                .map(parser::parse)
-                .toList();
-    }
-
-    /**
-     * "/**"의 base, 트레일링 슬래시 제거 변형을 함께 등록해 오탐/미탐을 방지
-     */
-    private Stream<String> expandPatternVariants(String raw) {
-        Stream<String> s = Stream.of(raw);
-        if (raw.endsWith("/**")) {
-            s = Stream.concat(s, Stream.of(raw.substring(0, raw.length() - 3)));
-        }
-        if (raw.endsWith("/") && raw.length() > 1) {
-            s = Stream.concat(s, Stream.of(raw.substring(0, raw.length() - 1)));
-        }
-        return s.distinct();
+        this.excludeMatcher = ExcludeRouteMatcher.compile(props);
     }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         // 1) 메서드 제외 (기본 OPTIONS)
-        if (props.getExcludeMethods().stream()
-                .anyMatch(m -> m.equalsIgnoreCase(request.getMethod()))) {
+        if (excludeMatcher.matchesMethod(request.getMethod())) {
             return true;
         }
         // 2) 경로 제외
         String stripped = stripContextPath(request.getRequestURI(), request.getContextPath());
-        PathContainer container = PathContainer.parsePath(stripped);
-        return excludePatterns.stream().anyMatch(p -> p.matches(container));
+        return excludeMatcher.matchesPath(stripped);
     }
 
     private String stripContextPath(String uri, String ctx) {
@@ -95,8 +88,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            Long userId = jwtProvider.getUserId(accessToken);
-            String roleStr = jwtProvider.getUserRole(accessToken);
+            AccessTokenClaims claims = jwtProvider.parseAccessToken(accessToken);
+            Long userId = claims.userId();
+            String roleStr = claims.userRole();
 
             if (userId == null || !StringUtils.hasText(roleStr)) {
                 throw new AppException(CommonErrorCode.INVALID_TOKEN);
@@ -109,6 +103,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 throw new AppException(CommonErrorCode.INVALID_ROLE_BY_TOKEN);
             }
 
+            // 전체 로그아웃/탈퇴 이전에 발급된 토큰
+            if (tokenWatermarkStore.isRevoked(userId, claims.issuedAt())) {
+                throw new TokenException(JwtErrorCode.REVOKED_TOKEN);
+            }
+
+            // 로그아웃한 AT
+            if (isBlacklisted(claims.jti())) {
+                throw new TokenException(JwtErrorCode.REVOKED_TOKEN);
+            }
+
             // 컨트롤러/리졸버/Aspect에서 공통으로 쓰는 키로 저장
             request.setAttribute(ATTR_USER_ID, userId);
             request.setAttribute(ATTR_USER_ROLE, role);
@@ -124,6 +128,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private boolean isBlacklisted(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        try {
+            return tokenRepositoryPort.isAccessJtiBlacklisted(jti);
+        } catch (RedisUnavailableException e) {
+            // degraded: 로그아웃한 AT 도 만료까지는 통과 (AT 수명이 짧아 허용)
+            return false;
+        }
+    }
+
     /**
      * Authorization 헤더(Bearer …) 우선, 없으면 쿠키(props.accessTokenCookie)에서 조회. "Bearer" 접두사는 대소문자 무시 +
      * 앞뒤 공백 허용.
@@ -0,0 +1,16 @@
+package com.community.soap.common.jwt;
+
+import java.time.Instant;
+
+/**
+ * 액세스 토큰 1회 파싱 결과 (필터에서 userId/role/iat 를 위해 여러 번 파싱하지 않도록)
+ */
+public record AccessTokenClaims(
+        Long userId,
+        String userRole,
+        String jti,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+}
@@ -0,0 +1,41 @@
+package com.community.soap.common.jwt;
+
+import com.community.soap.common.concurrent.TimerWheel;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 워터마크 저장소 (user.state-store=memory). RedisTokenWatermarkStore 와 같은 의미:
+ * - 워터마크는 커지기만 한다 (max merge)
+ * - 가장 긴 토큰 수명이 지나면 워터마크 이전 토큰은 어차피 만료되므로 항목을 지운다 (Redis 키 TTL 과 같음)
+ */
+@Component
+@ConditionalOnProperty(name = "user.state-store", havingValue = "memory")
+public class InMemoryTokenWatermarkStore implements TokenWatermarkStore {
+
+    private final TimerWheel wheel;
+    private final Duration keyTtl;
+    private final ConcurrentHashMap<Long, Long> watermarks = new ConcurrentHashMap<>();
+
+    public InMemoryTokenWatermarkStore(TimerWheel wheel, JwtProvider jwtProvider) {
+        this.wheel = wheel;
+        this.keyTtl = jwtProvider.maxTokenLifetime();
+    }
+
+    @Override
+    public void revokeAllIssuedBefore(Long userId, Instant now) {
+        long watermarkSec = now.getEpochSecond() + 1;
+        watermarks.merge(userId, watermarkSec, Math::max);
+        // 더 큰 값으로 바뀌었으면 지우지 않는다 (그 값의 회수 작업이 따로 있음)
+        wheel.schedule(keyTtl, () -> watermarks.remove(userId, watermarkSec));
+    }
+
+    @Override
+    public boolean isRevoked(Long userId, Instant issuedAt) {
+        Long watermarkSec = watermarks.get(userId);
+        return watermarkSec != null && issuedAt.getEpochSecond() < watermarkSec;
+    }
+}
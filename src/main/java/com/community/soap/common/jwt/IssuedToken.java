@@ -0,0 +1,23 @@
+package com.community.soap.common.jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 발급한 토큰과 클레임 (방금 서명한 토큰을 다시 파싱하지 않도록). 시각은 JWT 와 같은 초 단위
+ */
+public record IssuedToken(
+        String token,
+        String jti,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+    /**
+     * 만료까지 남은 시간. 만료 시 0
+     */
+    public Duration ttl() {
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+}
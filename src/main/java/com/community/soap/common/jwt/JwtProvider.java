@@ -9,10 +9,16 @@ import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import javax.crypto.SecretKey;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -35,11 +41,18 @@ public class JwtProvider {
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
+    // ====== METRICS: jwt.verify{token=access|refresh, outcome=valid|<JwtErrorCode>} ======
+    // 서명 검증(파싱) 1회당 1건. 요청 흐름은 parseAccessToken / parseRefreshToken 으로 토큰당 한 번만 검증한다
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, Timer> accessVerifyTimers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Timer> refreshVerifyTimers = new ConcurrentHashMap<>();
+
     public JwtProvider(
             @Value("${spring.jwt.secret-access}") String accessSecretBase64,
             @Value("${spring.jwt.secret-refresh}") String refreshSecretBase64,
             @Value("${spring.jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${spring.jwt.refresh-token-expiration}") long refreshTokenExpiration
+            @Value("${spring.jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            MeterRegistry registry
     ) {
         // 키는 Base64 인코딩된 문자열을 권장 (256bit 이상)
         this.accessTokenKey = Keys.hmacShaKeyFor(
@@ -48,39 +61,94 @@ public class JwtProvider {
                 Decoders.BASE64.decode(Objects.requireNonNull(refreshSecretBase64)));
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.registry = registry;
     }
 
     // ====== GENERATE ======
     public String generateAccessToken(Long userId, UserRole userRole) {
-        Date now = new Date();
-        Date exp = new Date(now.getTime() + accessTokenExpiration);
+        return issueAccessToken(userId, userRole).token();
+    }
+
+    public String generateRefreshToken(Long userId) {
+        return issueRefreshToken(userId).token();
+    }
+
+    /**
+     * 액세스 토큰 발급 + jti/만료 (발급 직후 TTL 계산을 위해 다시 파싱하지 않음)
+     */
+    public IssuedToken issueAccessToken(Long userId, UserRole userRole) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant exp = now.plusMillis(accessTokenExpiration).truncatedTo(ChronoUnit.SECONDS);
+        String jti = UUID.randomUUID().toString();   // jti: 블랙리스트/로테이션에 유용
 
-        return Jwts.builder()
+        String token = Jwts.builder()
                 .header().type("JWT").and()
                 .subject(userId.toString())
-                .issuedAt(now)
-                .expiration(exp)
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(exp))
                 .claim(CLAIM_USER_ROLE, userRole.name())
-                .id(UUID.randomUUID().toString())   // jti: 블랙리스트/로테이션에 유용
+                .id(jti)
                 .signWith(accessTokenKey, Jwts.SIG.HS256)
                 .compact();
+        return new IssuedToken(token, jti, now, exp);
     }
 
-    public String generateRefreshToken(Long userId) {
-        Date now = new Date();
-        Date exp = new Date(now.getTime() + refreshTokenExpiration);
+    public IssuedToken issueRefreshToken(Long userId) {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        Instant exp = now.plusMillis(refreshTokenExpiration).truncatedTo(ChronoUnit.SECONDS);
+        String jti = UUID.randomUUID().toString();
 
-        return Jwts.builder()
+        String token = Jwts.builder()
                 .header().type("JWT").and()
                 .subject(userId.toString())
-                .issuedAt(now)
-                .expiration(exp)
-                .id(UUID.randomUUID().toString())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(exp))
+                .id(jti)
                 .signWith(refreshTokenKey, Jwts.SIG.HS256)
                 .compact();
+        return new IssuedToken(token, jti, now, exp);
     }
 
     // ====== EXTRACT ======
+
+    /**
+     * 액세스 토큰을 한 번만 파싱해 필터에 필요한 클레임을 모두 돌려준다.
+     */
+    public AccessTokenClaims parseAccessToken(String tokenOrBearer) {
+        Claims claims = parseAccessClaims(tokenOrBearer);
+        Object role = claims.get(CLAIM_USER_ROLE);
+        if (claims.getSubject() == null || role == null || claims.getIssuedAt() == null) {
+            throw new TokenException(JwtErrorCode.MALFORMED_TOKEN);
+        }
+        return new AccessTokenClaims(
+                Long.parseLong(claims.getSubject()),
+                role.toString(),
+                claims.getId(),
+                claims.getIssuedAt().toInstant(),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    /**
+     * 리프레시 토큰을 한 번만 검증/파싱해 재발급·로그아웃에 필요한 클레임을 모두 돌려준다.
+     */
+    public RefreshTokenClaims parseRefreshToken(String tokenOrBearer) {
+        Claims claims = parseRefreshClaims(tokenOrBearer);
+        if (claims.getSubject() == null || claims.getId() == null || claims.getIssuedAt() == null) {
+            throw new TokenException(JwtErrorCode.MALFORMED_TOKEN);
+        }
+        try {
+            return new RefreshTokenClaims(
+                    Long.parseLong(claims.getSubject()),
+                    claims.getId(),
+                    claims.getIssuedAt().toInstant(),
+                    claims.getExpiration().toInstant()
+            );
+        } catch (NumberFormatException e) {
+            throw new TokenException(JwtErrorCode.MALFORMED_TOKEN);
+        }
+    }
+
     public Long getUserId(String tokenOrBearer) {
         Claims claims = parseAccessClaims(tokenOrBearer);
         return Long.parseLong(claims.getSubject());
@@ -132,48 +200,61 @@ public class JwtProvider {
 
     // ====== INTERNAL PARSERS ======
     private Claims parseAccessClaims(String tokenOrBearer) {
-        String token = stripBearer(tokenOrBearer);
-        try {
-            return Jwts.parser()
-                    .verifyWith(accessTokenKey)
-                    .clockSkewSeconds(DEFAULT_CLOCK_SKEW_SECONDS)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-        } catch (ExpiredJwtException e) {
-            throw new TokenException(JwtErrorCode.EXPIRED_TOKEN);
-        } catch (MalformedJwtException e) {
-            throw new TokenException(JwtErrorCode.MALFORMED_TOKEN);
-        } catch (SecurityException | SignatureException e) {
-            // 0.12.x에선 SecurityException도 서명 관련으로 올 수 있음
-            throw new TokenException(JwtErrorCode.TAMPERED_TOKEN);
-        } catch (JwtException e) {
-            log.debug("JWT parse error: {}", e.toString()); // 내부 디버깅용
-            throw new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN);
-        }
+        return parseClaims(accessTokenKey, "access", accessVerifyTimers, tokenOrBearer);
     }
 
     private Claims parseRefreshClaims(String tokenOrBearer) {
-        String token = stripBearer(tokenOrBearer);
+        return parseClaims(refreshTokenKey, "refresh", refreshVerifyTimers, tokenOrBearer);
+    }
+
+    private Claims parseClaims(
+            SecretKey key,
+            String type,
+            ConcurrentHashMap<String, Timer> timers,
+            String tokenOrBearer
+    ) {
+        long start = System.nanoTime();
+        String outcome = "error";
         try {
-            return Jwts.parser()
-                    .verifyWith(refreshTokenKey)
+            String token = stripBearer(tokenOrBearer);
+            Claims claims = Jwts.parser()
+                    .verifyWith(key)
                     .clockSkewSeconds(DEFAULT_CLOCK_SKEW_SECONDS)
                     .build()
                     .parseSignedClaims(token)
                     .getPayload();
+            outcome = "valid";
+            return claims;
+        } catch (TokenException e) {
+            outcome = JwtErrorCode.INVALID_BEARER_TOKEN.name();
+            throw e;
         } catch (ExpiredJwtException e) {
+            outcome = JwtErrorCode.EXPIRED_TOKEN.name();
             throw new TokenException(JwtErrorCode.EXPIRED_TOKEN);
         } catch (MalformedJwtException e) {
+            outcome = JwtErrorCode.MALFORMED_TOKEN.name();
             throw new TokenException(JwtErrorCode.MALFORMED_TOKEN);
         } catch (SecurityException | SignatureException e) {
+            // 0.12.x에선 SecurityException도 서명 관련으로 올 수 있음
+            outcome = JwtErrorCode.TAMPERED_TOKEN.name();
             throw new TokenException(JwtErrorCode.TAMPERED_TOKEN);
         } catch (JwtException e) {
-            log.debug("JWT parse error (refresh): {}", e.toString());
+            log.debug("JWT parse error ({}): {}", type, e.toString()); // 내부 디버깅용
+            outcome = JwtErrorCode.INVALID_BEARER_TOKEN.name();
             throw new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN);
+        } finally {
+            verifyTimer(timers, type, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
+    private Timer verifyTimer(ConcurrentHashMap<String, Timer> timers, String type, String outcome) {
+        return timers.computeIfAbsent(outcome, o -> Timer.builder("jwt.verify")
+                .tag("token", type)
+                .tag("outcome", o)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
     private String stripBearer(String tokenOrBearer) {
         if (tokenOrBearer == null || tokenOrBearer.isBlank()) {
             throw new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN);
@@ -196,6 +277,17 @@ public class JwtProvider {
         return claims.getId();
     }
 
+    // 가장 긴 토큰 수명 (+ clock skew): 이보다 오래된 폐기 정보는 필요 없음
+    public Duration maxTokenLifetime() {
+        return Duration.ofMillis(Math.max(accessTokenExpiration, refreshTokenExpiration))
+                .plusSeconds(DEFAULT_CLOCK_SKEW_SECONDS);
+    }
+
+    // 리프레시 토큰 수명 (exp - iat)
+    public Duration refreshTokenLifetime() {
+        return Duration.ofMillis(refreshTokenExpiration);
+    }
+
     // 리프레시 토큰의 jti/남은 시간
     public Duration refreshTokenTtlOf(String tokenOrBearer) {
         Claims claims = parseRefreshClaims(tokenOrBearer);
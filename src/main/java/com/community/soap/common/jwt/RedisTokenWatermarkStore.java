@@ -0,0 +1,157 @@
+package com.community.soap.common.jwt;
+
+import com.community.soap.common.redis.RedisUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 워터마크 저장소 (user.state-store=redis, 기본).
+ * - 전체 로그아웃/탈퇴 = Redis SET 1회 (jti 열거/블랙리스트 불필요)
+ * - 검증은 노드 로컬 캐시 조회, 변경은 pub/sub 로 다른 노드 캐시에 즉시 반영
+ * - pub/sub 유실 대비 로컬 캐시는 localTtl 이 지나면 Redis 에서 다시 읽는다
+ * - Redis 장애(회로 열림/timeout) 중 검증은 만료된 로컬 값이라도 쓰고, 없으면 JWT 서명/만료만으로 통과시킨다
+ *   (지표 security.token-watermark.degraded). 워터마크 쓰기는 실패(503)로 그대로 전달
+ */
+@Slf4j(topic = "TokenWatermarkStore")
+@Component
+@ConditionalOnProperty(name = "user.state-store", havingValue = "redis", matchIfMissing = true)
+public class RedisTokenWatermarkStore implements TokenWatermarkStore, MessageListener {
+
+    private static final String PREFIX = "user-service";
+    private static final String CHANNEL = PREFIX + ":TV:invalidate";
+    private static final long NONE = 0L;
+
+    private final StringRedisTemplate redis;
+    private final Duration keyTtl;
+    private final long localTtlNanos;
+    private final int maxLocalEntries;
+    private final boolean legacyKeyFallback;
+    private final Counter degraded;
+
+    private final ConcurrentHashMap<Long, Cached> local = new ConcurrentHashMap<>();
+
+    private record Cached(long watermarkSec, long loadedAtNanos) {
+
+    }
+
+    public RedisTokenWatermarkStore(
+            StringRedisTemplate redis,
+            RedisMessageListenerContainer listenerContainer,
+            JwtProvider jwtProvider,
+            @Value("${security.token-watermark.local-ttl:30s}") Duration localTtl,
+            @Value("${security.token-watermark.max-local-entries:100000}") int maxLocalEntries,
+            @Value("${security.token-watermark.legacy-key-fallback:true}") boolean legacyKeyFallback,
+            MeterRegistry meterRegistry
+    ) {
+        this.redis = redis;
+        // 가장 긴 토큰 수명이 지나면 워터마크 이전 토큰은 어차피 만료
+        this.keyTtl = jwtProvider.maxTokenLifetime();
+        this.localTtlNanos = localTtl.toNanos();
+        this.maxLocalEntries = maxLocalEntries;
+        this.legacyKeyFallback = legacyKeyFallback;
+        this.degraded = Counter.builder("security.token-watermark.degraded").register(meterRegistry);
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 유저 세션 키와 같은 hash tag {u:<id>} → 같은 Cluster slot (JwtTokenStoreAdapter.userTag)
+    static String kWatermark(Long userId) {
+        return PREFIX + ":{u:" + userId + "}:TV";
+    }
+
+    // hash tag 이전 키. 새 키에 없을 때만 읽고, maxTokenLifetime 이 지나면 전부 만료되므로 그 뒤 fallback 을 끈다
+    static String kLegacyWatermark(Long userId) {
+        return PREFIX + ":USER:" + userId + ":TV";
+    }
+
+    @Override
+    public void revokeAllIssuedBefore(Long userId, Instant now) {
+        long watermarkSec = now.getEpochSecond() + 1;
+        redis.opsForValue().set(kWatermark(userId), Long.toString(watermarkSec), keyTtl);
+        cache(userId, watermarkSec);
+        redis.convertAndSend(CHANNEL, userId + ":" + watermarkSec);
+    }
+
+    @Override
+    public boolean isRevoked(Long userId, Instant issuedAt) {
+        long watermarkSec = watermarkOf(userId);
+        return watermarkSec != NONE && issuedAt.getEpochSecond() < watermarkSec;
+    }
+
+    private long watermarkOf(Long userId) {
+        Cached cached = local.get(userId);
+        if (cached != null && System.nanoTime() - cached.loadedAtNanos() < localTtlNanos) {
+            return cached.watermarkSec();
+        }
+        String v;
+        try {
+            v = redis.opsForValue().get(kWatermark(userId));
+            if (v == null && legacyKeyFallback) {
+                v = redis.opsForValue().get(kLegacyWatermark(userId));
+            }
+        } catch (RedisUnavailableException e) {
+            degraded.increment();
+            return cached != null ? cached.watermarkSec() : NONE;
+        }
+        return cache(userId, parse(v));
+    }
+
+    /**
+     * 워터마크는 커지기만 하므로 큰 값을 남긴다.
+     * GET 응답과 저장 사이에 onMessage 가 넣은 새 값을 이전 값으로 덮지 않도록 put 대신 max merge.
+     */
+    private long cache(Long userId, long watermarkSec) {
+        if (local.size() >= maxLocalEntries) {
+            // 단순 상한: 넘치면 비우고 다시 채운다 (Redis 가 원본)
+            local.clear();
+        }
+        return local.merge(userId, new Cached(watermarkSec, System.nanoTime()), RedisTokenWatermarkStore::newer)
+                .watermarkSec();
+    }
+
+    // 워터마크는 큰 쪽, 재검증 시각은 방금 읽은 쪽
+    private static Cached newer(Cached old, Cached fresh) {
+        return old.watermarkSec() > fresh.watermarkSec()
+                ? new Cached(old.watermarkSec(), fresh.loadedAtNanos())
+                : fresh;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf(':');
+        if (sep <= 0) {
+            return;
+        }
+        try {
+            Long userId = Long.parseLong(body.substring(0, sep));
+            long watermarkSec = Long.parseLong(body.substring(sep + 1));
+            local.merge(userId, new Cached(watermarkSec, System.nanoTime()), RedisTokenWatermarkStore::newer);
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 워터마크 메시지: {}", body);
+        }
+    }
+
+    private long parse(String v) {
+        if (v == null || v.isBlank()) {
+            return NONE;
+        }
+        try {
+            return Long.parseLong(v);
+        } catch (NumberFormatException e) {
+            return NONE;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.community.soap.common.jwt;
+
+import java.time.Instant;
+
+/**
+ * 리프레시 토큰 1회 파싱 결과 (재발급/로그아웃 흐름에서 userId/jti/iat 를 위해 여러 번 검증하지 않도록)
+ */
+public record RefreshTokenClaims(
+        Long userId,
+        String jti,
+        Instant issuedAt,
+        Instant expiresAt
+) {
+
+}
@@ -0,0 +1,17 @@
+package com.community.soap.common.jwt;
+
+import java.time.Instant;
+
+/**
+ * 유저별 토큰 워터마크: "이 시각(초) 이전에 발급된 AT/RT 는 전부 무효".
+ * 구현은 user.state-store 로 고른다 (redis: {@link RedisTokenWatermarkStore}, memory: {@link InMemoryTokenWatermarkStore})
+ */
+public interface TokenWatermarkStore {
+
+    /**
+     * now 가 속한 초까지 발급된 토큰을 모두 무효화한다. (iat 는 초 단위라 같은 초에 발급된 토큰도 포함)
+     */
+    void revokeAllIssuedBefore(Long userId, Instant now);
+
+    boolean isRevoked(Long userId, Instant issuedAt);
+}
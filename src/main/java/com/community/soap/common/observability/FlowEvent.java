@@ -0,0 +1,28 @@
+package com.community.soap.common.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: @Timed 메서드(로그인/재발급/로그아웃/인증 코드 요청 등) 1회 실행 구간.
+ * JMC 에서 이 구간과 겹치는 CPU 샘플/락 경합/할당을 함께 보면 어느 흐름이 원인인지 바로 보인다.
+ */
+@Name("com.community.soap.Flow")
+@Label("Flow")
+@Category({"SOAP", "Flow"})
+@Description("@Timed 메서드 실행 구간 (auth.flow 등)")
+@StackTrace(false)
+public class FlowEvent extends jdk.jfr.Event {
+
+    @Label("Timer")
+    String timer;
+
+    @Label("Flow")
+    String flow;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,139 @@
+package com.community.soap.common.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Connection / Statement 를 JDK 프록시로 감싸 execute* 호출만 재서 SqlMetrics 로 넘긴다.
+ * - PreparedStatement 는 prepare 시점 SQL 을 기억 (실행마다 문자열 처리 없음)
+ * - 그 외 호출은 그대로 위임. unwrap/isWrapperFor 도 원본 그대로라 Hikari 지표/헬스체크에 영향 없음
+ * - 진행 중인 observation(요청/유스케이스 span)이 있을 때만 문장 span 을 만든다 (기동 DDL, 배치 단독 실행은 제외)
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    public static final String OBSERVATION = "span.jdbc";
+
+    private final SqlMetrics metrics;
+    private final ObservationRegistry observations;
+
+    public InstrumentedDataSource(DataSource target, SqlMetrics metrics, ObservationRegistry observations) {
+        super(target);
+        this.metrics = metrics;
+        this.observations = observations;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private Observation startObservation(String sql) {
+        if (observations.getCurrentObservation() == null) {
+            return null;
+        }
+        String type = SqlMetrics.typeOf(sql);
+        return Observation.createNotStarted(OBSERVATION, observations)
+                .contextualName("jdbc " + type)
+                .lowCardinalityKeyValue("db.operation", type)
+                .highCardinalityKeyValue("db.statement", sql != null ? sql : "")
+                .start();
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> statement(PreparedStatement.class, result, (String) args[0], proxy);
+                case "prepareCall" -> statement(CallableStatement.class, result, (String) args[0], proxy);
+                case "createStatement" -> statement(Statement.class, result, null, proxy);
+                default -> result;
+            };
+        }
+
+        private Object statement(Class<? extends Statement> type, Object statement, String sql, Object connection) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler((Statement) statement, sql, (Connection) connection));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final Connection connection;
+
+        StatementHandler(Statement target, String preparedSql, Connection connection) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                Observation observation = startObservation(sql);
+                long start = System.nanoTime();
+                boolean failed = true;
+                try {
+                    Object result = InstrumentedDataSource.invoke(target, method, args);
+                    failed = false;
+                    return result;
+                } catch (Throwable e) {
+                    if (observation != null) {
+                        observation.error(e);
+                    }
+                    throw e;
+                } finally {
+                    metrics.onStatement(sql, System.nanoTime() - start, failed);
+                    if (observation != null) {
+                        observation.stop();
+                    }
+                }
+            }
+            if (name.equals("getConnection")) {
+                return connection;
+            }
+            return InstrumentedDataSource.invoke(target, method, args);
+        }
+    }
+}
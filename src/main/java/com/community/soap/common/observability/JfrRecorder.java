@@ -0,0 +1,200 @@
+package com.community.soap.common.observability;
+
+import com.community.soap.common.exception.AppException;
+import com.community.soap.common.exception.CommonErrorCode;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 크기/기간 상한이 있는 연속 JFR 기록.
+ * - 설정: JDK default 프로파일 + jfr/soap.jfc (할당 샘플, 락 경합, virtual thread pinning, 소켓 I/O, SOAP 이벤트)
+ * - 디스크 repository 에 maxAge/maxSize 만큼만 유지 (오래된 chunk 부터 삭제)
+ * - dump(last): 최근 last 구간만 잘라 dumpDir 에 .jfr 로 저장 (JfrController, ADMIN 전용). 최근 keepDumps 개만 보관
+ */
+@Slf4j(topic = "JfrRecorder")
+@Component
+public class JfrRecorder implements SmartLifecycle {
+
+    static final String SETTINGS = "jfr/soap.jfc";
+    static final String RECORDING_NAME = "soap-continuous";
+    private static final DateTimeFormatter FILE_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneId.systemDefault());
+
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final Path dumpDir;
+    private final int keepDumps;
+    private final ReentrantLock dumpLock = new ReentrantLock();
+
+    private volatile Recording recording;
+
+    public record Dump(String file, long sizeBytes, Instant from, Instant to) {
+
+    }
+
+    public JfrRecorder(
+            @Value("${observability.jfr.enabled:true}") boolean enabled,
+            @Value("${observability.jfr.max-age:30m}") Duration maxAge,
+            @Value("${observability.jfr.max-size:256MB}") DataSize maxSize,
+            @Value("${observability.jfr.dump-dir:${java.io.tmpdir}/jfr-dumps}") Path dumpDir,
+            @Value("${observability.jfr.keep-dumps:10}") int keepDumps
+    ) {
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        // 상대 경로면 작업 디렉터리 기준이라 배포 방식마다 위치가 달라진다 → 기동 시 절대 경로로 고정
+        this.dumpDir = dumpDir.toAbsolutePath().normalize();
+        this.keepDumps = keepDumps;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || !FlightRecorder.isAvailable()) {
+            return;
+        }
+        try {
+            Recording r = new Recording(settings());
+            r.setName(RECORDING_NAME);
+            r.setToDisk(true);
+            r.setMaxAge(maxAge);
+            r.setMaxSize(maxSize.toBytes());
+            r.start();
+            recording = r;
+            log.info("연속 JFR 기록 시작 (maxAge={}, maxSize={})", maxAge, maxSize);
+        } catch (IOException | ParseException e) {
+            log.warn("연속 JFR 기록 시작 실패: {}", e.toString());
+        }
+    }
+
+    @Override
+    public void stop() {
+        Recording r = recording;
+        recording = null;
+        if (r != null) {
+            r.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    static Map<String, String> settings() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource(SETTINGS).getInputStream(), StandardCharsets.UTF_8)) {
+            settings.putAll(Configuration.create(reader).getSettings());
+        }
+        return settings;
+    }
+
+    public Duration maxAge() {
+        return maxAge;
+    }
+
+    public Path dumpDir() {
+        return dumpDir;
+    }
+
+    /**
+     * 최근 last 구간(최대 maxAge)을 파일로 저장한다. 동시에 하나만 (나머지는 503)
+     */
+    public Dump dump(Duration last) {
+        Recording r = recording;
+        if (r == null || !dumpLock.tryLock()) {
+            throw new AppException(CommonErrorCode.SERVICE_UNAVAILABLE);
+        }
+        try {
+            Duration window = last.compareTo(maxAge) > 0 ? maxAge : last;
+            Instant to = Instant.now();
+            Instant from = to.minus(window);
+
+            Files.createDirectories(dumpDir);
+            Path target = reserve(to);
+            if (window.equals(maxAge)) {
+                r.dump(target);
+            } else {
+                Path full = Files.createTempFile(dumpDir, "soap-", ".jfr.tmp");
+                try {
+                    r.dump(full);
+                    try (RecordingFile file = new RecordingFile(full)) {
+                        file.write(target, event -> !event.getEndTime().isBefore(from));
+                    }
+                } finally {
+                    Files.deleteIfExists(full);
+                }
+            }
+            prune();
+
+            long size = Files.size(target);
+            log.info("JFR 덤프 저장: {} ({} bytes, 최근 {})", target.toAbsolutePath(), size, window);
+            return new Dump(target.toAbsolutePath().toString(), size, from, to);
+        } catch (IOException e) {
+            throw new AppException(CommonErrorCode.INTERNAL_SERVER_ERROR, e);
+        } finally {
+            dumpLock.unlock();
+        }
+    }
+
+    // 같은 밀리초에 덤프가 겹쳐도 기존 파일을 덮어쓰지 않도록 빈 파일을 먼저 선점한다
+    private Path reserve(Instant to) throws IOException {
+        String base = "soap-" + FILE_TIME.format(to);
+        for (int seq = 0; ; seq++) {
+            Path candidate = dumpDir.resolve(seq == 0 ? base + ".jfr" : base + "-" + seq + ".jfr");
+            try {
+                return Files.createFile(candidate);
+            } catch (FileAlreadyExistsException e) {
+                // 다음 suffix 시도
+            }
+        }
+    }
+
+    // 최근 keepDumps 개만 남긴다 (디스크 상한)
+    private void prune() throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(dumpDir)) {
+            dumps = files.filter(p -> p.getFileName().toString().endsWith(".jfr"))
+                    .sorted(Comparator.comparing(JfrRecorder::lastModified).reversed())
+                    .toList();
+        }
+        for (Path old : dumps.subList(Math.min(keepDumps, dumps.size()), dumps.size())) {
+            Files.deleteIfExists(old);
+        }
+    }
+
+    private static long lastModified(Path p) {
+        try {
+            return Files.getLastModifiedTime(p).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.community.soap.common.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 완료된 span 을 파일에 한 줄씩 JSON 으로 남긴다 (collector 없이 로컬/오프라인 분석용).
+ * - BatchSpanProcessor 의 단일 export 스레드에서만 호출되므로 쓰기는 배치 단위로 한 번 flush
+ * - 한 줄: traceId, spanId, parentSpanId, name, kind, startEpochMicros, durationMicros, status, attributes
+ *   (jq 로 traceId 별 묶어 보거나 durationMicros 정렬로 느린 구간 확인)
+ * - 크기 기반 롤링: maxSize 를 넘으면 spans.jsonl → spans.jsonl.1 → ... → .maxFiles 로 밀고 가장 오래된 것은 삭제
+ */
+@Slf4j(topic = "JsonFileSpanExporter")
+public class JsonFileSpanExporter implements SpanExporter {
+
+    private static final byte[] NEWLINE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final int maxFiles;
+
+    private OutputStream out;
+    private long written;
+
+    public JsonFileSpanExporter(Path file, ObjectMapper objectMapper, DataSize maxSize, int maxFiles)
+            throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.file = file;
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxSize.toBytes();
+        this.maxFiles = Math.max(1, maxFiles);
+        open();
+        log.info("span 파일 출력: {} (최대 {} x {})", file.toAbsolutePath(), maxSize, this.maxFiles);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            for (SpanData span : spans) {
+                byte[] line = objectMapper.writeValueAsBytes(toJson(span));
+                out.write(line);
+                out.write(NEWLINE);
+                written += line.length + NEWLINE.length;
+            }
+            out.flush();
+            if (written >= maxBytes) {
+                rotate();
+            }
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            log.warn("span 파일 쓰기 실패 ({}건 유실): {}", spans.size(), e.toString());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private void open() throws IOException {
+        this.out = new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        this.written = Files.size(file);
+    }
+
+    // 배치 경계에서만 롤링하므로 한 배치만큼 maxSize 를 넘을 수 있다
+    private void rotate() throws IOException {
+        out.close();
+        Files.deleteIfExists(rolled(maxFiles));
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            Path from = rolled(i);
+            if (Files.exists(from)) {
+                Files.move(from, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+        open();
+    }
+
+    Path rolled(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    static Map<String, Object> toJson(SpanData span) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("traceId", span.getTraceId());
+        json.put("spanId", span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            json.put("parentSpanId", span.getParentSpanId());
+        }
+        json.put("name", span.getName());
+        json.put("kind", span.getKind().name());
+        json.put("startEpochMicros", span.getStartEpochNanos() / 1_000);
+        json.put("durationMicros", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1_000);
+        json.put("status", span.getStatus().getStatusCode().name());
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+        json.put("attributes", attributes);
+        return json;
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            out.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            out.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.community.soap.common.observability;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import java.io.IOException;
+
+/**
+ * 필터 하나를 span 으로 감싼다 (FilterConfig 에서 등록 시 사용).
+ * - span 은 필터 진입부터 다음 체인 호출 직전까지만 (= 그 필터 자신의 전처리 시간)
+ *   → 필터 span 들이 중첩되지 않고 HTTP 요청 span 아래에 나란히 붙는다
+ * - 체인을 호출하지 않고 응답을 끝낸 경우(401 등)는 필터가 반환될 때 닫는다
+ */
+public class ObservedFilter implements Filter {
+
+    public static final String OBSERVATION = "span.filter";
+
+    private final Filter delegate;
+    private final String name;
+    private final ObservationRegistry registry;
+
+    public ObservedFilter(Filter delegate, ObservationRegistry registry) {
+        this.delegate = delegate;
+        this.name = delegate.getClass().getSimpleName();
+        this.registry = registry;
+    }
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        delegate.init(filterConfig);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        Observation observation = Observation.createNotStarted(OBSERVATION, registry)
+                .contextualName(name)
+                .lowCardinalityKeyValue("filter", name)
+                .start();
+        BeforeChain before = new BeforeChain(observation, observation.openScope(), chain);
+        try {
+            delegate.doFilter(request, response, before);
+        } catch (IOException | ServletException | RuntimeException e) {
+            if (!before.ended) {
+                observation.error(e);
+            }
+            throw e;
+        } finally {
+            before.end();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        delegate.destroy();
+    }
+
+    private static final class BeforeChain implements FilterChain {
+
+        private final Observation observation;
+        private final Observation.Scope scope;
+        private final FilterChain chain;
+        private boolean ended;
+
+        BeforeChain(Observation observation, Observation.Scope scope, FilterChain chain) {
+            this.observation = observation;
+            this.scope = scope;
+            this.chain = chain;
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response)
+                throws IOException, ServletException {
+            end();
+            chain.doFilter(request, response);
+        }
+
+        void end() {
+            if (!ended) {
+                ended = true;
+                scope.close();
+                observation.stop();
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.community.soap.common.observability;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 아웃바운드 포트 구현(infrastructure) 호출 동안 현재 스레드에 "포트.메서드" 태그를 둔다.
+ * Redis 명령 지표가 어느 포트 메서드에서 나갔는지 구분하는 데 쓴다 (RedisCommandMetrics).
+ * - @Repository 예외 변환과 같은 방식으로 기존 프록시에 advisor 만 추가 (AOP starter 불필요)
+ * - 중첩 호출은 안쪽 태그가 우선, 끝나면 바깥 태그로 복원
+ */
+@Component
+public class PortMethodTagger extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    static final String PORT_PACKAGE = "com.community.soap.user.application.port.out";
+    static final String ADAPTER_PACKAGE = "com.community.soap.user.infrastructure";
+    public static final String NONE = "none";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+    private static final ConcurrentHashMap<Method, String> TAGS = new ConcurrentHashMap<>();
+
+    public PortMethodTagger() {
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+        this.advisor = new DefaultPointcutAdvisor(new PortMethodPointcut(), (MethodInterceptor) invocation -> {
+            String previous = CURRENT.get();
+            CURRENT.set(TAGS.computeIfAbsent(invocation.getMethod(), PortMethodTagger::tagOf));
+            try {
+                return invocation.proceed();
+            } finally {
+                if (previous == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(previous);
+                }
+            }
+        });
+    }
+
+    /**
+     * 현재 스레드에서 실행 중인 포트 메서드 (없으면 "none")
+     */
+    public static String current() {
+        String tag = CURRENT.get();
+        return tag == null ? NONE : tag;
+    }
+
+    private static String tagOf(Method method) {
+        Class<?> port = portOf(method);
+        String owner = port != null ? port.getSimpleName() : method.getDeclaringClass().getSimpleName();
+        return owner + "." + method.getName();
+    }
+
+    private static Class<?> portOf(Method method) {
+        return declaringInterface(method, itf -> itf.getPackageName().equals(PORT_PACKAGE));
+    }
+
+    /**
+     * method 를 선언한 인터페이스 중 filter 를 통과하는 첫 번째 (없으면 null). TracingPostProcessor 와 공용
+     */
+    static Class<?> declaringInterface(Method method, Predicate<Class<?>> filter) {
+        for (Class<?> itf : ClassUtils.getAllInterfacesForClassAsSet(method.getDeclaringClass())) {
+            if (!filter.test(itf)) {
+                continue;
+            }
+            boolean declared = Arrays.stream(itf.getMethods()).anyMatch(m ->
+                    m.getName().equals(method.getName())
+                            && Arrays.equals(m.getParameterTypes(), method.getParameterTypes()));
+            if (declared) {
+                return itf;
+            }
+        }
+        return null;
+    }
+
+    private static final class PortMethodPointcut extends StaticMethodMatcherPointcut {
+
+        PortMethodPointcut() {
+            setClassFilter(type -> type.getPackageName().startsWith(ADAPTER_PACKAGE)
+                    && ClassUtils.getAllInterfacesForClassAsSet(type).stream()
+                    .anyMatch(itf -> itf.getPackageName().equals(PORT_PACKAGE)));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            Method specific = ClassUtils.getMostSpecificMethod(method, targetClass);
+            return portOf(specific) != null;
+        }
+    }
+}
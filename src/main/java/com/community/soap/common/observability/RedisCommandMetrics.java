@@ -0,0 +1,100 @@
+package com.community.soap.common.observability;
+
+import io.lettuce.core.event.command.CommandBaseEvent;
+import io.lettuce.core.event.command.CommandFailedEvent;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lettuce 명령 이벤트로 Redis 사용량 집계. 명령 시작 이벤트는 명령을 보낸 스레드에서 오므로
+ * 그 시점의 포트 메서드(PortMethodTagger)와 요청 집계(RequestMetrics)를 이벤트 context 에 붙여 완료 시 사용한다.
+ * 지표 (tag: port, route)
+ * - redis.commands: 명령 수
+ * - redis.roundtrips: round trip(겹쳐 진행된 명령 묶음) 수
+ * - redis.roundtrip.commands: round trip 당 명령 수 (파이프라인 크기)
+ * - redis.roundtrip.latency: round trip 지연 히스토그램
+ * 요청 밖(워커/스케줄러) 명령은 route=none, 명령 1개 = round trip 1회로 바로 기록
+ */
+@Component
+public class RedisCommandMetrics implements CommandListener {
+
+    public static final String NO_ROUTE = "none";
+
+    private static final String CTX_PORT = "metrics.port";
+    private static final String CTX_REQUEST = "metrics.request";
+    private static final String CTX_STARTED = "metrics.started";
+
+    private final MeterRegistry registry;
+
+    public RedisCommandMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        long now = System.nanoTime();
+        String port = PortMethodTagger.current();
+        event.getContext().put(CTX_PORT, port);
+        event.getContext().put(CTX_STARTED, now);
+
+        RequestMetrics request = RequestMetrics.current();
+        if (request != null) {
+            event.getContext().put(CTX_REQUEST, request);
+            request.redisCommandStarted(port, now);
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        finished(event);
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        finished(event);
+    }
+
+    private void finished(CommandBaseEvent event) {
+        long now = System.nanoTime();
+        if (event.getContext().get(CTX_REQUEST) instanceof RequestMetrics request) {
+            request.redisCommandFinished(now);
+            return;
+        }
+        if (event.getContext().get(CTX_STARTED) instanceof Long started
+                && event.getContext().get(CTX_PORT) instanceof String port) {
+            record(port, NO_ROUTE, 1, now - started);
+        }
+    }
+
+    /**
+     * 요청 종료 시 route 가 정해진 뒤 호출 (AccessLogFilter)
+     */
+    public void recordRequest(String route, RequestMetrics request) {
+        for (RequestMetrics.RedisWave wave : request.redisWaves()) {
+            record(wave.port(), route, wave.commands(), wave.nanos());
+        }
+    }
+
+    private void record(String port, String route, int commands, long nanos) {
+        Counter.builder("redis.commands")
+                .tag("port", port).tag("route", route)
+                .register(registry).increment(commands);
+        Counter.builder("redis.roundtrips")
+                .tag("port", port).tag("route", route)
+                .register(registry).increment();
+        DistributionSummary.builder("redis.roundtrip.commands")
+                .tag("port", port).tag("route", route)
+                .register(registry).record(commands);
+        Timer.builder("redis.roundtrip.latency")
+                .tag("port", port).tag("route", route)
+                .publishPercentileHistogram()
+                .register(registry).record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,132 @@
+package com.community.soap.common.observability;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP 요청 하나가 쓴 외부 저장소 자원 집계 (AccessLogFilter 가 요청 스레드에 열고 닫음).
+ * - DB: 실행한 SQL 문 수/시간, 같은 SQL 반복 횟수 (N+1 의심 판단)
+ * - Redis round trip = 서로 겹쳐 진행된 명령 묶음(wave). 파이프라인/동시에 보낸 async 명령은 1회, 순차 명령은 각각 1회
+ * - wave 는 요청이 끝난 뒤 route 가 정해지면 지표로 기록 (필터 단계 명령도 같은 route 로 묶임)
+ * 명령 완료 콜백은 Lettuce 이벤트 루프에서 오므로 상태 변경은 synchronized
+ */
+public final class RequestMetrics {
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 겹쳐 진행된 Redis 명령 묶음. port = 첫 명령을 보낸 포트 메서드
+     */
+    public record RedisWave(String port, int commands, long nanos) {
+    }
+
+    private final List<RedisWave> waves = new ArrayList<>();
+    private Map<String, Integer> sqlCounts;
+    private List<String> repeatedSql;
+    private int dbStatements;
+    private long dbNanos;
+    private int redisCommands;
+    private long redisNanos;
+
+    // 진행 중인 wave
+    private int inflight;
+    private int waveCommands;
+    private long waveStartNanos;
+    private String wavePort;
+
+    public static RequestMetrics start() {
+        RequestMetrics metrics = new RequestMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드의 요청 집계 (요청 밖이면 null)
+     */
+    public static RequestMetrics current() {
+        return CURRENT.get();
+    }
+
+    synchronized void redisCommandStarted(String port, long nowNanos) {
+        redisCommands++;
+        if (inflight++ == 0) {
+            waveStartNanos = nowNanos;
+            wavePort = port;
+            waveCommands = 0;
+        }
+        waveCommands++;
+    }
+
+    synchronized void redisCommandFinished(long nowNanos) {
+        if (inflight == 0 || --inflight > 0) {
+            return;
+        }
+        long nanos = nowNanos - waveStartNanos;
+        redisNanos += nanos;
+        waves.add(new RedisWave(wavePort, waveCommands, nanos));
+    }
+
+    /**
+     * SQL 1건 실행 기록. 이 요청에서 같은 SQL 이 몇 번째인지 돌려준다
+     */
+    synchronized int dbStatementExecuted(String sql, long nanos) {
+        dbStatements++;
+        dbNanos += nanos;
+        if (sql == null) {
+            return 1;
+        }
+        if (sqlCounts == null) {
+            sqlCounts = new HashMap<>();
+        }
+        return sqlCounts.merge(sql, 1, Integer::sum);
+    }
+
+    synchronized void flagRepeatedSql(String sql) {
+        if (repeatedSql == null) {
+            repeatedSql = new ArrayList<>();
+        }
+        repeatedSql.add(sql);
+    }
+
+    public synchronized int dbStatements() {
+        return dbStatements;
+    }
+
+    public synchronized long dbMillis() {
+        return dbNanos / 1_000_000L;
+    }
+
+    /**
+     * 한 요청에서 임계값 이상 반복된 SQL (N+1 의심) → 최종 실행 횟수
+     */
+    public synchronized Map<String, Integer> repeatedSql() {
+        if (repeatedSql == null) {
+            return Map.of();
+        }
+        Map<String, Integer> result = new HashMap<>();
+        repeatedSql.forEach(sql -> result.put(sql, sqlCounts.get(sql)));
+        return result;
+    }
+
+    public synchronized int redisCommands() {
+        return redisCommands;
+    }
+
+    public synchronized int redisRoundTrips() {
+        return waves.size() + (inflight > 0 ? 1 : 0);
+    }
+
+    public synchronized long redisMillis() {
+        return redisNanos / 1_000_000L;
+    }
+
+    public synchronized List<RedisWave> redisWaves() {
+        return List.copyOf(waves);
+    }
+}
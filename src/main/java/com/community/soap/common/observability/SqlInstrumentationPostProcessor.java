@@ -0,0 +1,34 @@
+package com.community.soap.common.observability;
+
+import io.micrometer.observation.ObservationRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * DataSource 빈을 InstrumentedDataSource 로 감싼다 (p6spy 대체, 문장 span 포함)
+ */
+@Component
+public class SqlInstrumentationPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SqlMetrics> sqlMetrics;
+    private final ObjectProvider<ObservationRegistry> observations;
+
+    public SqlInstrumentationPostProcessor(
+            ObjectProvider<SqlMetrics> sqlMetrics,
+            ObjectProvider<ObservationRegistry> observations
+    ) {
+        this.sqlMetrics = sqlMetrics;
+        this.observations = observations;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+            return new InstrumentedDataSource(dataSource, sqlMetrics.getObject(),
+                    observations.getIfAvailable(() -> ObservationRegistry.NOOP));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,117 @@
+package com.community.soap.common.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * JDBC 문 실행 지표 (InstrumentedDataSource 가 호출). p6spy/show_sql 처럼 모든 SQL 을 포맷·로그하지 않는다.
+ * - jdbc.statement.latency{type=select|insert|update|delete|other, outcome}: 문 종류별 지연 히스토그램
+ * - jdbc.request.statements{route}: 요청당 SQL 문 수
+ * - jdbc.n_plus_one{route}: 한 요청에서 같은 SQL 이 nPlusOneThreshold 번 이상 실행된 경우 (WARN 로그 포함)
+ * - SQL 원문은 slowThreshold 이상이거나 logSampleRate 확률에 걸린 경우만 로그 (바인딩 값은 남기지 않음)
+ */
+@Slf4j(topic = "SqlMetrics")
+@Component
+public class SqlMetrics {
+
+    private final MeterRegistry registry;
+    private final long slowNanos;
+    private final double logSampleRate;
+    private final int nPlusOneThreshold;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public SqlMetrics(
+            MeterRegistry registry,
+            @Value("${observability.sql.slow-threshold:200ms}") Duration slowThreshold,
+            @Value("${observability.sql.log-sample-rate:0.0}") double logSampleRate,
+            @Value("${observability.sql.n-plus-one-threshold:10}") int nPlusOneThreshold
+    ) {
+        this.registry = registry;
+        this.slowNanos = slowThreshold.toNanos();
+        this.logSampleRate = logSampleRate;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    void onStatement(String sql, long nanos, boolean failed) {
+        String type = typeOf(sql);
+        timer(type, failed ? "error" : "success").record(nanos, TimeUnit.NANOSECONDS);
+
+        RequestMetrics request = RequestMetrics.current();
+        if (request != null && request.dbStatementExecuted(sql, nanos) == nPlusOneThreshold) {
+            request.flagRepeatedSql(sql);
+        }
+
+        if (nanos >= slowNanos) {
+            log.warn("느린 SQL {}ms: {}", nanos / 1_000_000L, sql);
+        } else if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+            log.info("SQL {}ms: {}", nanos / 1_000_000L, sql);
+        }
+    }
+
+    /**
+     * 요청 종료 시 route 가 정해진 뒤 호출 (AccessLogFilter)
+     */
+    public void recordRequest(String route, RequestMetrics request) {
+        DistributionSummary.builder("jdbc.request.statements")
+                .tag("route", route)
+                .register(registry).record(request.dbStatements());
+
+        request.repeatedSql().forEach((sql, count) -> {
+            Counter.builder("jdbc.n_plus_one").tag("route", route).register(registry).increment();
+            log.warn("N+1 의심: {} 에서 같은 SQL {}회 실행: {}", route, count, sql);
+        });
+    }
+
+    private Timer timer(String type, String outcome) {
+        return timers.computeIfAbsent(type + ":" + outcome, k -> Timer.builder("jdbc.statement.latency")
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    // 앞 공백/주석을 건너뛴 첫 단어
+    static String typeOf(String sql) {
+        if (sql == null) {
+            return "other";
+        }
+        int i = 0;
+        int n = sql.length();
+        while (i < n) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c) || c == '(') {
+                i++;
+            } else if (sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? n : end + 2;
+            } else if (sql.startsWith("--", i)) {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? n : end + 1;
+            } else {
+                break;
+            }
+        }
+        int start = i;
+        while (i < n && Character.isLetter(sql.charAt(i))) {
+            i++;
+        }
+        return switch (sql.substring(start, i).toLowerCase(Locale.ROOT)) {
+            case "select", "with" -> "select";
+            case "insert" -> "insert";
+            case "update" -> "update";
+            case "delete" -> "delete";
+            default -> "other";
+        };
+    }
+}
@@ -0,0 +1,112 @@
+package com.community.soap.common.observability;
+
+import com.community.soap.common.exception.AppException;
+import com.community.soap.common.exception.ErrorLogSampler;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메서드의 Micrometer {@link Timed} 를 Timer 로 기록한다. (TimedAspect 대체, AOP starter 불필요)
+ * - 태그: @Timed.extraTags + outcome (success | AppException 의 ErrorCode 이름 | 예외 클래스 이름)
+ * - @Transactional 보다 바깥에서 재므로 커밋 시간까지 포함
+ * - histogram=true 면 percentile histogram (Prometheus histogram_quantile / SLO 용)
+ * - 같은 구간을 JFR FlowEvent 로도 남긴다 (연속 기록에서 CPU/락/할당과 겹쳐 보기)
+ */
+@Component
+public class TimedMethodPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    static final String SUCCESS = "success";
+
+    private final ObjectProvider<MeterRegistry> registry;
+    private final ConcurrentHashMap<Method, TimedMethod> methods = new ConcurrentHashMap<>();
+
+    // 메서드별 @Timed 해석 결과 + outcome 별 Timer
+    private record TimedMethod(Timed timed, String flow, ConcurrentHashMap<String, Timer> timers) {
+
+    }
+
+    public TimedMethodPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        this.registry = registry;
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+        this.advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Timed.class),
+                (MethodInterceptor) this::invoke);
+    }
+
+    private Object invoke(MethodInvocation invocation) throws Throwable {
+        FlowEvent event = new FlowEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String outcome = SUCCESS;
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            TimedMethod method = methods.computeIfAbsent(invocation.getMethod(), m -> resolve(invocation));
+            timer(method, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (event.shouldCommit()) {
+                event.timer = method.timed().value();
+                event.flow = method.flow();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private Timer timer(TimedMethod method, String outcome) {
+        return method.timers().computeIfAbsent(outcome, o -> {
+            Timed timed = method.timed();
+            String name = timed.value().isEmpty() ? "method.timed" : timed.value();
+            return Timer.builder(name)
+                    .description(timed.description().isEmpty() ? null : timed.description())
+                    .tags(timed.extraTags())
+                    .tag("outcome", o)
+                    .publishPercentileHistogram(timed.histogram())
+                    .publishPercentiles(timed.percentiles())
+                    .register(registry.getObject());
+        });
+    }
+
+    // 인터페이스 메서드로 호출돼도 구현 클래스 메서드의 @Timed 를 읽는다
+    private static TimedMethod resolve(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        Method specific = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+        Timed timed = AnnotatedElementUtils.findMergedAnnotation(specific, Timed.class);
+        return new TimedMethod(timed, flowOf(timed, specific), new ConcurrentHashMap<>());
+    }
+
+    // JFR 이벤트 라벨: extraTags 의 flow 값, 없으면 클래스.메서드
+    private static String flowOf(Timed timed, Method method) {
+        String[] tags = timed.extraTags();
+        for (int i = 0; i + 1 < tags.length; i += 2) {
+            if (tags[i].equals("flow")) {
+                return tags[i + 1];
+            }
+        }
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    static String outcomeOf(Throwable e) {
+        return e instanceof AppException app
+                ? ErrorLogSampler.codeName(app.getErrorCode())
+                : e.getClass().getSimpleName();
+    }
+}
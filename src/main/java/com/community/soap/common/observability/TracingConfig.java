@@ -0,0 +1,47 @@
+package com.community.soap.common.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 트레이싱 설정 (Micrometer Observation → OpenTelemetry bridge).
+ * - 샘플링: management.tracing.sampling.probability, 전체 끄기: management.tracing.enabled=false
+ * - exporter (observability.tracing.exporter): none(기본) = 내보내지 않음, file = JSON lines 파일(크기 롤링), log = 애플리케이션 로그
+ * - span 용 observation(span.*)은 지표를 만들지 않는다 (지연 지표는 auth.flow / jwt.verify / jdbc.statement.latency 등 별도 Timer)
+ */
+@Configuration
+public class TracingConfig {
+
+    static final String SPAN_OBSERVATION_PREFIX = "span.";
+
+    @Bean
+    public MeterFilter spanObservationMeterFilter() {
+        return MeterFilter.denyNameStartsWith(SPAN_OBSERVATION_PREFIX);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "observability.tracing", name = "exporter", havingValue = "file")
+    public SpanExporter jsonFileSpanExporter(
+            @Value("${observability.tracing.file:logs/spans.jsonl}") Path file,
+            @Value("${observability.tracing.file-max-size:64MB}") DataSize maxSize,
+            @Value("${observability.tracing.file-max-files:5}") int maxFiles,
+            ObjectMapper objectMapper
+    ) throws IOException {
+        return new JsonFileSpanExporter(file, objectMapper, maxSize, maxFiles);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "observability.tracing", name = "exporter", havingValue = "log")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
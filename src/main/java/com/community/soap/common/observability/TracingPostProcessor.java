@@ -0,0 +1,128 @@
+package com.community.soap.common.observability;
+
+import static com.community.soap.common.observability.PortMethodTagger.ADAPTER_PACKAGE;
+import static com.community.soap.common.observability.PortMethodTagger.PORT_PACKAGE;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 유스케이스(port.in) 메서드와 인증 저장소 포트 호출을 span 으로 남긴다.
+ * - span 이름: "UserUseCase.refresh", "TokenRepositoryAsyncPort.rotateRefreshToken"
+ * - PortMethodTagger 와 같은 방식으로 기존 프록시에 advisor 만 추가 (AOP starter 불필요)
+ * - CompletionStage 를 돌려주는 async 포트는 완료 시점에 span 을 닫는다 (Redis 왕복 포함)
+ * - Lettuce 명령 span 은 현재 observation 을 부모로 잡으므로 포트 span 아래에 붙는다
+ */
+@Component
+public class TracingPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    static final String USE_CASE_PACKAGE = "com.community.soap.user.application.port.in";
+    static final String USE_CASE_SERVICE_PACKAGE = "com.community.soap.user.application.service";
+    static final Set<String> TRACED_PORTS = Set.of(
+            "TokenRepositoryPort",
+            "TokenRepositoryAsyncPort",
+            "EmailVerificationRepositoryPort",
+            "RefreshRotationPort");
+
+    public static final String USE_CASE_OBSERVATION = "span.usecase";
+    public static final String PORT_OBSERVATION = "span.port";
+
+    private record Traced(String observation, String span) {
+
+    }
+
+    private final ObjectProvider<ObservationRegistry> registry;
+    private final ConcurrentHashMap<Method, Optional<Traced>> traced = new ConcurrentHashMap<>();
+
+    public TracingPostProcessor(ObjectProvider<ObservationRegistry> registry) {
+        this.registry = registry;
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+        this.advisor = new DefaultPointcutAdvisor(new TracedPointcut(), (MethodInterceptor) this::invoke);
+    }
+
+    private Object invoke(MethodInvocation invocation) throws Throwable {
+        Traced t = traced.computeIfAbsent(invocation.getMethod(), m -> Optional.ofNullable(
+                tracedOf(AopUtils.getMostSpecificMethod(m, targetClassOf(invocation))))).orElse(null);
+        if (t == null) {
+            return invocation.proceed();
+        }
+
+        Observation observation = Observation.createNotStarted(t.observation(), registry.getObject())
+                .contextualName(t.span())
+                .lowCardinalityKeyValue("method", t.span())
+                .start();
+        Object result;
+        try (Observation.Scope scope = observation.openScope()) {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            observation.stop();
+            throw e;
+        }
+
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, ex) -> {
+                if (ex != null) {
+                    observation.error(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                }
+                observation.stop();
+            });
+        } else {
+            observation.stop();
+        }
+        return result;
+    }
+
+    private static Class<?> targetClassOf(MethodInvocation invocation) {
+        return invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+    }
+
+    // 메서드가 선언된 유스케이스/대상 포트 인터페이스를 찾아 span 이름을 만든다. 대상이 아니면 null
+    private static Traced tracedOf(Method method) {
+        Class<?> itf = PortMethodTagger.declaringInterface(method, i -> observationOf(i) != null);
+        return itf == null ? null : new Traced(observationOf(itf), itf.getSimpleName() + "." + method.getName());
+    }
+
+    private static String observationOf(Class<?> itf) {
+        if (itf.getPackageName().equals(USE_CASE_PACKAGE)) {
+            return USE_CASE_OBSERVATION;
+        }
+        if (itf.getPackageName().equals(PORT_PACKAGE) && TRACED_PORTS.contains(itf.getSimpleName())) {
+            return PORT_OBSERVATION;
+        }
+        return null;
+    }
+
+    private static final class TracedPointcut extends StaticMethodMatcherPointcut {
+
+        TracedPointcut() {
+            setClassFilter(type -> (type.getPackageName().startsWith(ADAPTER_PACKAGE)
+                    || type.getPackageName().equals(USE_CASE_SERVICE_PACKAGE))
+                    && ClassUtils.getAllInterfacesForClassAsSet(type).stream()
+                    .anyMatch(itf -> observationOf(itf) != null));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return tracedOf(ClassUtils.getMostSpecificMethod(method, targetClass)) != null;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.community.soap.common.observability;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * JFR jdk.VirtualThreadPinned 이벤트를 구독해 carrier 고정(pinning) 지점을 드러낸다.
+ * - threshold 이상 고정된 경우만 수집 (짧은 synchronized 는 무시)
+ * - 지표: jvm.threads.virtual.pinned{frame=첫 애플리케이션 프레임}
+ * - 로그: 같은 프레임은 logInterval 에 한 번만 스택 상위 프레임과 함께 WARN
+ * virtual thread 모드(spring.threads.virtual.enabled)일 때만 기본 활성화
+ */
+@Slf4j(topic = "VirtualThreadPinningMonitor")
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.community.soap.";
+    private static final int LOG_FRAMES = 8;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final long logIntervalNanos;
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<String, AtomicLong> lastLogged =
+            new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${observability.vthread-pinning.enabled:${spring.threads.virtual.enabled:false}}") boolean enabled,
+            @Value("${observability.vthread-pinning.threshold:20ms}") Duration threshold,
+            @Value("${observability.vthread-pinning.log-interval:60s}") Duration logInterval,
+            MeterRegistry registry
+    ) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.logIntervalNanos = logInterval.toNanos();
+        this.registry = registry;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        RecordingStream rs = new RecordingStream();
+        rs.enable(EVENT).withThreshold(threshold).withStackTrace();
+        rs.onEvent(EVENT, this::onPinned);
+        rs.startAsync();
+        stream = rs;
+        log.info("virtual thread pinning 감시 시작 (threshold={})", threshold);
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream rs = stream;
+        stream = null;
+        if (rs != null) {
+            rs.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String site = applicationFrame(frames);
+        Counter.builder("jvm.threads.virtual.pinned")
+                .tag("frame", site)
+                .register(registry)
+                .increment();
+
+        long now = System.nanoTime();
+        AtomicLong last = lastLogged.computeIfAbsent(site, k -> new AtomicLong(now - logIntervalNanos));
+        long prev = last.get();
+        if (now - prev >= logIntervalNanos && last.compareAndSet(prev, now)) {
+            log.warn("virtual thread pinned {}ms at {}\n{}",
+                    event.getDuration().toMillis(), site, render(frames));
+        }
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace trace) {
+        return trace == null ? List.of() : trace.getFrames();
+    }
+
+    // 라이브러리 내부가 아니라 우리 코드의 어느 지점에서 고정됐는지가 중요
+    static String applicationFrame(List<RecordedFrame> frames) {
+        for (RecordedFrame f : frames) {
+            String type = f.getMethod().getType().getName();
+            if (type.startsWith(APP_PACKAGE)) {
+                return simpleName(type) + "." + f.getMethod().getName();
+            }
+        }
+        if (frames.isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame top = frames.get(0);
+        return simpleName(top.getMethod().getType().getName()) + "." + top.getMethod().getName();
+    }
+
+    private static String simpleName(String type) {
+        return type.substring(type.lastIndexOf('.') + 1);
+    }
+
+    private static String render(List<RecordedFrame> frames) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(LOG_FRAMES, frames.size()); i++) {
+            RecordedFrame f = frames.get(i);
+            sb.append("\tat ").append(f.getMethod().getType().getName())
+                    .append('.').append(f.getMethod().getName())
+                    .append(':').append(f.getLineNumber()).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,43 @@
+package com.community.soap.common.presentation;
+
+import com.community.soap.common.aop.Permission;
+import com.community.soap.common.exception.AppException;
+import com.community.soap.common.exception.CommonErrorCode;
+import com.community.soap.common.observability.JfrRecorder;
+import com.community.soap.user.domain.entity.UserRole;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 연속 JFR 기록의 최근 N 분을 서버 디스크에 덤프 (오프라인 분석용, ADMIN 전용).
+ * /actuator 는 JWT 필터 제외 경로라 인증이 필요한 이 기능은 일반 API 로 둔다.
+ */
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/jfr")
+@RestController
+public class JfrController {
+
+    private final JfrRecorder jfrRecorder;
+
+    @Permission(value = {UserRole.ADMIN})
+    @PostMapping("/dump")
+    public ResponseEntity<JfrRecorder.Dump> dump(
+            @RequestParam(name = "minutes", defaultValue = "10") long minutes
+    ) {
+        // 1 ~ maxAge 분. 범위를 벗어나면 잘라내지 않고 400 (Duration 변환 전에 막아 overflow 방지)
+        if (minutes < 1 || minutes > jfrRecorder.maxAge().toMinutes()) {
+            throw new AppException(CommonErrorCode.INVALID_INPUT_VALUE);
+        }
+        JfrRecorder.Dump response = jfrRecorder.dump(Duration.ofMinutes(minutes));
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(response);
+    }
+}
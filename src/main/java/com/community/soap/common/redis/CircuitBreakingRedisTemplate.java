@@ -0,0 +1,25 @@
+package com.community.soap.common.redis;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 요청 경로용 StringRedisTemplate. opsForXxx / execute(script) / executePipelined 모두 결국
+ * execute(RedisCallback, boolean, boolean) 를 지나므로 여기 한 곳에서 회로 차단기를 건다.
+ * 어댑터 코드는 그대로 두고, Redis 장애 시 RedisUnavailableException(503) 을 받는다
+ */
+public class CircuitBreakingRedisTemplate extends StringRedisTemplate {
+
+    private final RedisCircuitBreaker breaker;
+
+    public CircuitBreakingRedisTemplate(RedisConnectionFactory connectionFactory, RedisCircuitBreaker breaker) {
+        super(connectionFactory);
+        this.breaker = breaker;
+    }
+
+    @Override
+    public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+        return breaker.call(() -> super.execute(action, exposeConnection, pipeline));
+    }
+}
@@ -0,0 +1,49 @@
+package com.community.soap.common.redis;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+/**
+ * 템플릿과 같은 Lettuce 클라이언트(standalone 또는 Cluster)에서 String 코덱 네이티브 커넥션을 연다.
+ * async 명령은 두 모드의 공통 타입(RedisClusterAsyncCommands)으로 다룬다.
+ * Cluster 에서는 키 있는 명령(스크립트 포함)이 첫 키의 slot 노드로 라우팅된다.
+ */
+public final class LettuceConnections {
+
+    private LettuceConnections() {
+    }
+
+    public static StatefulConnection<String, String> connect(RedisConnectionFactory factory) {
+        if (factory instanceof LettuceConnectionFactory lettuce) {
+            if (lettuce.getNativeClient() instanceof RedisClusterClient cluster) {
+                return cluster.connect(StringCodec.UTF8);
+            }
+            if (lettuce.getNativeClient() instanceof RedisClient client) {
+                return client.connect(StringCodec.UTF8);
+            }
+        }
+        throw new IllegalStateException("Lettuce 연결이 필요합니다: " + factory);
+    }
+
+    public static RedisClusterAsyncCommands<String, String> async(StatefulConnection<String, String> connection) {
+        if (connection instanceof StatefulRedisConnection<String, String> standalone) {
+            return standalone.async();
+        }
+        if (connection instanceof StatefulRedisClusterConnection<String, String> cluster) {
+            return cluster.async();
+        }
+        throw new IllegalStateException("지원하지 않는 Lettuce 커넥션: " + connection);
+    }
+
+    public static boolean isCluster(RedisConnectionFactory factory) {
+        return factory instanceof LettuceConnectionFactory lettuce
+                && lettuce.getNativeClient() instanceof RedisClusterClient;
+    }
+}
@@ -0,0 +1,159 @@
+package com.community.soap.common.redis;
+
+import com.community.soap.common.redis.config.RedisCircuitProperties;
+import com.community.soap.common.resilience.CircuitBreaker;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisConnectionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 경로 Redis 호출을 감싸는 회로 차단기.
+ * - 연결 실패/timeout 만 실패로 센다 (스크립트 오류 등 명령 자체의 오류는 Redis 가 살아 있다는 뜻)
+ * - OPEN 이면 명령을 보내지 않고 바로 RedisUnavailableException(503) → 느린 Redis 에 요청 스레드가 묶이지 않음
+ * - 실패한 호출도 RedisUnavailableException 으로 바꿔 던지므로 호출 측은 한 예외 타입으로 degrade 여부를 판단
+ * 지표: redis.circuit.open (0/1), redis.circuit.calls{result=success|failure|rejected}
+ */
+@Slf4j(topic = "RedisCircuitBreaker")
+@Component
+@ConditionalOnProperty(name = "user.state-store", havingValue = "redis", matchIfMissing = true)
+public class RedisCircuitBreaker {
+
+    private final boolean enabled;
+    private final long asyncTimeoutNanos;
+    private final CircuitBreaker breaker;
+    private final Counter successes;
+    private final Counter failures;
+    private final Counter rejections;
+
+    public RedisCircuitBreaker(RedisCircuitProperties props, MeterRegistry registry) {
+        this.enabled = props.isEnabled();
+        this.asyncTimeoutNanos = props.getAsyncTimeout().toNanos();
+        this.breaker = new CircuitBreaker("redis", new CircuitBreaker.Config(
+                props.getWindowSize(), props.getMinCalls(), props.getFailureRateThreshold(),
+                props.getOpenDuration()));
+
+        this.successes = Counter.builder("redis.circuit.calls").tag("result", "success").register(registry);
+        this.failures = Counter.builder("redis.circuit.calls").tag("result", "failure").register(registry);
+        this.rejections = Counter.builder("redis.circuit.calls").tag("result", "rejected").register(registry);
+        Gauge.builder("redis.circuit.open", breaker, b -> b.state() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .register(registry);
+        breaker.onStateChange((from, to) -> log.warn("Redis 회로 상태 {} → {}", from, to));
+    }
+
+    public <T> T call(Supplier<T> command) {
+        if (!enabled) {
+            return command.get();
+        }
+        acquire();
+        try {
+            T result = command.get();
+            succeeded();
+            return result;
+        } catch (RuntimeException e) {
+            throw failed(e);
+        }
+    }
+
+    public void run(Runnable command) {
+        call(() -> {
+            command.run();
+            return null;
+        });
+    }
+
+    /**
+     * async 명령: asyncTimeout 안에 끝나지 않으면 실패로 센다 (명령 자체는 Lettuce 가 계속 처리)
+     */
+    public <T> CompletionStage<T> callAsync(Supplier<? extends CompletionStage<T>> command) {
+        if (!enabled) {
+            return command.get();
+        }
+        try {
+            acquire();
+        } catch (RedisUnavailableException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<T> sent;
+        try {
+            sent = command.get().toCompletableFuture();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(failed(e));
+        }
+        sent.orTimeout(asyncTimeoutNanos, TimeUnit.NANOSECONDS).whenComplete((value, ex) -> {
+            if (ex == null) {
+                succeeded();
+                result.complete(value);
+            } else {
+                result.completeExceptionally(failed(unwrap(ex)));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 회로가 닫혀 있는지 (호출 없이 확인만; degrade 분기용)
+     */
+    public boolean isCallPermitted() {
+        return !enabled || breaker.isCallPermitted();
+    }
+
+    public CircuitBreaker.State state() {
+        return breaker.state();
+    }
+
+    private void acquire() {
+        if (!breaker.tryAcquire()) {
+            rejections.increment();
+            throw new RedisUnavailableException();
+        }
+    }
+
+    private void succeeded() {
+        breaker.onSuccess();
+        successes.increment();
+    }
+
+    // 인프라 실패만 회로에 반영하고 503 으로 바꾼다. 그 외 예외는 성공으로 기록하고 그대로 전달
+    private RuntimeException failed(Throwable e) {
+        if (e instanceof RedisUnavailableException || isInfrastructureFailure(e)) {
+            breaker.onFailure();
+            failures.increment();
+            return e instanceof RedisUnavailableException rue ? rue : new RedisUnavailableException(e);
+        }
+        breaker.onSuccess();
+        successes.increment();
+        return e instanceof RuntimeException re ? re : new CompletionException(e);
+    }
+
+    static boolean isInfrastructureFailure(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof DataAccessResourceFailureException
+                    || t instanceof QueryTimeoutException
+                    || t instanceof RedisCommandTimeoutException
+                    || t instanceof RedisConnectionException
+                    || t instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+}
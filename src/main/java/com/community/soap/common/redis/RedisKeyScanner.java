@@ -0,0 +1,52 @@
+package com.community.soap.common.redis;
+
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 배치 작업용 SCAN. Cluster 에서는 템플릿 SCAN 이 여러 노드에 걸쳐 동작하지 않으므로
+ * 마스터 노드마다 따로 SCAN 한다 (replica 는 같은 키를 가지므로 건너뜀)
+ */
+public final class RedisKeyScanner {
+
+    private RedisKeyScanner() {
+    }
+
+    @FunctionalInterface
+    public interface KeyConsumer {
+
+        void accept(String key) throws InterruptedException;
+    }
+
+    public static void forEachKey(StringRedisTemplate redis, ScanOptions options, KeyConsumer action)
+            throws InterruptedException {
+        RedisConnectionFactory factory = redis.getRequiredConnectionFactory();
+        if (!LettuceConnections.isCluster(factory)) {
+            try (Cursor<String> cursor = redis.scan(options)) {
+                while (cursor.hasNext()) {
+                    action.accept(cursor.next());
+                }
+            }
+            return;
+        }
+
+        RedisSerializer<String> keys = redis.getStringSerializer();
+        try (RedisClusterConnection connection = factory.getClusterConnection()) {
+            for (RedisClusterNode node : connection.clusterGetNodes()) {
+                if (!node.isMaster()) {
+                    continue;
+                }
+                try (Cursor<byte[]> cursor = connection.scan(node, options)) {
+                    while (cursor.hasNext()) {
+                        action.accept(keys.deserialize(cursor.next()));
+                    }
+                }
+            }
+        }
+    }
+}
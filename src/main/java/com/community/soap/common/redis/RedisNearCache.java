@@ -0,0 +1,311 @@
+package com.community.soap.common.redis;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateAdapter;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.SocketAddress;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Redis 서버 지원 클라이언트 캐시(RESP3 CLIENT TRACKING, 기본 모드) 기반 near cache.
+ * - 읽기는 tracking 이 켜진 전용 커넥션으로 보내고, 서버는 그 커넥션이 읽은 키가 바뀌면 invalidate 를 push 한다
+ * - 캐시된 키의 재조회는 네트워크 I/O 없음. 키 TTL 은 로컬 만료 시각으로도 지킨다 (없는 키도 음성 캐시)
+ * - 응답보다 invalidate 가 먼저 오면 그 응답은 저장하지 않는다 (조회 전 자리표시 → 교체 성공 시에만 저장)
+ * - 연결이 끊기면 tracking 상태가 사라지므로 전부 비우고, 재연결 후 tracking 을 다시 켤 때까지 캐시하지 않는다
+ * 다른 노드의 쓰기는 push 가 도착할 때까지(보통 RTT 이하) 이전 값이 보일 수 있다.
+ * 같은 노드의 쓰기는 호출 측이 invalidate(key) 로 즉시 지운다.
+ * 한 키는 항상 같은 Loader 로 읽어야 한다 (값 타입이 Loader 별로 다름).
+ * Redis 조회(miss)는 회로 차단기를 거친다. 회로가 열려도 캐시에 살아 있는 값은 계속 돌려준다.
+ * Cluster 에서는 tracking 을 노드별 커넥션마다 켜야 해서 지원하지 않는다: 캐시 없이 공유 Cluster 커넥션으로 바로 조회
+ * 빈 구성은 RedisConfig (redis.near-cache.enabled=false 면 tracking 전용 커넥션을 열지 않는다)
+ */
+@Slf4j(topic = "RedisNearCache")
+public class RedisNearCache implements DisposableBean {
+
+    /**
+     * 조회 결과 + 키 TTL(ms, 음수면 로컬 만료 없음: -1 TTL 없음, -2 키 없음)
+     */
+    public record Loaded<T>(T value, long ttlMillis) {
+    }
+
+    @FunctionalInterface
+    public interface Loader<T> {
+
+        CompletionStage<Loaded<T>> load(RedisClusterAsyncCommands<String, String> redis, String key);
+    }
+
+    /** GET + PTTL */
+    public static final Loader<Optional<String>> STRING = (redis, key) ->
+            redis.get(key).thenCombine(redis.pttl(key),
+                    (value, ttl) -> new Loaded<>(Optional.ofNullable(value), ttl == null ? -1 : ttl));
+
+    /** 키 존재 여부 (PTTL 한 번: -2 면 없음) */
+    public static final Loader<Boolean> EXISTS = (redis, key) ->
+            redis.pttl(key).thenApply(ttl -> new Loaded<>(ttl != null && ttl != -2, ttl == null ? -2 : ttl));
+
+    private record Entry(Object value, long expiresAtNanos) {
+
+        static final long NEVER = 0L;
+
+        boolean live(long now) {
+            return expiresAtNanos == NEVER || expiresAtNanos - now > 0;
+        }
+    }
+
+    // 조회 중 자리표시 (인스턴스마다 다름)
+    private static final class Pending {
+    }
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, Object> entries = new ConcurrentHashMap<>();
+    private final RedisClient client;                                   // tracking 전용 (Cluster 면 null)
+    private final StatefulConnection<String, String> connection;
+    private final StatefulRedisConnection<String, String> trackingConnection; // Cluster 면 null
+    private final RedisClusterAsyncCommands<String, String> redis;
+    private final RedisCircuitBreaker breaker;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Counter invalidations;
+    private final Counter evictions;
+
+    private volatile boolean tracking;
+
+    /**
+     * tracking 모드. 클라이언트는 아직 연결 전이어야 한다 (연결/재연결 리스너를 먼저 붙임). destroy 시 클라이언트도 종료
+     */
+    public static RedisNearCache tracking(
+            RedisClient trackingClient,
+            int maxEntries,
+            RedisCircuitBreaker breaker,
+            MeterRegistry registry
+    ) {
+        return new RedisNearCache(trackingClient, null, maxEntries, breaker, registry);
+    }
+
+    /**
+     * 캐시 없이 주어진 커넥션으로 바로 조회 (비활성 또는 Cluster). destroy 시 커넥션을 닫는다
+     */
+    public static RedisNearCache passThrough(
+            StatefulConnection<String, String> connection,
+            RedisCircuitBreaker breaker,
+            MeterRegistry registry
+    ) {
+        return new RedisNearCache(null, connection, 0, breaker, registry);
+    }
+
+    private RedisNearCache(
+            RedisClient trackingClient,
+            StatefulConnection<String, String> passThroughConnection,
+            int maxEntries,
+            RedisCircuitBreaker breaker,
+            MeterRegistry registry
+    ) {
+        this.breaker = breaker;
+        this.maxEntries = maxEntries;
+        this.enabled = trackingClient != null;
+        this.client = trackingClient;
+        if (trackingClient == null) {
+            this.trackingConnection = null;
+            this.connection = passThroughConnection;
+            this.redis = LettuceConnections.async(connection);
+        } else {
+            this.client.addListener(new RedisConnectionStateAdapter() {
+                @Override
+                public void onRedisConnected(RedisChannelHandler<?, ?> conn, SocketAddress address) {
+                    if (conn == connection) {
+                        enableTracking();
+                    }
+                }
+
+                @Override
+                public void onRedisDisconnected(RedisChannelHandler<?, ?> conn) {
+                    if (conn == connection) {
+                        tracking = false;
+                        entries.clear();
+                    }
+                }
+            });
+            this.trackingConnection = client.connect(StringCodec.UTF8);
+            this.trackingConnection.addListener(this::onPush);
+            this.connection = trackingConnection;
+            this.redis = trackingConnection.async();
+        }
+
+        this.invalidations = Counter.builder("redis.nearcache.invalidations").register(registry);
+        this.evictions = Counter.builder("redis.nearcache.evictions").register(registry);
+        FunctionCounter.builder("redis.nearcache.requests", hits, LongAdder::sum)
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("redis.nearcache.requests", misses, LongAdder::sum)
+                .tag("result", "miss").register(registry);
+        Gauge.builder("redis.nearcache.size", entries, ConcurrentHashMap::size).register(registry);
+        Gauge.builder("redis.nearcache.hit.ratio", this, RedisNearCache::hitRatio).register(registry);
+
+        if (this.enabled) {
+            trackingConnection.sync().clientTracking(TrackingArgs.Builder.enabled());
+            tracking = true;
+        }
+    }
+
+    public <T> T get(String key, Loader<T> loader) {
+        try {
+            return getAsync(key, loader).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CompletionStage<T> getAsync(String key, Loader<T> loader) {
+        Object current = entries.get(key);
+        if (current instanceof Entry e && e.live(System.nanoTime())) {
+            hits.increment();
+            return CompletableFuture.completedFuture((T) e.value());
+        }
+        misses.increment();
+        if (!tracking) {
+            return load(key, loader).thenApply(Loaded::value);
+        }
+
+        // 명령을 보내기 전에 자리표시를 둬야 그 사이 도착한 invalidate 가 저장을 막는다
+        Pending pending = new Pending();
+        boolean installed = current == null
+                ? entries.putIfAbsent(key, pending) == null
+                : entries.replace(key, current, pending);
+        CompletionStage<Loaded<T>> loading = load(key, loader);
+        if (!installed) {
+            return loading.thenApply(Loaded::value);
+        }
+        return loading.whenComplete((loaded, ex) -> {
+            if (ex != null) {
+                entries.remove(key, pending);
+                return;
+            }
+            if (entries.replace(key, pending, new Entry(loaded.value(), expiresAt(loaded.ttlMillis())))) {
+                evictIfFull();
+            }
+        }).thenApply(Loaded::value);
+    }
+
+    private <T> CompletionStage<Loaded<T>> load(String key, Loader<T> loader) {
+        return breaker.callAsync(() -> loader.load(redis, key));
+    }
+
+    /**
+     * 캐시에 살아 있는 값만 돌려주고 없으면 null (조회하지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T peek(String key) {
+        if (entries.get(key) instanceof Entry e && e.live(System.nanoTime())) {
+            hits.increment();
+            return (T) e.value();
+        }
+        return null;
+    }
+
+    /**
+     * 같은 노드에서 키를 바꾼 직후 호출 (push 도착 전 재조회가 이전 값을 보지 않도록)
+     */
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static long expiresAt(long ttlMillis) {
+        if (ttlMillis < 0) {
+            return Entry.NEVER;
+        }
+        long at = System.nanoTime() + ttlMillis * 1_000_000L;
+        return at == Entry.NEVER ? 1 : at;
+    }
+
+    private void onPush(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys == null) {
+            // FLUSHALL/FLUSHDB 또는 서버 tracking 테이블 초과
+            entries.clear();
+            invalidations.increment();
+            return;
+        }
+        for (Object key : (List<?>) keys) {
+            entries.remove(String.valueOf(key));
+            invalidations.increment();
+        }
+    }
+
+    private void enableTracking() {
+        if (!enabled) {
+            return;
+        }
+        entries.clear();
+        trackingConnection.async().clientTracking(TrackingArgs.Builder.enabled())
+                .whenComplete((ok, ex) -> {
+                    if (ex != null) {
+                        log.warn("CLIENT TRACKING 재활성화 실패, 캐시 없이 동작: {}", ex.toString());
+                        return;
+                    }
+                    tracking = true;
+                });
+    }
+
+    // 초과분 + 1% 를 임의 순서로 비움 (서버는 계속 추적하므로 불필요한 invalidate 가 조금 올 뿐)
+    private void evictIfFull() {
+        int excess = entries.size() - maxEntries;
+        if (excess <= 0) {
+            return;
+        }
+        int target = excess + Math.max(1, maxEntries / 100);
+        Iterator<Object> it = entries.values().iterator();
+        while (target > 0 && it.hasNext()) {
+            if (it.next() instanceof Entry) {
+                it.remove();
+                evictions.increment();
+                target--;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        tracking = false;
+        connection.close();
+        if (client != null) {
+            client.shutdown();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.community.soap.common.redis;
+
+import com.community.soap.common.exception.AppException;
+import com.community.soap.common.exception.CommonErrorCode;
+
+/**
+ * Redis 회로가 열려 있거나 호출이 timeout/연결 실패로 끝났을 때. 응답은 503
+ */
+public class RedisUnavailableException extends AppException {
+
+    public RedisUnavailableException() {
+        super(CommonErrorCode.SERVICE_UNAVAILABLE);
+    }
+
+    public RedisUnavailableException(Throwable cause) {
+        super(CommonErrorCode.SERVICE_UNAVAILABLE, cause);
+    }
+}
@@ -0,0 +1,31 @@
+package com.community.soap.common.redis.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청 경로 Redis 호출의 회로 차단기 설정 (RedisCircuitBreaker)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "redis.circuit")
+public class RedisCircuitProperties {
+
+    private boolean enabled = true;
+    /**
+     * 최근 N 건 중 실패율이 threshold 이상이면 OPEN (최소 minCalls 건 이후)
+     */
+    private int windowSize = 50;
+    private int minCalls = 20;
+    private double failureRateThreshold = 0.5;
+    /**
+     * OPEN 유지 시간. 이후 1건만 시험 호출
+     */
+    private Duration openDuration = Duration.ofSeconds(5);
+    /**
+     * async 호출 대기 상한 (sync 는 spring.data.redis.timeout 이 명령 timeout)
+     */
+    private Duration asyncTimeout = Duration.ofMillis(500);
+}
@@ -0,0 +1,49 @@
+package com.community.soap.common.redis.config;
+
+import io.lettuce.core.ClientOptions.DisconnectedBehavior;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * spring.data.redis.* (host, password, timeout, connect-timeout, lettuce.pool 등) 에 없는 Lettuce 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "redis.client")
+public class RedisClientProperties {
+
+    /**
+     * 연결이 끊긴 동안 명령 처리: REJECT_COMMANDS 면 큐에 쌓지 않고 즉시 실패 (timeout 까지 요청 스레드가 묶이지 않음)
+     */
+    private DisconnectedBehavior disconnectedBehavior = DisconnectedBehavior.REJECT_COMMANDS;
+    /**
+     * 응답 대기 중 명령 큐 상한 (초과 시 즉시 실패)
+     */
+    private int requestQueueSize = 10_000;
+    /**
+     * 재연결 지수 backoff 하한/상한
+     */
+    private Duration reconnectMinDelay = Duration.ofMillis(50);
+    private Duration reconnectMaxDelay = Duration.ofSeconds(5);
+    /**
+     * 파이프라인 명령을 이 개수마다 flush (0 이하: close 시 한 번에)
+     */
+    private int pipelineFlushBuffer = 256;
+    /**
+     * 명령별 지연 지표(lettuce.command.completion / firstresponse) 히스토그램 기록
+     */
+    private boolean latencyHistogram = true;
+    private Bulk bulk = new Bulk();
+
+    /**
+     * 일괄 삭제/SCAN/파이프라인 전용 커넥션 (요청 경로의 짧은 GET 과 소켓을 나누지 않음)
+     */
+    @Getter
+    @Setter
+    public static class Bulk {
+
+        private Duration commandTimeout = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,70 @@
+package com.community.soap.common.redis.config;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.event.command.CommandFailedEvent;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.lettuce.core.event.command.CommandSucceededEvent;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * LettuceConnectionFactory 의 RedisClient 에 CommandListener 빈들을 등록한다.
+ * 팩토리 초기화 직후(첫 커넥션 생성 전)에 붙여야 이후 모든 커넥션 명령이 이벤트를 낸다.
+ * 리스너 빈은 첫 이벤트 때 꺼낸다 (BeanPostProcessor 가 MeterRegistry 등을 일찍 만들지 않도록)
+ */
+@Component
+public class RedisCommandListenerInstaller implements BeanPostProcessor {
+
+    private final ObjectProvider<CommandListener> listeners;
+
+    public RedisCommandListenerInstaller(ObjectProvider<CommandListener> listeners) {
+        this.listeners = listeners;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof LettuceConnectionFactory factory
+                && factory.getNativeClient() instanceof AbstractRedisClient client) {
+            client.addListener(new Delegating(listeners));
+        }
+        return bean;
+    }
+
+    private static final class Delegating implements CommandListener {
+
+        private final ObjectProvider<CommandListener> provider;
+        private volatile List<CommandListener> listeners;
+
+        Delegating(ObjectProvider<CommandListener> provider) {
+            this.provider = provider;
+        }
+
+        private List<CommandListener> listeners() {
+            List<CommandListener> resolved = listeners;
+            if (resolved == null) {
+                resolved = provider.orderedStream().toList();
+                listeners = resolved;
+            }
+            return resolved;
+        }
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            listeners().forEach(l -> l.commandStarted(event));
+        }
+
+        @Override
+        public void commandSucceeded(CommandSucceededEvent event) {
+            listeners().forEach(l -> l.commandSucceeded(event));
+        }
+
+        @Override
+        public void commandFailed(CommandFailedEvent event) {
+            listeners().forEach(l -> l.commandFailed(event));
+        }
+    }
+}
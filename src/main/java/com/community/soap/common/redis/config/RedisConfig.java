@@ -1,23 +1,297 @@
 package com.community.soap.common.redis.config;
 
+import com.community.soap.common.redis.CircuitBreakingRedisTemplate;
+import com.community.soap.common.redis.LettuceConnections;
+import com.community.soap.common.redis.RedisCircuitBreaker;
+import com.community.soap.common.redis.RedisNearCache;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.Delay;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration.LettuceClientConfigurationBuilder;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection.PipeliningFlushPolicy;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
 
+/**
+ * Lettuce 연결 구성.
+ * - 기본 factory: 요청 경로용. 일반 명령은 공유 커넥션 1개(멀티플렉싱), 블로킹/트랜잭션 명령은 전용 커넥션
+ *   (spring.data.redis.lettuce.pool.enabled=true 면 전용 커넥션을 풀에서 빌림)
+ * - bulk factory: 파이프라인/SCAN/대량 삭제 전용. 공유 커넥션을 쓰지 않아 큰 응답이 요청 경로 GET 앞을 막지 않음
+ * - 두 factory 는 같은 ClientResources(이벤트 루프, 재연결 backoff, 명령 지연 지표)를 공유
+ * - spring.data.redis.cluster.nodes 가 있으면 Cluster 모드 (host/port/database 무시, 토폴로지 갱신은 lettuce.cluster.refresh)
+ * - near cache 의 tracking 전용 클라이언트도 같은 ClientResources 와 접속 설정(ACL, SSL, client-name, timeout)을 쓴다
+ * - user.state-store=memory 면 전부 등록하지 않는다 (Redis 없이 기동)
+ */
+@Slf4j(topic = "RedisConfig")
 @RequiredArgsConstructor
 @Configuration
+@ConditionalOnProperty(name = "user.state-store", havingValue = "redis", matchIfMissing = true)
+@EnableConfigurationProperties({RedisClientProperties.class, RedisCircuitProperties.class})
 public class RedisConfig {
 
     private final RedisProperties redisProperties;
+    private final RedisClientProperties clientProperties;
 
+    /**
+     * 재연결 backoff: 하한부터 2배씩, 상한에서 멈춤
+     */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisProperties.getHost(), redisProperties.getPort());
+    public ClientResourcesBuilderCustomizer redisReconnectDelayCustomizer() {
+        return builder -> builder.reconnectDelay(Delay.exponential(
+                clientProperties.getReconnectMinDelay(),
+                clientProperties.getReconnectMaxDelay(),
+                2, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Boot 의 Lettuce 지표 설정(lettuce.command.* 타이머, command 태그)에 히스토그램 추가
+     */
+    @Bean
+    public MicrometerOptions micrometerOptions() {
+        return MicrometerOptions.builder()
+                .histogram(clientProperties.isLatencyHistogram())
+                .localDistinction(false)
+                .build();
+    }
+
+    @Primary
+    @Bean
+    public LettuceConnectionFactory redisConnectionFactory(ClientResources clientResources) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(connectionConfiguration(),
+                clientConfiguration(clientResources, commandTimeout(), true));
+        factory.setPipeliningFlushPolicy(flushPolicy());
+        return factory;
+    }
+
+    @Bean
+    public LettuceConnectionFactory bulkRedisConnectionFactory(ClientResources clientResources) {
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(connectionConfiguration(),
+                clientConfiguration(clientResources, clientProperties.getBulk().getCommandTimeout(), false));
+        factory.setShareNativeConnection(false);
+        factory.setPipeliningFlushPolicy(flushPolicy());
+        return factory;
+    }
+
+    /**
+     * near cache (redis.near-cache.enabled=true, 기본). standalone 이면 RESP3 tracking 전용 커넥션, Cluster 면 pass-through
+     */
+    @Bean
+    @ConditionalOnProperty(name = "redis.near-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisNearCache redisNearCache(
+            RedisConnectionFactory redisConnectionFactory,
+            @Value("${redis.near-cache.max-entries:100000}") int maxEntries,
+            RedisCircuitBreaker redisCircuitBreaker,
+            MeterRegistry registry,
+            ObjectProvider<CommandListener> commandListeners
+    ) {
+        return nearCache(redisConnectionFactory, maxEntries, redisCircuitBreaker, registry,
+                commandListeners.orderedStream().toList());
+    }
+
+    /**
+     * near cache 비활성: tracking 전용 커넥션 없이 공유 클라이언트의 커넥션으로 바로 조회
+     */
+    @Bean
+    @ConditionalOnProperty(name = "redis.near-cache.enabled", havingValue = "false")
+    public RedisNearCache passThroughRedisNearCache(
+            RedisConnectionFactory redisConnectionFactory,
+            RedisCircuitBreaker redisCircuitBreaker,
+            MeterRegistry registry
+    ) {
+        return RedisNearCache.passThrough(LettuceConnections.connect(redisConnectionFactory), redisCircuitBreaker,
+                registry);
+    }
+
+    public RedisNearCache nearCache(
+            RedisConnectionFactory redisConnectionFactory,
+            int maxEntries,
+            RedisCircuitBreaker redisCircuitBreaker,
+            MeterRegistry registry,
+            List<CommandListener> commandListeners
+    ) {
+        if (LettuceConnections.isCluster(redisConnectionFactory)) {
+            log.info("Redis Cluster: near cache 비활성 (공유 Cluster 커넥션으로 바로 조회)");
+            return RedisNearCache.passThrough(LettuceConnections.connect(redisConnectionFactory),
+                    redisCircuitBreaker, registry);
+        }
+        if (!(redisConnectionFactory instanceof LettuceConnectionFactory lettuce)
+                || !(lettuce.getNativeClient() instanceof RedisClient shared)) {
+            throw new IllegalStateException("Lettuce 연결이 필요합니다: " + redisConnectionFactory);
+        }
+        // 팩토리의 이벤트 루프는 공유하되 RESP3 를 강제한 전용 클라이언트 (명령 지표 리스너는 connect 전에 등록)
+        RedisClient client = RedisClient.create(shared.getResources(), trackingUri());
+        client.setOptions(clientOptions(commandTimeout()).mutate().protocolVersion(ProtocolVersion.RESP3).build());
+        commandListeners.forEach(client::addListener);
+        return RedisNearCache.tracking(client, maxEntries, redisCircuitBreaker, registry);
+    }
+
+    RedisURI trackingUri() {
+        RedisURI.Builder uri = RedisURI.builder()
+                .withHost(redisProperties.getHost())
+                .withPort(redisProperties.getPort())
+                .withDatabase(redisProperties.getDatabase())
+                .withSsl(redisProperties.getSsl().isEnabled())
+                .withTimeout(commandTimeout());
+        if (StringUtils.hasText(redisProperties.getPassword())) {
+            if (StringUtils.hasText(redisProperties.getUsername())) {
+                uri.withAuthentication(redisProperties.getUsername(), redisProperties.getPassword());
+            } else {
+                uri.withPassword(redisProperties.getPassword().toCharArray());
+            }
+        }
+        if (StringUtils.hasText(redisProperties.getClientName())) {
+            uri.withClientName(redisProperties.getClientName());
+        }
+        return uri.build();
+    }
+
+    private boolean isCluster() {
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+        return cluster != null && cluster.getNodes() != null && !cluster.getNodes().isEmpty();
+    }
+
+    private RedisConfiguration connectionConfiguration() {
+        return isCluster() ? cluster() : standalone();
+    }
+
+    private RedisClusterConfiguration cluster() {
+        RedisProperties.Cluster cluster = redisProperties.getCluster();
+        RedisClusterConfiguration config = new RedisClusterConfiguration(cluster.getNodes());
+        if (cluster.getMaxRedirects() != null) {
+            config.setMaxRedirects(cluster.getMaxRedirects());
+        }
+        config.setUsername(redisProperties.getUsername());
+        if (StringUtils.hasText(redisProperties.getPassword())) {
+            config.setPassword(redisProperties.getPassword());
+        }
+        return config;
+    }
+
+    private RedisStandaloneConfiguration standalone() {
+        RedisStandaloneConfiguration config = new RedisStandaloneConfiguration(
+                redisProperties.getHost(), redisProperties.getPort());
+        config.setDatabase(redisProperties.getDatabase());
+        config.setUsername(redisProperties.getUsername());
+        if (StringUtils.hasText(redisProperties.getPassword())) {
+            config.setPassword(redisProperties.getPassword());
+        }
+        return config;
+    }
+
+    private LettuceClientConfiguration clientConfiguration(
+            ClientResources clientResources,
+            Duration commandTimeout,
+            boolean pooled
+    ) {
+        RedisProperties.Pool pool = redisProperties.getLettuce().getPool();
+        LettuceClientConfigurationBuilder builder = pooled && Boolean.TRUE.equals(pool.getEnabled())
+                ? LettucePoolingClientConfiguration.builder().poolConfig(poolConfig(pool))
+                : LettuceClientConfiguration.builder();
+        builder.clientResources(clientResources)
+                .commandTimeout(commandTimeout)
+                .shutdownTimeout(redisProperties.getLettuce().getShutdownTimeout())
+                .clientOptions(clientOptions(commandTimeout));
+        if (redisProperties.getClientName() != null) {
+            builder.clientName(redisProperties.getClientName());
+        }
+        if (redisProperties.getSsl().isEnabled()) {
+            builder.useSsl();
+        }
+        return builder.build();
+    }
+
+    private ClientOptions clientOptions(Duration commandTimeout) {
+        Duration connectTimeout = redisProperties.getConnectTimeout() != null
+                ? redisProperties.getConnectTimeout()
+                : SocketOptions.DEFAULT_CONNECT_TIMEOUT_DURATION;
+        ClientOptions.Builder builder = isCluster()
+                ? ClusterClientOptions.builder().topologyRefreshOptions(topologyRefreshOptions())
+                : ClientOptions.builder();
+        return builder
+                .autoReconnect(true)
+                .disconnectedBehavior(clientProperties.getDisconnectedBehavior())
+                .requestQueueSize(clientProperties.getRequestQueueSize())
+                .socketOptions(SocketOptions.builder()
+                        .connectTimeout(connectTimeout)
+                        .keepAlive(true)
+                        .build())
+                .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                .build();
+    }
+
+    /**
+     * 리샤딩/페일오버 후 MOVED·재연결 신호로 즉시 갱신(adaptive) + 주기 갱신
+     */
+    private ClusterTopologyRefreshOptions topologyRefreshOptions() {
+        RedisProperties.Lettuce.Cluster.Refresh refresh = redisProperties.getLettuce().getCluster().getRefresh();
+        ClusterTopologyRefreshOptions.Builder builder = ClusterTopologyRefreshOptions.builder()
+                .dynamicRefreshSources(refresh.isDynamicRefreshSources());
+        if (refresh.getPeriod() != null) {
+            builder.enablePeriodicRefresh(refresh.getPeriod());
+        }
+        if (refresh.isAdaptive()) {
+            builder.enableAllAdaptiveRefreshTriggers();
+        }
+        return builder.build();
+    }
+
+    private Duration commandTimeout() {
+        return redisProperties.getTimeout() != null ? redisProperties.getTimeout() : Duration.ofSeconds(2);
+    }
+
+    private static GenericObjectPoolConfig<?> poolConfig(RedisProperties.Pool pool) {
+        GenericObjectPoolConfig<?> config = new GenericObjectPoolConfig<>();
+        config.setMaxTotal(pool.getMaxActive());
+        config.setMaxIdle(pool.getMaxIdle());
+        config.setMinIdle(pool.getMinIdle());
+        if (pool.getMaxWait() != null) {
+            config.setMaxWait(pool.getMaxWait());
+        }
+        if (pool.getTimeBetweenEvictionRuns() != null) {
+            config.setTimeBetweenEvictionRuns(pool.getTimeBetweenEvictionRuns());
+        }
+        return config;
+    }
+
+    private PipeliningFlushPolicy flushPolicy() {
+        int buffer = clientProperties.getPipelineFlushBuffer();
+        return buffer > 0 ? PipeliningFlushPolicy.buffered(buffer) : PipeliningFlushPolicy.flushOnClose();
     }
 
     @Bean
@@ -34,4 +308,33 @@ public class RedisConfig {
         redisTemplate.afterPropertiesSet();
         return redisTemplate;
     }
+
+    /**
+     * 요청 경로 기본 템플릿: 회로 차단기 적용 (Redis 가 느리거나 죽으면 빠르게 503)
+     */
+    @Primary
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(
+            RedisConnectionFactory redisConnectionFactory,
+            RedisCircuitBreaker redisCircuitBreaker
+    ) {
+        return new CircuitBreakingRedisTemplate(redisConnectionFactory, redisCircuitBreaker);
+    }
+
+    /**
+     * 파이프라인/SCAN/대량 삭제용 (bulkRedisConnectionFactory)
+     */
+    @Bean
+    public StringRedisTemplate bulkRedisTemplate(
+            @Qualifier("bulkRedisConnectionFactory") RedisConnectionFactory bulkRedisConnectionFactory) {
+        return new StringRedisTemplate(bulkRedisConnectionFactory);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
 }
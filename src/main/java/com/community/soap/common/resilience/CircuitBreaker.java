@@ -0,0 +1,183 @@
+package com.community.soap.common.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 windowSize 건의 실패율로 여닫는 회로 차단기.
+ * - CLOSED: 모두 허용. 최소 minCalls 건 이상에서 실패율이 threshold 이상이면 OPEN
+ * - OPEN: openDuration 동안 모두 거부, 이후 첫 요청 1건만 시험 호출(HALF_OPEN)
+ * - HALF_OPEN: 시험 호출 성공 → CLOSED(기록 초기화), 실패 → 다시 OPEN
+ * 호출 측은 tryAcquire() 가 true 일 때만 호출하고, 결과를 onSuccess/onFailure 로 반드시 알린다.
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    public record Config(
+            int windowSize,
+            int minCalls,
+            double failureRateThreshold,
+            Duration openDuration
+    ) {
+
+        public Config {
+            if (windowSize <= 0 || minCalls <= 0 || minCalls > windowSize) {
+                throw new IllegalArgumentException("invalid window: " + windowSize + "/" + minCalls);
+            }
+        }
+    }
+
+    private final String name;
+    private final Config config;
+    private final LongSupplier nanoClock;
+    private final CopyOnWriteArrayList<BiConsumer<State, State>> listeners =
+            new CopyOnWriteArrayList<>();
+
+    // 아래 상태는 this 로 보호 (임계 구역이 짧고 블로킹 호출 없음)
+    private final boolean[] failures;
+    private int index;
+    private int recorded;
+    private int failureCount;
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(String name, Config config) {
+        this(name, config, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, Config config, LongSupplier nanoClock) {
+        this.name = name;
+        this.config = config;
+        this.nanoClock = nanoClock;
+        this.failures = new boolean[config.windowSize()];
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * 상태 전이 알림 (from, to). 지표/로그 용도
+     */
+    public void onStateChange(BiConsumer<State, State> listener) {
+        listeners.add(listener);
+    }
+
+    public boolean tryAcquire() {
+        State from;
+        synchronized (this) {
+            switch (state) {
+                case CLOSED -> {
+                    return true;
+                }
+                case OPEN -> {
+                    if (nanoClock.getAsLong() - openedAtNanos < config.openDuration().toNanos()) {
+                        return false;
+                    }
+                    from = state;
+                    state = State.HALF_OPEN;
+                    probeInFlight = true;
+                }
+                default -> {
+                    if (probeInFlight) {
+                        return false;
+                    }
+                    probeInFlight = true;
+                    return true;
+                }
+            }
+        }
+        notify(from, State.HALF_OPEN);
+        return true;
+    }
+
+    /**
+     * 호출 없이 현재 허용 여부만 확인 (라우팅 순위 계산용)
+     */
+    public synchronized boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> nanoClock.getAsLong() - openedAtNanos >= config.openDuration().toNanos();
+            case HALF_OPEN -> !probeInFlight;
+        };
+    }
+
+    public void onSuccess() {
+        State from;
+        synchronized (this) {
+            if (state != State.HALF_OPEN) {
+                record(false);
+                return;
+            }
+            from = state;
+            state = State.CLOSED;
+            probeInFlight = false;
+            reset();
+        }
+        notify(from, State.CLOSED);
+    }
+
+    public void onFailure() {
+        State from;
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                probeInFlight = false;
+            } else {
+                record(true);
+                if (state != State.CLOSED || recorded < config.minCalls()
+                        || (double) failureCount / recorded < config.failureRateThreshold()) {
+                    return;
+                }
+            }
+            from = state;
+            state = State.OPEN;
+            openedAtNanos = nanoClock.getAsLong();
+        }
+        notify(from, State.OPEN);
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized double failureRate() {
+        return recorded == 0 ? 0.0 : (double) failureCount / recorded;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == failures.length) {
+            if (failures[index]) {
+                failureCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[index] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        index = (index + 1) % failures.length;
+    }
+
+    private void reset() {
+        Arrays.fill(failures, false);
+        index = 0;
+        recorded = 0;
+        failureCount = 0;
+    }
+
+    private void notify(State from, State to) {
+        for (BiConsumer<State, State> l : listeners) {
+            l.accept(from, to);
+        }
+    }
+}
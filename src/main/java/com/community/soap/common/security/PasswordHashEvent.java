@@ -0,0 +1,21 @@
+package com.community.soap.common.security;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: 비밀번호 해시 1회 (BCrypt 폭주 시 CPU 사용과 겹쳐 보기 위함)
+ */
+@Name("com.community.soap.PasswordHash")
+@Label("Password Hash")
+@Category({"SOAP", "Security"})
+@Description("PasswordEncoder encode/matches 실행 구간")
+@StackTrace(false)
+class PasswordHashEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    String op;
+}
@@ -1,5 +1,8 @@
 package com.community.soap.common.snowflake;
 
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
 import java.util.random.RandomGenerator;
 
 public class Snowflake {
@@ -15,11 +18,39 @@ public class Snowflake {
     // UTC = 2024-01-01T00:00:00Z
     private final long startTimeMillis = 1704067200000L;
 
+    // synchronized 는 경합 시 virtual thread 의 carrier 를 고정(pinning)하므로 j.u.c 락 사용
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 현재 시각(ms). 테스트에서 시각 진행을 직접 제어할 수 있도록 주입
+    private final LongSupplier clock;
+
     private long lastTimeMillis = startTimeMillis;
     private long sequence = 0L;
 
-    public synchronized long nextId() {
-        long currentTimeMillis = System.currentTimeMillis();
+    // 같은 ms 안에서 sequence 를 다 써서 다음 ms 까지 spin 한 횟수/시간 (지표용, snowflakeConfig 에서 등록)
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder waitSpins = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+
+    public Snowflake() {
+        this(System::currentTimeMillis);
+    }
+
+    Snowflake(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        lock.lock();
+        try {
+            return generate();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long generate() {
+        long currentTimeMillis = clock.getAsLong();
 
         if (currentTimeMillis < lastTimeMillis) {
             throw new IllegalStateException("Invalid Time");
@@ -42,9 +73,34 @@ public class Snowflake {
     }
 
     private long waitNextMillis(long currentTimestamp) {
+        SnowflakeWaitEvent event = new SnowflakeWaitEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long spins = 0;
         while (currentTimestamp <= lastTimeMillis) {
-            currentTimestamp = System.currentTimeMillis();
+            Thread.onSpinWait();
+            spins++;
+            currentTimestamp = clock.getAsLong();
+        }
+        waits.increment();
+        waitSpins.add(spins);
+        waitNanos.add(System.nanoTime() - start);
+        if (event.shouldCommit()) {
+            event.spins = spins;
+            event.commit();
         }
         return currentTimestamp;
     }
+
+    public long waitCount() {
+        return waits.sum();
+    }
+
+    public long waitSpinCount() {
+        return waitSpins.sum();
+    }
+
+    public long waitNanos() {
+        return waitNanos.sum();
+    }
 }
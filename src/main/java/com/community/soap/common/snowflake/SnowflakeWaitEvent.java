@@ -0,0 +1,21 @@
+package com.community.soap.common.snowflake;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR 이벤트: sequence 소진으로 다음 ms 까지 spin 한 구간
+ */
+@Name("com.community.soap.SnowflakeWait")
+@Label("Snowflake Wait")
+@Category({"SOAP", "Snowflake"})
+@Description("ms 당 sequence 를 다 써서 다음 ms 까지 spin-wait 한 구간")
+@StackTrace(false)
+class SnowflakeWaitEvent extends jdk.jfr.Event {
+
+    @Label("Spins")
+    long spins;
+}
@@ -1,5 +1,9 @@
 package com.community.soap.common.snowflake;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.TimeUnit;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -7,7 +11,14 @@ import org.springframework.context.annotation.Configuration;
 public class snowflakeConfig {
 
     @Bean
-    public Snowflake snowflake() {
-        return new Snowflake();
+    public Snowflake snowflake(MeterRegistry registry) {
+        Snowflake snowflake = new Snowflake();
+        // sequence 소진 → 다음 ms 대기 (발급 경로는 그대로 두고 scrape 시점에 합계만 읽음)
+        FunctionTimer.builder("snowflake.wait", snowflake,
+                        Snowflake::waitCount, Snowflake::waitNanos, TimeUnit.NANOSECONDS)
+                .register(registry);
+        FunctionCounter.builder("snowflake.wait.spins", snowflake, Snowflake::waitSpinCount)
+                .register(registry);
+        return snowflake;
     }
 }
@@ -0,0 +1,83 @@
+package com.community.soap.common.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Redis 에 평문으로 두면 안 되는 값을 AES-GCM 으로 봉인한다: "v1:" + Base64(iv | 암호문).
+ * - AAD 로 값의 주인(키 이름 등)을 묶어 다른 자리로 옮겨 붙이면 열리지 않는다
+ * - 키: 설정된 Base64 256bit 키, 없으면 서명 키에서 용도 라벨로 파생 (모든 노드가 같은 키)
+ */
+public final class AesGcmSealer {
+
+    private static final String VERSION = "v1:";
+    private static final String CIPHER = "AES/GCM/NoPadding";
+    private static final int IV_BYTES = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKey key;
+    private final SecureRandom random = new SecureRandom();
+
+    private AesGcmSealer(SecretKey key) {
+        this.key = key;
+    }
+
+    /**
+     * keyBase64 가 비어 있으면 secretBase64 를 label 과 함께 SHA-256 해 키로 쓴다
+     */
+    public static AesGcmSealer of(String keyBase64, String secretBase64, String label) {
+        if (keyBase64 != null && !keyBase64.isBlank()) {
+            return new AesGcmSealer(new SecretKeySpec(Base64.getDecoder().decode(keyBase64), "AES"));
+        }
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(label.getBytes(StandardCharsets.UTF_8));
+            return new AesGcmSealer(new SecretKeySpec(
+                    sha256.digest(Base64.getDecoder().decode(secretBase64)), "AES"));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static boolean isSealed(String value) {
+        return value != null && value.startsWith(VERSION);
+    }
+
+    public String seal(String aad, byte[] plaintext) throws GeneralSecurityException {
+        byte[] iv = new byte[IV_BYTES];
+        random.nextBytes(iv);
+        Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+        cipher.updateAAD(aad.getBytes(StandardCharsets.UTF_8));
+        byte[] sealed = cipher.doFinal(plaintext);
+        return VERSION + Base64.getEncoder().encodeToString(
+                ByteBuffer.allocate(IV_BYTES + sealed.length).put(iv).put(sealed).array());
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식 오류
+     * @throws GeneralSecurityException 키 불일치/변조
+     */
+    public byte[] open(String aad, String value) throws GeneralSecurityException {
+        if (!isSealed(value)) {
+            throw new IllegalArgumentException("알 수 없는 봉인 형식");
+        }
+        byte[] raw = Base64.getDecoder().decode(value.substring(VERSION.length()));
+        if (raw.length <= IV_BYTES) {
+            throw new IllegalArgumentException("봉인 값 길이 오류");
+        }
+        Cipher cipher = Cipher.getInstance(CIPHER);
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, raw, 0, IV_BYTES));
+        cipher.updateAAD(aad.getBytes(StandardCharsets.UTF_8));
+        return cipher.doFinal(raw, IV_BYTES, raw.length - IV_BYTES);
+    }
+}
@@ -0,0 +1,12 @@
+package com.community.soap.user.application.policy;
+
+import java.time.Duration;
+
+public interface RefreshRotationPolicy {
+
+    Duration graceTtl();
+
+    Duration waitTimeout();
+
+    Duration pollInterval();
+}
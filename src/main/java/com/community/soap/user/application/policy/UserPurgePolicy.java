@@ -0,0 +1,18 @@
+package com.community.soap.user.application.policy;
+
+import java.time.Duration;
+
+public interface UserPurgePolicy {
+
+    Duration retention();
+
+    int chunkSize();
+
+    Duration throttle();
+
+    int maxChunksPerRun();
+
+    Duration chunkTimeout();
+
+    Duration lockTtl();
+}
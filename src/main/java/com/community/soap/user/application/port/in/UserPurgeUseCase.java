@@ -0,0 +1,11 @@
+package com.community.soap.user.application.port.in;
+
+public interface UserPurgeUseCase {
+
+    /**
+     * 보존 기간이 지난 soft-delete 회원을 청크 단위로 hard-delete 한다.
+     *
+     * @return 이번 실행에서 삭제한 회원 수
+     */
+    long purgeSoftDeletedUsers();
+}
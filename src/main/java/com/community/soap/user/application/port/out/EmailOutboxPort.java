@@ -0,0 +1,16 @@
+package com.community.soap.user.application.port.out;
+
+import java.time.Duration;
+
+/**
+ * 메일 발송 요청을 내구성 있는 outbox 에 적재한다. (실제 발송은 워커가 비동기로 수행)
+ */
+public interface EmailOutboxPort {
+
+    /**
+     * @param idempotencyKey 같은 키는 한 번만 발송된다 (재시도/중복 적재 방지)
+     * @param ttl            코드 유효 시간. 지나면 발송하지 않고 폐기
+     */
+    void enqueueVerificationCode(String idempotencyKey, String email, String code, Duration ttl,
+            String brand);
+}
@@ -1,23 +1,41 @@
 package com.community.soap.user.application.port.out;
 
 import java.time.Duration;
-import java.util.Optional;
 
+/**
+ * 이메일 한 건의 인증 상태(코드 해시, 시도 수, 쿨타임, 차단, 검증 완료)를 관리한다.
+ * - 요청/검증 흐름은 각각 한 번의 원자적 호출로 처리
+ */
 public interface EmailVerificationRepositoryPort {
-    void saveCodeHash(String email, String codeHash, Duration ttl);
-    Optional<String> getCodeHash(String email);
-    void deleteCode(String email);
 
-    long incrementAttempts(String email, Duration windowTtl);
-    void resetAttempts(String email);
+    enum CodeRequestResult {
+        ISSUED,
+        BLOCKED,
+        IN_COOLTIME
+    }
 
-    void setCooltime(String email, Duration coolTtl);
-    boolean inCooltime(String email);
+    enum CodeVerifyResult {
+        VERIFIED,
+        BLOCKED,
+        NOT_REQUESTED,
+        MISMATCH
+    }
 
-    void block(String email, Duration ttl);
-    boolean isBlocked(String email);
+    /**
+     * 차단/쿨타임이 아니면 코드 해시를 저장하고 쿨타임을 건다.
+     */
+    CodeRequestResult requestCode(String email, String codeHash, Duration codeTtl,
+            Duration cooltime);
+
+    /**
+     * 코드 해시를 비교한다.
+     * - 불일치: 시도 수 증가(첫 실패 시 attemptsWindow TTL), maxAttempts 도달 시 차단 + 코드 폐기
+     * - 일치: 코드/시도 수 정리 후 검증 완료 플래그 저장
+     */
+    CodeVerifyResult verifyCode(String email, String inputHash, Duration attemptsWindow,
+            long maxAttempts, Duration blockTtl, Duration verifiedTtl);
 
-    void markVerified(String email, Duration ttl);
     boolean isVerified(String email);
+
     void clearVerified(String email);
 }
@@ -0,0 +1,32 @@
+package com.community.soap.user.application.port.out;
+
+import com.community.soap.user.application.response.SignInResponse;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 같은 refresh 토큰(rJti)의 동시 재발급을 노드 간에 하나로 합치기 위한 짧은 grace 기록.
+ */
+public interface RefreshRotationPort {
+
+    /** 회전 선점(SET NX). 실패하면 다른 요청/노드가 회전 중이거나 이미 회전을 끝냈다 */
+    boolean tryClaim(String rJti, Duration ttl);
+
+    /** 회전 결과 기록: grace 동안 같은 rJti 요청은 이 결과를 그대로 돌려받는다 */
+    void complete(String rJti, String refreshHash, SignInResponse response, Duration graceTtl);
+
+    /** 선점 해제 (검증 실패 등으로 회전하지 못한 경우) */
+    void release(String rJti);
+
+    Optional<RefreshRotation> find(String rJti);
+
+    record RefreshRotation(
+            String refreshHash,
+            SignInResponse response
+    ) {
+
+        public boolean completed() {
+            return response != null;
+        }
+    }
+}
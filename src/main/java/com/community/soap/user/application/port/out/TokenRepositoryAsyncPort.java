@@ -0,0 +1,30 @@
+package com.community.soap.user.application.port.out;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * TokenRepositoryPort 의 비동기 변형 (요청 흐름에서 쓰는 단건 연산만).
+ * - 호출 즉시 명령을 보내고 결과는 CompletionStage 로 받는다
+ * - 서로 의존하지 않는 조회/쓰기를 먼저 모두 보낸 뒤 한 번에 기다리면 RTT 가 겹친다
+ * - 키 구조는 TokenRepositoryPort 구현과 같음 (두 포트를 섞어 써도 됨)
+ */
+public interface TokenRepositoryAsyncPort {
+
+    // RT 해시 저장 + 유저-세션 인덱스 추가 (두 명령을 함께 보냄)
+    CompletionStage<Void> saveRefreshToken(String jti, Long userId, String refreshTokenHash, long ttlMillis);
+    CompletionStage<Optional<String>> getRefreshTokenHashByJti(Long userId, String jti);
+    CompletionStage<Void> deleteRefreshTokenByJti(Long userId, String jti);
+
+    // 유저 단위 원자적 폐기/회전 (TokenRepositoryPort 와 같은 의미)
+    CompletionStage<Void> revokeRefreshToken(Long userId, String jti);
+    // 이전 RT 해시가 expectedHash 가 아니면(그 사이 폐기/회전) 바꾸지 않고 false
+    CompletionStage<Boolean> rotateRefreshToken(Long userId, String oldJti, String expectedHash, String newJti,
+            String newRefreshTokenHash, long ttlMillis);
+
+    CompletionStage<Boolean> hasUserRefreshJti(Long userId, String jti);
+    CompletionStage<Void> removeUserRefreshIndex(Long userId, String jti);
+
+    CompletionStage<Void> blacklistAccessJti(String jti, long ttlMillis);
+    CompletionStage<Boolean> isAccessJtiBlacklisted(String jti);
+}
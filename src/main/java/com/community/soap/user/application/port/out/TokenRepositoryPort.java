@@ -1,36 +1,48 @@
 package com.community.soap.user.application.port.out;
 
-import java.util.Map;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
 
+/**
+ * RT 해시와 유저-세션 인덱스는 유저 단위로 묶여 저장된다 (Redis Cluster 에서 같은 slot).
+ * 그래서 RT 조회/삭제에도 userId 가 필요하고, 유저 하나의 여러 키를 건드리는 폐기/회전은 원자적으로 처리된다.
+ */
 public interface TokenRepositoryPort {
 
-    // Refresh Token 저장/조회/삭제 (jti 기준)
+    // Refresh Token 저장/조회/삭제 (userId + jti 기준)
     void saveRefreshToken(String jti, Long userId, String refreshTokenHash, long ttlMillis);
-    Optional<String> getRefreshTokenHashByJti(String jti);
-    void deleteRefreshTokenByJti(String jti);
+    Optional<String> getRefreshTokenHashByJti(Long userId, String jti);
+    void deleteRefreshTokenByJti(Long userId, String jti);
+
+    /** RT 해시 삭제 + 인덱스 제거 (원자적) */
+    void revokeRefreshToken(Long userId, String jti);
+
+    /**
+     * 이전 RT 폐기 + 새 RT 저장/인덱스 추가 (원자적).
+     * 이전 RT 해시가 아직 expectedHash 일 때만 회전한다. 조회 후 그 사이 폐기/회전됐으면 아무것도 바꾸지 않고 false
+     */
+    boolean rotateRefreshToken(Long userId, String oldJti, String expectedHash, String newJti,
+            String newRefreshTokenHash, long ttlMillis);
 
     // 유저-세션 인덱스
     void addUserRefreshIndex(Long userId, String jti);
     Set<String> getUserRefreshJtis(Long userId);
     void removeUserRefreshIndex(Long userId, String jti);
-    void deleteAllRefreshTokensOfUser(Long userId); // 전체 로그아웃
+    void deleteAllRefreshTokensOfUser(Long userId); // 전체 로그아웃 (인덱스 + RT 해시 원자적 삭제)
 
-    // 블랙리스트
+    // 블랙리스트 (AT 전용: RT 는 해시 키 존재 여부로만 검증)
     void blacklistAccessJti(String jti, long ttlMillis);
-    void blacklistRefreshJti(String jti, long ttlMillis); // 선택
     boolean isAccessJtiBlacklisted(String jti);
-    boolean isRefreshJtiBlacklisted(String jti);
-
-    Optional<Long> getRemainingRefreshTtlMs(String rJti);
 
     /** 유저의 인덱스 SET에 해당 rJti가 포함되는지 빠르게 확인 */
     boolean hasUserRefreshJti(Long userId, String jti);
 
+    // 남은 TTL (키가 없거나 만료됐으면 empty)
+    Optional<Duration> getRefreshTokenTtl(Long userId, String jti);
+    Optional<Duration> getAccessBlacklistTtl(String jti);
+
     // TokenRepository (선택)
     Set<String> popAllUserRefreshJtis(Long userId); // 인덱스에서 rJti 모두 꺼내면서 비움
-    Map<String, Long> mgetRemainingRefreshTtlsMs(Set<String> rJtis); // 여러 jti TTL 일괄 조회
-    void mdeleteRefreshTokensByJtis(Set<String> rJtis); // 여러 RT 해시 일괄 삭제
-    void mblacklistRefreshJtis(Map<String, Long> jtiToTtlMs); // 여러 rJti 블랙리스트
+    void mdeleteRefreshTokensByJtis(Long userId, Set<String> rJtis); // 한 유저의 여러 RT 해시 일괄 삭제
 }
@@ -0,0 +1,20 @@
+package com.community.soap.user.application.port.out;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface UserPurgeCursorPort {
+
+    // 마지막으로 처리한 userId (재시작 시 이어서 진행)
+    Optional<Long> loadCursor();
+
+    // 락 소유자일 때만 커서를 바꾼다 (false: 락을 잃음 → 실행 중단)
+    boolean saveCursor(String owner, Long lastUserId);
+    boolean clearCursor(String owner);
+
+    // 다중 노드 동시 실행 방지
+    boolean tryLock(String owner, Duration ttl);
+    // 소유자일 때만 TTL 연장 (false: 락 만료 후 다른 노드가 가져감)
+    boolean renewLock(String owner, Duration ttl);
+    void unlock(String owner);
+}
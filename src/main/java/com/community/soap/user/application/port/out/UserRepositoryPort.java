@@ -1,6 +1,8 @@
 package com.community.soap.user.application.port.out;
 
 import com.community.soap.user.domain.entity.User;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepositoryPort {
@@ -12,4 +14,9 @@ public interface UserRepositoryPort {
     Optional<User> findByUserId(Long userId);
 
     boolean existsByEmail(String email);
+
+    // purge: soft-delete 된 지 오래된 회원 (userId 오름차순, afterUserId 초과)
+    List<Long> findPurgeCandidateIds(Long afterUserId, LocalDateTime deletedBefore, int limit);
+
+    int deleteSoftDeletedByUserIds(List<Long> userIds);
 }
@@ -0,0 +1,125 @@
+package com.community.soap.user.application.service;
+
+import com.community.soap.user.application.policy.UserPurgePolicy;
+import com.community.soap.user.application.port.in.UserPurgeUseCase;
+import com.community.soap.user.application.port.out.TokenRepositoryPort;
+import com.community.soap.user.application.port.out.UserPurgeCursorPort;
+import com.community.soap.user.application.port.out.UserRepositoryPort;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * soft-delete 회원 hard-delete 배치.
+ * - userId 오름차순 청크로 조회 → 청크마다 짧은 트랜잭션으로 삭제 (긴 row lock / 복제 지연 방지)
+ * - 청크 사이 throttle, 실행당 최대 청크 수 제한
+ * - 마지막 처리 userId 를 커서로 저장해 중단돼도 이어서 진행
+ * - 청크마다 락을 연장하고, 커서는 락 소유자일 때만 전진. 락을 잃으면(TTL 만료 후 다른 노드가 획득) 즉시 중단
+ */
+@Slf4j(topic = "UserPurgeService")
+@Service
+public class UserPurgeService implements UserPurgeUseCase {
+
+    private final UserRepositoryPort userRepositoryPort;
+    private final TokenRepositoryPort tokenRepositoryPort;
+    private final UserPurgeCursorPort cursorPort;
+    private final UserPurgePolicy purgePolicy;
+    private final TransactionTemplate chunkTx;
+
+    private final String owner = UUID.randomUUID().toString();
+
+    public UserPurgeService(
+            UserRepositoryPort userRepositoryPort,
+            TokenRepositoryPort tokenRepositoryPort,
+            UserPurgeCursorPort cursorPort,
+            UserPurgePolicy purgePolicy,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.userRepositoryPort = userRepositoryPort;
+        this.tokenRepositoryPort = tokenRepositoryPort;
+        this.cursorPort = cursorPort;
+        this.purgePolicy = purgePolicy;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.chunkTx.setTimeout((int) Math.max(1, purgePolicy.chunkTimeout().toSeconds()));
+    }
+
+    @Override
+    public long purgeSoftDeletedUsers() {
+        if (!cursorPort.tryLock(owner, purgePolicy.lockTtl())) {
+            log.info("다른 인스턴스에서 purge 실행 중 → skip");
+            return 0;
+        }
+        try {
+            return purgeChunks();
+        } finally {
+            cursorPort.unlock(owner);
+        }
+    }
+
+    private long purgeChunks() {
+        LocalDateTime deletedBefore = LocalDateTime.now().minus(purgePolicy.retention());
+        int chunkSize = purgePolicy.chunkSize();
+        long cursor = cursorPort.loadCursor().orElse(0L);
+        long purged = 0;
+
+        for (int chunk = 0; chunk < purgePolicy.maxChunksPerRun(); chunk++) {
+            if (!cursorPort.renewLock(owner, purgePolicy.lockTtl())) {
+                return lockLost(purged);
+            }
+            List<Long> userIds = userRepositoryPort.findPurgeCandidateIds(cursor, deletedBefore,
+                    chunkSize);
+            if (userIds.isEmpty()) {
+                cursorPort.clearCursor(owner); // 끝까지 돌았으면 다음 실행은 처음부터
+                return purged;
+            }
+
+            // 1) 남아있는 세션 키 정리 (DB 삭제 후 실패하면 고아 키가 되므로 먼저)
+            userIds.forEach(tokenRepositoryPort::deleteAllRefreshTokensOfUser);
+
+            // 2) 청크 단위 짧은 트랜잭션
+            Integer deleted = chunkTx.execute(
+                    status -> userRepositoryPort.deleteSoftDeletedByUserIds(userIds));
+            purged += (deleted == null ? 0 : deleted);
+
+            // 3) 커서 전진 (락 소유 확인과 함께)
+            cursor = userIds.get(userIds.size() - 1);
+            if (!cursorPort.saveCursor(owner, cursor)) {
+                return lockLost(purged);
+            }
+
+            if (userIds.size() < chunkSize) {
+                cursorPort.clearCursor(owner);
+                return purged;
+            }
+            if (!throttle()) {
+                break;
+            }
+        }
+
+        log.info("purge 실행당 최대 청크 도달 → cursor={} 에서 다음 실행 시 재개", cursor);
+        return purged;
+    }
+
+    private long lockLost(long purged) {
+        log.warn("purge 락을 잃음 (lockTtl 초과 후 다른 인스턴스가 획득) → 중단, purged={}", purged);
+        return purged;
+    }
+
+    private boolean throttle() {
+        long millis = purgePolicy.throttle().toMillis();
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package com.community.soap.user.application.service;
 
+import com.community.soap.common.concurrent.SingleFlight;
+import com.community.soap.common.jwt.AccessTokenClaims;
+import com.community.soap.common.jwt.IssuedToken;
 import com.community.soap.common.jwt.JwtErrorCode;
 import com.community.soap.common.jwt.JwtProvider;
+import com.community.soap.common.jwt.RefreshTokenClaims;
 import com.community.soap.common.jwt.TokenException;
+import com.community.soap.common.jwt.TokenWatermarkStore;
 import com.community.soap.common.snowflake.Snowflake;
 import com.community.soap.common.util.TokenHash;
 import com.community.soap.user.application.policy.EmailVerificationPolicy;
+import com.community.soap.user.application.policy.RefreshRotationPolicy;
 import com.community.soap.user.application.port.in.UserUseCase;
-import com.community.soap.user.application.port.out.EmailSenderPort;
+import com.community.soap.user.application.port.out.EmailOutboxPort;
 import com.community.soap.user.application.port.out.EmailVerificationRepositoryPort;
+import com.community.soap.user.application.port.out.RefreshRotationPort;
+import com.community.soap.user.application.port.out.RefreshRotationPort.RefreshRotation;
+import com.community.soap.user.application.port.out.TokenRepositoryAsyncPort;
 import com.community.soap.user.application.port.out.TokenRepositoryPort;
 import com.community.soap.user.application.port.out.UserRepositoryPort;
 import com.community.soap.user.application.request.EmailVerificationCodeRequest;
@@ -22,28 +31,46 @@ import com.community.soap.user.application.response.SignUpResponse;
 import com.community.soap.user.domain.entity.User;
 import com.community.soap.user.domain.exception.UserErrorCode;
 import com.community.soap.user.domain.exception.UserException;
+import io.micrometer.core.annotation.Timed;
 import java.security.SecureRandom;
-import java.util.Map;
-import java.util.Set;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j(topic = "UserService")
 @RequiredArgsConstructor
 @Service
 public class UserService implements UserUseCase {
 
+    // 다른 노드 회전 결과 polling 간격 상한 (pollInterval 의 배수)
+    private static final long MAX_POLL_BACKOFF = 8;
+
     private final UserRepositoryPort userRepositoryPort;
     private final PasswordEncoder passwordEncoder;
     private final Snowflake snowflake;
 
     private final JwtProvider jwtProvider;
     private final TokenRepositoryPort tokenRepositoryPort;
+    private final TokenRepositoryAsyncPort tokenRepositoryAsyncPort;
+    private final TokenWatermarkStore tokenWatermarkStore;
+    private final RefreshRotationPort refreshRotationPort;
+    private final RefreshRotationPolicy refreshPolicy;
+
+    // 같은 rJti 동시 재발급 요청 합치기 (노드 로컬)
+    private final SingleFlight<String, SignInResponse> refreshFlights = new SingleFlight<>();
 
     private final EmailVerificationRepositoryPort emailVerificationRepositoryPort;
     private final EmailVerificationPolicy emailPolicy;
-    private final EmailSenderPort emailSenderPort;
+    private final EmailOutboxPort emailOutboxPort;
 
     private User findUserByEmail(String email) {
         return userRepositoryPort.findByEmail(email)
@@ -89,104 +116,219 @@ public class UserService implements UserUseCase {
     }
 
     @Transactional
+    @Timed(value = "auth.flow", extraTags = {"flow", "signIn"}, histogram = true)
     @Override
     public SignInResponse signIn(SignInRequest request) {
         User user = findUserByEmail(request.email());
         checkPassword(request.password(), user.getPassword());
 
-        // 1) 토큰 발급
-        String accessToken = jwtProvider.generateAccessToken(user.getUserId(), user.getUserRole());
-        String refreshToken = jwtProvider.generateRefreshToken(user.getUserId());
+        // 1) 토큰 발급 (jti/만료는 발급 결과에서 바로: 방금 만든 토큰을 다시 파싱하지 않음)
+        IssuedToken access = jwtProvider.issueAccessToken(user.getUserId(), user.getUserRole());
+        IssuedToken refresh = jwtProvider.issueRefreshToken(user.getUserId());
 
-        // 2) jti/TTL 산출
-        String rJti = jwtProvider.getRefreshJti(refreshToken);
-        long accessTtlMs = jwtProvider.accessTokenTtlOf(accessToken).toMillis();
-        long refreshTtlMs = jwtProvider.refreshTokenTtlOf(refreshToken).toMillis();
+        // 2) TTL 산출
+        long accessTtlMs = access.ttl().toMillis();
+        long refreshTtlMs = refresh.ttl().toMillis();
 
         // 3) 리프레시 토큰 해시 저장 (+ 유저-세션 인덱스)
-        String refreshHash = TokenHash.sha256(refreshToken);
-        tokenRepositoryPort.saveRefreshToken(rJti, user.getUserId(), refreshHash, refreshTtlMs);
+        String refreshHash = TokenHash.sha256(refresh.token());
+        await(tokenRepositoryAsyncPort.saveRefreshToken(refresh.jti(), user.getUserId(), refreshHash, refreshTtlMs));
 
         // 4) 응답 구성
-        return SignInResponse.of(user, accessToken, accessTtlMs, refreshToken, refreshTtlMs);
+        return SignInResponse.of(user, access.token(), accessTtlMs, refresh.token(), refreshTtlMs);
     }
 
 
     /**
-     * 로그아웃: 단일 세션(rJti)만 정확히 폐기. - AT는 소유자 일치 시 블랙리스트 - RT는 rJti 단위로 검증/블랙리스트/삭제/인덱스 제거
+     * 로그아웃: 단일 세션(rJti)만 정확히 폐기. - AT는 소유자 일치 시 블랙리스트 - RT는 rJti 단위로 검증/삭제/인덱스 제거
      */
     @Transactional
+    @Timed(value = "auth.flow", extraTags = {"flow", "logout"}, histogram = true)
     @Override
     public void logout(String authorizationHeader, String refreshToken, Long userIdFromCtx) {
         if (refreshToken == null || refreshToken.isBlank()) {
             throw new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN);
         }
 
-        Long userIdFromRt = jwtProvider.getUserIdFromRefresh(refreshToken);
-        if (!userIdFromRt.equals(userIdFromCtx)) {
+        // RT 서명/만료 검증은 한 번 (userId/jti 를 같은 결과에서)
+        RefreshTokenClaims claims = jwtProvider.parseRefreshToken(refreshToken);
+        if (!claims.userId().equals(userIdFromCtx)) {
             throw new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN);
         }
 
-        String rJti = jwtProvider.getRefreshJti(refreshToken);
-        if (!tokenRepositoryPort.hasUserRefreshJti(userIdFromCtx, rJti)) {
+        // 인덱스 확인(SISMEMBER)과 해시 조회(GET)는 서로 독립 → 함께 보내고 같이 기다림
+        String rJti = claims.jti();
+        CompletionStage<Boolean> indexed = tokenRepositoryAsyncPort.hasUserRefreshJti(userIdFromCtx, rJti);
+        CompletionStage<Optional<String>> storedHash = tokenRepositoryAsyncPort.getRefreshTokenHashByJti(userIdFromCtx, rJti);
+        if (!await(indexed)) {
             throw new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN);
         }
 
         // AT 블랙리스트 (소유자 일치시에만)
-        blacklistAccessIfOwner(authorizationHeader, userIdFromCtx);
+        CompletionStage<Void> blacklisted = blacklistAccessIfOwner(authorizationHeader, userIdFromCtx);
 
-        // RT 폐기 (단일 rJti) - 해시/TTL 1회 계산
+        // RT 폐기 (단일 rJti)
         String refreshHash = TokenHash.sha256(refreshToken);
-        long refreshTtlMs = jwtProvider.refreshTokenTtlOf(refreshToken).toMillis();
-        revokeRefreshByJti(userIdFromCtx, rJti, refreshHash, refreshTtlMs);
+        CompletionStage<Void> revoked = revokeRefreshByJti(userIdFromCtx, rJti, refreshHash, storedHash);
+        awaitAll(blacklisted, revoked);
     }
 
-    @Transactional
+    /**
+     * 토큰 재발급: 같은 rJti 동시 요청(여러 탭)은 한 번만 회전하고 같은 토큰 쌍을 돌려준다.
+     * - 노드 내: in-flight future 공유 / 노드 간: Redis grace 기록 (선점 → 회전 → 결과 기록)
+     * - 트랜잭션 없음: 대기 중인 요청이 DB 커넥션을 잡고 있지 않도록 (DB 작업은 회원 조회 1회)
+     */
+    @Timed(value = "auth.flow", extraTags = {"flow", "refresh"}, histogram = true)
     @Override
     public SignInResponse refresh(String refreshToken) {
         if (refreshToken == null || refreshToken.isBlank()) {
             throw new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN);
         }
 
-        // 1) 유효성/블랙리스트/해시 비교
-        String rJti = jwtProvider.getRefreshJti(refreshToken);
+        // 서명/만료 검증은 요청당 한 번: 이후 단계는 파싱 결과(userId/rJti/iat)를 넘겨 쓴다
+        RefreshTokenClaims claims = jwtProvider.parseRefreshToken(refreshToken);
+        String rJti = claims.jti();
+        String inputHash = TokenHash.sha256(refreshToken);
 
-        if (tokenRepositoryPort.isRefreshJtiBlacklisted(rJti)) {
-            throw new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN);
+        // 같은 rJti 라도 토큰 해시가 다르면(위조/오래된 토큰) leader 가 발급한 토큰 쌍을 받지 못한다
+        return refreshFlights.execute(rJti, inputHash, refreshPolicy.waitTimeout(),
+                () -> rotateOnce(claims, inputHash),
+                () -> new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN),
+                () -> new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN));
+    }
+
+    private SignInResponse rotateOnce(RefreshTokenClaims claims, String inputHash) {
+        String rJti = claims.jti();
+        // 다른 노드가 회전 중이거나 grace 안에 이미 회전했으면 그 결과를 받는다
+        if (!refreshRotationPort.tryClaim(rJti, refreshPolicy.graceTtl())) {
+            return awaitRotated(rJti, inputHash);
         }
 
-        String inputHash = TokenHash.sha256(refreshToken);
-        String storedHash = tokenRepositoryPort.getRefreshTokenHashByJti(rJti)
+        SignInResponse response;
+        try {
+            response = rotate(claims, inputHash);
+        } catch (RuntimeException e) {
+            refreshRotationPort.release(rJti);
+            throw e;
+        }
+
+        // 회전은 이미 커밋됨: grace 기록 실패로 새 토큰 쌍을 버리면 이전 RT 도 폐기된 상태라 세션을 잃는다
+        try {
+            refreshRotationPort.complete(rJti, inputHash, response, refreshPolicy.graceTtl());
+        } catch (RuntimeException e) {
+            log.warn("refresh grace 기록 실패 (회전은 완료, 동시 요청은 재로그인 필요): {}", e.toString());
+            releaseQuietly(rJti);
+        }
+        return response;
+    }
+
+    private void releaseQuietly(String rJti) {
+        try {
+            refreshRotationPort.release(rJti);
+        } catch (RuntimeException e) {
+            // PENDING 은 grace TTL 이 지나면 사라진다
+            log.debug("refresh grace 선점 해제 실패: {}", e.toString());
+        }
+    }
+
+    /**
+     * 다른 노드의 회전 결과를 기다린다 (같은 노드의 동시 요청은 SingleFlight 로 이미 하나로 합쳐짐).
+     * - 대기 상한: min(waitTimeout, graceTtl). PENDING 선점은 grace TTL 이 지나면 사라지므로 그 이상 기다릴 이유가 없다
+     * - polling 간격은 pollInterval 부터 두 배씩, 최대 MAX_POLL_BACKOFF 배까지 (요청 스레드와 Redis 부하 제한)
+     */
+    private SignInResponse awaitRotated(String rJti, String inputHash) {
+        Duration bound = refreshPolicy.waitTimeout().compareTo(refreshPolicy.graceTtl()) <= 0
+                ? refreshPolicy.waitTimeout() : refreshPolicy.graceTtl();
+        long deadline = System.nanoTime() + bound.toNanos();
+        long interval = Math.max(1, refreshPolicy.pollInterval().toMillis());
+        long maxInterval = interval * MAX_POLL_BACKOFF;
+        while (true) {
+            Optional<RefreshRotation> rotation = refreshRotationPort.find(rJti);
+            if (rotation.isEmpty()) {
+                // 선점한 쪽이 검증에 실패해 해제했거나 grace 만료
+                throw new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN);
+            }
+            if (rotation.get().completed()) {
+                if (!inputHash.equals(rotation.get().refreshHash())) {
+                    throw new TokenException(JwtErrorCode.TAMPERED_TOKEN);
+                }
+                return rotation.get().response();
+            }
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                throw new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN);
+            }
+            sleepQuietly(Math.min(interval, remaining));
+            interval = Math.min(interval * 2, maxInterval);
+        }
+    }
+
+    private SignInResponse rotate(RefreshTokenClaims claims, String inputHash) {
+        // 해시 조회(Redis)를 먼저 보내 두고, 응답을 기다리는 동안 워터마크 확인 + 회원 조회(DB)
+        Long userId = claims.userId();
+        String rJti = claims.jti();
+        CompletionStage<Optional<String>> storedHash = tokenRepositoryAsyncPort.getRefreshTokenHashByJti(userId, rJti);
+        boolean revoked = tokenWatermarkStore.isRevoked(userId, claims.issuedAt());
+        Optional<User> found = revoked ? Optional.empty() : userRepositoryPort.findByUserId(userId);
+
+        // 1) 해시 존재/비교: 폐기된 RT 는 해시 키가 없으므로 별도 블랙리스트 조회 불필요
+        String stored = await(storedHash)
                 .orElseThrow(() -> new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN));
-        if (!storedHash.equals(inputHash)) {
+        if (!stored.equals(inputHash)) {
             throw new TokenException(JwtErrorCode.TAMPERED_TOKEN);
         }
+        if (revoked) {
+            throw new TokenException(JwtErrorCode.REVOKED_TOKEN);
+        }
+        User user = found.orElseThrow(() -> new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN));
 
-        Long userId = jwtProvider.getUserIdFromRefresh(refreshToken);
-        User user = userRepositoryPort.findByUserId(userId)
-                .orElseThrow(() -> new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN));
+        // 2) 이전 rJti 폐기(삭제 + 인덱스 제거) + 3) 새 토큰 저장: 유저 slot 안에서 스크립트 한 번 (원자적)
+        //    스크립트가 해시를 다시 비교: 위 조회 뒤 로그아웃/폐기됐거나 조회가 오래된 캐시였으면 회전하지 않음
+        IssuedToken newAccess = jwtProvider.issueAccessToken(user.getUserId(), user.getUserRole());
+        IssuedToken newRefresh = jwtProvider.issueRefreshToken(user.getUserId());
+
+        long accessTtlMs = newAccess.ttl().toMillis();
+        long refreshTtlMs = newRefresh.ttl().toMillis();
 
-        // 2) 이전 rJti 폐기(블랙리스트 + 삭제 + 인덱스 제거)
-        long oldRttl = jwtProvider.refreshTokenTtlOf(refreshToken).toMillis();
-        if (oldRttl > 0) {
-            tokenRepositoryPort.blacklistRefreshJti(rJti, oldRttl);
+        String newRHash = TokenHash.sha256(newRefresh.token());
+        if (!await(tokenRepositoryAsyncPort.rotateRefreshToken(userId, rJti, stored, newRefresh.jti(), newRHash,
+                refreshTtlMs))) {
+            throw new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN);
         }
-        tokenRepositoryPort.deleteRefreshTokenByJti(rJti);
-        tokenRepositoryPort.removeUserRefreshIndex(userId, rJti);
 
-        // 3) 새 토큰 발급 및 저장
-        String newAccess = jwtProvider.generateAccessToken(user.getUserId(), user.getUserRole());
-        String newRefresh = jwtProvider.generateRefreshToken(user.getUserId());
+        // 4) 응답
+        return SignInResponse.of(user, newAccess.token(), accessTtlMs, newRefresh.token(), refreshTtlMs);
+    }
 
-        String newRJti = jwtProvider.getRefreshJti(newRefresh);
-        long accessTtlMs = jwtProvider.accessTokenTtlOf(newAccess).toMillis();
-        long refreshTtlMs = jwtProvider.refreshTokenTtlOf(newRefresh).toMillis();
+    /**
+     * 비동기 저장소 결과 대기. 저장소 예외는 감싸지 않고 그대로 던진다
+     */
+    private static <T> T await(CompletionStage<T> stage) {
+        try {
+            return stage.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
 
-        String newRHash = TokenHash.sha256(newRefresh);
-        tokenRepositoryPort.saveRefreshToken(newRJti, userId, newRHash, refreshTtlMs);
+    private static void awaitAll(CompletionStage<?>... stages) {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[stages.length];
+        for (int i = 0; i < stages.length; i++) {
+            futures[i] = stages[i].toCompletableFuture();
+        }
+        await(CompletableFuture.allOf(futures));
+    }
 
-        // 4) 응답
-        return SignInResponse.of(user, newAccess, accessTtlMs, newRefresh, refreshTtlMs);
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -203,9 +345,8 @@ public class UserService implements UserUseCase {
         // 1) 사용자 존재 확인
         User user = findUserById(userIdFromCtx);
 
-        // 2) AT 블랙리스트 + RT 전부 폐기
-        blacklistAccessIfOwner(authorizationHeader, user.getUserId());
-        revokeAllRefreshOfUser(user.getUserId());
+        // 2) 워터마크로 AT/RT 전부 폐기 (제시된 AT 포함, 다른 기기의 AT 도 즉시 무효)
+        revokeAllSessionsOfUser(user.getUserId());
 
         // 3) 유저 soft-delete
         user.softDelete(user.getUserId());
@@ -219,74 +360,67 @@ public class UserService implements UserUseCase {
     public void deleteUserAsAdmin(Long targetUserId) {
         User target = findUserById(targetUserId);
 
-        revokeAllRefreshOfUser(target.getUserId()); // AT 모를 수 있으니 RT만 전부 폐기
+        revokeAllSessionsOfUser(target.getUserId());
         target.softDelete(target.getUserId());
     }
 
     /**
-     * AT가 주어졌고 소유자가 targetUserId와 일치하면 블랙리스트 등록
+     * AT가 주어졌고 소유자가 targetUserId와 일치하면 블랙리스트 등록 (등록 명령만 보내고 반환)
      */
-    private void blacklistAccessIfOwner(String authorizationHeader, Long targetUserId) {
+    private CompletionStage<Void> blacklistAccessIfOwner(String authorizationHeader, Long targetUserId) {
+        CompletionStage<Void> skipped = CompletableFuture.completedFuture(null);
         if (authorizationHeader == null || authorizationHeader.isBlank()) {
-            return;
+            return skipped;
         }
 
         try {
-            Long uidFromAt = jwtProvider.getUserId(authorizationHeader);
-            if (!uidFromAt.equals(targetUserId)) {
-                return;
+            AccessTokenClaims at = jwtProvider.parseAccessToken(authorizationHeader);
+            if (!at.userId().equals(targetUserId)) {
+                return skipped;
             }
 
-            String aJti = jwtProvider.getJti(authorizationHeader);
-            long aTtlMs = jwtProvider.accessTokenTtlOf(authorizationHeader).toMillis();
+            long aTtlMs = at.expiresAt().toEpochMilli() - System.currentTimeMillis();
             if (aTtlMs > 0) {
-                tokenRepositoryPort.blacklistAccessJti(aJti, aTtlMs); // setIfAbsent로 TTL 연장 방지
+                return tokenRepositoryAsyncPort.blacklistAccessJti(at.jti(), aTtlMs); // NX 로 TTL 연장 방지
             }
         } catch (TokenException ignore) {
             // AT 만료/형식 오류 등은 무시 (주 목적은 RT 폐기)
         }
+        return skipped;
     }
 
     /**
-     * 단일 rJti에 대한 RT 폐기(검증·블랙리스트·삭제·인덱스제거)
+     * 단일 rJti에 대한 RT 폐기(검증·삭제·인덱스제거). storedHash 는 미리 보내 둔 조회 결과
      */
-    private void revokeRefreshByJti(Long userId, String rJti, String inputRefreshHash,
-            long refreshTtlMs) {
+    private CompletionStage<Void> revokeRefreshByJti(
+            Long userId,
+            String rJti,
+            String inputRefreshHash,
+            CompletionStage<Optional<String>> storedHash
+    ) {
         // 1) 멱등/위변조 방지: 저장된 해시와 비교 (저장소에 없으면 이미 처리된 것으로 간주)
-        String storedHash = tokenRepositoryPort.getRefreshTokenHashByJti(rJti).orElse(null);
-        if (storedHash != null && !storedHash.equals(inputRefreshHash)) {
+        String stored = await(storedHash).orElse(null);
+        if (stored != null && !stored.equals(inputRefreshHash)) {
             throw new TokenException(JwtErrorCode.TAMPERED_TOKEN);
         }
 
-        // 2) 블랙리스트 (TTL 있을 때만)
-        if (refreshTtlMs > 0) {
-            tokenRepositoryPort.blacklistRefreshJti(rJti, refreshTtlMs);
-        }
-
-        // 3) 저장소 삭제 + 인덱스 제거
-        tokenRepositoryPort.deleteRefreshTokenByJti(rJti);
-        tokenRepositoryPort.removeUserRefreshIndex(userId, rJti);
+        // 2) 저장소 삭제 + 인덱스 제거를 원자적으로 (해시 키가 없으면 refresh 불가)
+        return tokenRepositoryAsyncPort.revokeRefreshToken(userId, rJti);
     }
 
     /**
-     * 해당 유저의 모든 RT 세션을 일괄 폐기(블랙리스트 가능 시 포함) -> revokeAllRefreshOfUser를 배치 API로 치환
+     * 해당 유저의 모든 세션(AT/RT)을 폐기
+     * - 워터마크 write 1회로 이전에 발급된 토큰 전부 무효 (jti 열거/블랙리스트 불필요)
+     * - RT 해시/인덱스 삭제는 정합성이 아니라 메모리 회수 목적
      */
-    private void revokeAllRefreshOfUser(Long targetUserId) {
-        // 1) rJti 전부 꺼내면서 인덱스 비우기 (원자)
-        Set<String> rJtis = tokenRepositoryPort.popAllUserRefreshJtis(targetUserId);
-        if (rJtis.isEmpty()) {
-            return;
-        }
+    private void revokeAllSessionsOfUser(Long targetUserId) {
+        tokenWatermarkStore.revokeAllIssuedBefore(targetUserId, Instant.now());
 
-        // 2) TTL 일괄 조회(파이프라인)
-        Map<String, Long> jtiToTtl = tokenRepositoryPort.mgetRemainingRefreshTtlsMs(rJtis);
-        // 3) 블랙리스트 일괄 등록(파이프라인) – TTL 있는 것만
-        tokenRepositoryPort.mblacklistRefreshJtis(jtiToTtl);
-        // 4) RT 해시 일괄 삭제(파이프라인)
-        tokenRepositoryPort.mdeleteRefreshTokensByJtis(rJtis);
+        tokenRepositoryPort.deleteAllRefreshTokensOfUser(targetUserId);
     }
 
     // ---- 이메일 인증 코드 요청 ----
+    @Timed(value = "auth.flow", extraTags = {"flow", "emailVerificationCode"}, histogram = true)
     @Override
     public EmailVerificationCodeResponse emailVerificationCode(
             EmailVerificationCodeRequest request) {
@@ -297,28 +431,22 @@ public class UserService implements UserUseCase {
             throw new UserException(UserErrorCode.EMAIL_DUPLICATED);
         }
 
-        // 차단 상태 체크
-        if (emailVerificationRepositoryPort.isBlocked(email)) {
-            throw new UserException(UserErrorCode.EMAIL_VERIFICATION_BLOCKED);
-        }
-
-        // 쿨타임 체크
-        if (emailVerificationRepositoryPort.inCooltime(email)) {
-            throw new UserException(UserErrorCode.EMAIL_VERIFICATION_COOLTIME);
-        }
-
         // 코드 생성 (6자리)
         String code = generate6DigitCode();
 
-        // 코드 해시 저장
+        // 차단/쿨타임 확인 + 코드 해시 저장 + 쿨타임 세팅 (원자적 1회 호출)
         String codeHash = TokenHash.sha256(code);
-        emailVerificationRepositoryPort.saveCodeHash(email, codeHash, emailPolicy.codeTtl());
-
-        // 쿨타임 세팅
-        emailVerificationRepositoryPort.setCooltime(email, emailPolicy.cooltime());
+        switch (emailVerificationRepositoryPort.requestCode(
+                email, codeHash, emailPolicy.codeTtl(), emailPolicy.cooltime())) {
+            case BLOCKED -> throw new UserException(UserErrorCode.EMAIL_VERIFICATION_BLOCKED);
+            case IN_COOLTIME -> throw new UserException(UserErrorCode.EMAIL_VERIFICATION_COOLTIME);
+            case ISSUED -> {
+            }
+        }
 
-        // 메일 발송
-        emailSenderPort.sendVerificationCode(email, code, emailPolicy.codeTtl(),
+        // 메일 발송은 outbox 적재까지만 (SMTP 발송은 워커가 비동기로 처리)
+        emailOutboxPort.enqueueVerificationCode(
+                TokenHash.sha256(email + ":" + codeHash), email, code, emailPolicy.codeTtl(),
                 "Community SOAP");
 
         // 응답
@@ -331,31 +459,23 @@ public class UserService implements UserUseCase {
     public void emailVerifyCode(EmailVerifyCodeRequest request) {
         final String email = request.email();
 
-        if (emailVerificationRepositoryPort.isBlocked(email)) {
-            throw new UserException(UserErrorCode.EMAIL_VERIFICATION_BLOCKED);
-        }
-
-        String storedHash = emailVerificationRepositoryPort.getCodeHash(email)
-                .orElseThrow(
-                        () -> new UserException(UserErrorCode.EMAIL_VERIFICATION_NOT_REQUESTED));
-
         String inputHash = TokenHash.sha256(String.valueOf(request.verifyCode()));
 
-        if (!storedHash.equals(inputHash)) {
-            long attempts = emailVerificationRepositoryPort.incrementAttempts(email,
-                    emailPolicy.codeTtl());
-            if (attempts >= emailPolicy.maxAttempts()) {
-                emailVerificationRepositoryPort.block(email, emailPolicy.blockTtl());
-                emailVerificationRepositoryPort.deleteCode(email); // 코드 폐기
+        // 차단 확인 + 비교 + 시도 수/차단 갱신 또는 성공 정리 (원자적 1회 호출)
+        switch (emailVerificationRepositoryPort.verifyCode(
+                email,
+                inputHash,
+                emailPolicy.codeTtl(),
+                emailPolicy.maxAttempts(),
+                emailPolicy.blockTtl(),
+                emailPolicy.verifiedTtl())) {
+            case BLOCKED -> throw new UserException(UserErrorCode.EMAIL_VERIFICATION_BLOCKED);
+            case NOT_REQUESTED ->
+                    throw new UserException(UserErrorCode.EMAIL_VERIFICATION_NOT_REQUESTED);
+            case MISMATCH -> throw new UserException(UserErrorCode.EMAIL_VERIFY_CODE_MISMATCH);
+            case VERIFIED -> {
             }
-            throw new UserException(UserErrorCode.EMAIL_VERIFY_CODE_MISMATCH);
         }
-
-        // 성공: 코드/시도 수/블록 정보 정리
-        emailVerificationRepositoryPort.deleteCode(email);
-        emailVerificationRepositoryPort.resetAttempts(email);
-        emailVerificationRepositoryPort.clearVerified(email);     // 기존 플래그 제거 후
-        emailVerificationRepositoryPort.markVerified(email, emailPolicy.verifiedTtl());
     }
 
     private String generate6DigitCode() {
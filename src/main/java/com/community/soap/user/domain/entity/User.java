@@ -5,6 +5,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
@@ -14,7 +15,11 @@ import lombok.NoArgsConstructor;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter(AccessLevel.PUBLIC)
-@Table(name = "s_user")
+// 탈퇴 회원 정리(JpaUserAdapter.findPurgeCandidateIdsAfter): is_deleted 고정 + user_id keyset 범위/정렬,
+// deleted_at 은 인덱스 안에서 거른다 (user_id 만 읽으므로 테이블 접근 없음)
+@Table(name = "s_user", indexes = {
+        @Index(name = "idx_user_purge", columnList = "is_deleted, user_id, deleted_at")
+})
 @Entity
 public class User {
 
@@ -47,6 +52,9 @@ public class User {
     @Column(name = "updated_by")
     private Long updatedBy;
 
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     private User(Long userId, String email, String password, String nickname) {
         this.userId = userId;
         this.email = email;
@@ -69,6 +77,7 @@ public class User {
     public void softDelete(Long userId) {
         this.isDeleted = Boolean.TRUE;
         update(userId);
+        this.deletedAt = this.updatedAt; // 보존 기간(purge) 기준 시각
     }
 
     private void update(Long userId) {
@@ -4,4 +4,5 @@ import com.community.soap.common.exception.AppException;
 
 public class UserException extends AppException {
     public UserException(UserErrorCode code) { super(code); }
+    public UserException(UserErrorCode code, Throwable cause) { super(code, cause); }
 }
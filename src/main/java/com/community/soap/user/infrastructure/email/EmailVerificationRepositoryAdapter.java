@@ -1,100 +1,170 @@
 package com.community.soap.user.infrastructure.email;
 
+import com.community.soap.common.redis.RedisNearCache;
+import com.community.soap.common.redis.RedisNearCache.Loaded;
+import com.community.soap.common.redis.RedisNearCache.Loader;
 import com.community.soap.user.application.port.out.EmailVerificationRepositoryPort;
 import java.time.Duration;
-import java.util.Optional;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 이메일 한 건의 상태를 해시 하나(EV:&lt;email&gt;)에 필드별 TTL(HPEXPIRE, Redis 7.4+)로 저장한다.
+ * - code / attempts / cool / block / verified
+ * - 모든 필드가 만료되면 키도 함께 사라진다
+ * - block / cool / verified 의 남은 TTL 은 near cache 에 두고, 차단·쿨타임 중인 반복 요청은 스크립트 없이 거절
+ */
 @Repository
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.state-store", havingValue = "redis", matchIfMissing = true)
 public class EmailVerificationRepositoryAdapter implements EmailVerificationRepositoryPort {
 
-    private final StringRedisTemplate redis;
-
-    private String codeKey(String email) {
-        return "EV:code:" + email;
-    }
-
-    private String attemptsKey(String email) {
-        return "EV:attempts:" + email;
-    }
-
-    private String coolKey(String email) {
-        return "EV:cool:" + email;
-    }
-
-    private String blockKey(String email) {
-        return "EV:block:" + email;
-    }
+    private static final String F_VERIFIED = "verified";
+
+    // ARGV: codeHash, codeTtlMs, coolMs → 0=ISSUED, 1=BLOCKED, 2=IN_COOLTIME
+    private static final RedisScript<Long> REQUEST = RedisScript.of("""
+            if redis.call('HEXISTS', KEYS[1], 'block') == 1 then return 1 end
+            if redis.call('HEXISTS', KEYS[1], 'cool') == 1 then return 2 end
+            redis.call('HSET', KEYS[1], 'code', ARGV[1], 'cool', '1')
+            redis.call('HPEXPIRE', KEYS[1], ARGV[2], 'FIELDS', 1, 'code')
+            redis.call('HPEXPIRE', KEYS[1], ARGV[3], 'FIELDS', 1, 'cool')
+            return 0
+            """, Long.class);
+
+    // ARGV: inputHash, attemptsWindowMs, maxAttempts, blockMs, verifiedMs
+    // → 0=VERIFIED, 1=BLOCKED, 2=NOT_REQUESTED, 3=MISMATCH
+    private static final RedisScript<Long> VERIFY = RedisScript.of("""
+            if redis.call('HEXISTS', KEYS[1], 'block') == 1 then return 1 end
+            local stored = redis.call('HGET', KEYS[1], 'code')
+            if not stored then return 2 end
+            if stored ~= ARGV[1] then
+              local n = redis.call('HINCRBY', KEYS[1], 'attempts', 1)
+              if n == 1 then
+                redis.call('HPEXPIRE', KEYS[1], ARGV[2], 'FIELDS', 1, 'attempts')
+              end
+              if n >= tonumber(ARGV[3]) then
+                redis.call('HSET', KEYS[1], 'block', '1')
+                redis.call('HPEXPIRE', KEYS[1], ARGV[4], 'FIELDS', 1, 'block')
+                redis.call('HDEL', KEYS[1], 'code')
+              end
+              return 3
+            end
+            redis.call('HDEL', KEYS[1], 'code', 'attempts')
+            redis.call('HSET', KEYS[1], 'verified', '1')
+            redis.call('HPEXPIRE', KEYS[1], ARGV[5], 'FIELDS', 1, 'verified')
+            return 0
+            """, Long.class);
+
+    // HPTTL EV:<email> FIELDS 3 block cool verified → 필드별 만료 시각 (없으면 0)
+    private static final Loader<Flags> FLAGS = (redis, key) -> redis
+            .hpttl(key, "block", "cool", "verified")
+            .thenApply(ttls -> new Loaded<>(Flags.of(ttls, System.nanoTime()), -1));
+
+    record Flags(long blockUntil, long coolUntil, long verifiedUntil) {
+
+        static Flags of(List<Long> ttls, long now) {
+            return new Flags(until(ttls, 0, now), until(ttls, 1, now), until(ttls, 2, now));
+        }
 
-    private String verifiedKey(String email) {
-        return "EV:verified:" + email;
-    }
+        // -2 필드 없음, -1 TTL 없음(이 해시에선 없음) → 없음으로 취급
+        private static long until(List<Long> ttls, int i, long now) {
+            Long ms = ttls.size() > i ? ttls.get(i) : null;
+            return ms == null || ms < 0 ? 0 : now + ms * 1_000_000L;
+        }
 
-    @Override
-    public void saveCodeHash(String email, String codeHash, Duration ttl) {
-        redis.opsForValue().set(codeKey(email), codeHash, ttl);
-    }
+        private static boolean alive(long until, long now) {
+            return until != 0 && until - now > 0;
+        }
 
-    @Override
-    public Optional<String> getCodeHash(String email) {
-        return Optional.ofNullable(redis.opsForValue().get(codeKey(email)));
-    }
+        boolean blocked(long now) {
+            return alive(blockUntil, now);
+        }
 
-    @Override
-    public void deleteCode(String email) {
-        redis.delete(codeKey(email));
-    }
+        boolean cooling(long now) {
+            return alive(coolUntil, now);
+        }
 
-    @Override
-    public long incrementAttempts(String email, Duration windowTtl) {
-        Long v = redis.opsForValue().increment(attemptsKey(email));
-        // 첫 증가 시 TTL 부여
-        if (v != null && v == 1L) {
-            redis.expire(attemptsKey(email), windowTtl);
+        boolean verified(long now) {
+            return alive(verifiedUntil, now);
         }
-        return v == null ? 0L : v;
     }
 
-    @Override
-    public void resetAttempts(String email) {
-        redis.delete(attemptsKey(email));
-    }
+    private final StringRedisTemplate redis;
+    private final RedisNearCache nearCache;
 
-    @Override
-    public void setCooltime(String email, Duration coolTtl) {
-        redis.opsForValue().set(coolKey(email), "1", coolTtl);
+    private String key(String email) {
+        return "EV:" + email;
     }
 
     @Override
-    public boolean inCooltime(String email) {
-        return Boolean.TRUE.equals(redis.hasKey(coolKey(email)));
-    }
+    public CodeRequestResult requestCode(String email, String codeHash, Duration codeTtl,
+            Duration cooltime) {
+        Flags cached = nearCache.peek(key(email));
+        long now = System.nanoTime();
+        if (cached != null && cached.blocked(now)) {
+            return CodeRequestResult.BLOCKED;
+        }
+        if (cached != null && cached.cooling(now)) {
+            return CodeRequestResult.IN_COOLTIME;
+        }
 
-    @Override
-    public void block(String email, Duration ttl) {
-        redis.opsForValue().set(blockKey(email), "1", ttl);
+        Long r = redis.execute(REQUEST, List.of(key(email)),
+                codeHash,
+                Long.toString(codeTtl.toMillis()),
+                Long.toString(cooltime.toMillis()));
+        prefetchFlags(email);
+        return switch (r == null ? -1 : r.intValue()) {
+            case 0 -> CodeRequestResult.ISSUED;
+            case 1 -> CodeRequestResult.BLOCKED;
+            case 2 -> CodeRequestResult.IN_COOLTIME;
+            default -> throw new IllegalStateException("unexpected EV request result: " + r);
+        };
     }
 
     @Override
-    public boolean isBlocked(String email) {
-        return Boolean.TRUE.equals(redis.hasKey(blockKey(email)));
-    }
+    public CodeVerifyResult verifyCode(String email, String inputHash, Duration attemptsWindow,
+            long maxAttempts, Duration blockTtl, Duration verifiedTtl) {
+        Flags cached = nearCache.peek(key(email));
+        if (cached != null && cached.blocked(System.nanoTime())) {
+            return CodeVerifyResult.BLOCKED;
+        }
 
-    @Override
-    public void markVerified(String email, Duration ttl) {
-        redis.opsForValue().set(verifiedKey(email), "1", ttl);
+        Long r = redis.execute(VERIFY, List.of(key(email)),
+                inputHash,
+                Long.toString(attemptsWindow.toMillis()),
+                Long.toString(maxAttempts),
+                Long.toString(blockTtl.toMillis()),
+                Long.toString(verifiedTtl.toMillis()));
+        prefetchFlags(email);
+        return switch (r == null ? -1 : r.intValue()) {
+            case 0 -> CodeVerifyResult.VERIFIED;
+            case 1 -> CodeVerifyResult.BLOCKED;
+            case 2 -> CodeVerifyResult.NOT_REQUESTED;
+            case 3 -> CodeVerifyResult.MISMATCH;
+            default -> throw new IllegalStateException("unexpected EV verify result: " + r);
+        };
     }
 
     @Override
     public boolean isVerified(String email) {
-        return Boolean.TRUE.equals(redis.hasKey(verifiedKey(email)));
+        return nearCache.get(key(email), FLAGS).verified(System.nanoTime());
     }
 
     @Override
     public void clearVerified(String email) {
-        redis.delete(verifiedKey(email));
+        redis.opsForHash().delete(key(email), F_VERIFIED);
+        nearCache.invalidate(key(email));
+    }
+
+    /**
+     * 스크립트가 상태를 바꿨으므로 로컬 값을 버리고, 다음 요청이 캐시를 쓰도록 응답을 기다리지 않고 다시 읽어 둔다
+     */
+    private void prefetchFlags(String email) {
+        nearCache.invalidate(key(email));
+        nearCache.getAsync(key(email), FLAGS);
     }
-}
\ No newline at end of file
+}
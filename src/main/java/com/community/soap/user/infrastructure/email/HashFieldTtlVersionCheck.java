@@ -0,0 +1,75 @@
+package com.community.soap.user.infrastructure.email;
+
+import com.community.soap.common.redis.RedisUnavailableException;
+import java.util.List;
+import java.util.Properties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * EmailVerificationRepositoryAdapter 의 스크립트는 해시 필드 TTL(HPEXPIRE/HPTTL, Redis 7.4+)을 쓴다.
+ * 그보다 낮은 서버면 모든 이메일 인증 요청이 ERR 로 끝나므로 기동 시 INFO server 로 확인하고 실패시킨다.
+ * Cluster 는 모든 노드를 확인한다. 기동 시 Redis 에 닿지 않으면 경고만 남긴다 (연결 장애는 회로 차단기가 처리)
+ */
+@Slf4j(topic = "HashFieldTtlVersionCheck")
+@Component
+@ConditionalOnProperty(name = "user.state-store", havingValue = "redis", matchIfMissing = true)
+public class HashFieldTtlVersionCheck implements InitializingBean {
+
+    static final int MIN_MAJOR = 7;
+    static final int MIN_MINOR = 4;
+
+    private final StringRedisTemplate redis;
+
+    public HashFieldTtlVersionCheck(@Qualifier("bulkRedisTemplate") StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Properties info;
+        try {
+            info = redis.execute((RedisCallback<Properties>) c -> c.serverCommands().info("server"));
+        } catch (DataAccessException | RedisUnavailableException e) {
+            log.warn("Redis 버전 확인 실패 (이메일 인증에는 Redis {}.{}+ 필요): {}", MIN_MAJOR, MIN_MINOR, e.toString());
+            return;
+        }
+        List<String> versions = versions(info);
+        for (String version : versions) {
+            if (!supportsHashFieldTtl(version)) {
+                throw new IllegalStateException(("Redis %s 는 해시 필드 TTL(HPEXPIRE/HPTTL)을 지원하지 않습니다. "
+                        + "이메일 인증 저장소에는 Redis %d.%d 이상이 필요합니다 (또는 user.state-store=memory)")
+                        .formatted(version, MIN_MAJOR, MIN_MINOR));
+            }
+        }
+        log.debug("Redis 버전 확인: {}", versions);
+    }
+
+    // standalone: redis_version, cluster: <host:port>.redis_version (노드마다)
+    static List<String> versions(Properties info) {
+        if (info == null) {
+            return List.of();
+        }
+        return info.stringPropertyNames().stream()
+                .filter(name -> name.equals("redis_version") || name.endsWith(".redis_version"))
+                .map(info::getProperty)
+                .toList();
+    }
+
+    static boolean supportsHashFieldTtl(String version) {
+        String[] parts = version.trim().split("\\.");
+        try {
+            int major = Integer.parseInt(parts[0]);
+            int minor = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+            return major > MIN_MAJOR || (major == MIN_MAJOR && minor >= MIN_MINOR);
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -1,20 +1,87 @@
 package com.community.soap.user.infrastructure.email;
 
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
 import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
+@Slf4j(topic = "MailTemplateRenderer")
 @Component
 @RequiredArgsConstructor
 public class MailTemplateRenderer {
+
+    // th:text 이스케이프 대상 문자가 없는 자리표시자
+    private static final String SLOT_SENTINEL = "@@SOAP_SLOT_7f3a9c@@";
+    private static final Pattern SLOT_SPLIT = Pattern.compile(Pattern.quote(SLOT_SENTINEL));
+    private static final int MAX_SKELETONS = 256;
+
     private final SpringTemplateEngine engine;
+    private final Map<SkeletonKey, String[]> skeletons = new ConcurrentHashMap<>();
+
+    private record SkeletonKey(String template, String slotVar, Map<String, Object> model) {
+
+    }
 
     public String render(String template, Map<String, Object> model) {
         Context ctx = new Context(Locale.KOREA);
         ctx.setVariables(model);
         return engine.process(template, ctx);
     }
+
+    /**
+     * 변수 하나(slotVar)만 매번 바뀌는 메일용.
+     * - (template, 나머지 model) 조합마다 Thymeleaf 를 한 번 돌려 slot 위치에서 나눈 skeleton 을 캐시
+     * - 이후에는 HTML 이스케이프한 slotValue 를 skeleton 사이에 이어 붙이기만 한다
+     */
+    public String renderWithSlot(String template, Map<String, Object> model, String slotVar,
+            String slotValue) {
+        String[] parts = skeletons.get(new SkeletonKey(template, slotVar, model));
+        if (parts == null) {
+            parts = compile(template, model, slotVar);
+        }
+        if (parts.length == 1) {
+            return parts[0];
+        }
+
+        String value = HtmlUtils.htmlEscape(slotValue);
+        int length = value.length() * (parts.length - 1);
+        for (String p : parts) {
+            length += p.length();
+        }
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            sb.append(value).append(parts[i]);
+        }
+        return sb.toString();
+    }
+
+    private String[] compile(String template, Map<String, Object> model, String slotVar) {
+        Map<String, Object> vars = new HashMap<>(model);
+        vars.put(slotVar, SLOT_SENTINEL);
+        String[] parts = SLOT_SPLIT.split(render(template, vars), -1);
+
+        if (skeletons.size() >= MAX_SKELETONS) {
+            // brand/minutes 조합이 예상보다 많으면 한 번 비우고 다시 채운다
+            log.warn("메일 skeleton 캐시 초과({}) → 초기화", MAX_SKELETONS);
+            skeletons.clear();
+        }
+        skeletons.put(new SkeletonKey(template, slotVar, Map.copyOf(model)), parts);
+        return parts;
+    }
+
+    /**
+     * 템플릿 변경 시 호출: Thymeleaf 템플릿 캐시와 skeleton 캐시를 함께 비운다
+     */
+    public void clearCache() {
+        engine.clearTemplateCache();
+        skeletons.clear();
+    }
 }
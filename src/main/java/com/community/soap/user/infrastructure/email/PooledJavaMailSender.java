@@ -0,0 +1,210 @@
+package com.community.soap.user.infrastructure.email;
+
+import com.community.soap.user.infrastructure.email.config.MailPoolProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * 인증된 SMTP 커넥션을 재사용하는 JavaMailSender.
+ * - send 호출마다 TCP+TLS 연결/AUTH 를 반복하지 않고 풀에서 커넥션을 빌려 쓴다 (여러 건 send 는 한 커넥션으로 배치 발송)
+ * - 최근에 반납된 커넥션부터 재사용(LIFO), 유휴가 길면 NOOP 확인 후 사용, 수명/발송 수 초과 시 재연결
+ * - 발송 오류가 난 커넥션은 상태를 알 수 없으므로 닫고 다음 메일은 새 커넥션으로 보낸다
+ * - 지표: mail.smtp.send(Timer, outcome), mail.smtp.connections.opened, mail.smtp.pool.idle
+ */
+@Slf4j(topic = "PooledJavaMailSender")
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final class PooledTransport {
+
+        final Transport transport;
+        final long createdAtMs;
+        long lastUsedAtMs;
+        int sent;
+
+        PooledTransport(Transport transport, long now) {
+            this.transport = transport;
+            this.createdAtMs = now;
+            this.lastUsedAtMs = now;
+        }
+    }
+
+    private final MailPoolProperties props;
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final Semaphore slots; // 사용 중 커넥션 수 상한 (유휴 커넥션은 슬롯을 잡지 않음)
+    private final Timer sendSuccess;
+    private final Timer sendFailure;
+    private final Counter opened;
+    private volatile boolean closed;
+
+    public PooledJavaMailSender(String provider, MailPoolProperties props, MeterRegistry registry) {
+        this.props = props;
+        this.slots = new Semaphore(props.getMaxConnections(), true);
+        this.sendSuccess = Timer.builder("mail.smtp.send")
+                .tag("provider", provider).tag("outcome", "success")
+                .publishPercentiles(0.5, 0.95, 0.99).register(registry);
+        this.sendFailure = Timer.builder("mail.smtp.send")
+                .tag("provider", provider).tag("outcome", "failure")
+                .register(registry);
+        this.opened = Counter.builder("mail.smtp.connections.opened")
+                .tag("provider", provider).register(registry);
+        Gauge.builder("mail.smtp.pool.idle", idle, BlockingDeque::size)
+                .tag("provider", provider).register(registry);
+    }
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages)
+            throws MailException {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        PooledTransport pt = null;
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                MimeMessage mimeMessage = mimeMessages[i];
+                Object original = (originalMessages != null ? originalMessages[i] : mimeMessage);
+                if (pt == null) {
+                    try {
+                        pt = borrow();
+                    } catch (AuthenticationFailedException ex) {
+                        throw new MailAuthenticationException(ex);
+                    } catch (InterruptedException ex) {
+                        // 풀 대기 중 인터럽트 → 플래그 복원 후 남은 메시지 없이 중단
+                        Thread.currentThread().interrupt();
+                        throw new MailSendException("SMTP 커넥션 대기 중 인터럽트", ex);
+                    } catch (Exception ex) {
+                        failRemaining(mimeMessages, originalMessages, i, ex, failedMessages);
+                        break;
+                    }
+                }
+
+                long start = System.nanoTime();
+                try {
+                    prepare(mimeMessage);
+                    Address[] addresses = mimeMessage.getAllRecipients();
+                    pt.transport.sendMessage(mimeMessage,
+                            (addresses != null ? addresses : new Address[0]));
+                    pt.sent++;
+                    sendSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                } catch (Exception ex) {
+                    sendFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    failedMessages.put(original, ex);
+                    discard(pt);
+                    pt = null;
+                }
+            }
+        } finally {
+            if (pt != null) {
+                giveBack(pt);
+            }
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    // JavaMailSenderImpl.doSend 와 같은 메시지 준비
+    private void prepare(MimeMessage mimeMessage) throws MessagingException {
+        if (mimeMessage.getSentDate() == null) {
+            mimeMessage.setSentDate(new Date());
+        }
+        String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (messageId != null) {
+            // saveChanges 가 덮어쓴 Message-ID 복원
+            mimeMessage.setHeader("Message-ID", messageId);
+        }
+    }
+
+    private void failRemaining(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages,
+            int from, Exception ex, Map<Object, Exception> failedMessages) {
+        for (int j = from; j < mimeMessages.length; j++) {
+            Object original = (originalMessages != null ? originalMessages[j] : mimeMessages[j]);
+            failedMessages.put(original, ex);
+        }
+    }
+
+    private PooledTransport borrow() throws MessagingException, InterruptedException {
+        if (!slots.tryAcquire(props.getBorrowTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+            throw new MessagingException("SMTP 커넥션 풀 대기 시간 초과");
+        }
+        try {
+            PooledTransport pt;
+            while ((pt = idle.pollFirst()) != null) {
+                if (isReusable(pt)) {
+                    return pt;
+                }
+                closeQuietly(pt);
+            }
+            Transport transport = connectTransport();
+            opened.increment();
+            return new PooledTransport(transport, System.currentTimeMillis());
+        } catch (MessagingException | RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+    }
+
+    private boolean isReusable(PooledTransport pt) {
+        long now = System.currentTimeMillis();
+        long idleMs = now - pt.lastUsedAtMs;
+        if (now - pt.createdAtMs >= props.getMaxLifetime().toMillis()
+                || pt.sent >= props.getMaxMessagesPerConnection()
+                || idleMs >= props.getIdleTimeout().toMillis()) {
+            return false;
+        }
+        // 잠시 쉬었던 커넥션은 서버가 끊었을 수 있으므로 확인 (SMTPTransport 는 NOOP 전송)
+        return idleMs < props.getValidateAfter().toMillis() || pt.transport.isConnected();
+    }
+
+    private void giveBack(PooledTransport pt) {
+        pt.lastUsedAtMs = System.currentTimeMillis();
+        if (closed || pt.sent >= props.getMaxMessagesPerConnection()) {
+            closeQuietly(pt);
+        } else {
+            idle.offerFirst(pt);
+        }
+        slots.release();
+    }
+
+    private void discard(PooledTransport pt) {
+        closeQuietly(pt);
+        slots.release();
+    }
+
+    private void closeQuietly(PooledTransport pt) {
+        try {
+            pt.transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 커넥션 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        PooledTransport pt;
+        while ((pt = idle.pollFirst()) != null) {
+            closeQuietly(pt);
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package com.community.soap.user.infrastructure.email;
 
 import com.community.soap.user.application.port.out.EmailSenderPort;
+import com.community.soap.user.infrastructure.email.routing.MailRouter;
 import jakarta.mail.internet.InternetAddress;
 import java.time.Duration;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
@@ -14,22 +13,20 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ThymeleafEmailSenderAdapter implements EmailSenderPort {
 
-    private final JavaMailSender mailSender;
+    private final MailRouter mailRouter;
     private final MailTemplateRenderer renderer;
 
-    @Value("${spring.mail.username}")
-    private String fromAddress;
-
     public void sendVerificationCode(String to, String code, Duration ttl, String brand) {
         long minutes = Math.max(1, ttl.toMinutes());
-        String html = renderer.render("verification-code", Map.of(
+        // 코드만 바뀌므로 (brand, minutes) 별 skeleton 에 코드만 끼워 넣는다
+        String html = renderer.renderWithSlot("verification-code", Map.of(
                 "brand", brand,
-                "code", code,
                 "minutes", minutes
-        ));
+        ), "code", code);
         String subject = "[" + brand + "] 이메일 인증코드";
 
-        mailSender.send(mime -> {
+        // provider 마다 발신 주소(계정)가 다르므로 선택된 provider 기준으로 구성
+        mailRouter.send((mime, fromAddress) -> {
             MimeMessageHelper h = new MimeMessageHelper(mime, true, "UTF-8");
             h.setTo(to);
             h.setSubject(subject);
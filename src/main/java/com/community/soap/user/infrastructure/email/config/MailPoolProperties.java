@@ -0,0 +1,37 @@
+package com.community.soap.user.infrastructure.email.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user.mail-pool")
+public class MailPoolProperties {
+
+    /**
+     * 최대 SMTP 커넥션 수 (사용 중 + 유휴). outbox 워커 수와 맞추는 것을 권장
+     */
+    private int maxConnections = 4;
+    /**
+     * 커넥션 하나로 보낼 최대 메일 수 (provider 제한 대비, 초과 시 재연결)
+     */
+    private int maxMessagesPerConnection = 100;
+    /**
+     * 커넥션 최대 수명
+     */
+    private Duration maxLifetime = Duration.ofMinutes(5);
+    /**
+     * 이 시간 이상 유휴면 재사용하지 않고 닫음 (서버 측 idle timeout 보다 짧게)
+     */
+    private Duration idleTimeout = Duration.ofSeconds(30);
+    /**
+     * 이 시간 이상 유휴면 재사용 전에 NOOP 으로 확인
+     */
+    private Duration validateAfter = Duration.ofSeconds(5);
+    /**
+     * 커넥션이 모두 사용 중일 때 대기 시간
+     */
+    private Duration borrowTimeout = Duration.ofSeconds(10);
+}
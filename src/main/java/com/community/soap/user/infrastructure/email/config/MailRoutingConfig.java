@@ -0,0 +1,50 @@
+package com.community.soap.user.infrastructure.email.config;
+
+import com.community.soap.common.resilience.CircuitBreaker;
+import com.community.soap.user.infrastructure.email.routing.MailProvider;
+import com.community.soap.user.infrastructure.email.routing.MailRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+@Configuration
+@EnableConfigurationProperties(MailRoutingProperties.class)
+public class MailRoutingConfig {
+
+    @Bean
+    public MailRouter mailRouter(
+            JavaMailSender mailSender,
+            @Value("${spring.mail.username}") String primaryFrom,
+            @Value("${spring.mail.properties.mail.debug:false}") boolean mailDebug,
+            MailRoutingProperties routing,
+            MailPoolProperties pool,
+            MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry
+    ) {
+        List<MailProvider> providers = new ArrayList<>();
+        // 기본 provider: spring.mail.* (naver)
+        providers.add(provider("naver", mailSender, primaryFrom, 1.0, routing));
+
+        for (MailRoutingProperties.Provider p : routing.getProviders()) {
+            JavaMailSender sender = SmtpSenderFactory.create(p.getName(), p.getHost(), p.getPort(),
+                    p.getUsername(), p.getPassword(), mailDebug, pool, meterRegistry);
+            providers.add(provider(p.getName(), sender, p.getUsername(), p.getWeight(), routing));
+        }
+        return new MailRouter(providers, routing.getHedgeAfter(), routing.getExploreRatio(),
+                meterRegistry, observationRegistry);
+    }
+
+    private MailProvider provider(String name, JavaMailSender sender, String from, double weight,
+            MailRoutingProperties routing) {
+        MailRoutingProperties.Breaker b = routing.getBreaker();
+        CircuitBreaker breaker = new CircuitBreaker("mail-" + name, new CircuitBreaker.Config(
+                b.getWindowSize(), b.getMinCalls(), b.getFailureRateThreshold(), b.getOpenDuration()));
+        return new MailProvider(name, sender, from, weight, routing.getEwmaAlpha(), breaker);
+    }
+}
@@ -0,0 +1,57 @@
+package com.community.soap.user.infrastructure.email.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user.mail-routing")
+public class MailRoutingProperties {
+
+    /**
+     * 추가 SMTP provider 목록. 비어 있으면 spring.mail.* (naver) 하나만 사용
+     */
+    private List<Provider> providers = new ArrayList<>();
+    /**
+     * 첫 provider 가 이 시간 안에 끝나지 않으면 다음 provider 로 한 번 더 보낸다 (hedge)
+     */
+    private Duration hedgeAfter = Duration.ofSeconds(3);
+    /**
+     * 지연 EWMA 가중치 (클수록 최근 값 반영이 빠름)
+     */
+    private double ewmaAlpha = 0.2;
+    /**
+     * 지연 정보 갱신을 위해 1순위가 아닌 provider 로 보내는 비율
+     */
+    private double exploreRatio = 0.05;
+    private Breaker breaker = new Breaker();
+
+    @Getter
+    @Setter
+    public static class Provider {
+
+        private String name;
+        private String host;
+        private int port = 465;
+        private String username;
+        private String password;
+        /**
+         * 지연이 같을 때의 상대 선호도 (클수록 우선)
+         */
+        private double weight = 1.0;
+    }
+
+    @Getter
+    @Setter
+    public static class Breaker {
+
+        private int windowSize = 20;
+        private int minCalls = 5;
+        private double failureRateThreshold = 0.5;
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
+}
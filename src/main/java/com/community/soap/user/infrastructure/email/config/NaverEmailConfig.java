@@ -1,13 +1,14 @@
 package com.community.soap.user.infrastructure.email.config;
 
-import java.util.Properties;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 
 @Configuration
+@EnableConfigurationProperties(MailPoolProperties.class)
 public class NaverEmailConfig {
 
     @Value("${spring.mail.host}")
@@ -22,27 +23,13 @@ public class NaverEmailConfig {
     @Value("${spring.mail.password}")
     private String password;
 
+    // SMTP 대화 전체를 stdout 으로 출력하므로 운영에서는 끈다
+    @Value("${spring.mail.properties.mail.debug:false}")
+    private boolean mailDebug;
+
     @Bean
-    public JavaMailSender mailSender() {
-        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
-
-        mailSender.setHost(host);
-        mailSender.setPort(port);
-        mailSender.setUsername(username);
-        mailSender.setPassword(password);
-
-        Properties javaMailProperties = new Properties();
-        javaMailProperties.put("mail.transport.protocol", "smtp");
-        javaMailProperties.put("mail.smtp.auth", "true");
-        javaMailProperties.put("mail.smtp.socketFactory.class", "javax.net.ssl.SSLSocketFactory");
-        javaMailProperties.put("mail.smtp.starttls.enable", "true");
-        javaMailProperties.put("mail.debug", "true");
-        javaMailProperties.put("mail.smtp.ssl.trust", "smtp.naver.com");
-        javaMailProperties.put("mail.smtp.ssl.protocols", "TLSv1.2");
-        javaMailProperties.put("mail.smtp.from", username);
-
-        mailSender.setJavaMailProperties(javaMailProperties);
-
-        return mailSender;
+    public JavaMailSender mailSender(MailPoolProperties poolProperties, MeterRegistry meterRegistry) {
+        return SmtpSenderFactory.create("naver", host, port, username, password, mailDebug,
+                poolProperties, meterRegistry);
     }
 }
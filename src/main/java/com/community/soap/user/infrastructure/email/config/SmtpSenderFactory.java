@@ -0,0 +1,45 @@
+package com.community.soap.user.infrastructure.email.config;
+
+import com.community.soap.user.infrastructure.email.PooledJavaMailSender;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Properties;
+
+/**
+ * SMTP provider 하나에 대한 풀링 JavaMailSender 생성 (SSL, AUTH)
+ */
+final class SmtpSenderFactory {
+
+    private SmtpSenderFactory() {
+    }
+
+    static PooledJavaMailSender create(
+            String name,
+            String host,
+            int port,
+            String username,
+            String password,
+            boolean debug,
+            MailPoolProperties pool,
+            MeterRegistry registry
+    ) {
+        PooledJavaMailSender mailSender = new PooledJavaMailSender(name, pool, registry);
+
+        mailSender.setHost(host);
+        mailSender.setPort(port);
+        mailSender.setUsername(username);
+        mailSender.setPassword(password);
+
+        Properties javaMailProperties = new Properties();
+        javaMailProperties.put("mail.transport.protocol", "smtp");
+        javaMailProperties.put("mail.smtp.auth", "true");
+        javaMailProperties.put("mail.smtp.socketFactory.class", "javax.net.ssl.SSLSocketFactory");
+        javaMailProperties.put("mail.smtp.starttls.enable", "true");
+        javaMailProperties.put("mail.debug", String.valueOf(debug));
+        javaMailProperties.put("mail.smtp.ssl.trust", host);
+        javaMailProperties.put("mail.smtp.ssl.protocols", "TLSv1.2");
+        javaMailProperties.put("mail.smtp.from", username);
+
+        mailSender.setJavaMailProperties(javaMailProperties);
+        return mailSender;
+    }
+}
@@ -0,0 +1,30 @@
+package com.community.soap.user.infrastructure.email.outbox;
+
+import com.community.soap.user.application.port.out.EmailOutboxPort;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxAdapter implements EmailOutboxPort {
+
+    private final EmailOutboxStore store;
+
+    @Override
+    public void enqueueVerificationCode(String idempotencyKey, String email, String code,
+            Duration ttl, String brand) {
+        long now = System.currentTimeMillis();
+        store.append(new EmailOutboxMessage(
+                UUID.randomUUID().toString(),
+                idempotencyKey,
+                email,
+                code,
+                ttl.toMillis(),
+                brand,
+                now + ttl.toMillis(),
+                0
+        ));
+    }
+}
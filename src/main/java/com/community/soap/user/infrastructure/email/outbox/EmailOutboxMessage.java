@@ -0,0 +1,48 @@
+package com.community.soap.user.infrastructure.email.outbox;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * outbox 에 적재되는 인증 코드 메일 1건.
+ * - attempt: 지금까지 실패한 발송 횟수
+ * - expiresAtMs: 코드 만료 시각. 지나면 발송 의미가 없어 DLQ 로 보낸다
+ */
+public record EmailOutboxMessage(
+        String id,
+        String idempotencyKey,
+        String to,
+        String code,
+        long ttlMs,
+        String brand,
+        long expiresAtMs,
+        int attempt
+) {
+
+    public EmailOutboxMessage nextAttempt() {
+        return new EmailOutboxMessage(id, idempotencyKey, to, code, ttlMs, brand, expiresAtMs,
+                attempt + 1);
+    }
+
+    public EmailOutboxMessage withCode(String code) {
+        return new EmailOutboxMessage(id, idempotencyKey, to, code, ttlMs, brand, expiresAtMs, attempt);
+    }
+
+    public boolean isExpired(long nowMs) {
+        return nowMs >= expiresAtMs;
+    }
+
+    // DLQ 기록용
+    public Map<String, String> toFields() {
+        Map<String, String> m = new LinkedHashMap<>();
+        m.put("id", id);
+        m.put("idem", idempotencyKey);
+        m.put("to", to);
+        m.put("code", code);
+        m.put("ttlMs", Long.toString(ttlMs));
+        m.put("brand", brand);
+        m.put("expiresAt", Long.toString(expiresAtMs));
+        m.put("attempt", Integer.toString(attempt));
+        return m;
+    }
+}
@@ -0,0 +1,46 @@
+package com.community.soap.user.infrastructure.email.outbox;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * outbox 저장소. 기본 구현은 Redis Stream({@link RedisEmailOutboxStore}).
+ * - poll 로 꺼낸 메시지는 ack / retryLater / deadLetter 중 하나로 반드시 마무리한다
+ * - 마무리되지 않은 메시지(워커 장애)는 claimIdle 이 지나면 다른 워커가 다시 가져간다
+ */
+public interface EmailOutboxStore {
+
+    enum IdempotencyState {
+        ACQUIRED,
+        IN_PROGRESS,
+        ALREADY_SENT
+    }
+
+    record Claimed(String handle, EmailOutboxMessage message) {
+
+    }
+
+    void append(EmailOutboxMessage message);
+
+    List<Claimed> poll(int max);
+
+    void ack(Claimed claimed);
+
+    /**
+     * 현재 메시지를 마무리하고 next 를 dueAtMs 이후에 다시 적재한다.
+     */
+    void retryLater(Claimed claimed, EmailOutboxMessage next, long dueAtMs);
+
+    /**
+     * 재시도 시각이 된 메시지를 큐로 되돌린다.
+     */
+    int promoteDueRetries(long nowMs, int max);
+
+    void deadLetter(Claimed claimed, String reason);
+
+    IdempotencyState begin(String idempotencyKey, Duration lease);
+
+    void markSent(String idempotencyKey, Duration ttl);
+
+    void release(String idempotencyKey);
+}
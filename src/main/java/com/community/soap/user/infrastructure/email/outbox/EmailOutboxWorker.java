@@ -0,0 +1,195 @@
+package com.community.soap.user.infrastructure.email.outbox;
+
+import com.community.soap.user.application.port.out.EmailSenderPort;
+import com.community.soap.user.infrastructure.email.outbox.EmailOutboxStore.Claimed;
+import com.community.soap.user.infrastructure.email.outbox.config.EmailOutboxProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+
+/**
+ * outbox 발송 워커.
+ * - poller 스레드 1개가 빈 워커 슬롯 수만큼만 메시지를 가져와 고정 크기 풀에 넘긴다 (bounded)
+ * - 실패 시 지수 백오프(+jitter)로 재적재, maxAttempts 초과/영구 오류/코드 만료는 DLQ
+ * - 멱등 키로 같은 메일의 중복 발송을 막는다 (재시도, 중복 적재, 워커 회수 포함)
+ */
+@Slf4j(topic = "EmailOutboxWorker")
+public class EmailOutboxWorker implements SmartLifecycle {
+
+    private final EmailOutboxStore store;
+    private final EmailSenderPort sender;
+    private final EmailOutboxProperties props;
+
+    private volatile boolean running;
+    private Thread poller;
+    private ExecutorService pool;
+    private Semaphore slots;
+
+    public EmailOutboxWorker(
+            EmailOutboxStore store,
+            EmailSenderPort sender,
+            EmailOutboxProperties props
+    ) {
+        this.store = store;
+        this.sender = sender;
+        this.props = props;
+    }
+
+    @Override
+    public void start() {
+        AtomicInteger seq = new AtomicInteger();
+        // virtual thread 모드여도 플랫폼 스레드 유지: JavaMail SMTPTransport 가 synchronized 안에서
+        // 소켓 I/O 를 해 carrier 를 고정시키고, 동시성은 어차피 SMTP 커넥션 수(workers)로 제한됨
+        pool = Executors.newFixedThreadPool(props.getWorkers(), r -> Thread.ofPlatform()
+                .name("mail-outbox-" + seq.incrementAndGet())
+                .daemon()
+                .unstarted(r));
+        slots = new Semaphore(props.getWorkers());
+        running = true;
+        poller = Thread.ofPlatform().name("mail-outbox-poller").daemon().start(this::pollLoop);
+        log.info("메일 outbox 워커 시작: workers={}", props.getWorkers());
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+        }
+        if (pool == null) {
+            return;
+        }
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(props.getShutdownTimeout().toMillis(),
+                    TimeUnit.MILLISECONDS)) {
+                // 남은 메시지는 ack 되지 않았으므로 claimIdle 후 다른 워커가 회수
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void pollLoop() {
+        long idleMs = props.getPollInterval().toMillis();
+        while (running) {
+            try {
+                store.promoteDueRetries(System.currentTimeMillis(), props.getBatchSize());
+
+                slots.acquire(); // 최소 1 슬롯이 빌 때까지 대기
+                int free = 1 + slots.drainPermits();
+                List<Claimed> batch;
+                try {
+                    batch = store.poll(Math.min(free, props.getBatchSize()));
+                } catch (RuntimeException e) {
+                    slots.release(free);
+                    throw e;
+                }
+                slots.release(free - batch.size());
+
+                for (Claimed c : batch) {
+                    pool.execute(() -> {
+                        try {
+                            deliver(c);
+                        } finally {
+                            slots.release();
+                        }
+                    });
+                }
+                if (batch.isEmpty()) {
+                    Thread.sleep(idleMs);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("outbox polling 실패: {}", e.toString());
+                sleepQuietly(idleMs);
+            }
+        }
+    }
+
+    void deliver(Claimed claimed) {
+        EmailOutboxMessage m = claimed.message();
+        long now = System.currentTimeMillis();
+        if (m.isExpired(now)) {
+            store.deadLetter(claimed, "expired");
+            return;
+        }
+
+        switch (store.begin(m.idempotencyKey(), props.getLeaseTtl())) {
+            case ALREADY_SENT -> {
+                store.ack(claimed);
+                return;
+            }
+            case IN_PROGRESS -> {
+                // 다른 워커가 발송 중 (또는 직전에 죽음) → lease 이후 다시 확인
+                store.retryLater(claimed, m, now + props.getLeaseTtl().toMillis());
+                return;
+            }
+            case ACQUIRED -> {
+            }
+        }
+
+        try {
+            sender.sendVerificationCode(m.to(), m.code(), Duration.ofMillis(m.ttlMs()), m.brand());
+        } catch (Exception e) {
+            store.release(m.idempotencyKey());
+            onFailure(claimed, e);
+            return;
+        }
+        store.markSent(m.idempotencyKey(), props.getIdempotencyTtl());
+        store.ack(claimed);
+    }
+
+    private void onFailure(Claimed claimed, Exception e) {
+        EmailOutboxMessage next = claimed.message().nextAttempt();
+        if (isPermanent(e) || next.attempt() >= props.getMaxAttempts()) {
+            log.warn("메일 발송 실패 → DLQ: id={}, attempt={}, cause={}",
+                    next.id(), next.attempt(), e.toString());
+            store.deadLetter(claimed, e.toString());
+            return;
+        }
+        long delay = backoffMillis(next.attempt());
+        log.info("메일 발송 실패 → {}ms 후 재시도: id={}, attempt={}, cause={}",
+                delay, next.id(), next.attempt(), e.toString());
+        store.retryLater(claimed, next, System.currentTimeMillis() + delay);
+    }
+
+    // 주소/메시지 구성 오류는 재시도해도 같다
+    private boolean isPermanent(Exception e) {
+        return e instanceof MailParseException || e instanceof MailPreparationException;
+    }
+
+    long backoffMillis(int attempt) {
+        double base = props.getInitialBackoff().toMillis()
+                * Math.pow(props.getMultiplier(), Math.max(0, attempt - 1));
+        double capped = Math.min(base, props.getMaxBackoff().toMillis());
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return (long) (capped * jitter);
+    }
+
+    private static void sleepQuietly(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.community.soap.user.infrastructure.email.outbox;
+
+import com.community.soap.common.util.AesGcmSealer;
+import com.community.soap.user.infrastructure.email.outbox.config.EmailOutboxProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Redis Stream 기반 outbox.
+ * - 큐: STREAM(consumer group), 재시도 대기: RETRY ZSET(score=dueAt), 실패: DLQ STREAM
+ * - 멱등 키: IDEM:&lt;key&gt; = SENDING(lease TTL) | SENT(idempotencyTtl)
+ * - 큐/재시도 대기의 인증 코드는 AES-GCM 으로 봉인 (AAD = 메시지 id), DLQ 에는 코드를 남기지 않는다
+ */
+@Slf4j(topic = "RedisEmailOutboxStore")
+@Repository
+@ConditionalOnProperty(name = "user.state-store", havingValue = "redis", matchIfMissing = true)
+public class RedisEmailOutboxStore implements EmailOutboxStore, InitializingBean {
+
+    private static final String PREFIX = "user-service";
+    // PROMOTE 스크립트가 RETRY 와 STREAM 을 함께 다루므로 같은 hash tag (Cluster 에서 한 slot)
+    private static final String STREAM = PREFIX + ":{OUTBOX:EMAIL}";
+    private static final String RETRY = STREAM + ":RETRY";
+    private static final String DLQ = STREAM + ":DLQ";
+    private static final String GROUP = "email-workers";
+    private static final String SENDING = "SENDING";
+    private static final String SENT = "SENT";
+    private static final String CODE_KEY_LABEL = "user-service:mail-outbox-code";
+
+    // ZREM 에 성공한 워커만 큐로 되돌린다 (여러 노드가 동시에 promote 해도 1회)
+    private static final RedisScript<Long> PROMOTE = RedisScript.of("""
+            if redis.call('ZREM', KEYS[1], ARGV[1]) == 1 then
+              redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[2], '*', 'json', ARGV[1])
+              return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final EmailOutboxProperties props;
+    private final AesGcmSealer sealer;
+    private final String consumer;
+
+    private volatile long lastReclaimMs;
+
+    public RedisEmailOutboxStore(
+            StringRedisTemplate redis,
+            ObjectMapper objectMapper,
+            EmailOutboxProperties props,
+            @Value("${spring.jwt.secret-refresh}") String refreshSecretBase64
+    ) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.props = props;
+        this.sealer = AesGcmSealer.of(props.getCodeKey(), refreshSecretBase64, CODE_KEY_LABEL);
+        this.consumer = ManagementFactory.getRuntimeMXBean().getName() + "-"
+                + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static String kIdem(String key) {
+        return PREFIX + ":OUTBOX:EMAIL:IDEM:" + key;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        ensureGroup();
+    }
+
+    private void ensureGroup() {
+        try {
+            redis.execute((RedisCallback<String>) c -> c.streamCommands().xGroupCreate(
+                    STREAM.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            // BUSYGROUP: 이미 존재
+            log.debug("outbox consumer group 존재: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void append(EmailOutboxMessage message) {
+        redis.opsForStream().add(
+                StreamRecords.mapBacked(Map.of("json", toJson(message))).withStreamKey(STREAM),
+                XAddOptions.maxlen(props.getMaxLength()).approximateTrimming(true));
+    }
+
+    @Override
+    public List<Claimed> poll(int max) {
+        List<Claimed> out = new ArrayList<>(reclaimStale(max));
+        if (out.size() >= max) {
+            return out;
+        }
+        List<MapRecord<String, Object, Object>> records;
+        try {
+            records = redis.opsForStream().read(
+                    Consumer.from(GROUP, consumer),
+                    StreamReadOptions.empty().count(max - out.size()),
+                    StreamOffset.create(STREAM, ReadOffset.lastConsumed()));
+        } catch (DataAccessException e) {
+            if (String.valueOf(e.getMessage()).contains("NOGROUP")) {
+                ensureGroup(); // 스트림이 삭제된 경우 재생성
+                return out;
+            }
+            throw e;
+        }
+        if (records != null) {
+            records.forEach(r -> toClaimed(r, out));
+        }
+        return out;
+    }
+
+    /**
+     * 다른(죽은) 워커가 claimIdle 이상 잡고 있는 메시지를 가져온다. claimIdle/2 마다 1회만 확인
+     */
+    private List<Claimed> reclaimStale(int max) {
+        long now = System.currentTimeMillis();
+        Duration idle = props.getClaimIdle();
+        if (now - lastReclaimMs < idle.toMillis() / 2) {
+            return List.of();
+        }
+        lastReclaimMs = now;
+
+        PendingMessages pending = redis.opsForStream()
+                .pending(STREAM, GROUP, Range.unbounded(), max);
+        List<RecordId> stale = new ArrayList<>();
+        for (PendingMessage p : pending) {
+            if (p.getElapsedTimeSinceLastDelivery().compareTo(idle) >= 0) {
+                stale.add(p.getId());
+            }
+        }
+        if (stale.isEmpty()) {
+            return List.of();
+        }
+        List<MapRecord<String, Object, Object>> claimed = redis.opsForStream()
+                .claim(STREAM, GROUP, consumer, idle, stale.toArray(RecordId[]::new));
+        List<Claimed> out = new ArrayList<>(claimed.size());
+        claimed.forEach(r -> toClaimed(r, out));
+        log.info("outbox 메시지 회수: {}건", out.size());
+        return out;
+    }
+
+    private void toClaimed(MapRecord<String, Object, Object> record, List<Claimed> out) {
+        String handle = record.getId().getValue();
+        try {
+            out.add(new Claimed(handle, fromJson(String.valueOf(record.getValue().get("json")))));
+        } catch (RuntimeException e) {
+            // 역직렬화/복호화 불가 메시지는 재시도해도 같으므로 DLQ (코드 필드는 빼고)
+            // 원인 예외에는 원문 일부가 섞일 수 있어 메시지만 남긴다
+            log.warn("outbox 메시지 해석 실패 → DLQ: {} ({})", handle, e.getMessage());
+            Map<String, String> fields = new LinkedHashMap<>();
+            record.getValue().forEach((k, v) -> fields.put(String.valueOf(k), String.valueOf(v)));
+            fields.computeIfPresent("json", (k, json) -> withoutCode(json));
+            fields.put("reason", "unreadable");
+            addDlq(fields);
+            finish(handle);
+        }
+    }
+
+    @Override
+    public void ack(Claimed claimed) {
+        finish(claimed.handle());
+    }
+
+    @Override
+    public void retryLater(Claimed claimed, EmailOutboxMessage next, long dueAtMs) {
+        redis.opsForZSet().add(RETRY, toJson(next), dueAtMs);
+        finish(claimed.handle());
+    }
+
+    @Override
+    public int promoteDueRetries(long nowMs, int max) {
+        Set<String> due = redis.opsForZSet().rangeByScore(RETRY, 0, nowMs, 0, max);
+        if (due == null || due.isEmpty()) {
+            return 0;
+        }
+        int promoted = 0;
+        for (String json : due) {
+            Long r = redis.execute(PROMOTE, List.of(RETRY, STREAM), json,
+                    Long.toString(props.getMaxLength()));
+            if (r != null && r == 1L) {
+                promoted++;
+            }
+        }
+        return promoted;
+    }
+
+    @Override
+    public void deadLetter(Claimed claimed, String reason) {
+        Map<String, String> fields = new LinkedHashMap<>(claimed.message().toFields());
+        fields.remove("code"); // DLQ 에는 인증 코드 원문을 남기지 않는다
+        fields.put("reason", reason);
+        fields.put("failedAt", Long.toString(System.currentTimeMillis()));
+        addDlq(fields);
+        finish(claimed.handle());
+    }
+
+    private void addDlq(Map<String, String> fields) {
+        redis.opsForStream().add(
+                StreamRecords.mapBacked(fields).withStreamKey(DLQ),
+                XAddOptions.maxlen(props.getMaxLength()).approximateTrimming(true));
+    }
+
+    private void finish(String handle) {
+        redis.opsForStream().acknowledge(STREAM, GROUP, handle);
+        redis.opsForStream().delete(STREAM, handle);
+    }
+
+    @Override
+    public IdempotencyState begin(String idempotencyKey, Duration lease) {
+        if (Boolean.TRUE.equals(
+                redis.opsForValue().setIfAbsent(kIdem(idempotencyKey), SENDING, lease))) {
+            return IdempotencyState.ACQUIRED;
+        }
+        String v = redis.opsForValue().get(kIdem(idempotencyKey));
+        if (SENT.equals(v)) {
+            return IdempotencyState.ALREADY_SENT;
+        }
+        // 그 사이 lease 가 만료됐으면 다음 시도에서 획득
+        return IdempotencyState.IN_PROGRESS;
+    }
+
+    @Override
+    public void markSent(String idempotencyKey, Duration ttl) {
+        redis.opsForValue().set(kIdem(idempotencyKey), SENT, ttl);
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        redis.delete(kIdem(idempotencyKey));
+    }
+
+    private String toJson(EmailOutboxMessage message) {
+        try {
+            String sealed = sealer.seal(message.id(), message.code().getBytes(StandardCharsets.UTF_8));
+            return objectMapper.writeValueAsString(message.withCode(sealed));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 메시지 직렬화 실패", e);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("outbox 인증 코드 암호화 실패", e);
+        }
+    }
+
+    private EmailOutboxMessage fromJson(String json) {
+        EmailOutboxMessage message;
+        try {
+            message = objectMapper.readValue(json, EmailOutboxMessage.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox 메시지 역직렬화 실패", e);
+        }
+        if (!AesGcmSealer.isSealed(message.code())) {
+            // 봉인 도입 전 버전이 적재한 메시지 (코드 TTL 안에 모두 소진됨)
+            return message;
+        }
+        try {
+            return message.withCode(new String(sealer.open(message.id(), message.code()), StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("outbox 인증 코드 복호화 실패", e);
+        }
+    }
+
+    /**
+     * DLQ 로 보낼 원문 JSON 에서 code 를 지운다. JSON 으로 읽을 수 없으면 원문을 남기지 않는다
+     */
+    private String withoutCode(String json) {
+        try {
+            if (objectMapper.readTree(json) instanceof ObjectNode node) {
+                node.remove("code");
+                return objectMapper.writeValueAsString(node);
+            }
+        } catch (JsonProcessingException e) {
+            log.debug("outbox 원문 JSON 해석 실패: {}", e.getOriginalMessage());
+        }
+        return "(omitted)";
+    }
+}
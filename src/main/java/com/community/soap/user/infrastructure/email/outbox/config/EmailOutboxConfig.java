@@ -0,0 +1,24 @@
+package com.community.soap.user.infrastructure.email.outbox.config;
+
+import com.community.soap.user.application.port.out.EmailSenderPort;
+import com.community.soap.user.infrastructure.email.outbox.EmailOutboxStore;
+import com.community.soap.user.infrastructure.email.outbox.EmailOutboxWorker;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(EmailOutboxProperties.class)
+public class EmailOutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "user.mail-outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public EmailOutboxWorker emailOutboxWorker(
+            EmailOutboxStore store,
+            EmailSenderPort sender,
+            EmailOutboxProperties props
+    ) {
+        return new EmailOutboxWorker(store, sender, props);
+    }
+}
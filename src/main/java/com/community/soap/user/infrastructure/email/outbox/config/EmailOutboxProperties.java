@@ -0,0 +1,63 @@
+package com.community.soap.user.infrastructure.email.outbox.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user.mail-outbox")
+public class EmailOutboxProperties {
+
+    /**
+     * 발송 워커 사용 여부 (false 면 적재만 하고 발송하지 않음)
+     */
+    private boolean enabled = true;
+    /**
+     * 동시 발송 워커 수 (SMTP 커넥션 수 상한)
+     */
+    private int workers = 4;
+    /**
+     * 한 번에 가져오는 최대 메시지 수
+     */
+    private int batchSize = 16;
+    /**
+     * 큐가 비었을 때 polling 간격
+     */
+    private Duration pollInterval = Duration.ofMillis(200);
+    /**
+     * 최대 발송 시도 횟수 (초과 시 DLQ)
+     */
+    private int maxAttempts = 5;
+    /**
+     * 재시도 대기: initialBackoff * multiplier^(attempt-1), 최대 maxBackoff (±20% jitter)
+     */
+    private Duration initialBackoff = Duration.ofSeconds(1);
+    private double multiplier = 2.0;
+    private Duration maxBackoff = Duration.ofMinutes(2);
+    /**
+     * 처리 중 워커가 죽은 메시지를 다른 워커가 회수하기까지의 유휴 시간
+     */
+    private Duration claimIdle = Duration.ofMinutes(1);
+    /**
+     * 발송 중 표시(lease) TTL. 발송 시간보다 길게
+     */
+    private Duration leaseTtl = Duration.ofMinutes(1);
+    /**
+     * 발송 완료 멱등 키 보관 기간
+     */
+    private Duration idempotencyTtl = Duration.ofHours(1);
+    /**
+     * 스트림/DLQ 최대 길이 (근사 trim)
+     */
+    private long maxLength = 100_000;
+    /**
+     * 큐/재시도 대기에 적재하는 인증 코드의 AES-GCM 키 (Base64 256bit). 비우면 RT 서명 키에서 파생
+     */
+    private String codeKey = "";
+    /**
+     * 종료 시 진행 중 발송 대기 시간
+     */
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,79 @@
+package com.community.soap.user.infrastructure.email.routing;
+
+import com.community.soap.common.resilience.CircuitBreaker;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.mail.javamail.JavaMailSender;
+
+/**
+ * 라우팅 대상 SMTP provider: 발송기 + 발신 주소 + 지연 EWMA + 회로 차단기
+ */
+public final class MailProvider {
+
+    private static final long UNKNOWN = Double.doubleToLongBits(-1.0);
+
+    private final String name;
+    private final JavaMailSender sender;
+    private final String fromAddress;
+    private final double weight;
+    private final double alpha;
+    private final CircuitBreaker breaker;
+    private final AtomicLong ewmaBits = new AtomicLong(UNKNOWN);
+
+    public MailProvider(
+            String name,
+            JavaMailSender sender,
+            String fromAddress,
+            double weight,
+            double alpha,
+            CircuitBreaker breaker
+    ) {
+        this.name = name;
+        this.sender = sender;
+        this.fromAddress = fromAddress;
+        this.weight = weight;
+        this.alpha = alpha;
+        this.breaker = breaker;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public JavaMailSender sender() {
+        return sender;
+    }
+
+    public String fromAddress() {
+        return fromAddress;
+    }
+
+    public CircuitBreaker breaker() {
+        return breaker;
+    }
+
+    /**
+     * 지연 EWMA(ms). 아직 측정 전이면 -1
+     */
+    public double latencyEwmaMs() {
+        return Double.longBitsToDouble(ewmaBits.get());
+    }
+
+    /**
+     * 라우팅 점수 (낮을수록 우선). 측정 전 provider 는 0 으로 먼저 시도해 본다
+     */
+    double score() {
+        double ewma = latencyEwmaMs();
+        return ewma < 0 ? 0 : ewma / weight;
+    }
+
+    void recordLatency(double ms) {
+        long prev;
+        long next;
+        do {
+            prev = ewmaBits.get();
+            double old = Double.longBitsToDouble(prev);
+            double updated = old < 0 ? ms : old + alpha * (ms - old);
+            next = Double.doubleToLongBits(updated);
+        } while (!ewmaBits.compareAndSet(prev, next));
+    }
+}
@@ -0,0 +1,228 @@
+package com.community.soap.user.infrastructure.email.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailSendException;
+
+/**
+ * 여러 SMTP provider 중 빠르고 건강한 곳으로 보낸다.
+ * - 순위: 회로가 열리지 않은 provider 를 (지연 EWMA / weight) 오름차순, exploreRatio 만큼은 다른 provider 를 먼저 시도
+ * - 실패하면 다음 provider 로 즉시 failover
+ * - hedgeAfter 안에 끝나지 않으면 다음 provider 로 한 번 더 보내고 먼저 성공한 결과를 사용
+ *   (느린 쪽도 뒤늦게 성공할 수 있어 중복 수신 가능. 인증 코드 메일은 같은 내용이라 허용)
+ * - span: send 전체("smtp send") 아래에 provider 별 시도("smtp <provider>")
+ */
+@Slf4j(topic = "MailRouter")
+public class MailRouter implements DisposableBean {
+
+    public static final String OBSERVATION = "span.smtp";
+
+    private final List<MailProvider> providers;
+    private final Duration hedgeAfter;
+    private final double exploreRatio;
+    private final ExecutorService executor;
+    private final Counter hedges;
+    private final Counter failovers;
+    private final ObservationRegistry observations;
+
+    public MailRouter(
+            List<MailProvider> providers,
+            Duration hedgeAfter,
+            double exploreRatio,
+            MeterRegistry registry,
+            ObservationRegistry observations
+    ) {
+        if (providers.isEmpty()) {
+            throw new IllegalArgumentException("mail provider 가 없습니다");
+        }
+        this.providers = List.copyOf(providers);
+        this.hedgeAfter = hedgeAfter;
+        this.exploreRatio = exploreRatio;
+        this.observations = observations;
+        // JavaMail 은 synchronized 블로킹 I/O 라 플랫폼 스레드 사용
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(r -> Thread.ofPlatform()
+                .name("mail-route-" + seq.incrementAndGet()).daemon().unstarted(r));
+        this.hedges = Counter.builder("mail.route.hedges").register(registry);
+        this.failovers = Counter.builder("mail.route.failovers").register(registry);
+        for (MailProvider p : this.providers) {
+            Gauge.builder("mail.provider.latency.ewma", p, MailProvider::latencyEwmaMs)
+                    .tag("provider", p.name()).baseUnit("milliseconds").register(registry);
+            Gauge.builder("mail.provider.breaker.open", p,
+                            x -> x.breaker().isCallPermitted() ? 0 : 1)
+                    .tag("provider", p.name()).register(registry);
+            p.breaker().onStateChange((from, to) ->
+                    log.warn("mail provider {} 회로 상태 {} → {}", p.name(), from, to));
+        }
+    }
+
+    public List<MailProvider> providers() {
+        return providers;
+    }
+
+    public void send(ProviderMessagePreparator preparator) {
+        Observation observation = Observation.createNotStarted(OBSERVATION, observations)
+                .contextualName("smtp send")
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            route(preparator, observation);
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private void route(ProviderMessagePreparator preparator, Observation parent) {
+        List<MailProvider> order = rank();
+        if (order.isEmpty()) {
+            throw new MailSendException("사용 가능한 mail provider 가 없습니다 (모든 회로 열림)");
+        }
+
+        Dispatch d = new Dispatch(order, preparator, parent);
+        d.submitNext();
+        boolean hedged = false;
+        try {
+            while (d.inFlight > 0) {
+                Future<MailProvider> done = (!hedged && d.hasMore())
+                        ? d.ecs.poll(hedgeAfter.toNanos(), TimeUnit.NANOSECONDS)
+                        : d.ecs.take();
+                if (done == null) {
+                    // 1순위가 느림 → hedge 1회
+                    hedged = true;
+                    if (d.submitNext()) {
+                        hedges.increment();
+                    }
+                    continue;
+                }
+                d.inFlight--;
+                try {
+                    done.get();
+                    return;
+                } catch (ExecutionException e) {
+                    d.errors.add(e.getCause() instanceof Exception ex ? ex : e);
+                    if (d.inFlight == 0 && d.submitNext()) {
+                        failovers.increment();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("메일 발송 대기 중 인터럽트", e);
+        }
+
+        List<Exception> errors = d.errors;
+        MailSendException ex = new MailSendException(
+                "모든 mail provider 발송 실패 (" + errors.size() + "건)",
+                errors.isEmpty() ? null : errors.get(errors.size() - 1));
+        errors.stream().limit(Math.max(0, errors.size() - 1)).forEach(ex::addSuppressed);
+        throw ex;
+    }
+
+    /**
+     * 한 번의 send 에 대한 시도 상태 (호출 스레드에서만 접근)
+     */
+    private final class Dispatch {
+
+        final ExecutorCompletionService<MailProvider> ecs =
+                new ExecutorCompletionService<>(executor);
+        final List<MailProvider> order;
+        final ProviderMessagePreparator preparator;
+        final Observation parent;
+        final List<Exception> errors = new ArrayList<>();
+        int next;
+        int inFlight;
+
+        Dispatch(List<MailProvider> order, ProviderMessagePreparator preparator, Observation parent) {
+            this.order = order;
+            this.preparator = preparator;
+            this.parent = parent;
+        }
+
+        boolean hasMore() {
+            return next < order.size();
+        }
+
+        // 회로가 허용하는 다음 provider 에 제출. 제출할 곳이 없으면 false
+        boolean submitNext() {
+            while (next < order.size()) {
+                MailProvider p = order.get(next++);
+                if (p.breaker().tryAcquire()) {
+                    ecs.submit(() -> sendVia(p, preparator, parent), p);
+                    inFlight++;
+                    return true;
+                }
+                errors.add(new MailSendException("provider " + p.name() + " 회로 열림"));
+            }
+            return false;
+        }
+    }
+
+    private void sendVia(MailProvider p, ProviderMessagePreparator preparator, Observation parent) {
+        // 발송 스레드가 달라 부모 span 을 명시적으로 연결
+        Observation observation = Observation.createNotStarted(OBSERVATION, observations)
+                .contextualName("smtp " + p.name())
+                .lowCardinalityKeyValue("provider", p.name())
+                .parentObservation(parent)
+                .start();
+        long start = System.nanoTime();
+        try {
+            p.sender().send(mime -> preparator.prepare(mime, p.fromAddress()));
+            p.recordLatency((System.nanoTime() - start) / 1_000_000.0);
+            p.breaker().onSuccess();
+        } catch (RuntimeException e) {
+            // 실패도 걸린 시간만큼 느린 것으로 반영
+            p.recordLatency((System.nanoTime() - start) / 1_000_000.0);
+            p.breaker().onFailure();
+            observation.error(e);
+            log.info("mail provider {} 발송 실패: {}", p.name(), e.toString());
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    List<MailProvider> rank() {
+        List<MailProvider> healthy = new ArrayList<>(providers.size());
+        for (MailProvider p : providers) {
+            if (p.breaker().isCallPermitted()) {
+                healthy.add(p);
+            }
+        }
+        healthy.sort(Comparator.comparingDouble(MailProvider::score));
+        if (healthy.size() > 1 && ThreadLocalRandom.current().nextDouble() < exploreRatio) {
+            Collections.swap(healthy, 0,
+                    1 + ThreadLocalRandom.current().nextInt(healthy.size() - 1));
+        }
+        return healthy;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        executor.shutdown();
+        for (MailProvider p : providers) {
+            if (p.sender() instanceof DisposableBean d) {
+                d.destroy();
+            }
+        }
+    }
+}
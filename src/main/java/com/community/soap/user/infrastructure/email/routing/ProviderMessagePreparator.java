@@ -0,0 +1,12 @@
+package com.community.soap.user.infrastructure.email.routing;
+
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * provider 별 MimeMessage 구성 (발신 주소는 provider 계정마다 다름)
+ */
+@FunctionalInterface
+public interface ProviderMessagePreparator {
+
+    void prepare(MimeMessage mimeMessage, String fromAddress) throws Exception;
+}
@@ -2,8 +2,36 @@ package com.community.soap.user.infrastructure.jpa;
 
 import com.community.soap.user.domain.entity.User;
 import com.community.soap.user.application.port.out.UserRepositoryPort;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface JpaUserAdapter extends JpaRepository<User, Long>, UserRepositoryPort {
 
+    @Query("""
+            select u.userId from User u
+            where u.isDeleted = true
+              and u.deletedAt < :deletedBefore
+              and u.userId > :afterUserId
+            order by u.userId asc
+            """)
+    List<Long> findPurgeCandidateIdsAfter(
+            @Param("afterUserId") Long afterUserId,
+            @Param("deletedBefore") LocalDateTime deletedBefore,
+            Limit limit
+    );
+
+    @Override
+    default List<Long> findPurgeCandidateIds(Long afterUserId, LocalDateTime deletedBefore, int limit) {
+        return findPurgeCandidateIdsAfter(afterUserId, deletedBefore, Limit.of(limit));
+    }
+
+    @Override
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from User u where u.userId in :userIds and u.isDeleted = true")
+    int deleteSoftDeletedByUserIds(@Param("userIds") List<Long> userIds);
 }
@@ -1,70 +1,201 @@
 package com.community.soap.user.infrastructure.jwt;
 
+import com.community.soap.common.redis.RedisNearCache;
 import com.community.soap.user.application.port.out.TokenRepositoryPort;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.connection.ReturnType;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 
-@RequiredArgsConstructor
 @Repository
+@ConditionalOnProperty(name = "user.state-store", havingValue = "redis", matchIfMissing = true)
 public class JwtTokenStoreAdapter implements TokenRepositoryPort {
 
     private final StringRedisTemplate redis;
+    // 일괄 삭제/파이프라인은 요청 경로 공유 커넥션과 분리
+    private final StringRedisTemplate bulkRedis;
+    private final RedisNearCache nearCache;
+    private final boolean legacyFallback;
+
+    public JwtTokenStoreAdapter(
+            StringRedisTemplate redis,
+            @Qualifier("bulkRedisTemplate") StringRedisTemplate bulkRedis,
+            RedisNearCache nearCache,
+            @Value("${auth.refresh.legacy-key-fallback:true}") boolean legacyFallback
+    ) {
+        this.redis = redis;
+        this.bulkRedis = bulkRedis;
+        this.nearCache = nearCache;
+        this.legacyFallback = legacyFallback;
+    }
 
     private static final String PREFIX = "user-service";
 
-    private static String kRt(String jti) {
+    /*
+     * 유저 세션 키는 hash tag {u:<id>} 로 같은 Cluster slot 에 둔다.
+     * - RT 해시:   user-service:{u:<id>}:RT:<jti>
+     * - 세션 인덱스: user-service:{u:<id>}:RT-INDEX
+     * 그래서 유저 단위 폐기/회전을 단일 shard 의 Lua 스크립트 한 번으로 처리할 수 있다.
+     */
+    static String userTag(Long userId) {
+        return PREFIX + ":{u:" + userId + "}";
+    }
+
+    static String kRt(Long userId, String jti) {
+        return userTag(userId) + ":RT:" + jti;
+    }
+
+    static String kUserRt(Long userId) {
+        return userTag(userId) + ":RT-INDEX";
+    }
+
+    /*
+     * 레거시 레이아웃 (키 레이아웃 전환 전에 발급된 RT): user-service:RT:<jti> / user-service:USER:<id>:RT
+     * auth.refresh.legacy-key-fallback=true 인 동안 새 키에 없으면 레거시 키를 읽고, 폐기/회전 시 레거시 키를 먼저 지운다.
+     * (먼저 지워야 RefreshKeyLayoutMigrator 가 옮기는 중인 세션이 되살아나지 않는다)
+     * 마이그레이션 후 RT 최대 수명이 지나면 끈다. 레거시 키끼리 slot 이 달라 단일 키 명령만 쓴다
+     */
+    static String kLegacyRt(String jti) {
         return PREFIX + ":RT:" + jti;
     }
 
-    private static String kUserRt(Long userId) {
+    static String kLegacyUserRt(Long userId) {
         return PREFIX + ":USER:" + userId + ":RT";
     }
 
-    private static String kBlA(String jti) {
+    // KEYS: legacy rt / ARGV: expectedHash → 레거시 RT 가 그 해시일 때만 지우고 1 (단일 키라 slot 무관)
+    static final String CLAIM_LEGACY_LUA = """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              redis.call('DEL', KEYS[1])
+              return 1
+            end
+            return 0
+            """;
+
+    // KEYS: rt, index / ARGV: jti
+    static final String REVOKE_LUA = """
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[1])
+            return 1
+            """;
+
+    // KEYS: old rt, index, new rt / ARGV: oldJti, newJti, newHash, ttlMs, expectedHash, legacyClaimed(1|0)
+    // 호출자가 검증한 해시가 그대로 있을 때만 회전 (조회와 회전 사이의 로그아웃/폐기, 다른 노드의 오래된 캐시 방어).
+    // 레거시 키를 이미 선점했으면(legacyClaimed) 새 키가 아직 없을 수 있다
+    static final String ROTATE_LUA = """
+            local current = redis.call('GET', KEYS[1])
+            if current ~= ARGV[5] and not (current == false and ARGV[6] == '1') then
+              return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SREM', KEYS[2], ARGV[1])
+            redis.call('SET', KEYS[3], ARGV[3], 'PX', ARGV[4])
+            redis.call('SADD', KEYS[2], ARGV[2])
+            return 1
+            """;
+
+    // KEYS: index, rt... / ARGV: jti... (KEYS[i + 1] 이 ARGV[i] 의 RT) → 인덱스에 남은 세션 수
+    // 키 이름은 스크립트 안에서 만들지 않고 모두 KEYS 로 받는다 (Cluster 에서 선언한 키만 접근)
+    static final String REVOKE_ALL_LUA = """
+            for i, jti in ipairs(ARGV) do
+              redis.call('DEL', KEYS[i + 1])
+              redis.call('SREM', KEYS[1], jti)
+            end
+            return redis.call('SCARD', KEYS[1])
+            """;
+
+    // SMEMBERS 와 스크립트 사이에 새 세션이 생기면 다시 읽어 지운다
+    private static final int REVOKE_ALL_ATTEMPTS = 3;
+
+    private static final RedisScript<Long> REVOKE = RedisScript.of(REVOKE_LUA, Long.class);
+    private static final RedisScript<Long> ROTATE = RedisScript.of(ROTATE_LUA, Long.class);
+    private static final RedisScript<Long> CLAIM_LEGACY = RedisScript.of(CLAIM_LEGACY_LUA, Long.class);
+    private static final RedisScript<Long> REVOKE_ALL = RedisScript.of(REVOKE_ALL_LUA, Long.class);
+
+    static String kBlA(String jti) {
         return PREFIX + ":BL:A:" + jti;
     }
 
-    private static String kBlR(String jti) {
-        return PREFIX + ":BL:R:" + jti;
-    }
-
     @Override
     public void saveRefreshToken(String jti, Long userId, String refreshTokenHash, long ttlMillis) {
         // 토큰 본문(해시) 저장 -> RT 해시 저장 + TTL 설정
-        redis.opsForValue().set(kRt(jti), refreshTokenHash, Duration.ofMillis(ttlMillis));
+        redis.opsForValue().set(kRt(userId, jti), refreshTokenHash, Duration.ofMillis(ttlMillis));
+        nearCache.invalidate(kRt(userId, jti));
         // 유저-세션 인덱스(SET)에 jti 추가
         redis.opsForSet().add(kUserRt(userId), jti);
         // 인덱스 키는 굳이 TTL 줄 필요는 없음(원하면 정책적으로 부여. 세션 수명과 무관, 정합성 측면에서 권장 X)
     }
 
     @Override
-    public Optional<String> getRefreshTokenHashByJti(String jti) {
-        return Optional.ofNullable(redis.opsForValue().get(kRt(jti)));
+    public Optional<String> getRefreshTokenHashByJti(Long userId, String jti) {
+        // 해시는 발급 후 바뀌지 않으므로 삭제(push invalidate) 전까지 near cache 에서 읽음
+        Optional<String> hash = nearCache.get(kRt(userId, jti), RedisNearCache.STRING);
+        if (hash.isPresent() || !legacyFallback) {
+            return hash;
+        }
+        return Optional.ofNullable(redis.opsForValue().get(kLegacyRt(jti)));
+    }
+
+    @Override
+    public void deleteRefreshTokenByJti(Long userId, String jti) {
+        redis.delete(kRt(userId, jti));
+        nearCache.invalidate(kRt(userId, jti));
+        // 인덱스까지 함께 지우려면 revokeRefreshToken
+    }
+
+    @Override
+    public void revokeRefreshToken(Long userId, String jti) {
+        revokeLegacy(userId, jti);
+        redis.execute(REVOKE, List.of(kRt(userId, jti), kUserRt(userId)), jti);
+        nearCache.invalidate(kRt(userId, jti));
     }
 
     @Override
-    public void deleteRefreshTokenByJti(String jti) {
-        redis.delete(kRt(jti));
-        // user set 에서의 제거는 호출측에서 userId 를 알고 있을 때 removeUserRefreshIndex 로 함께 처리 권장
+    public boolean rotateRefreshToken(Long userId, String oldJti, String expectedHash, String newJti,
+            String newRefreshTokenHash, long ttlMillis) {
+        boolean legacyClaimed = claimLegacy(userId, oldJti, expectedHash);
+        Long rotated = redis.execute(ROTATE, List.of(kRt(userId, oldJti), kUserRt(userId), kRt(userId, newJti)),
+                oldJti, newJti, newRefreshTokenHash, Long.toString(ttlMillis), expectedHash,
+                legacyClaimed ? "1" : "0");
+        nearCache.invalidate(kRt(userId, oldJti));
+        nearCache.invalidate(kRt(userId, newJti));
+        return rotated != null && rotated == 1L;
+    }
+
+    // 레거시 RT 는 해시가 같을 때만 지운다 (먼저 지워야 마이그레이터가 옮기는 중인 세션이 되살아나지 않음)
+    private boolean claimLegacy(Long userId, String jti, String expectedHash) {
+        if (!legacyFallback) {
+            return false;
+        }
+        Long claimed = redis.execute(CLAIM_LEGACY, List.of(kLegacyRt(jti)), expectedHash);
+        if (claimed == null || claimed != 1L) {
+            return false;
+        }
+        redis.opsForSet().remove(kLegacyUserRt(userId), jti);
+        return true;
+    }
+
+    private void revokeLegacy(Long userId, String jti) {
+        if (legacyFallback) {
+            redis.unlink(kLegacyRt(jti));
+            redis.opsForSet().remove(kLegacyUserRt(userId), jti);
+        }
     }
 
     @Override
@@ -85,55 +216,67 @@ public class JwtTokenStoreAdapter implements TokenRepositoryPort {
 
     @Override
     public void deleteAllRefreshTokensOfUser(Long userId) {
-        Set<String> jtis = getUserRefreshJtis(userId);
-
-        if (jtis.isEmpty()) {
-            return;
+        if (legacyFallback) {
+            Set<String> legacy = bulkRedis.opsForSet().members(kLegacyUserRt(userId));
+            if (legacy != null) {
+                legacy.forEach(jti -> bulkRedis.unlink(kLegacyRt(jti)));
+            }
+            bulkRedis.unlink(kLegacyUserRt(userId));
         }
 
-        // RT 본문 일괄 삭제
-        redis.delete(jtis.stream().map(JwtTokenStoreAdapter::kRt).toList());
-        // 유저 인덱스 삭제
-        redis.delete(kUserRt(userId));
-
+        // 인덱스 + RT 본문을 한 번에 (세션이 많은 유저도 단일 shard 스크립트 1회)
+        for (int attempt = 0; attempt < REVOKE_ALL_ATTEMPTS; attempt++) {
+            Set<String> jtis = bulkRedis.opsForSet().members(kUserRt(userId));
+            if (jtis == null || jtis.isEmpty()) {
+                return;
+            }
+            List<String> keys = new ArrayList<>(jtis.size() + 1);
+            keys.add(kUserRt(userId));
+            jtis.forEach(jti -> keys.add(kRt(userId, jti)));
+            Long left = bulkRedis.execute(REVOKE_ALL, keys, jtis.toArray());
+            jtis.forEach(jti -> nearCache.invalidate(kRt(userId, jti)));
+            if (left == null || left == 0) {
+                return;
+            }
+        }
     }
 
     @Override
     public void blacklistAccessJti(String jti, long ttlMillis) {
         // 덮어쓰기 대신 setIfAbsent를 쓰면 TTL 갱신으로 인한 “의도치 않은 연장”을 방지
         redis.opsForValue().setIfAbsent(kBlA(jti), "1", Duration.ofMillis(ttlMillis));
+        nearCache.invalidate(kBlA(jti));
     }
 
     @Override
-    public void blacklistRefreshJti(String jti, long ttlMillis) {
-        redis.opsForValue().setIfAbsent(kBlR(jti), "1", Duration.ofMillis(ttlMillis));
+    public boolean isAccessJtiBlacklisted(String jti) {
+        // 음성 결과(블랙리스트 아님)도 캐시: 키가 생기면 서버가 invalidate 를 보냄
+        return nearCache.get(kBlA(jti), RedisNearCache.EXISTS);
     }
 
     @Override
-    public boolean isAccessJtiBlacklisted(String jti) {
-        return Boolean.TRUE.equals(redis.hasKey(kBlA(jti)));
+    public boolean hasUserRefreshJti(Long userId, String jti) {
+        // Redis SISMEMBER 사용
+        if (Boolean.TRUE.equals(redis.opsForSet().isMember(kUserRt(userId), jti))) {
+            return true;
+        }
+        return legacyFallback && Boolean.TRUE.equals(redis.opsForSet().isMember(kLegacyUserRt(userId), jti));
     }
 
     @Override
-    public boolean isRefreshJtiBlacklisted(String jti) {
-        return Boolean.TRUE.equals(redis.hasKey(kBlR(jti)));
+    public Optional<Duration> getRefreshTokenTtl(Long userId, String jti) {
+        return ttlOf(kRt(userId, jti));
     }
 
     @Override
-    public Optional<Long> getRemainingRefreshTtlMs(String rJti) {
-        // TTL(ms) 조회. Redis는 -2(키 없음), -1(TTL 없음) 반환 가능
-        Long ttlMs = redis.getExpire(kRt(rJti), TimeUnit.MILLISECONDS);
-        if (ttlMs == null || ttlMs <= 0) {
-            // 키가 없거나, TTL이 없거나(영속), 이미 만료 직전 등 → 블랙리스트 생략
-            return Optional.empty();
-        }
-        return Optional.of(ttlMs);
+    public Optional<Duration> getAccessBlacklistTtl(String jti) {
+        return ttlOf(kBlA(jti));
     }
 
-    @Override
-    public boolean hasUserRefreshJti(Long userId, String jti) {
-        // Redis SISMEMBER 사용
-        return Boolean.TRUE.equals(redis.opsForSet().isMember(kUserRt(userId), jti));
+    // PTTL: -2 = 키 없음, -1 = TTL 없음 (이 저장소의 키는 모두 TTL 이 있으므로 없음으로 취급)
+    private Optional<Duration> ttlOf(String key) {
+        Long ms = redis.getExpire(key, TimeUnit.MILLISECONDS);
+        return ms == null || ms < 0 ? Optional.empty() : Optional.of(Duration.ofMillis(ms));
     }
 
     /**
@@ -165,84 +308,16 @@ public class JwtTokenStoreAdapter implements TokenRepositoryPort {
     }
 
     /**
-     * 여러 rJti의 남은 TTL(ms)을 파이프라인으로 일괄 조회(PTTL). TTL <= 0(-2, -1 포함)은 제외.
-     */
-    @Override
-    public Map<String, Long> mgetRemainingRefreshTtlsMs(Set<String> rJtis) {
-        if (rJtis == null || rJtis.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        final var ser = redis.getStringSerializer();
-        final List<String> order = new ArrayList<>(rJtis);
-
-        @SuppressWarnings("unchecked")
-        List<Object> raw = redis.executePipelined((RedisCallback<Object>) connection -> {
-            for (String rJti : order) {
-                byte[] key = ser.serialize(kRt(rJti));
-                connection.keyCommands().pTtl(key);
-            }
-            return null;
-        });
-
-        Map<String, Long> out = new LinkedHashMap<>(order.size());
-        for (int i = 0; i < order.size(); i++) {
-            Object val = raw.get(i);
-            Long ttl = (val instanceof Long) ? (Long) val : null;
-            if (ttl != null && ttl > 0) {
-                out.put(order.get(i), ttl);
-            }
-        }
-        return out;
-    }
-
-    /**
-     * 여러 RT 해시 키를 파이프라인으로 일괄 삭제.
+     * 한 유저의 여러 RT 해시 키 일괄 삭제. 모두 같은 slot 이라 Cluster 에서도 다중 키 DEL 한 번
      */
     @Override
-    public void mdeleteRefreshTokensByJtis(Set<String> rJtis) {
+    public void mdeleteRefreshTokensByJtis(Long userId, Set<String> rJtis) {
         if (rJtis == null || rJtis.isEmpty()) {
             return;
         }
 
-        final var ser = redis.getStringSerializer();
-        redis.executePipelined((RedisCallback<Object>) connection -> {
-            for (String rJti : rJtis) {
-                connection.keyCommands().del(ser.serialize(kRt(rJti)));
-            }
-            return null;
-        });
-    }
-
-    /**
-     * 여러 rJti를 블랙리스트에 일괄 등록(SET NX PX ttl) – 파이프라인 적용. 이미 존재하는 키는 TTL 연장하지 않음.
-     */
-    @Override
-    public void mblacklistRefreshJtis(Map<String, Long> jtiToTtlMs) {
-        if (jtiToTtlMs == null || jtiToTtlMs.isEmpty()) {
-            return;
-        }
-
-        final var ser = redis.getStringSerializer();
-        byte[] value = ser.serialize("1");
-
-        redis.executePipelined((RedisCallback<Object>) connection -> {
-            for (Map.Entry<String, Long> e : jtiToTtlMs.entrySet()) {
-                String jti = e.getKey();
-                long ttl = e.getValue() == null ? 0 : e.getValue();
-                if (ttl <= 0) {
-                    continue;
-                }
-
-                byte[] key = ser.serialize(kBlR(jti));
-                connection.stringCommands().set(
-                        key,
-                        value,
-                        Expiration.milliseconds(ttl),
-                        SetOption.ifAbsent()
-                );
-            }
-            return null;
-        });
+        List<String> keys = rJtis.stream().map(jti -> kRt(userId, jti)).toList();
+        bulkRedis.delete(keys);
+        keys.forEach(nearCache::invalidate);
     }
 }
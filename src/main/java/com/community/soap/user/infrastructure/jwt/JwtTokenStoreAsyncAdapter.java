@@ -0,0 +1,178 @@
+package com.community.soap.user.infrastructure.jwt;
+
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.CLAIM_LEGACY_LUA;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.REVOKE_LUA;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.ROTATE_LUA;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kBlA;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kLegacyRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kLegacyUserRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kUserRt;
+
+import com.community.soap.common.redis.LettuceConnections;
+import com.community.soap.common.redis.RedisCircuitBreaker;
+import com.community.soap.common.redis.RedisNearCache;
+import com.community.soap.user.application.port.out.TokenRepositoryAsyncPort;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Lettuce async API 기반 토큰 저장소.
+ * 하나의 공유 커넥션에 여러 스레드/요청의 명령이 섞여 나가므로(자동 pipelining)
+ * 응답을 기다리지 않고 연달아 보낸 명령은 RTT 한 번 안에 처리된다.
+ * 모든 명령은 회로 차단기를 거친다 (timeout/회로 열림 → RedisUnavailableException 으로 완료).
+ * 레거시 RT 키 호환(auth.refresh.legacy-key-fallback)은 JwtTokenStoreAdapter 와 같다.
+ */
+@Repository
+@ConditionalOnProperty(name = "user.state-store", havingValue = "redis", matchIfMissing = true)
+public class JwtTokenStoreAsyncAdapter implements TokenRepositoryAsyncPort {
+
+    private final RedisClusterAsyncCommands<String, String> redis;
+    private final RedisNearCache nearCache;
+    private final RedisCircuitBreaker breaker;
+    private final boolean legacyFallback;
+
+    public JwtTokenStoreAsyncAdapter(
+            StatefulConnection<String, String> tokenStoreConnection,
+            RedisNearCache nearCache,
+            RedisCircuitBreaker breaker,
+            @Value("${auth.refresh.legacy-key-fallback:true}") boolean legacyFallback
+    ) {
+        this.redis = LettuceConnections.async(tokenStoreConnection);
+        this.nearCache = nearCache;
+        this.breaker = breaker;
+        this.legacyFallback = legacyFallback;
+    }
+
+    @Override
+    public CompletionStage<Void> saveRefreshToken(
+            String jti,
+            Long userId,
+            String refreshTokenHash,
+            long ttlMillis
+    ) {
+        CompletableFuture<String> set = breaker
+                .callAsync(() -> redis.set(kRt(userId, jti), refreshTokenHash, SetArgs.Builder.px(ttlMillis)))
+                .toCompletableFuture();
+        CompletableFuture<Long> index = breaker.callAsync(() -> redis.sadd(kUserRt(userId), jti))
+                .toCompletableFuture();
+        nearCache.invalidate(kRt(userId, jti));
+        return CompletableFuture.allOf(set, index);
+    }
+
+    @Override
+    public CompletionStage<Optional<String>> getRefreshTokenHashByJti(Long userId, String jti) {
+        CompletionStage<Optional<String>> hash = nearCache.getAsync(kRt(userId, jti), RedisNearCache.STRING);
+        if (!legacyFallback) {
+            return hash;
+        }
+        return hash.thenCompose(h -> h.isPresent()
+                ? CompletableFuture.completedFuture(h)
+                : breaker.callAsync(() -> redis.get(kLegacyRt(jti))).thenApply(Optional::ofNullable));
+    }
+
+    @Override
+    public CompletionStage<Void> deleteRefreshTokenByJti(Long userId, String jti) {
+        return breaker.callAsync(() -> redis.del(kRt(userId, jti))).thenApply(n -> {
+            nearCache.invalidate(kRt(userId, jti));
+            return null;
+        });
+    }
+
+    @Override
+    public CompletionStage<Void> revokeRefreshToken(Long userId, String jti) {
+        String[] keys = {kRt(userId, jti), kUserRt(userId)};
+        return revokeLegacy(userId, jti)
+                .thenCompose(v -> breaker.callAsync(
+                        () -> redis.<Long>eval(REVOKE_LUA, ScriptOutputType.INTEGER, keys, jti)))
+                .thenApply(r -> {
+                    nearCache.invalidate(kRt(userId, jti));
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletionStage<Boolean> rotateRefreshToken(
+            Long userId,
+            String oldJti,
+            String expectedHash,
+            String newJti,
+            String newRefreshTokenHash,
+            long ttlMillis
+    ) {
+        String[] keys = {kRt(userId, oldJti), kUserRt(userId), kRt(userId, newJti)};
+        return claimLegacy(userId, oldJti, expectedHash)
+                .thenCompose(legacyClaimed -> breaker.callAsync(() -> redis.<Long>eval(ROTATE_LUA,
+                        ScriptOutputType.INTEGER, keys, oldJti, newJti, newRefreshTokenHash,
+                        Long.toString(ttlMillis), expectedHash, legacyClaimed ? "1" : "0")))
+                .thenApply(r -> {
+                    nearCache.invalidate(kRt(userId, oldJti));
+                    nearCache.invalidate(kRt(userId, newJti));
+                    return r != null && r == 1L;
+                });
+    }
+
+    // 레거시 RT 는 해시가 같을 때만 지운다 (JwtTokenStoreAdapter 와 같은 순서: 레거시 선점 → 새 키 스크립트)
+    private CompletionStage<Boolean> claimLegacy(Long userId, String jti, String expectedHash) {
+        if (!legacyFallback) {
+            return CompletableFuture.completedFuture(false);
+        }
+        String[] keys = {kLegacyRt(jti)};
+        return breaker.callAsync(() -> redis.<Long>eval(CLAIM_LEGACY_LUA, ScriptOutputType.INTEGER, keys,
+                        expectedHash))
+                .thenCompose(claimed -> claimed == null || claimed != 1L
+                        ? CompletableFuture.completedFuture(false)
+                        : breaker.callAsync(() -> redis.srem(kLegacyUserRt(userId), jti)).thenApply(n -> true));
+    }
+
+    // 레거시 키를 먼저 지운 뒤에 새 키를 폐기한다 (Cluster 에서는 커넥션이 달라 순서 보장을 위해 완료를 기다림)
+    private CompletionStage<Void> revokeLegacy(Long userId, String jti) {
+        if (!legacyFallback) {
+            return CompletableFuture.completedFuture(null);
+        }
+        CompletableFuture<Long> rt = breaker.callAsync(() -> redis.unlink(kLegacyRt(jti))).toCompletableFuture();
+        CompletableFuture<Long> index = breaker.callAsync(() -> redis.srem(kLegacyUserRt(userId), jti))
+                .toCompletableFuture();
+        return CompletableFuture.allOf(rt, index);
+    }
+
+    @Override
+    public CompletionStage<Boolean> hasUserRefreshJti(Long userId, String jti) {
+        CompletionStage<Boolean> indexed = breaker.callAsync(() -> redis.sismember(kUserRt(userId), jti))
+                .thenApply(Boolean.TRUE::equals);
+        if (!legacyFallback) {
+            return indexed;
+        }
+        return indexed.thenCompose(found -> found
+                ? CompletableFuture.completedFuture(true)
+                : breaker.callAsync(() -> redis.sismember(kLegacyUserRt(userId), jti)).thenApply(Boolean.TRUE::equals));
+    }
+
+    @Override
+    public CompletionStage<Void> removeUserRefreshIndex(Long userId, String jti) {
+        return breaker.callAsync(() -> redis.srem(kUserRt(userId), jti)).thenApply(n -> null);
+    }
+
+    @Override
+    public CompletionStage<Void> blacklistAccessJti(String jti, long ttlMillis) {
+        // SET NX PX: 이미 등록된 jti 의 TTL 을 연장하지 않음
+        return breaker.callAsync(() -> redis.set(kBlA(jti), "1", SetArgs.Builder.nx().px(ttlMillis)))
+                .thenApply(r -> {
+                    nearCache.invalidate(kBlA(jti));
+                    return null;
+                });
+    }
+
+    @Override
+    public CompletionStage<Boolean> isAccessJtiBlacklisted(String jti) {
+        return nearCache.getAsync(kBlA(jti), RedisNearCache.EXISTS);
+    }
+}
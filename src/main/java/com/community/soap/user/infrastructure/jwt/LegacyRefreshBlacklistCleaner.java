@@ -0,0 +1,76 @@
+package com.community.soap.user.infrastructure.jwt;
+
+import com.community.soap.common.redis.RedisKeyScanner;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마이그레이션: 더 이상 읽지 않는 RT 블랙리스트 키(BL:R:*) 정리.
+ * - RT 폐기 시 항상 RT 해시도 삭제해 왔으므로 BL:R 을 읽지 않아도 검증 결과는 같다 (구/신 버전 혼재 배포 안전)
+ * - 남은 키는 TTL 로 자연 소멸하지만, 메모리를 바로 회수하려면 auth.refresh.legacy-blacklist-cleanup=true 로 1회 실행
+ * - SCAN + UNLINK 배치, 배치 사이 짧게 쉬어 Redis 부하를 제한
+ * - 배치 키는 slot 이 제각각이라 Cluster 에서는 템플릿이 slot 별로 나눠 UNLINK 한다
+ */
+@Slf4j(topic = "LegacyRefreshBlacklistCleaner")
+@Component
+@ConditionalOnProperty(prefix = "auth.refresh", name = "legacy-blacklist-cleanup", havingValue = "true")
+public class LegacyRefreshBlacklistCleaner implements ApplicationRunner {
+
+    private static final String PATTERN = "user-service:BL:R:*";
+    private static final int BATCH = 500;
+    private static final long PAUSE_MILLIS = 20;
+
+    private final StringRedisTemplate redis;
+
+    // SCAN/UNLINK 배치는 bulk 커넥션으로 (요청 경로 공유 커넥션과 분리)
+    public LegacyRefreshBlacklistCleaner(@Qualifier("bulkRedisTemplate") StringRedisTemplate redis) {
+        this.redis = redis;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread.ofPlatform().name("legacy-bl-r-cleaner").daemon().start(this::clean);
+    }
+
+    /**
+     * BL:R 키를 지우고 지운 건수를 돌려준다 (Cluster 에서는 마스터마다 SCAN)
+     */
+    long clean() {
+        long[] removed = new long[1];
+        ScanOptions options = ScanOptions.scanOptions().match(PATTERN).count(BATCH).build();
+        List<String> batch = new ArrayList<>(BATCH);
+        try {
+            RedisKeyScanner.forEachKey(redis, options, key -> {
+                batch.add(key);
+                if (batch.size() >= BATCH) {
+                    removed[0] += unlink(batch);
+                    Thread.sleep(PAUSE_MILLIS);
+                }
+            });
+            removed[0] += unlink(batch);
+            log.info("레거시 RT 블랙리스트 키 정리 완료: {}건", removed[0]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("레거시 RT 블랙리스트 키 정리 중단 ({}건 정리됨)", removed[0], e);
+        }
+        return removed[0];
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long n = redis.unlink(keys);
+        keys.clear();
+        return n == null ? 0 : n;
+    }
+}
@@ -0,0 +1,157 @@
+package com.community.soap.user.infrastructure.jwt;
+
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kLegacyRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kLegacyUserRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kUserRt;
+
+import com.community.soap.common.jwt.JwtProvider;
+import com.community.soap.common.jwt.TokenWatermarkStore;
+import com.community.soap.common.redis.RedisKeyScanner;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마이그레이션: 레거시 RT 키 레이아웃 → 유저 hash tag 레이아웃.
+ * - user-service:USER:<id>:RT / user-service:RT:<jti>  →  user-service:{u:<id>}:RT-INDEX / user-service:{u:<id>}:RT:<jti>
+ * - 남은 TTL 을 그대로 옮기고, 새 키를 쓴 뒤에 레거시 키를 지운다 (중간에 멈춰도 다시 실행하면 이어서 처리)
+ * - 레거시 키끼리/신규 키와 slot 이 다를 수 있으므로 스크립트 없이 단일 키 명령만 사용
+ * - 이미 폐기된 세션은 옮기지 않는다
+ *   · 워터마크(전체 로그아웃/탈퇴) 이전 발급분: 레거시 키에 iat 가 없어 남은 TTL 로 역산 (RT 키 만료 = exp)
+ *   · 옮기는 사이 로그아웃/회전: 어댑터가 레거시 키를 먼저 지우므로, 새 키를 쓴 뒤 레거시 키가 없으면 되돌린다
+ * - 새 버전 배포 후 auth.refresh.key-layout-migration=true 로 1회 실행.
+ *   그 전까지는 어댑터가 레거시 키로 조회/폐기한다 (auth.refresh.legacy-key-fallback)
+ */
+@Slf4j(topic = "RefreshKeyLayoutMigrator")
+@Component
+@ConditionalOnProperty(prefix = "auth.refresh", name = "key-layout-migration", havingValue = "true")
+public class RefreshKeyLayoutMigrator implements ApplicationRunner {
+
+    private static final String LEGACY_INDEX_PATTERN = "user-service:USER:*:RT";
+    private static final int BATCH = 200;
+    private static final long PAUSE_MILLIS = 20;
+
+    private final StringRedisTemplate redis;
+    private final TokenWatermarkStore tokenWatermarkStore;
+    private final Duration refreshLifetime;
+
+    // SCAN 배치는 bulk 커넥션으로 (요청 경로 공유 커넥션과 분리)
+    public RefreshKeyLayoutMigrator(
+            @Qualifier("bulkRedisTemplate") StringRedisTemplate redis,
+            TokenWatermarkStore tokenWatermarkStore,
+            JwtProvider jwtProvider
+    ) {
+        this.redis = redis;
+        this.tokenWatermarkStore = tokenWatermarkStore;
+        this.refreshLifetime = jwtProvider.refreshTokenLifetime();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Thread.ofPlatform().name("rt-key-layout-migrator").daemon().start(this::migrateAll);
+    }
+
+    /**
+     * 레거시 인덱스가 남은 모든 유저를 옮기고 옮긴 세션 수를 돌려준다 (Cluster 에서는 마스터마다 SCAN)
+     */
+    long migrateAll() {
+        long[] done = new long[2]; // [유저, 세션]
+        ScanOptions options = ScanOptions.scanOptions().match(LEGACY_INDEX_PATTERN).count(BATCH).build();
+        try {
+            RedisKeyScanner.forEachKey(redis, options, key -> {
+                Long userId = userIdOf(key);
+                if (userId == null) {
+                    return;
+                }
+                done[1] += migrateUser(userId);
+                if (++done[0] % BATCH == 0) {
+                    Thread.sleep(PAUSE_MILLIS);
+                }
+            });
+            log.info("RT 키 레이아웃 마이그레이션 완료: 유저 {}명, 세션 {}건", done[0], done[1]);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("RT 키 레이아웃 마이그레이션 중단 (유저 {}명, 세션 {}건 처리됨)", done[0], done[1], e);
+        }
+        return done[1];
+    }
+
+    /**
+     * 한 유저의 세션을 옮기고 옮긴 건수를 돌려준다. 만료/폐기된 RT 는 옮기지 않는다
+     */
+    long migrateUser(Long userId) {
+        Set<String> jtis = redis.opsForSet().members(kLegacyUserRt(userId));
+        if (jtis == null || jtis.isEmpty()) {
+            redis.unlink(kLegacyUserRt(userId));
+            return 0;
+        }
+
+        long moved = 0;
+        List<String> legacyKeys = new ArrayList<>(jtis.size() + 1);
+        for (String jti : jtis) {
+            String legacy = kLegacyRt(jti);
+            legacyKeys.add(legacy);
+
+            long now = System.currentTimeMillis();
+            String hash = redis.opsForValue().get(legacy);
+            Long ttlMs = redis.getExpire(legacy, TimeUnit.MILLISECONDS);
+            if (hash == null || ttlMs == null || ttlMs <= 0) {
+                continue;
+            }
+            if (tokenWatermarkStore.isRevoked(userId, issuedAtOf(now, ttlMs))) {
+                continue;
+            }
+            // 이미 새 레이아웃으로 다시 발급/회전된 세션은 덮어쓰지 않음
+            redis.opsForValue().setIfAbsent(kRt(userId, jti), hash, Duration.ofMillis(ttlMs));
+            redis.opsForSet().add(kUserRt(userId), jti);
+
+            // 읽은 뒤 쓰기 전에 로그아웃/회전됐으면 레거시 키가 없다 → 방금 쓴 세션을 되돌림
+            if (!Boolean.TRUE.equals(redis.hasKey(legacy))) {
+                redis.delete(kRt(userId, jti));
+                redis.opsForSet().remove(kUserRt(userId), jti);
+                continue;
+            }
+            moved++;
+        }
+
+        // 레거시 키는 slot 이 제각각일 수 있어 하나씩 (Cluster 에서 CROSSSLOT 방지)
+        legacyKeys.add(kLegacyUserRt(userId));
+        legacyKeys.forEach(redis::unlink);
+        return moved;
+    }
+
+    /**
+     * RT 키 TTL 은 exp 까지 남은 시간으로 설정되므로 iat = (지금 + 남은 TTL) - RT 수명.
+     * now 를 조회 전에 잡아 실제보다 이르게 계산된다 (경계에서는 폐기 쪽으로)
+     */
+    Instant issuedAtOf(long nowMillis, long ttlMillis) {
+        return Instant.ofEpochMilli(nowMillis + ttlMillis).minus(refreshLifetime).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private static Long userIdOf(String legacyIndexKey) {
+        // user-service:USER:<id>:RT
+        String[] parts = legacyIndexKey.split(":");
+        if (parts.length != 4) {
+            return null;
+        }
+        try {
+            return Long.parseLong(parts[2]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
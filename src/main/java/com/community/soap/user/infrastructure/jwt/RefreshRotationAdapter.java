@@ -0,0 +1,99 @@
+package com.community.soap.user.infrastructure.jwt;
+
+import com.community.soap.common.util.AesGcmSealer;
+import com.community.soap.user.application.port.out.RefreshRotationPort;
+import com.community.soap.user.application.response.SignInResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * rJti 회전 grace 기록. 값이 PENDING 이면 회전 중, 그 외에는 회전 완료.
+ * - 완료 기록에는 새 토큰 쌍이 들어 있으므로 평문으로 두지 않고 AES-GCM 으로 암호화한다 ("v1:" + Base64(iv | 암호문))
+ * - 키: auth.refresh.grace-key (Base64, 256bit). 없으면 RT 서명 키에서 용도 라벨로 파생 (모든 노드가 같은 키)
+ * - AAD 로 rJti 를 묶어 다른 rJti 의 기록을 옮겨 붙이면 복호화되지 않는다
+ */
+@Slf4j(topic = "RefreshRotationAdapter")
+@Repository
+@ConditionalOnProperty(name = "user.state-store", havingValue = "redis", matchIfMissing = true)
+public class RefreshRotationAdapter implements RefreshRotationPort {
+
+    private static final String PREFIX = "user-service";
+    private static final String PENDING = "PENDING";
+
+    private static final String KEY_LABEL = "user-service:refresh-grace";
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final AesGcmSealer sealer;
+
+    public RefreshRotationAdapter(
+            StringRedisTemplate redis,
+            ObjectMapper objectMapper,
+            @Value("${auth.refresh.grace-key:}") String graceKeyBase64,
+            @Value("${spring.jwt.secret-refresh}") String refreshSecretBase64
+    ) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.sealer = AesGcmSealer.of(graceKeyBase64, refreshSecretBase64, KEY_LABEL);
+    }
+
+    static String kGrace(String rJti) {
+        return PREFIX + ":RT:GRACE:" + rJti;
+    }
+
+    @Override
+    public boolean tryClaim(String rJti, Duration ttl) {
+        return Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(kGrace(rJti), PENDING, ttl));
+    }
+
+    @Override
+    public void complete(String rJti, String refreshHash, SignInResponse response,
+            Duration graceTtl) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(new RefreshRotation(refreshHash, response));
+            redis.opsForValue().set(kGrace(rJti), sealer.seal(rJti, json), graceTtl);
+        } catch (JsonProcessingException e) {
+            // 기록 실패 시 대기 중인 요청은 타임아웃으로 끝난다 (회전 자체는 성공)
+            log.warn("refresh grace 기록 실패: {}", e.getOriginalMessage());
+            release(rJti);
+        } catch (GeneralSecurityException e) {
+            log.warn("refresh grace 암호화 실패: {}", e.toString());
+            release(rJti);
+        }
+    }
+
+    @Override
+    public void release(String rJti) {
+        redis.delete(kGrace(rJti));
+    }
+
+    @Override
+    public Optional<RefreshRotation> find(String rJti) {
+        String value = redis.opsForValue().get(kGrace(rJti));
+        if (value == null) {
+            return Optional.empty();
+        }
+        if (PENDING.equals(value)) {
+            return Optional.of(new RefreshRotation(null, null));
+        }
+        try {
+            return Optional.of(objectMapper.readValue(sealer.open(rJti, value), RefreshRotation.class));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            // 키 불일치/변조/형식 오류 → 기록 없음과 같게 (대기 요청은 INVALID)
+            log.warn("refresh grace 기록 복호화 실패: {}", e.toString());
+            return Optional.empty();
+        } catch (IOException e) {
+            log.warn("refresh grace 기록 파싱 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.community.soap.user.infrastructure.jwt.config;
+
+import com.community.soap.user.application.policy.RefreshRotationPolicy;
+import java.time.Duration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RefreshRotationProperties.class)
+public class RefreshRotationPolicyConfig {
+
+    @Bean
+    public RefreshRotationPolicy refreshRotationPolicy(RefreshRotationProperties p) {
+        return new RefreshRotationPolicy() {
+            public Duration graceTtl() {
+                return p.getGraceTtl();
+            }
+
+            public Duration waitTimeout() {
+                return p.getWaitTimeout();
+            }
+
+            public Duration pollInterval() {
+                return p.getPollInterval();
+            }
+        };
+    }
+}
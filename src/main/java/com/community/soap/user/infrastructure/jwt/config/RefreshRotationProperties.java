@@ -0,0 +1,29 @@
+package com.community.soap.user.infrastructure.jwt.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "auth.refresh")
+public class RefreshRotationProperties {
+
+    /**
+     * 회전 결과(grace) 보관 시간: 뒤늦게 도착한 같은 rJti 요청도 같은 토큰 쌍을 받는다
+     */
+    private Duration graceTtl = Duration.ofSeconds(10);
+    /**
+     * 다른 요청/노드의 회전 완료를 기다리는 최대 시간
+     */
+    private Duration waitTimeout = Duration.ofSeconds(2);
+    /**
+     * 다른 노드의 회전 결과 polling 시작 간격 (두 배씩 늘려 최대 8배)
+     */
+    private Duration pollInterval = Duration.ofMillis(50);
+    /**
+     * 기동 시 레거시 RT 블랙리스트 키(BL:R:*) 1회 정리 (LegacyRefreshBlacklistCleaner)
+     */
+    private boolean legacyBlacklistCleanup = false;
+}
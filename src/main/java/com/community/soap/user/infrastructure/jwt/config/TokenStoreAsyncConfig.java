@@ -0,0 +1,23 @@
+package com.community.soap.user.infrastructure.jwt.config;
+
+import com.community.soap.common.redis.LettuceConnections;
+import io.lettuce.core.api.StatefulConnection;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+@Configuration
+@ConditionalOnProperty(name = "user.state-store", havingValue = "redis", matchIfMissing = true)
+public class TokenStoreAsyncConfig {
+
+    /**
+     * 토큰 저장소 async 용 String 코덱 커넥션 1개 (스레드 안전, 모든 요청이 공유).
+     * RedisTemplate 과 같은 RedisClient/RedisClusterClient 와 ClientResources(이벤트 루프)를 재사용한다.
+     */
+    @Bean(destroyMethod = "close")
+    public StatefulConnection<String, String> tokenStoreConnection(
+            RedisConnectionFactory redisConnectionFactory) {
+        return LettuceConnections.connect(redisConnectionFactory);
+    }
+}
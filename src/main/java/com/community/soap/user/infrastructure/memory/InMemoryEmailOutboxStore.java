@@ -0,0 +1,126 @@
+package com.community.soap.user.infrastructure.memory;
+
+import com.community.soap.common.concurrent.TimerWheel;
+import com.community.soap.user.infrastructure.email.outbox.EmailOutboxMessage;
+import com.community.soap.user.infrastructure.email.outbox.EmailOutboxStore;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 단일 노드용 outbox. RedisEmailOutboxStore 와 같은 의미:
+ * - 큐 / 재시도 대기(dueAt 순). DLQ 는 조회할 곳이 없으므로 경고 로그만 남긴다 (인증 코드 원문 제외)
+ * - 멱등 키: SENDING(lease TTL) | SENT(idempotencyTtl), 만료 시각이 지나면 없는 키와 같다
+ * 적재된 메시지는 프로세스와 함께 사라진다 (인증 코드도 메모리에 있으므로 재시작 후 재요청이 필요)
+ */
+@Slf4j(topic = "InMemoryEmailOutboxStore")
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.state-store", havingValue = "memory")
+public class InMemoryEmailOutboxStore implements EmailOutboxStore {
+
+    private record Due(long dueAtMs, EmailOutboxMessage message) {
+
+    }
+
+    private record Idempotency(IdempotencyState state, long expiresAtNanos) {
+
+        boolean live(long now) {
+            return expiresAtNanos - now > 0;
+        }
+    }
+
+    private final TimerWheel wheel;
+
+    private final Deque<EmailOutboxMessage> queue = new ConcurrentLinkedDeque<>();
+    private final ConcurrentHashMap<String, EmailOutboxMessage> inflight = new ConcurrentHashMap<>();
+    private final PriorityQueue<Due> retries = new PriorityQueue<>(
+            (a, b) -> Long.compare(a.dueAtMs(), b.dueAtMs()));
+    private final ConcurrentHashMap<String, Idempotency> idempotency = new ConcurrentHashMap<>();
+    private final AtomicLong seq = new AtomicLong();
+
+    @Override
+    public void append(EmailOutboxMessage message) {
+        queue.add(message);
+    }
+
+    @Override
+    public List<Claimed> poll(int max) {
+        List<Claimed> out = new ArrayList<>();
+        EmailOutboxMessage m;
+        while (out.size() < max && (m = queue.poll()) != null) {
+            String handle = m.id() + "#" + seq.incrementAndGet();
+            inflight.put(handle, m);
+            out.add(new Claimed(handle, m));
+        }
+        return out;
+    }
+
+    @Override
+    public void ack(Claimed claimed) {
+        inflight.remove(claimed.handle());
+    }
+
+    @Override
+    public void retryLater(Claimed claimed, EmailOutboxMessage next, long dueAtMs) {
+        synchronized (retries) {
+            retries.add(new Due(dueAtMs, next));
+        }
+        inflight.remove(claimed.handle());
+    }
+
+    @Override
+    public int promoteDueRetries(long nowMs, int max) {
+        int n = 0;
+        synchronized (retries) {
+            while (n < max && !retries.isEmpty() && retries.peek().dueAtMs() <= nowMs) {
+                queue.add(retries.poll().message());
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public void deadLetter(Claimed claimed, String reason) {
+        log.warn("메일 outbox DLQ: id={}, reason={}", claimed.message().id(), reason);
+        inflight.remove(claimed.handle());
+    }
+
+    @Override
+    public IdempotencyState begin(String idempotencyKey, Duration lease) {
+        Idempotency sending = new Idempotency(IdempotencyState.IN_PROGRESS, System.nanoTime() + lease.toNanos());
+        Idempotency current = idempotency.compute(idempotencyKey,
+                (k, e) -> e != null && e.live(System.nanoTime()) ? e : sending);
+        if (current != sending) {
+            return current.state();
+        }
+        expireLater(idempotencyKey, sending);
+        return IdempotencyState.ACQUIRED;
+    }
+
+    @Override
+    public void markSent(String idempotencyKey, Duration ttl) {
+        Idempotency sent = new Idempotency(IdempotencyState.ALREADY_SENT, System.nanoTime() + ttl.toNanos());
+        idempotency.put(idempotencyKey, sent);
+        expireLater(idempotencyKey, sent);
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        idempotency.remove(idempotencyKey);
+    }
+
+    private void expireLater(String idempotencyKey, Idempotency entry) {
+        wheel.schedule(entry.expiresAtNanos(), () -> idempotency.remove(idempotencyKey, entry));
+    }
+}
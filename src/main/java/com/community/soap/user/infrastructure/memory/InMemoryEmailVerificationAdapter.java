@@ -0,0 +1,154 @@
+package com.community.soap.user.infrastructure.memory;
+
+import com.community.soap.common.concurrent.TimerWheel;
+import com.community.soap.user.application.port.out.EmailVerificationRepositoryPort;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 단일 노드용 이메일 인증 상태 저장소. EmailVerificationRepositoryAdapter(EV 해시 + 필드 TTL)와 같은 의미:
+ * - 이메일 하나의 상태는 compute 안에서만 읽고 바꾼다 (Lua 스크립트 1회 호출과 같은 원자성)
+ * - 필드마다 만료 시각을 두고, 모든 필드가 만료되면 항목을 지운다
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.state-store", havingValue = "memory")
+public class InMemoryEmailVerificationAdapter implements EmailVerificationRepositoryPort {
+
+    private final TimerWheel wheel;
+    private final ConcurrentHashMap<String, State> states = new ConcurrentHashMap<>();
+
+    @Override
+    public CodeRequestResult requestCode(String email, String codeHash, Duration codeTtl,
+            Duration cooltime) {
+        CodeRequestResult[] result = new CodeRequestResult[1];
+        update(email, s -> {
+            long now = System.nanoTime();
+            if (s.alive(s.blockUntil, now)) {
+                result[0] = CodeRequestResult.BLOCKED;
+            } else if (s.alive(s.coolUntil, now)) {
+                result[0] = CodeRequestResult.IN_COOLTIME;
+            } else {
+                s.code = codeHash;
+                s.codeUntil = now + codeTtl.toNanos();
+                s.coolUntil = now + cooltime.toNanos();
+                result[0] = CodeRequestResult.ISSUED;
+            }
+        });
+        return result[0];
+    }
+
+    @Override
+    public CodeVerifyResult verifyCode(String email, String inputHash, Duration attemptsWindow,
+            long maxAttempts, Duration blockTtl, Duration verifiedTtl) {
+        CodeVerifyResult[] result = new CodeVerifyResult[1];
+        update(email, s -> {
+            long now = System.nanoTime();
+            if (s.alive(s.blockUntil, now)) {
+                result[0] = CodeVerifyResult.BLOCKED;
+            } else if (!s.alive(s.codeUntil, now)) {
+                result[0] = CodeVerifyResult.NOT_REQUESTED;
+            } else if (!s.code.equals(inputHash)) {
+                // 첫 실패에만 창(window) TTL 을 건다 (이후 실패는 TTL 유지)
+                if (!s.alive(s.attemptsUntil, now)) {
+                    s.attempts = 0;
+                    s.attemptsUntil = now + attemptsWindow.toNanos();
+                }
+                if (++s.attempts >= maxAttempts) {
+                    s.blockUntil = now + blockTtl.toNanos();
+                    s.clearCode();
+                }
+                result[0] = CodeVerifyResult.MISMATCH;
+            } else {
+                s.clearCode();
+                s.attempts = 0;
+                s.attemptsUntil = State.NONE;
+                s.verifiedUntil = now + verifiedTtl.toNanos();
+                result[0] = CodeVerifyResult.VERIFIED;
+            }
+        });
+        return result[0];
+    }
+
+    @Override
+    public boolean isVerified(String email) {
+        boolean[] verified = new boolean[1];
+        states.computeIfPresent(email, (k, s) -> {
+            long now = System.nanoTime();
+            verified[0] = s.alive(s.verifiedUntil, now);
+            return s.isEmpty(now) ? null : s;
+        });
+        return verified[0];
+    }
+
+    @Override
+    public void clearVerified(String email) {
+        states.computeIfPresent(email, (k, s) -> {
+            s.verifiedUntil = State.NONE;
+            return s.isEmpty(System.nanoTime()) ? null : s;
+        });
+    }
+
+    private void update(String email, Consumer<State> mutation) {
+        long[] latest = new long[1];
+        states.compute(email, (k, s) -> {
+            State state = s == null ? new State() : s;
+            mutation.accept(state);
+            long now = System.nanoTime();
+            if (state.isEmpty(now)) {
+                return null;
+            }
+            latest[0] = state.latestDeadline();
+            return state;
+        });
+        if (latest[0] != State.NONE) {
+            wheel.schedule(latest[0], () -> states.computeIfPresent(email,
+                    (k, s) -> s.isEmpty(System.nanoTime()) ? null : s));
+        }
+    }
+
+    /**
+     * 한 이메일의 필드들 (EV 해시의 code / attempts / cool / block / verified).
+     * 만료 시각 NONE 은 필드 없음. states 의 compute 안에서만 접근한다
+     */
+    static final class State {
+
+        static final long NONE = 0L;
+
+        String code;
+        long codeUntil = NONE;
+        long attempts;
+        long attemptsUntil = NONE;
+        long coolUntil = NONE;
+        long blockUntil = NONE;
+        long verifiedUntil = NONE;
+
+        boolean alive(long until, long now) {
+            return until != NONE && until - now > 0;
+        }
+
+        void clearCode() {
+            code = null;
+            codeUntil = NONE;
+        }
+
+        boolean isEmpty(long now) {
+            return !alive(codeUntil, now) && !alive(attemptsUntil, now) && !alive(coolUntil, now)
+                    && !alive(blockUntil, now) && !alive(verifiedUntil, now);
+        }
+
+        long latestDeadline() {
+            long latest = NONE;
+            for (long until : new long[]{codeUntil, attemptsUntil, coolUntil, blockUntil, verifiedUntil}) {
+                if (until != NONE && (latest == NONE || until - latest > 0)) {
+                    latest = until;
+                }
+            }
+            return latest;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.community.soap.user.infrastructure.memory;
+
+import com.community.soap.common.concurrent.TimerWheel;
+import com.community.soap.user.application.port.out.RefreshRotationPort;
+import com.community.soap.user.application.response.SignInResponse;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 단일 노드용 rJti 회전 grace 기록. RefreshRotationAdapter(SET NX + TTL)와 같은 의미:
+ * - 회전 중이면 PENDING(결과 없음), 완료되면 새 토큰 쌍
+ * - 프로세스 밖으로 나가지 않으므로 암호화하지 않는다
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.state-store", havingValue = "memory")
+public class InMemoryRefreshRotationAdapter implements RefreshRotationPort {
+
+    private static final RefreshRotation PENDING = new RefreshRotation(null, null);
+
+    private record Entry(RefreshRotation rotation, long expiresAtNanos) {
+
+        boolean live(long now) {
+            return expiresAtNanos - now > 0;
+        }
+    }
+
+    private final TimerWheel wheel;
+    private final ConcurrentHashMap<String, Entry> records = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryClaim(String rJti, Duration ttl) {
+        Entry claim = new Entry(PENDING, System.nanoTime() + ttl.toNanos());
+        Entry current = records.compute(rJti, (k, e) -> e != null && e.live(System.nanoTime()) ? e : claim);
+        if (current != claim) {
+            return false;
+        }
+        expireLater(rJti, claim);
+        return true;
+    }
+
+    @Override
+    public void complete(String rJti, String refreshHash, SignInResponse response, Duration graceTtl) {
+        Entry done = new Entry(new RefreshRotation(refreshHash, response), System.nanoTime() + graceTtl.toNanos());
+        records.put(rJti, done);
+        expireLater(rJti, done);
+    }
+
+    @Override
+    public void release(String rJti) {
+        records.remove(rJti);
+    }
+
+    @Override
+    public Optional<RefreshRotation> find(String rJti) {
+        Entry e = records.get(rJti);
+        return e != null && e.live(System.nanoTime()) ? Optional.of(e.rotation()) : Optional.empty();
+    }
+
+    private void expireLater(String rJti, Entry entry) {
+        wheel.schedule(entry.expiresAtNanos(), () -> records.remove(rJti, entry));
+    }
+}
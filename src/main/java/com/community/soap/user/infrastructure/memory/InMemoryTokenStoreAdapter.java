@@ -0,0 +1,216 @@
+package com.community.soap.user.infrastructure.memory;
+
+import com.community.soap.common.concurrent.TimerWheel;
+import com.community.soap.user.application.port.out.TokenRepositoryPort;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 단일 노드용 토큰 저장소 (Redis 없이 JVM 메모리). JwtTokenStoreAdapter 와 같은 의미:
+ * - RT 해시 / AT 블랙리스트는 TTL 이 지나면 조회되지 않고, 휠이 나중에 메모리에서 회수
+ * - 유저-세션 인덱스는 불변 Set 을 compute 로 교체 → pop-all 은 remove 한 번으로 원자적
+ * - 블랙리스트는 살아 있는 항목이 있으면 TTL 을 연장하지 않음 (SET NX)
+ * - jti 는 전역 유일이라 RT 맵은 jti 로만 찾고, 유저 단위 폐기/회전은 해당 유저 인덱스의 compute 안에서 처리해 원자적
+ *   (회전은 compute 안에서 이전 해시를 비교)
+ * 재시작하면 모든 세션이 사라지므로 여러 인스턴스/무중단 배포 환경에서는 쓰지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.state-store", havingValue = "memory")
+public class InMemoryTokenStoreAdapter implements TokenRepositoryPort {
+
+    private final TimerWheel wheel;
+
+    private final ConcurrentHashMap<String, Expiring> refreshTokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<String>> userIndex = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Expiring> accessBlacklist = new ConcurrentHashMap<>();
+
+    record Expiring(String value, long deadlineNanos) {
+
+        boolean expired(long now) {
+            return now - deadlineNanos >= 0;
+        }
+    }
+
+    @Override
+    public void saveRefreshToken(String jti, Long userId, String refreshTokenHash, long ttlMillis) {
+        put(refreshTokens, jti, refreshTokenHash, ttlMillis);
+        addUserRefreshIndex(userId, jti);
+    }
+
+    @Override
+    public Optional<String> getRefreshTokenHashByJti(Long userId, String jti) {
+        return Optional.ofNullable(live(refreshTokens, jti)).map(Expiring::value);
+    }
+
+    @Override
+    public void deleteRefreshTokenByJti(Long userId, String jti) {
+        refreshTokens.remove(jti);
+    }
+
+    @Override
+    public void revokeRefreshToken(Long userId, String jti) {
+        userIndex.compute(userId, (k, set) -> {
+            refreshTokens.remove(jti);
+            return set == null ? null : without(set, jti);
+        });
+    }
+
+    @Override
+    public boolean rotateRefreshToken(Long userId, String oldJti, String expectedHash, String newJti,
+            String newRefreshTokenHash, long ttlMillis) {
+        long deadline = deadline(ttlMillis);
+        boolean[] rotated = {false};
+        userIndex.compute(userId, (k, set) -> {
+            // 조회 후 폐기/회전됐으면 그대로 둔다 (remove(key, value): 인덱스 밖 단건 삭제와도 경쟁하지 않음)
+            Expiring current = live(refreshTokens, oldJti);
+            if (current == null || !current.value().equals(expectedHash)
+                    || !refreshTokens.remove(oldJti, current)) {
+                return set;
+            }
+            refreshTokens.put(newJti, new Expiring(newRefreshTokenHash, deadline));
+            rotated[0] = true;
+            Set<String> rest = set == null ? null : without(set, oldJti);
+            return with(rest, newJti);
+        });
+        if (rotated[0]) {
+            scheduleEviction(refreshTokens, newJti, deadline);
+        }
+        return rotated[0];
+    }
+
+    @Override
+    public void addUserRefreshIndex(Long userId, String jti) {
+        userIndex.compute(userId, (k, set) -> with(set, jti));
+    }
+
+    @Override
+    public Set<String> getUserRefreshJtis(Long userId) {
+        return userIndex.getOrDefault(userId, Collections.emptySet());
+    }
+
+    @Override
+    public void removeUserRefreshIndex(Long userId, String jti) {
+        userIndex.computeIfPresent(userId, (k, set) -> without(set, jti));
+    }
+
+    @Override
+    public void deleteAllRefreshTokensOfUser(Long userId) {
+        mdeleteRefreshTokensByJtis(userId, popAllUserRefreshJtis(userId));
+    }
+
+    @Override
+    public void blacklistAccessJti(String jti, long ttlMillis) {
+        long deadline = deadline(ttlMillis);
+        Expiring fresh = new Expiring("1", deadline);
+        Expiring result = accessBlacklist.compute(jti,
+                (k, old) -> old != null && !old.expired(System.nanoTime()) ? old : fresh);
+        if (result == fresh) {
+            scheduleEviction(accessBlacklist, jti, deadline);
+        }
+    }
+
+    @Override
+    public boolean isAccessJtiBlacklisted(String jti) {
+        return live(accessBlacklist, jti) != null;
+    }
+
+    @Override
+    public boolean hasUserRefreshJti(Long userId, String jti) {
+        return getUserRefreshJtis(userId).contains(jti);
+    }
+
+    @Override
+    public Optional<Duration> getRefreshTokenTtl(Long userId, String jti) {
+        return ttlOf(live(refreshTokens, jti));
+    }
+
+    @Override
+    public Optional<Duration> getAccessBlacklistTtl(String jti) {
+        return ttlOf(live(accessBlacklist, jti));
+    }
+
+    @Override
+    public Set<String> popAllUserRefreshJtis(Long userId) {
+        Set<String> members = userIndex.remove(userId);
+        return members == null ? Collections.emptySet() : new LinkedHashSet<>(members);
+    }
+
+    @Override
+    public void mdeleteRefreshTokensByJtis(Long userId, Set<String> rJtis) {
+        if (rJtis == null) {
+            return;
+        }
+        rJtis.forEach(refreshTokens::remove);
+    }
+
+    private void put(ConcurrentHashMap<String, Expiring> map, String key, String value, long ttlMillis) {
+        long deadline = deadline(ttlMillis);
+        map.put(key, new Expiring(value, deadline));
+        scheduleEviction(map, key, deadline);
+    }
+
+    // Redis 와 마찬가지로 0 이하 TTL 은 거부
+    private static long deadline(long ttlMillis) {
+        if (ttlMillis <= 0) {
+            throw new IllegalArgumentException("invalid expire time: " + ttlMillis);
+        }
+        return System.nanoTime() + ttlMillis * 1_000_000L;
+    }
+
+    private void scheduleEviction(ConcurrentHashMap<String, Expiring> map, String key, long deadline) {
+        // 그 사이 새 값으로 덮였으면 그 값의 만료 시각까지 남겨 둔다
+        wheel.schedule(deadline, () -> map.computeIfPresent(key,
+                (k, v) -> v.expired(System.nanoTime()) ? null : v));
+    }
+
+    private static Expiring live(ConcurrentHashMap<String, Expiring> map, String key) {
+        Expiring e = map.get(key);
+        if (e == null) {
+            return null;
+        }
+        if (e.expired(System.nanoTime())) {
+            map.remove(key, e);
+            return null;
+        }
+        return e;
+    }
+
+    private static Optional<Duration> ttlOf(Expiring e) {
+        if (e == null) {
+            return Optional.empty();
+        }
+        long remaining = e.deadlineNanos() - System.nanoTime();
+        return remaining <= 0 ? Optional.empty() : Optional.of(Duration.ofMillis(remaining / 1_000_000L));
+    }
+
+    private static Set<String> with(Set<String> set, String jti) {
+        if (set == null) {
+            return Set.of(jti);
+        }
+        if (set.contains(jti)) {
+            return set;
+        }
+        Set<String> copy = new HashSet<>(set);
+        copy.add(jti);
+        return Set.copyOf(copy);
+    }
+
+    // 비면 null → 키 삭제 (Redis 빈 SET 과 동일)
+    private static Set<String> without(Set<String> set, String jti) {
+        if (!set.contains(jti)) {
+            return set;
+        }
+        Set<String> copy = new HashSet<>(set);
+        copy.remove(jti);
+        return copy.isEmpty() ? null : Set.copyOf(copy);
+    }
+}
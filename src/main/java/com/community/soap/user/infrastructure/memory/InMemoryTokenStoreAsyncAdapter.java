@@ -0,0 +1,91 @@
+package com.community.soap.user.infrastructure.memory;
+
+import com.community.soap.user.application.port.out.TokenRepositoryAsyncPort;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 인메모리 저장소는 I/O 가 없으므로 호출 스레드에서 바로 실행하고 완료된 stage 를 돌려준다
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.state-store", havingValue = "memory")
+public class InMemoryTokenStoreAsyncAdapter implements TokenRepositoryAsyncPort {
+
+    private final InMemoryTokenStoreAdapter store;
+
+    @Override
+    public CompletionStage<Void> saveRefreshToken(
+            String jti,
+            Long userId,
+            String refreshTokenHash,
+            long ttlMillis
+    ) {
+        return run(() -> store.saveRefreshToken(jti, userId, refreshTokenHash, ttlMillis));
+    }
+
+    @Override
+    public CompletionStage<Optional<String>> getRefreshTokenHashByJti(Long userId, String jti) {
+        return CompletableFuture.completedFuture(store.getRefreshTokenHashByJti(userId, jti));
+    }
+
+    @Override
+    public CompletionStage<Void> deleteRefreshTokenByJti(Long userId, String jti) {
+        return run(() -> store.deleteRefreshTokenByJti(userId, jti));
+    }
+
+    @Override
+    public CompletionStage<Void> revokeRefreshToken(Long userId, String jti) {
+        return run(() -> store.revokeRefreshToken(userId, jti));
+    }
+
+    @Override
+    public CompletionStage<Boolean> rotateRefreshToken(
+            Long userId,
+            String oldJti,
+            String expectedHash,
+            String newJti,
+            String newRefreshTokenHash,
+            long ttlMillis
+    ) {
+        try {
+            return CompletableFuture.completedFuture(
+                    store.rotateRefreshToken(userId, oldJti, expectedHash, newJti, newRefreshTokenHash, ttlMillis));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletionStage<Boolean> hasUserRefreshJti(Long userId, String jti) {
+        return CompletableFuture.completedFuture(store.hasUserRefreshJti(userId, jti));
+    }
+
+    @Override
+    public CompletionStage<Void> removeUserRefreshIndex(Long userId, String jti) {
+        return run(() -> store.removeUserRefreshIndex(userId, jti));
+    }
+
+    @Override
+    public CompletionStage<Void> blacklistAccessJti(String jti, long ttlMillis) {
+        return run(() -> store.blacklistAccessJti(jti, ttlMillis));
+    }
+
+    @Override
+    public CompletionStage<Boolean> isAccessJtiBlacklisted(String jti) {
+        return CompletableFuture.completedFuture(store.isAccessJtiBlacklisted(jti));
+    }
+
+    private static CompletionStage<Void> run(Runnable action) {
+        try {
+            action.run();
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.community.soap.user.infrastructure.memory;
+
+import com.community.soap.user.application.port.out.UserPurgeCursorPort;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 단일 노드용 purge 커서/락. UserPurgeCursorAdapter 와 같은 의미 (락 소유자만 커서를 바꾸고 TTL 을 연장)
+ * 노드가 하나라 락은 같은 노드의 겹친 실행만 막는다. 커서는 재시작하면 처음부터 (대상 조회가 멱등)
+ */
+@Repository
+@ConditionalOnProperty(name = "user.state-store", havingValue = "memory")
+public class InMemoryUserPurgeCursorAdapter implements UserPurgeCursorPort {
+
+    private Long cursor;
+    private String owner;
+    private long lockExpiresAtNanos;
+
+    @Override
+    public synchronized Optional<Long> loadCursor() {
+        return Optional.ofNullable(cursor);
+    }
+
+    @Override
+    public synchronized boolean saveCursor(String owner, Long lastUserId) {
+        if (!holds(owner)) {
+            return false;
+        }
+        cursor = lastUserId;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean clearCursor(String owner) {
+        if (!holds(owner)) {
+            return false;
+        }
+        cursor = null;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean tryLock(String owner, Duration ttl) {
+        if (this.owner != null && holds(this.owner)) {
+            return false;
+        }
+        this.owner = owner;
+        this.lockExpiresAtNanos = System.nanoTime() + ttl.toNanos();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean renewLock(String owner, Duration ttl) {
+        if (!holds(owner)) {
+            return false;
+        }
+        lockExpiresAtNanos = System.nanoTime() + ttl.toNanos();
+        return true;
+    }
+
+    @Override
+    public synchronized void unlock(String owner) {
+        if (Objects.equals(this.owner, owner)) {
+            this.owner = null;
+        }
+    }
+
+    private boolean holds(String owner) {
+        return Objects.equals(this.owner, owner) && lockExpiresAtNanos - System.nanoTime() > 0;
+    }
+}
@@ -0,0 +1,20 @@
+package com.community.soap.user.infrastructure.memory.config;
+
+import com.community.soap.common.concurrent.TimerWheel;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "user.state-store", havingValue = "memory")
+public class InMemoryStoreConfig {
+
+    /**
+     * 인메모리 저장소 만료 항목 회수용 휠 (100ms tick, 한 바퀴 약 102초)
+     */
+    @Bean(destroyMethod = "close")
+    public TimerWheel stateStoreTimerWheel() {
+        return new TimerWheel("state-store", Duration.ofMillis(100), 1024);
+    }
+}
@@ -0,0 +1,85 @@
+package com.community.soap.user.infrastructure.purge;
+
+import com.community.soap.user.application.port.out.UserPurgeCursorPort;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user.state-store", havingValue = "redis", matchIfMissing = true)
+public class UserPurgeCursorAdapter implements UserPurgeCursorPort {
+
+    private static final String PREFIX = "user-service";
+    // 커서 전진 스크립트가 락과 커서를 함께 다루므로 같은 hash tag (Cluster 에서 한 slot)
+    private static final String CURSOR_KEY = PREFIX + ":{PURGE:USER}:cursor";
+    private static final String LOCK_KEY = PREFIX + ":{PURGE:USER}:lock";
+
+    // 소유자가 일치할 때만 락 해제
+    private static final RedisScript<Long> UNLOCK = RedisScript.of(
+            "if redis.call('GET',KEYS[1])==ARGV[1] then return redis.call('DEL',KEYS[1]) end return 0",
+            Long.class);
+
+    // 소유자가 일치할 때만 락 TTL 연장
+    private static final RedisScript<Long> RENEW = RedisScript.of(
+            "if redis.call('GET',KEYS[1])==ARGV[1] then return redis.call('PEXPIRE',KEYS[1],ARGV[2]) end return 0",
+            Long.class);
+
+    // KEYS: lock, cursor / ARGV: owner, cursor('' 면 삭제) → 락을 잃었으면 0 (커서 그대로)
+    private static final RedisScript<Long> ADVANCE = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end
+            if ARGV[2] == '' then redis.call('DEL', KEYS[2]) else redis.call('SET', KEYS[2], ARGV[2]) end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redis;
+
+    @Override
+    public Optional<Long> loadCursor() {
+        String v = redis.opsForValue().get(CURSOR_KEY);
+        if (v == null || v.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Long.parseLong(v));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean saveCursor(String owner, Long lastUserId) {
+        return advance(owner, String.valueOf(lastUserId));
+    }
+
+    @Override
+    public boolean clearCursor(String owner) {
+        return advance(owner, "");
+    }
+
+    private boolean advance(String owner, String cursor) {
+        Long r = redis.execute(ADVANCE, List.of(LOCK_KEY, CURSOR_KEY), owner, cursor);
+        return r != null && r == 1L;
+    }
+
+    @Override
+    public boolean tryLock(String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redis.opsForValue().setIfAbsent(LOCK_KEY, owner, ttl));
+    }
+
+    @Override
+    public boolean renewLock(String owner, Duration ttl) {
+        Long r = redis.execute(RENEW, List.of(LOCK_KEY), owner, Long.toString(ttl.toMillis()));
+        return r != null && r == 1L;
+    }
+
+    @Override
+    public void unlock(String owner) {
+        redis.execute(UNLOCK, List.of(LOCK_KEY), owner);
+    }
+}
@@ -0,0 +1,30 @@
+package com.community.soap.user.infrastructure.purge;
+
+import com.community.soap.user.application.port.in.UserPurgeUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j(topic = "UserPurgeScheduler")
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "user.purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UserPurgeScheduler {
+
+    private final UserPurgeUseCase userPurgeUseCase;
+
+    @Scheduled(cron = "${user.purge.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void purge() {
+        try {
+            long purged = userPurgeUseCase.purgeSoftDeletedUsers();
+            if (purged > 0) {
+                log.info("soft-delete 회원 purge 완료: {}건", purged);
+            }
+        } catch (Exception e) {
+            // 다음 실행에서 커서부터 재개
+            log.error("soft-delete 회원 purge 실패", e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.community.soap.user.infrastructure.purge.config;
+
+import com.community.soap.user.application.policy.UserPurgePolicy;
+import java.time.Duration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(UserPurgeProperties.class)
+public class UserPurgePolicyConfig {
+
+    @Bean
+    public UserPurgePolicy userPurgePolicy(UserPurgeProperties p) {
+        return new UserPurgePolicy() {
+            public Duration retention() {
+                return p.getRetention();
+            }
+
+            public int chunkSize() {
+                return p.getChunkSize();
+            }
+
+            public Duration throttle() {
+                return p.getThrottle();
+            }
+
+            public int maxChunksPerRun() {
+                return p.getMaxChunksPerRun();
+            }
+
+            public Duration chunkTimeout() {
+                return p.getChunkTimeout();
+            }
+
+            public Duration lockTtl() {
+                return p.getLockTtl();
+            }
+        };
+    }
+}
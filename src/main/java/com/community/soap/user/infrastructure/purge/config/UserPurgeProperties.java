@@ -0,0 +1,45 @@
+package com.community.soap.user.infrastructure.purge.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "user.purge")
+public class UserPurgeProperties {
+
+    /**
+     * 스케줄러 사용 여부
+     */
+    private boolean enabled = true;
+    /**
+     * 실행 주기 (cron)
+     */
+    private String cron = "0 30 4 * * *";
+    /**
+     * soft-delete 후 보존 기간
+     */
+    private Duration retention = Duration.ofDays(30);
+    /**
+     * 청크(트랜잭션) 당 삭제 건수
+     */
+    private int chunkSize = 500;
+    /**
+     * 청크 사이 대기 시간
+     */
+    private Duration throttle = Duration.ofMillis(200);
+    /**
+     * 실행당 최대 청크 수 (초과분은 다음 실행에서 커서부터 재개)
+     */
+    private int maxChunksPerRun = 200;
+    /**
+     * 청크 트랜잭션 타임아웃
+     */
+    private Duration chunkTimeout = Duration.ofSeconds(10);
+    /**
+     * 다중 인스턴스 실행 방지 락 TTL (실행 시간보다 길게)
+     */
+    private Duration lockTtl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,125 @@
+package com.community.soap.common.aop;
+
+import static com.community.soap.common.util.AuthKeys.ATTR_USER_ROLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.community.soap.common.exception.AppException;
+import com.community.soap.common.exception.CommonErrorCode;
+import com.community.soap.user.domain.entity.UserRole;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class PermissionInterceptorTest {
+
+    static class SampleController {
+
+        @Permission(UserRole.ADMIN)
+        public void adminOnly() {
+        }
+
+        @Permission
+        public void anyone() {
+        }
+
+        public void open() {
+        }
+    }
+
+    SampleController controller = new SampleController();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void checksCompiledRoles() throws Exception {
+        // given
+        PermissionInterceptor interceptor = compiledInterceptor();
+        HandlerMethod adminOnly = new HandlerMethod(controller, "adminOnly");
+
+        // when & then
+        assertThat(interceptor.preHandle(request(UserRole.ADMIN), response, adminOnly)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(request(UserRole.USER), response, adminOnly))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode")
+                .isEqualTo(CommonErrorCode.FORBIDDEN);
+    }
+
+    @Test
+    void requiresRoleAttribute() throws Exception {
+        // given
+        PermissionInterceptor interceptor = compiledInterceptor();
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preHandle(
+                new MockHttpServletRequest(), response, new HandlerMethod(controller, "anyone")))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode")
+                .isEqualTo(CommonErrorCode.UNAUTHORIZED);
+        assertThat(interceptor.preHandle(
+                new MockHttpServletRequest(), response, new HandlerMethod(controller, "open")))
+                .isTrue();
+    }
+
+    @Test
+    void compiledCheckDoesNotAllocate() throws Exception {
+        // given
+        PermissionInterceptor interceptor = compiledInterceptor();
+        HandlerMethod handler = new HandlerMethod(controller, "anyone");
+        Permission permission = handler.getMethodAnnotation(Permission.class);
+        MockHttpServletRequest request = request(UserRole.USER);
+        int repeatCount = 100_000;
+
+        com.sun.management.ThreadMXBean mx =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().threadId();
+        for (int i = 0; i < repeatCount; i++) { // warm-up
+            legacyCheck(permission, request);
+            interceptor.preHandle(request, response, handler);
+        }
+
+        // when
+        long bytes = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < repeatCount; i++) {
+            legacyCheck(permission, request);
+        }
+        long legacyBytes = mx.getThreadAllocatedBytes(tid) - bytes;
+
+        bytes = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < repeatCount; i++) {
+            interceptor.preHandle(request, response, handler);
+        }
+        long compiledBytes = mx.getThreadAllocatedBytes(tid) - bytes;
+
+        // then: 기존 방식은 호출마다 stream + HashSet 을 만들고, 테이블 조회는 할당하지 않음
+        assertThat(compiledBytes / repeatCount).isZero();
+        assertThat(legacyBytes / repeatCount).isPositive();
+    }
+
+    // 기존 PermissionAspect 의 호출당 작업 (AOP 프록시 비용은 제외)
+    private void legacyCheck(Permission permission, MockHttpServletRequest request) {
+        Set<UserRole> allowed = Arrays.stream(permission.value()).collect(Collectors.toSet());
+        if (!allowed.contains((UserRole) request.getAttribute(ATTR_USER_ROLE))) {
+            throw new AppException(CommonErrorCode.FORBIDDEN);
+        }
+    }
+
+    private PermissionInterceptor compiledInterceptor() {
+        return new PermissionInterceptor(PermissionInterceptor.compile(List.of(
+                new HandlerMethod(controller, "adminOnly"),
+                new HandlerMethod(controller, "anyone"),
+                new HandlerMethod(controller, "open")
+        )));
+    }
+
+    private MockHttpServletRequest request(UserRole role) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(ATTR_USER_ROLE, role);
+        return request;
+    }
+}
@@ -0,0 +1,109 @@
+package com.community.soap.common.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void concurrentCallersShareOneExecution() throws ExecutionException, InterruptedException {
+        // given
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 10;
+
+        // when
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            futures.add(executorService.submit(() -> singleFlight.execute(
+                    "rJti", Duration.ofSeconds(5),
+                    () -> {
+                        loaderCalls.incrementAndGet();
+                        await(release);
+                        return "new-token-pair";
+                    },
+                    IllegalStateException::new)));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        // then
+        for (Future<String> future : futures) {
+            assertThat(future.get()).isEqualTo("new-token-pair");
+        }
+        assertThat(loaderCalls.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+
+        executorService.shutdown();
+    }
+
+    @Test
+    void followerTimesOutWithGivenException() throws InterruptedException {
+        // given
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executorService.submit(() -> singleFlight.execute("rJti", Duration.ofSeconds(5), () -> {
+            started.countDown();
+            await(release);
+            return "slow";
+        }, IllegalStateException::new));
+        started.await();
+
+        // when & then
+        assertThatThrownBy(() -> singleFlight.execute("rJti", Duration.ofMillis(50),
+                () -> "follower", () -> new IllegalArgumentException("timeout")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        release.countDown();
+        executorService.shutdown();
+    }
+
+    @Test
+    void followerWithDifferentFingerprintDoesNotGetLeaderResult() throws Exception {
+        // given: leader 가 "hash-a" 로 실행 중
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executorService.submit(() -> singleFlight.execute("rJti", "hash-a",
+                Duration.ofSeconds(5), () -> {
+                    started.countDown();
+                    await(release);
+                    return "new-token-pair";
+                }, IllegalStateException::new, IllegalStateException::new));
+        started.await();
+
+        // when & then: 같은 key, 다른 fingerprint 는 결과를 기다리지 않고 거절
+        assertThatThrownBy(() -> singleFlight.execute("rJti", "hash-b", Duration.ofSeconds(5),
+                () -> "follower", IllegalStateException::new, () -> new IllegalArgumentException("mismatch")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("mismatch");
+
+        release.countDown();
+        assertThat(leader.get()).isEqualTo("new-token-pair");
+        assertThat(singleFlight.inFlightCount()).isZero();
+        executorService.shutdown();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.community.soap.common.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.jwt.JwtErrorCode;
+import com.community.soap.common.jwt.TokenException;
+import java.lang.management.ManagementFactory;
+import org.junit.jupiter.api.Test;
+
+class AppExceptionTest {
+
+    @Test
+    void clientErrorIsStackless() {
+        // given & when
+        TokenException ex = new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN);
+
+        // then
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(ex.getMessage()).isEqualTo(JwtErrorCode.INVALID_BEARER_TOKEN.getMessage());
+    }
+
+    @Test
+    void serverErrorKeepsStackTrace() {
+        // given & when
+        AppException ex = new AppException(CommonErrorCode.INTERNAL_SERVER_ERROR);
+        AppException withCause = new AppException(CommonErrorCode.INVALID_TOKEN,
+                new IllegalStateException("cause"));
+
+        // then
+        assertThat(ex.getStackTrace()).isNotEmpty();
+        assertThat(withCause.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void stacklessCreationAllocatesLess() {
+        // given
+        int repeatCount = 10_000;
+        long sink = 0;
+        com.sun.management.ThreadMXBean mx =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().threadId();
+
+        // when
+        long bytes = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < repeatCount; i++) {
+            sink += new AppException(CommonErrorCode.INTERNAL_SERVER_ERROR).hashCode();
+        }
+        long stackfulBytes = mx.getThreadAllocatedBytes(tid) - bytes;
+
+        bytes = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < repeatCount; i++) {
+            sink += new TokenException(JwtErrorCode.INVALID_BEARER_TOKEN).hashCode();
+        }
+        long stacklessBytes = mx.getThreadAllocatedBytes(tid) - bytes;
+
+        // then: fillInStackTrace 를 건너뛰면 backtrace 배열을 만들지 않음
+        assertThat(stacklessBytes / repeatCount)
+                .as("stackful = %d B/op, stackless = %d B/op (%d)",
+                        stackfulBytes / repeatCount, stacklessBytes / repeatCount, sink & 1)
+                .isLessThan(stackfulBytes / repeatCount);
+    }
+}
@@ -0,0 +1,128 @@
+package com.community.soap.common.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.jwt.JwtErrorCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.management.ManagementFactory;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ErrorResponseWriterTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    ErrorResponseWriter writer = new ErrorResponseWriter(objectMapper, new DefaultListableBeanFactory());
+
+    @Test
+    void writesPreEncodedBody() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/\"회원\"\\me");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        writer.write(request, response, JwtErrorCode.EXPIRED_TOKEN);
+
+        // then
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(body.get("status").asInt()).isEqualTo(401);
+        assertThat(body.get("error").asText()).isEqualTo("Unauthorized");
+        assertThat(body.get("code").asText()).isEqualTo("EXPIRED_TOKEN");
+        assertThat(body.get("message").asText()).isEqualTo(JwtErrorCode.EXPIRED_TOKEN.getMessage());
+        assertThat(body.get("path").asText()).isEqualTo("/api/v1/\"회원\"\\me");
+        assertThat(OffsetDateTime.parse(body.get("timestamp").asText())).isNotNull();
+        assertThat(body.has("data")).isFalse();
+    }
+
+    @Test
+    void sizesBodyExactlyForLongAndMultibytePaths() throws Exception {
+        // given: 제어 문자, 2/3/4바이트 문자, 짝 없는 surrogate 가 섞인 긴 URI
+        String path = "/api/v1/" + "é회\t😀\"".repeat(1_000) + "\uD800";
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        writer.write(request, response, JwtErrorCode.EXPIRED_TOKEN);
+
+        // then
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(body.get("path").asText()).isEqualTo(path.substring(0, path.length() - 1) + "?");
+    }
+
+    @Test
+    void writesFieldErrorsInSameFormat() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/signup");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        writer.write(request, response, CommonErrorCode.INVALID_INPUT_VALUE,
+                List.of(ApiErrorResponse.FieldError.of("email", "형식 오류")));
+
+        // then
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(body.get("code").asText()).isEqualTo("INVALID_INPUT_VALUE");
+        assertThat(body.get("path").asText()).isEqualTo("/api/v1/auth/signup");
+        assertThat(body.get("data").get(0).get("field").asText()).isEqualTo("email");
+    }
+
+    @Test
+    void preEncodedBodyAllocatesLess() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        com.sun.management.ThreadMXBean mx =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().threadId();
+        int repeatCount = 20_000;
+
+        for (int i = 0; i < repeatCount / 10; i++) {
+            legacyWrite(request, response);
+            writer.write(request, response, JwtErrorCode.INVALID_BEARER_TOKEN);
+        }
+
+        // when
+        long bytes = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < repeatCount; i++) {
+            legacyWrite(request, response);
+        }
+        long legacyBytes = mx.getThreadAllocatedBytes(tid) - bytes;
+
+        bytes = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < repeatCount; i++) {
+            writer.write(request, response, JwtErrorCode.INVALID_BEARER_TOKEN);
+        }
+        long encodedBytes = mx.getThreadAllocatedBytes(tid) - bytes;
+
+        // then: Map + ObjectMapper 직렬화 대신 미리 인코딩한 바이트에 timestamp/path 만 덧붙임
+        // (Mock 응답 객체 자체의 할당도 포함된 값)
+        assertThat(encodedBytes / repeatCount)
+                .as("legacy = %d B/op, pre-encoded = %d B/op",
+                        legacyBytes / repeatCount, encodedBytes / repeatCount)
+                .isLessThan(legacyBytes / repeatCount);
+    }
+
+    // 기존 ExceptionHandlingFilter.writeAppError 의 직렬화 방식
+    private void legacyWrite(MockHttpServletRequest req, MockHttpServletResponse resp)
+            throws Exception {
+        resp.resetBuffer();
+        Map<String, Object> body = Map.of(
+                "timestamp", OffsetDateTime.now().toString(),
+                "status", 401,
+                "error", "Unauthorized",
+                "code", JwtErrorCode.INVALID_BEARER_TOKEN.name(),
+                "message", JwtErrorCode.INVALID_BEARER_TOKEN.getMessage(),
+                "path", req.getRequestURI()
+        );
+        objectMapper.writeValue(resp.getWriter(), body);
+    }
+}
@@ -0,0 +1,136 @@
+package com.community.soap.common.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+class ExcludeRouteMatcherTest {
+
+    // application.yml 과 같은 제외 규칙 + 와일드카드 규칙
+    JwtFilterProperties props = properties(
+            "/actuator/**",
+            "/docs/**",
+            "/v3/api-docs/**",
+            "/swagger-ui/**",
+            "/error",
+            "/api/v1/auth/signup",
+            "/api/v1/auth/sign-in",
+            "/api/v1/auth/token/refresh",
+            "/api/v1/auth/email/request-verification-code",
+            "/api/v1/auth/email/verify-code",
+            "/api/v1/public/*/images/{id}"
+    );
+
+    List<String> requests = List.of(
+            "/actuator", "/actuator/", "/actuator/health", "/actuator/prometheus/x",
+            "/actuatorx", "/docs", "/docs/index.html", "/v3/api-docs/swagger-config",
+            "/error", "/error/", "/api/v1/auth/signup", "/api/v1/auth/sign-in",
+            "/api/v1/auth/logout", "/api/v1/auth/token/refresh", "/api/v1/users/me",
+            "/api/v1/public/products/images/10", "/api/v1/public/products/images",
+            "/api/v1/auth/signup;jsessionid=1", "/api/v1/auth/sign%2Din", "/"
+    );
+
+    @Test
+    void matchesSameAsPathPatterns() {
+        // given
+        ExcludeRouteMatcher matcher = ExcludeRouteMatcher.compile(props);
+        List<PathPattern> legacy = legacyPatterns(props);
+
+        // when & then
+        for (String path : requests) {
+            assertThat(matcher.matchesPath(path))
+                    .as(path)
+                    .isEqualTo(legacyMatches(legacy, path));
+        }
+    }
+
+    @Test
+    void matchesMethodsIgnoringCase() {
+        // given
+        ExcludeRouteMatcher matcher = ExcludeRouteMatcher.compile(props);
+
+        // when & then
+        assertThat(matcher.matchesMethod("OPTIONS")).isTrue();
+        assertThat(matcher.matchesMethod("options")).isTrue();
+        assertThat(matcher.matchesMethod("GET")).isFalse();
+        assertThat(matcher.matchesMethod("PROPFIND")).isFalse();
+    }
+
+    @Test
+    void exactAndPrefixPathsDoNotAllocate() {
+        // given: 정확 일치/"/**" prefix 로 끝나는 경로 (와일드카드·디코딩 분기를 타지 않음)
+        ExcludeRouteMatcher matcher = ExcludeRouteMatcher.compile(props);
+        List<PathPattern> legacy = legacyPatterns(props);
+        String[] paths = {"/actuator/health", "/docs/index.html", "/v3/api-docs/swagger-config",
+                "/error", "/api/v1/auth/signup", "/api/v1/auth/token/refresh"};
+        int repeatCount = 10_000;
+
+        com.sun.management.ThreadMXBean mx =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().threadId();
+        boolean matched = true;
+        for (int i = 0; i < repeatCount; i++) { // warm-up
+            for (String path : paths) {
+                matched &= matcher.matchesPath(path) && legacyMatches(legacy, path);
+            }
+        }
+
+        // when
+        long bytes = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < repeatCount; i++) {
+            for (int j = 0; j < paths.length; j++) {
+                matched &= matcher.matchesPath(paths[j]);
+            }
+        }
+        long compiledBytes = mx.getThreadAllocatedBytes(tid) - bytes;
+
+        bytes = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < repeatCount; i++) {
+            for (int j = 0; j < paths.length; j++) {
+                matched &= legacyMatches(legacy, paths[j]);
+            }
+        }
+        long legacyBytes = mx.getThreadAllocatedBytes(tid) - bytes;
+
+        // then: 기존 방식은 요청마다 PathContainer + stream 을 만들고, 컴파일된 matcher 는 할당하지 않음
+        long ops = (long) repeatCount * paths.length;
+        assertThat(matched).isTrue();
+        assertThat(compiledBytes / ops).isZero();
+        assertThat(legacyBytes / ops).isPositive();
+    }
+
+    // 기존 JwtAuthenticationFilter.shouldNotFilter 경로 비교 방식
+    private boolean legacyMatches(List<PathPattern> patterns, String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        return patterns.stream().anyMatch(p -> p.matches(container));
+    }
+
+    private List<PathPattern> legacyPatterns(JwtFilterProperties props) {
+        return props.getExcludePaths().stream()
+                .flatMap(raw -> {
+                    Stream<String> s = Stream.of(raw);
+                    if (raw.endsWith("/**")) {
+                        s = Stream.concat(s, Stream.of(raw.substring(0, raw.length() - 3)));
+                    }
+                    if (raw.endsWith("/") && raw.length() > 1) {
+                        s = Stream.concat(s, Stream.of(raw.substring(0, raw.length() - 1)));
+                    }
+                    return s.distinct();
+                })
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+    }
+
+    private JwtFilterProperties properties(String... paths) {
+        JwtFilterProperties p = new JwtFilterProperties();
+        p.setExcludePaths(new ArrayList<>(List.of(paths)));
+        return p;
+    }
+}
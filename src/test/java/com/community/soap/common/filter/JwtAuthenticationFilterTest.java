@@ -0,0 +1,146 @@
+package com.community.soap.common.filter;
+
+import static com.community.soap.common.util.AuthKeys.ATTR_USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.community.soap.common.concurrent.TimerWheel;
+import com.community.soap.common.exception.AppException;
+import com.community.soap.common.jwt.IssuedToken;
+import com.community.soap.common.jwt.JwtErrorCode;
+import com.community.soap.common.jwt.JwtProvider;
+import com.community.soap.common.jwt.JwtTestSupport;
+import com.community.soap.common.jwt.RedisTokenWatermarkStore;
+import com.community.soap.common.jwt.TokenWatermarkStore;
+import com.community.soap.common.redis.InMemoryStringRedisTemplate;
+import com.community.soap.common.redis.RedisUnavailableException;
+import com.community.soap.user.domain.entity.UserRole;
+import com.community.soap.user.infrastructure.memory.InMemoryTokenStoreAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class JwtAuthenticationFilterTest {
+
+    static final Long USER_ID = 42L;
+
+    JwtProvider jwtProvider = JwtTestSupport.jwtProvider();
+    TokenWatermarkStore watermarkStore = new RedisTokenWatermarkStore(new InMemoryStringRedisTemplate(),
+            new RedisMessageListenerContainer(), jwtProvider, Duration.ofSeconds(30), 1_000, true,
+            new SimpleMeterRegistry());
+    TimerWheel wheel = new TimerWheel("test", Duration.ofMillis(10), 64);
+    InMemoryTokenStoreAdapter tokenStore = new InMemoryTokenStoreAdapter(wheel);
+    JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtProvider, watermarkStore, tokenStore,
+            new JwtFilterProperties());
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    MockHttpServletRequest request(IssuedToken token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+        request.addHeader("Authorization", "Bearer " + token.token());
+        return request;
+    }
+
+    @Test
+    void rejectsTokenIssuedBeforeWatermark() {
+        // given: 발급 후 전체 로그아웃 (같은 초)
+        IssuedToken token = jwtProvider.issueAccessToken(USER_ID, UserRole.USER);
+        watermarkStore.revokeAllIssuedBefore(USER_ID, token.issuedAt());
+        MockFilterChain chain = new MockFilterChain();
+
+        // when & then
+        assertThatThrownBy(() -> filter.doFilter(request(token), new MockHttpServletResponse(), chain))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode")
+                .isEqualTo(JwtErrorCode.REVOKED_TOKEN);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void acceptsTokenIssuedAtWatermarkSecond() throws Exception {
+        // given: 워터마크 = 발급 초 (폐기 이후 같은 초 경계에 발급된 토큰)
+        IssuedToken token = jwtProvider.issueAccessToken(USER_ID, UserRole.USER);
+        watermarkStore.revokeAllIssuedBefore(USER_ID, token.issuedAt().minusSeconds(1));
+        MockHttpServletRequest request = request(token);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(request.getAttribute(ATTR_USER_ID)).isEqualTo(USER_ID);
+    }
+
+    @Test
+    void watermarkOfOtherUserDoesNotApply() throws Exception {
+        // given
+        IssuedToken token = jwtProvider.issueAccessToken(USER_ID, UserRole.USER);
+        watermarkStore.revokeAllIssuedBefore(USER_ID + 1, token.issuedAt());
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request(token), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void rejectsBlacklistedAccessToken() {
+        // given: 로그아웃으로 AT jti 가 블랙리스트에 오름
+        IssuedToken token = jwtProvider.issueAccessToken(USER_ID, UserRole.USER);
+        tokenStore.blacklistAccessJti(token.jti(), 60_000);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when & then
+        assertThatThrownBy(() -> filter.doFilter(request(token), new MockHttpServletResponse(), chain))
+                .isInstanceOf(AppException.class)
+                .extracting("errorCode")
+                .isEqualTo(JwtErrorCode.REVOKED_TOKEN);
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void blacklistOfOtherTokenDoesNotApply() throws Exception {
+        // given
+        IssuedToken token = jwtProvider.issueAccessToken(USER_ID, UserRole.USER);
+        tokenStore.blacklistAccessJti(jwtProvider.issueAccessToken(USER_ID, UserRole.USER).jti(), 60_000);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request(token), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void skipsBlacklistWhileRedisIsUnavailable() throws Exception {
+        // given: 회로가 열린 저장소 → 서명/워터마크 검증만
+        InMemoryTokenStoreAdapter unavailable = new InMemoryTokenStoreAdapter(wheel) {
+            @Override
+            public boolean isAccessJtiBlacklisted(String jti) {
+                throw new RedisUnavailableException();
+            }
+        };
+        JwtAuthenticationFilter degraded = new JwtAuthenticationFilter(jwtProvider, watermarkStore, unavailable,
+                new JwtFilterProperties());
+        IssuedToken token = jwtProvider.issueAccessToken(USER_ID, UserRole.USER);
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        degraded.doFilter(request(token), new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isNotNull();
+    }
+}
@@ -0,0 +1,50 @@
+package com.community.soap.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.concurrent.TimerWheel;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryTokenWatermarkStoreTest {
+
+    static final Long USER_ID = 7L;
+
+    TimerWheel wheel = new TimerWheel("test", Duration.ofMillis(10), 64);
+    InMemoryTokenWatermarkStore store = new InMemoryTokenWatermarkStore(wheel, JwtTestSupport.jwtProvider());
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @Test
+    void revokesTokensIssuedUpToTheSameSecond() {
+        // given
+        Instant now = Instant.ofEpochSecond(1_700_000_000L, 500_000_000L);
+
+        // when
+        store.revokeAllIssuedBefore(USER_ID, now);
+
+        // then
+        assertThat(store.isRevoked(USER_ID, now.minusSeconds(60))).isTrue();
+        assertThat(store.isRevoked(USER_ID, Instant.ofEpochSecond(now.getEpochSecond()))).isTrue();
+        assertThat(store.isRevoked(USER_ID, now.plusSeconds(1))).isFalse();
+        assertThat(store.isRevoked(8L, now.minusSeconds(60))).isFalse();
+    }
+
+    @Test
+    void olderRevocationDoesNotLowerWatermark() {
+        // given
+        Instant later = Instant.ofEpochSecond(1_700_000_100L);
+        store.revokeAllIssuedBefore(USER_ID, later);
+
+        // when
+        store.revokeAllIssuedBefore(USER_ID, later.minusSeconds(100));
+
+        // then
+        assertThat(store.isRevoked(USER_ID, later.minusSeconds(50))).isTrue();
+    }
+}
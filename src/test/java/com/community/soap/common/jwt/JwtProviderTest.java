@@ -0,0 +1,61 @@
+package com.community.soap.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.community.soap.user.domain.entity.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class JwtProviderTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    JwtProvider jwtProvider = JwtTestSupport.jwtProvider(registry);
+
+    private long verifications(String token) {
+        var timer = registry.find("jwt.verify").tag("token", token).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    @Test
+    void issuingDoesNotVerify() {
+        // when
+        IssuedToken access = jwtProvider.issueAccessToken(1L, UserRole.USER);
+        IssuedToken refresh = jwtProvider.issueRefreshToken(1L);
+
+        // then: 발급 결과에서 jti/TTL 을 바로 얻으므로 검증 지표가 쌓이지 않음
+        assertThat(verifications("access")).isZero();
+        assertThat(verifications("refresh")).isZero();
+        assertThat(access.ttl()).isBetween(JwtTestSupport.ACCESS_TTL.minusSeconds(2), JwtTestSupport.ACCESS_TTL);
+        assertThat(refresh.ttl()).isBetween(JwtTestSupport.REFRESH_TTL.minusSeconds(2), JwtTestSupport.REFRESH_TTL);
+    }
+
+    @Test
+    void parseRefreshTokenVerifiesOnceAndMatchesIssuedClaims() {
+        // given
+        IssuedToken refresh = jwtProvider.issueRefreshToken(42L);
+
+        // when
+        RefreshTokenClaims claims = jwtProvider.parseRefreshToken(refresh.token());
+
+        // then
+        assertThat(verifications("refresh")).isEqualTo(1);
+        assertThat(claims.userId()).isEqualTo(42L);
+        assertThat(claims.jti()).isEqualTo(refresh.jti());
+        assertThat(claims.issuedAt()).isEqualTo(refresh.issuedAt());
+        assertThat(claims.expiresAt()).isEqualTo(refresh.expiresAt());
+        assertThat(Duration.between(claims.issuedAt(), claims.expiresAt())).isEqualTo(JwtTestSupport.REFRESH_TTL);
+    }
+
+    @Test
+    void accessTokenIsNotAcceptedAsRefreshToken() {
+        // given
+        IssuedToken access = jwtProvider.issueAccessToken(1L, UserRole.USER);
+
+        // when & then: 키가 달라 서명 검증 실패
+        assertThatThrownBy(() -> jwtProvider.parseRefreshToken(access.token()))
+                .isInstanceOf(TokenException.class);
+        assertThat(registry.find("jwt.verify").tag("token", "refresh").tag("outcome", "valid").timer()).isNull();
+    }
+}
@@ -0,0 +1,55 @@
+package com.community.soap.common.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Base64;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 테스트용 JwtProvider / TokenWatermarkStore 생성
+ */
+public final class JwtTestSupport {
+
+    public static final Duration ACCESS_TTL = Duration.ofMinutes(30);
+    public static final Duration REFRESH_TTL = Duration.ofDays(14);
+
+    private JwtTestSupport() {
+    }
+
+    public static JwtProvider jwtProvider(MeterRegistry registry) {
+        return new JwtProvider(secret('a'), secret('r'), ACCESS_TTL.toMillis(), REFRESH_TTL.toMillis(), registry);
+    }
+
+    public static JwtProvider jwtProvider() {
+        return jwtProvider(new SimpleMeterRegistry());
+    }
+
+    /**
+     * 호출한 쪽이 stop 해야 하는 listener container 와 함께 만든다
+     */
+    public static TokenWatermarkStore watermarkStore(
+            RedisConnectionFactory factory,
+            RedisMessageListenerContainer container,
+            Duration localTtl
+    ) {
+        StringRedisTemplate redis = new StringRedisTemplate(factory);
+        redis.afterPropertiesSet();
+        return new RedisTokenWatermarkStore(redis, container, jwtProvider(), localTtl, 1_000, true,
+                new SimpleMeterRegistry());
+    }
+
+    public static RedisMessageListenerContainer listenerContainer(RedisConnectionFactory factory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        container.afterPropertiesSet();
+        container.start();
+        return container;
+    }
+
+    private static String secret(char seed) {
+        return Base64.getEncoder().encodeToString(String.valueOf(seed).repeat(64).getBytes());
+    }
+}
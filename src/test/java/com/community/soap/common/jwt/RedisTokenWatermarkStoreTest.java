@@ -0,0 +1,136 @@
+package com.community.soap.common.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.redis.InMemoryStringRedisTemplate;
+import io.lettuce.core.cluster.SlotHash;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class RedisTokenWatermarkStoreTest {
+
+    static final Long USER_ID = 42L;
+    static final Instant REVOKED_AT = Instant.ofEpochSecond(1_700_000_000L, 500_000_000L);
+
+    InMemoryStringRedisTemplate redis = new InMemoryStringRedisTemplate();
+    JwtProvider jwtProvider = JwtTestSupport.jwtProvider();
+
+    RedisTokenWatermarkStore store(boolean legacyKeyFallback) {
+        return new RedisTokenWatermarkStore(redis, new RedisMessageListenerContainer(), jwtProvider,
+                Duration.ofSeconds(30), 1_000, legacyKeyFallback, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void watermarkKeySharesSlotWithUserSessionKeys() {
+        for (long userId = 1; userId <= 1_000; userId++) {
+            // given
+            int sessionSlot = SlotHash.getSlot("user-service:{u:" + userId + "}:RT-INDEX");
+
+            // when & then
+            assertThat(SlotHash.getSlot(RedisTokenWatermarkStore.kWatermark(userId))).isEqualTo(sessionSlot);
+        }
+    }
+
+    @Test
+    void rejectsTokensIssuedUpToRevokedSecond() {
+        // given
+        RedisTokenWatermarkStore store = store(true);
+
+        // when
+        store.revokeAllIssuedBefore(USER_ID, REVOKED_AT);
+
+        // then: iat 는 초 단위라 폐기 시각과 같은 초에 발급된 토큰도 거부
+        assertThat(store.isRevoked(USER_ID, REVOKED_AT.minusSeconds(60))).isTrue();
+        assertThat(store.isRevoked(USER_ID, Instant.ofEpochSecond(REVOKED_AT.getEpochSecond()))).isTrue();
+        assertThat(store.isRevoked(USER_ID, Instant.ofEpochSecond(REVOKED_AT.getEpochSecond() + 1))).isFalse();
+        assertThat(store.isRevoked(USER_ID + 1, REVOKED_AT.minusSeconds(60))).isFalse();
+    }
+
+    @Test
+    void acceptsEverythingWithoutWatermark() {
+        // given
+        RedisTokenWatermarkStore store = store(true);
+
+        // when & then
+        assertThat(store.isRevoked(USER_ID, Instant.EPOCH)).isFalse();
+    }
+
+    @Test
+    void otherNodeReadsWatermarkFromRedis() {
+        // given: 다른 노드가 폐기 (pub/sub 없이 Redis 값만)
+        store(true).revokeAllIssuedBefore(USER_ID, REVOKED_AT);
+
+        // when & then
+        assertThat(store(true).isRevoked(USER_ID, REVOKED_AT)).isTrue();
+    }
+
+    @Test
+    void watermarkExpiresWithLongestTokenLifetime() {
+        // given
+        RedisTokenWatermarkStore store = store(true);
+
+        // when
+        store.revokeAllIssuedBefore(USER_ID, REVOKED_AT);
+
+        // then: 가장 긴 토큰 수명(RT + clock skew)이 지나면 워터마크 이전 토큰은 모두 만료
+        Duration ttl = redis.ttl(RedisTokenWatermarkStore.kWatermark(USER_ID));
+        assertThat(ttl).isLessThanOrEqualTo(jwtProvider.maxTokenLifetime())
+                .isGreaterThan(jwtProvider.maxTokenLifetime().minusSeconds(1));
+        assertThat(jwtProvider.maxTokenLifetime()).isGreaterThan(JwtTestSupport.REFRESH_TTL);
+    }
+
+    @Test
+    void readsLegacyKeyOnlyWhenFallbackEnabled() {
+        // given: hash tag 이전 키에만 남은 워터마크
+        long watermarkSec = REVOKED_AT.getEpochSecond() + 1;
+        redis.opsForValue().set(RedisTokenWatermarkStore.kLegacyWatermark(USER_ID), Long.toString(watermarkSec));
+
+        // when & then
+        assertThat(store(true).isRevoked(USER_ID, REVOKED_AT)).isTrue();
+        assertThat(store(false).isRevoked(USER_ID, REVOKED_AT)).isFalse();
+    }
+
+    @Test
+    void publishDuringLoadIsNotOverwrittenByOlderValue() {
+        // given: Redis 에는 이전 워터마크, GET 응답과 로컬 저장 사이에 더 새 워터마크 알림이 도착
+        long older = REVOKED_AT.getEpochSecond() - 60;
+        long newer = REVOKED_AT.getEpochSecond() + 1;
+        AtomicReference<RedisTokenWatermarkStore> storeRef = new AtomicReference<>();
+        InMemoryStringRedisTemplate racing = new InMemoryStringRedisTemplate() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public ValueOperations<String, String> opsForValue() {
+                ValueOperations<String, String> ops = super.opsForValue();
+                return (ValueOperations<String, String>) Proxy.newProxyInstance(
+                        ValueOperations.class.getClassLoader(),
+                        new Class<?>[]{ValueOperations.class},
+                        (proxy, method, args) -> {
+                            Object result = method.invoke(ops, args);
+                            if (method.getName().equals("get") && storeRef.get() != null) {
+                                storeRef.get().onMessage(new DefaultMessage(
+                                        "user-service:TV:invalidate".getBytes(StandardCharsets.UTF_8),
+                                        (USER_ID + ":" + newer).getBytes(StandardCharsets.UTF_8)), null);
+                            }
+                            return result;
+                        });
+            }
+        };
+        racing.opsForValue().set(RedisTokenWatermarkStore.kWatermark(USER_ID), Long.toString(older));
+        RedisTokenWatermarkStore store = new RedisTokenWatermarkStore(racing, new RedisMessageListenerContainer(),
+                jwtProvider, Duration.ofSeconds(30), 1_000, false, new SimpleMeterRegistry());
+        storeRef.set(store);
+
+        // when & then: 로드한 호출과 이후 캐시 조회 모두 새 워터마크 기준
+        assertThat(store.isRevoked(USER_ID, REVOKED_AT)).isTrue();
+        assertThat(store.isRevoked(USER_ID, REVOKED_AT)).isTrue();
+        assertThat(store.isRevoked(USER_ID, Instant.ofEpochSecond(newer))).isFalse();
+    }
+}
@@ -0,0 +1,185 @@
+package com.community.soap.common.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+class InstrumentedDataSourceTest {
+
+    SimpleMeterRegistry registry;
+    DataSource dataSource;
+    Logger sqlLog = (Logger) LoggerFactory.getLogger("SqlMetrics");
+    Level sqlLogLevel;
+    ListAppender<ILoggingEvent> logs = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        SqlMetrics metrics = new SqlMetrics(registry, Duration.ofSeconds(1), 0.0, 5);
+        dataSource = new InstrumentedDataSource(stubDataSource(), metrics, ObservationRegistry.NOOP);
+
+        sqlLogLevel = sqlLog.getLevel();
+        sqlLog.setLevel(Level.INFO);
+        logs.start();
+        sqlLog.addAppender(logs);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestMetrics.end();
+        sqlLog.detachAppender(logs);
+        sqlLog.setLevel(sqlLogLevel);
+    }
+
+    @Test
+    void recordsLatencyByStatementType() throws SQLException {
+        // given
+        try (Connection c = dataSource.getConnection()) {
+            // when
+            c.prepareStatement("select * from users where user_id = ?").executeQuery();
+            c.prepareStatement("update users set deleted = 1 where user_id = ?").executeUpdate();
+            c.createStatement().execute("/* hint */ insert into t values (1)");
+        }
+
+        // then
+        assertThat(registry.get("jdbc.statement.latency").tag("type", "select").timer().count()).isEqualTo(1);
+        assertThat(registry.get("jdbc.statement.latency").tag("type", "update").timer().count()).isEqualTo(1);
+        assertThat(registry.get("jdbc.statement.latency").tag("type", "insert").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void countsPerRequestAndFlagsRepeatedSql() throws SQLException {
+        // given
+        RequestMetrics request = RequestMetrics.start();
+        String perRow = "select * from orders where user_id = ?";
+
+        // when: 목록 1회 + 행마다 1회 (N+1)
+        try (Connection c = dataSource.getConnection()) {
+            c.prepareStatement("select * from users").executeQuery();
+            for (int i = 0; i < 8; i++) {
+                PreparedStatement ps = c.prepareStatement(perRow);
+                ps.setLong(1, i);
+                ps.executeQuery();
+            }
+        }
+        RequestMetrics.end();
+        new SqlMetrics(registry, Duration.ofSeconds(1), 0.0, 5).recordRequest("/users", request);
+
+        // then
+        assertThat(request.dbStatements()).isEqualTo(9);
+        assertThat(request.repeatedSql()).containsEntry(perRow, 8);
+        assertThat(registry.get("jdbc.n_plus_one").tag("route", "/users").counter().count()).isEqualTo(1);
+        assertThat(registry.get("jdbc.request.statements").tag("route", "/users").summary().max()).isEqualTo(9);
+    }
+
+    @Test
+    void failuresAreRecordedAndRethrown() throws SQLException {
+        // given
+        try (Connection c = dataSource.getConnection()) {
+            Statement s = c.createStatement();
+
+            // when & then
+            assertThatThrownBy(() -> s.execute("FAIL")).isInstanceOf(SQLException.class);
+        }
+        assertThat(registry.get("jdbc.statement.latency").tag("outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void fastUnsampledSqlIsNotLogged() throws SQLException {
+        // given: slow 1s, 샘플링 0 (setUp)
+        String sql = "select * from users where email = ?";
+
+        // when
+        executeWithBinding(dataSource, sql);
+
+        // then
+        assertThat(logs.list).isEmpty();
+    }
+
+    @Test
+    void slowSqlIsLoggedAtWarnWithoutBindings() throws SQLException {
+        // given: 모든 문이 느린 SQL 기준을 넘음
+        SqlMetrics metrics = new SqlMetrics(registry, Duration.ZERO, 0.0, 5);
+        DataSource slow = new InstrumentedDataSource(stubDataSource(), metrics, ObservationRegistry.NOOP);
+        String sql = "select * from users where email = ?";
+
+        // when
+        executeWithBinding(slow, sql);
+
+        // then
+        assertThat(logs.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.WARN);
+            assertThat(event.getFormattedMessage()).contains(sql).doesNotContain("secret@soap.com");
+        });
+    }
+
+    @Test
+    void sampledSqlIsLoggedAtInfoWithoutBindings() throws SQLException {
+        // given: 느린 SQL 은 아니지만 항상 샘플링
+        SqlMetrics metrics = new SqlMetrics(registry, Duration.ofHours(1), 1.0, 5);
+        DataSource sampled = new InstrumentedDataSource(stubDataSource(), metrics, ObservationRegistry.NOOP);
+        String sql = "select * from users where email = ?";
+
+        // when
+        executeWithBinding(sampled, sql);
+
+        // then
+        assertThat(logs.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.INFO);
+            assertThat(event.getFormattedMessage()).contains(sql).doesNotContain("secret@soap.com");
+        });
+    }
+
+    private static void executeWithBinding(DataSource ds, String sql) throws SQLException {
+        try (Connection c = ds.getConnection()) {
+            PreparedStatement ps = c.prepareStatement(sql);
+            ps.setString(1, "secret@soap.com");
+            ps.executeQuery();
+        }
+    }
+
+    // SQL "FAIL" 이면 SQLException, 그 외 모든 호출은 기본값을 돌려주는 JDBC 스텁
+    private static DataSource stubDataSource() {
+        return stub(DataSource.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (args != null && args.length > 0 && "FAIL".equals(args[0])) {
+                throw new SQLException("stub failure");
+            }
+            Class<?> ret = method.getReturnType();
+            if (ret.isInterface() && ret.getName().startsWith("java.sql")) {
+                return stub(ret);
+            }
+            if (ret == boolean.class) {
+                return false;
+            }
+            if (ret == int.class) {
+                return 0;
+            }
+            if (ret == long.class) {
+                return 0L;
+            }
+            return null;
+        });
+    }
+}
@@ -0,0 +1,116 @@
+package com.community.soap.common.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.community.soap.common.exception.AppException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class JfrRecorderTest {
+
+    @TempDir
+    Path dumpDir;
+
+    JfrRecorder recorder;
+
+    @AfterEach
+    void tearDown() {
+        if (recorder != null) {
+            recorder.stop();
+        }
+    }
+
+    @Test
+    void customProfileOverridesDefault() throws Exception {
+        // when
+        Map<String, String> settings = JfrRecorder.settings();
+
+        // then: default 에 없던/다른 값은 soap.jfc 가 우선, 나머지는 default 유지
+        assertThat(settings).containsEntry("jdk.JavaMonitorEnter#threshold", "10 ms");
+        assertThat(settings).containsEntry("jdk.SocketRead#threshold", "10 ms");
+        assertThat(settings).containsEntry("com.community.soap.Flow#enabled", "true");
+        assertThat(settings).containsKey("jdk.GarbageCollection#enabled");
+    }
+
+    @Test
+    void dumpsRecentWindowWithFlowEvents() throws Exception {
+        // given
+        recorder = new JfrRecorder(true, Duration.ofMinutes(30), DataSize.ofMegabytes(64), dumpDir, 2);
+        recorder.start();
+        FlowEvent event = new FlowEvent();
+        event.begin();
+        event.timer = "auth.flow";
+        event.flow = "signIn";
+        event.outcome = "success";
+        event.commit();
+
+        // when
+        JfrRecorder.Dump dump = recorder.dump(Duration.ofMinutes(1));
+
+        // then
+        List<RecordedEvent> flows = RecordingFile.readAllEvents(Path.of(dump.file())).stream()
+                .filter(e -> e.getEventType().getName().equals("com.community.soap.Flow"))
+                .toList();
+        assertThat(flows).anySatisfy(e -> assertThat(e.getString("flow")).isEqualTo("signIn"));
+        assertThat(dump.sizeBytes()).isPositive();
+        assertThat(Duration.between(dump.from(), dump.to())).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void keepsOnlyRecentDumps() throws Exception {
+        // given
+        recorder = new JfrRecorder(true, Duration.ofMinutes(30), DataSize.ofMegabytes(64), dumpDir, 2);
+        recorder.start();
+        for (int i = 0; i < 3; i++) {
+            Files.writeString(dumpDir.resolve("old-" + i + ".jfr"), "x");
+            Files.setLastModifiedTime(dumpDir.resolve("old-" + i + ".jfr"),
+                    FileTime.fromMillis(i));
+        }
+
+        // when
+        recorder.dump(Duration.ofMinutes(1));
+
+        // then
+        try (Stream<Path> files = Files.list(dumpDir)) {
+            assertThat(files.filter(p -> p.toString().endsWith(".jfr")).count()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void neverOverwritesPreviousDump() throws Exception {
+        // given
+        recorder = new JfrRecorder(true, Duration.ofMinutes(30), DataSize.ofMegabytes(64), dumpDir, 10);
+        recorder.start();
+
+        // when: 같은 시각대에 연속 덤프
+        JfrRecorder.Dump first = recorder.dump(Duration.ofMinutes(1));
+        JfrRecorder.Dump second = recorder.dump(Duration.ofMinutes(1));
+
+        // then
+        assertThat(second.file()).isNotEqualTo(first.file());
+        assertThat(Path.of(first.file())).exists();
+        assertThat(Path.of(second.file())).exists();
+    }
+
+    @Test
+    void rejectsDumpWhenDisabled() {
+        // given
+        recorder = new JfrRecorder(false, Duration.ofMinutes(30), DataSize.ofMegabytes(64), dumpDir, 2);
+        recorder.start();
+
+        // when & then
+        assertThatThrownBy(() -> recorder.dump(Duration.ofMinutes(1))).isInstanceOf(AppException.class);
+    }
+}
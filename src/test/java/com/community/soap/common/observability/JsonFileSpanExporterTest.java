@@ -0,0 +1,75 @@
+package com.community.soap.common.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class JsonFileSpanExporterTest {
+
+    @TempDir
+    Path dir;
+
+    SdkTracerProvider provider;
+
+    @AfterEach
+    void tearDown() {
+        if (provider != null) {
+            provider.close();
+        }
+    }
+
+    private Tracer tracer(JsonFileSpanExporter exporter) {
+        provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                .build();
+        return provider.get("test");
+    }
+
+    @Test
+    void writesOneJsonLinePerSpan() throws Exception {
+        // given
+        Path file = dir.resolve("spans.jsonl");
+        JsonFileSpanExporter exporter = new JsonFileSpanExporter(file, new ObjectMapper(),
+                DataSize.ofMegabytes(1), 3);
+
+        // when
+        tracer(exporter).spanBuilder("UserUseCase.signIn").startSpan().end();
+
+        // then
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).contains("\"name\":\"UserUseCase.signIn\"");
+    }
+
+    @Test
+    void rollsOverAndKeepsAtMostMaxFiles() throws Exception {
+        // given: span 한 줄이 수백 바이트 → 매 span 마다 롤링
+        Path file = dir.resolve("spans.jsonl");
+        JsonFileSpanExporter exporter = new JsonFileSpanExporter(file, new ObjectMapper(),
+                DataSize.ofBytes(1), 2);
+        Tracer tracer = tracer(exporter);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            tracer.spanBuilder("span-" + i).startSpan().end();
+        }
+
+        // then: 현재 파일 + .1, .2 만 남고 가장 최근 span 이 .1
+        assertThat(exporter.rolled(1)).exists();
+        assertThat(exporter.rolled(2)).exists();
+        assertThat(exporter.rolled(3)).doesNotExist();
+        assertThat(Files.readString(exporter.rolled(1))).contains("span-4");
+        assertThat(Files.readString(exporter.rolled(2))).contains("span-3");
+        assertThat(Files.size(file)).isZero();
+    }
+}
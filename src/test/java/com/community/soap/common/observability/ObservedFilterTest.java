@@ -0,0 +1,102 @@
+package com.community.soap.common.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ObservedFilterTest {
+
+    // 시작/종료 순서를 기록
+    static class RecordingHandler implements ObservationHandler<Observation.Context> {
+
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onStart(Observation.Context context) {
+            events.add("start " + context.getContextualName());
+        }
+
+        @Override
+        public void onStop(Observation.Context context) {
+            events.add("stop " + context.getContextualName());
+        }
+
+        @Override
+        public boolean supportsContext(Observation.Context context) {
+            return true;
+        }
+    }
+
+    static class PassFilter implements Filter {
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            chain.doFilter(request, response);
+        }
+    }
+
+    static class RejectFilter implements Filter {
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) {
+            ((MockHttpServletResponse) response).setStatus(401);
+        }
+    }
+
+    ObservationRegistry registry;
+    RecordingHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        registry = ObservationRegistry.create();
+        handler = new RecordingHandler();
+        registry.observationConfig().observationHandler(handler);
+    }
+
+    @Test
+    void spanEndsBeforeDownstreamChain() throws Exception {
+        // given
+        ObservedFilter filter = new ObservedFilter(new PassFilter(), registry);
+        List<Observation> currentDownstream = new ArrayList<>();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), (req, res) -> {
+            handler.events.add("downstream");
+            currentDownstream.add(registry.getCurrentObservation());
+        });
+
+        // then: 다음 필터는 이 필터 span 의 자식이 아님
+        assertThat(handler.events).containsExactly("start PassFilter", "stop PassFilter", "downstream");
+        assertThat(currentDownstream).containsOnlyNulls();
+    }
+
+    @Test
+    void shortCircuitedFilterEndsOnReturn() throws Exception {
+        // given
+        ObservedFilter filter = new ObservedFilter(new RejectFilter(), registry);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest(), response, (req, res) -> handler.events.add("downstream"));
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(handler.events).containsExactly("start RejectFilter", "stop RejectFilter");
+        assertThat(registry.getCurrentObservation()).isNull();
+    }
+}
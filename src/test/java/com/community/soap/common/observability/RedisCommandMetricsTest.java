@@ -0,0 +1,78 @@
+package com.community.soap.common.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.redis.config.RedisCommandListenerInstaller;
+import io.lettuce.core.event.command.CommandListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 실제 Redis 대상 (REDIS_HOST 가 설정된 경우에만)
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class RedisCommandMetricsTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    LettuceConnectionFactory factory;
+    StringRedisTemplate redis;
+    String key = "user-service:TEST:RCM:" + UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        RedisCommandMetrics metrics = new RedisCommandMetrics(registry);
+        var listeners = new StaticListableBeanFactory(Map.of("metrics", metrics))
+                .getBeanProvider(CommandListener.class);
+
+        factory = new LettuceConnectionFactory(System.getenv("REDIS_HOST"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        factory.afterPropertiesSet();
+        new RedisCommandListenerInstaller(listeners).postProcessAfterInitialization(factory, "factory");
+        redis = new StringRedisTemplate(factory);
+        redis.hasKey(key); // 연결 수립은 요청 밖에서
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestMetrics.end();
+        redis.delete(key);
+        factory.destroy();
+    }
+
+    @Test
+    void countsCommandsAndRoundTripsPerRequest() {
+        // given
+        RequestMetrics request = RequestMetrics.start();
+
+        // when: 단건 2회 + 3개짜리 파이프라인 1회
+        redis.opsForValue().set(key, "v");
+        redis.opsForValue().get(key);
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection c = (StringRedisConnection) connection;
+            c.get(key);
+            c.pTtl(key);
+            c.exists(key);
+            return null;
+        });
+        RequestMetrics.end();
+        new RedisCommandMetrics(registry).recordRequest("/test", request);
+
+        // then
+        assertThat(request.redisCommands()).isEqualTo(5);
+        assertThat(request.redisRoundTrips()).isEqualTo(3);
+        assertThat(registry.get("redis.roundtrip.commands").tag("route", "/test").summary().max())
+                .isEqualTo(3.0);
+        assertThat(registry.get("redis.commands").tag("route", "/test").counter().count())
+                .isEqualTo(5.0);
+    }
+}
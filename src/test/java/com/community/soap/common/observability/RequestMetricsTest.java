@@ -0,0 +1,70 @@
+package com.community.soap.common.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RequestMetricsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestMetrics.end();
+    }
+
+    @Test
+    void sequentialCommandsAreSeparateRoundTrips() {
+        // given
+        RequestMetrics metrics = RequestMetrics.start();
+
+        // when
+        metrics.redisCommandStarted("A.get", 0);
+        metrics.redisCommandFinished(1_000_000);
+        metrics.redisCommandStarted("A.exists", 2_000_000);
+        metrics.redisCommandFinished(3_000_000);
+
+        // then
+        assertThat(metrics.redisCommands()).isEqualTo(2);
+        assertThat(metrics.redisRoundTrips()).isEqualTo(2);
+        assertThat(metrics.redisMillis()).isEqualTo(2);
+    }
+
+    @Test
+    void overlappingCommandsShareOneRoundTrip() {
+        // given: 파이프라인 / 동시에 보낸 async 명령
+        RequestMetrics metrics = RequestMetrics.start();
+
+        // when
+        metrics.redisCommandStarted("A.pop", 0);
+        metrics.redisCommandStarted("A.pop", 10);
+        metrics.redisCommandStarted("B.revoke", 20);
+        metrics.redisCommandFinished(500_000);
+        metrics.redisCommandFinished(600_000);
+        metrics.redisCommandFinished(1_000_000);
+
+        // then
+        assertThat(metrics.redisCommands()).isEqualTo(3);
+        assertThat(metrics.redisRoundTrips()).isEqualTo(1);
+        assertThat(metrics.redisWaves()).singleElement()
+                .satisfies(w -> {
+                    assertThat(w.port()).isEqualTo("A.pop");
+                    assertThat(w.commands()).isEqualTo(3);
+                    assertThat(w.nanos()).isEqualTo(1_000_000);
+                });
+    }
+
+    @Test
+    void currentIsScopedToThread() throws InterruptedException {
+        // given
+        RequestMetrics metrics = RequestMetrics.start();
+        RequestMetrics[] seen = new RequestMetrics[1];
+
+        // when
+        Thread t = Thread.ofPlatform().start(() -> seen[0] = RequestMetrics.current());
+        t.join();
+
+        // then
+        assertThat(RequestMetrics.current()).isSameAs(metrics);
+        assertThat(seen[0]).isNull();
+    }
+}
@@ -0,0 +1,20 @@
+package com.community.soap.common.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class SqlMetricsTest {
+
+    @Test
+    void classifiesStatementType() {
+        assertThat(SqlMetrics.typeOf("select u.* from users u")).isEqualTo("select");
+        assertThat(SqlMetrics.typeOf("  (SELECT 1) union (select 2)")).isEqualTo("select");
+        assertThat(SqlMetrics.typeOf("/* UserPurge */ delete from users where id in (?)")).isEqualTo("delete");
+        assertThat(SqlMetrics.typeOf("-- comment\nINSERT into t values (?)")).isEqualTo("insert");
+        assertThat(SqlMetrics.typeOf("Update t set a = ?")).isEqualTo("update");
+        assertThat(SqlMetrics.typeOf("with x as (select 1) select * from x")).isEqualTo("select");
+        assertThat(SqlMetrics.typeOf("create table t (id bigint)")).isEqualTo("other");
+        assertThat(SqlMetrics.typeOf(null)).isEqualTo("other");
+    }
+}
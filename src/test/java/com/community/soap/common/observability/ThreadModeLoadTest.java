@@ -0,0 +1,62 @@
+package com.community.soap.common.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.snowflake.Snowflake;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 요청 하나 = ID 발급 + 블로킹 I/O(20ms) 를 가정한 동시 처리 수 비교 (처리 시간은 ThreadModeBenchmark).
+ * 플랫폼 풀은 Tomcat 기본 max-threads(200)와 같은 크기.
+ */
+class ThreadModeLoadTest {
+
+    static final long IO_MILLIS = 20;
+
+    Snowflake snowflake = new Snowflake();
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger peakInFlight = new AtomicInteger();
+
+    @Test
+    void virtualThreadsAreNotCappedByPoolSize() throws InterruptedException {
+        // given
+        ExecutorService platform = Executors.newFixedThreadPool(200);
+        ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor();
+
+        // when
+        run(platform, 1_000);
+        int platformPeak = peakInFlight.getAndSet(0);
+        run(virtual, 1_000);
+        int virtualPeak = peakInFlight.get();
+
+        // then: 블로킹 중인 요청 수가 풀 크기에 묶이지 않음
+        assertThat(platformPeak).isLessThanOrEqualTo(200);
+        assertThat(virtualPeak).isGreaterThan(200);
+
+        platform.shutdown();
+        virtual.shutdown();
+    }
+
+    private void run(ExecutorService executor, int requests) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            executor.submit(() -> {
+                peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    snowflake.nextId();
+                    Thread.sleep(IO_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.decrementAndGet();
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+    }
+}
@@ -0,0 +1,78 @@
+package com.community.soap.common.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.community.soap.common.jwt.JwtErrorCode;
+import com.community.soap.common.jwt.TokenException;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+class TimedMethodPostProcessorTest {
+
+    interface Flow {
+
+        String signIn(boolean fail);
+
+        String untimed();
+    }
+
+    static class FlowService implements Flow {
+
+        @Timed(value = "auth.flow", extraTags = {"flow", "signIn"}, histogram = true)
+        @Override
+        public String signIn(boolean fail) {
+            if (fail) {
+                throw new TokenException(JwtErrorCode.EXPIRED_TOKEN);
+            }
+            return "ok";
+        }
+
+        @Override
+        public String untimed() {
+            return "ok";
+        }
+    }
+
+    SimpleMeterRegistry registry;
+    Flow flow;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+
+        TimedMethodPostProcessor processor = new TimedMethodPostProcessor(
+                beanFactory.getBeanProvider(MeterRegistry.class));
+        processor.setBeanFactory(beanFactory);
+        flow = (Flow) processor.postProcessAfterInitialization(new FlowService(), "flowService");
+    }
+
+    @Test
+    void recordsOutcomeByErrorCode() {
+        // when
+        flow.signIn(false);
+        flow.signIn(false);
+        assertThatThrownBy(() -> flow.signIn(true)).isInstanceOf(TokenException.class);
+
+        // then
+        assertThat(registry.get("auth.flow").tag("flow", "signIn").tag("outcome", "success")
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get("auth.flow").tag("flow", "signIn").tag("outcome", "EXPIRED_TOKEN")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void leavesUnannotatedMethodsAlone() {
+        // when
+        flow.untimed();
+
+        // then
+        assertThat(registry.getMeters()).isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package com.community.soap.common.observability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(
+            true, Duration.ofMillis(5), Duration.ofSeconds(60), registry);
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void recordsPinnedVirtualThread() throws Exception {
+        // given
+        monitor.start();
+        Object lock = new Object();
+
+        // when: synchronized 안에서 블로킹 → carrier 고정
+        Thread.ofVirtual().start(() -> {
+            synchronized (lock) {
+                sleep(50);
+            }
+        }).join();
+
+        // then: JFR 스트림은 약 1초 주기로 flush 되므로 대기
+        assertThat(awaitPinned(Duration.ofSeconds(10))).isGreaterThan(0);
+        assertThat(registry.find("jvm.threads.virtual.pinned").counter().getId().getTag("frame"))
+                .startsWith("VirtualThreadPinningMonitorTest.");
+    }
+
+    @Test
+    void disabledMonitorDoesNotStart() {
+        // given
+        VirtualThreadPinningMonitor disabled = new VirtualThreadPinningMonitor(
+                false, Duration.ofMillis(5), Duration.ofSeconds(60), registry);
+
+        // when
+        disabled.start();
+
+        // then
+        assertThat(disabled.isRunning()).isFalse();
+    }
+
+    private double awaitPinned(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            double count = registry.find("jvm.threads.virtual.pinned").counters().stream()
+                    .mapToDouble(Counter::count).sum();
+            if (count > 0) {
+                return count;
+            }
+            Thread.sleep(50);
+        }
+        return 0;
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.community.soap.common.presentation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import com.community.soap.common.exception.AppException;
+import com.community.soap.common.exception.CommonErrorCode;
+import com.community.soap.common.exception.ErrorCode;
+import com.community.soap.common.observability.JfrRecorder;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class JfrControllerTest {
+
+    // 시작하지 않은 recorder: 범위 검사를 통과한 요청은 dump 에서 503
+    JfrRecorder recorder = new JfrRecorder(true, Duration.ofMinutes(30), DataSize.ofMegabytes(64),
+            Path.of("jfr-dumps"), 2);
+    JfrController controller = new JfrController(recorder);
+
+    @Test
+    void rejectsMinutesOutsideOneToMaxAge() {
+        for (long minutes : new long[]{0, -1, 31, Long.MAX_VALUE}) {
+            assertThat(errorOf(minutes)).as("minutes=%d", minutes).isEqualTo(CommonErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    @Test
+    void passesBoundsToRecorder() {
+        for (long minutes : new long[]{1, 30}) {
+            assertThat(errorOf(minutes)).as("minutes=%d", minutes).isEqualTo(CommonErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    @Test
+    void relativeDumpDirIsResolvedAtStartup() {
+        assertThat(recorder.dumpDir()).isAbsolute().endsWith(Path.of("jfr-dumps"));
+    }
+
+    private ErrorCode errorOf(long minutes) {
+        Throwable thrown = catchThrowable(() -> controller.dump(minutes));
+        assertThat(thrown).isInstanceOf(AppException.class);
+        return ((AppException) thrown).getErrorCode();
+    }
+}
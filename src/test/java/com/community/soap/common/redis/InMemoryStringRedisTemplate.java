@@ -0,0 +1,101 @@
+package com.community.soap.common.redis;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+/**
+ * Redis 없이 문자열 값 명령(GET/SET/SET NX/DEL, TTL 포함)만 흉내내는 템플릿.
+ * 포트 구현을 실제 Redis 없이 단위 테스트할 때 쓴다 (그 외 명령은 UnsupportedOperationException)
+ */
+public class InMemoryStringRedisTemplate extends StringRedisTemplate {
+
+    private record Entry(String value, long deadlineNanos) {
+
+        boolean expired() {
+            return deadlineNanos != 0 && System.nanoTime() - deadlineNanos >= 0;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> values = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOps = (ValueOperations<String, String>) Proxy.newProxyInstance(
+            ValueOperations.class.getClassLoader(),
+            new Class<?>[]{ValueOperations.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "get" -> get((String) args[0]);
+                case "set" -> {
+                    values.put((String) args[0], new Entry((String) args[1], deadline(args)));
+                    yield null;
+                }
+                case "setIfAbsent" -> {
+                    Entry fresh = new Entry((String) args[1], deadline(args));
+                    Entry stored = values.compute((String) args[0],
+                            (k, old) -> old == null || old.expired() ? fresh : old);
+                    yield stored == fresh;
+                }
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+
+    private String get(String key) {
+        Entry entry = values.get(key);
+        if (entry == null || entry.expired()) {
+            return null;
+        }
+        return entry.value();
+    }
+
+    // set(k, v) / set(k, v, Duration) / set(k, v, long, TimeUnit)
+    private static long deadline(Object[] args) {
+        long nanos = 0;
+        if (args.length == 3 && args[2] instanceof Duration d) {
+            nanos = d.toNanos();
+        } else if (args.length == 4 && args[2] instanceof Long t && args[3] instanceof TimeUnit unit) {
+            nanos = unit.toNanos(t);
+        }
+        return nanos == 0 ? 0 : System.nanoTime() + nanos;
+    }
+
+    @Override
+    public ValueOperations<String, String> opsForValue() {
+        return valueOps;
+    }
+
+    @Override
+    public Boolean delete(String key) {
+        return values.remove(key) != null;
+    }
+
+    @Override
+    public Boolean hasKey(String key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public Long convertAndSend(String channel, Object message) {
+        return 0L;
+    }
+
+    /**
+     * 저장된 원문 값 (TTL 무시). 테스트에서 저장 형식을 확인할 때
+     */
+    public String raw(String key) {
+        Entry entry = values.get(key);
+        return entry == null ? null : entry.value();
+    }
+
+    /**
+     * 남은 TTL 이 있으면 그 값 (없으면 null)
+     */
+    public Duration ttl(String key) {
+        Entry entry = values.get(key);
+        if (entry == null || entry.deadlineNanos() == 0) {
+            return null;
+        }
+        return Duration.ofNanos(entry.deadlineNanos() - System.nanoTime());
+    }
+}
@@ -0,0 +1,106 @@
+package com.community.soap.common.redis;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 테스트용 TCP 프록시 (클라이언트 ↔ 실제 Redis).
+ * - setLatency: 서버 → 클라이언트 방향 응답마다 지연 (느린 Redis 흉내)
+ * - 지연 0 이면 그대로 전달
+ * - forwardedRequests: 클라이언트 → 서버 방향으로 전달한 읽기 횟수 (Redis 까지 간 요청이 있었는지 확인용)
+ */
+@Slf4j(topic = "LatencyProxy")
+public class LatencyProxy implements Closeable {
+
+    private final ServerSocket serverSocket;
+    private final String upstreamHost;
+    private final int upstreamPort;
+    private final List<Socket> sockets = new CopyOnWriteArrayList<>();
+    private final AtomicLong forwardedRequests = new AtomicLong();
+    private volatile long latencyMs;
+    private volatile boolean closed;
+
+    public LatencyProxy(String upstreamHost, int upstreamPort) throws IOException {
+        this.upstreamHost = upstreamHost;
+        this.upstreamPort = upstreamPort;
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread.ofPlatform().name("latency-proxy-accept").daemon().start(this::acceptLoop);
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    public void setLatency(Duration latency) {
+        this.latencyMs = latency.toMillis();
+    }
+
+    public long forwardedRequests() {
+        return forwardedRequests.get();
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket client = serverSocket.accept();
+                Socket upstream = new Socket(upstreamHost, upstreamPort);
+                sockets.add(client);
+                sockets.add(upstream);
+                Thread.ofPlatform().daemon().start(() -> pump(client, upstream, false));
+                Thread.ofPlatform().daemon().start(() -> pump(upstream, client, true));
+            } catch (IOException e) {
+                if (!closed) {
+                    log.warn("프록시 연결 수락 실패: {}:{}", upstreamHost, upstreamPort, e);
+                }
+            }
+        }
+    }
+
+    private void pump(Socket from, Socket to, boolean delayed) {
+        byte[] buf = new byte[16 * 1024];
+        try (InputStream in = from.getInputStream(); OutputStream out = to.getOutputStream()) {
+            int n;
+            while ((n = in.read(buf)) != -1) {
+                long delay = latencyMs;
+                if (delayed && delay > 0) {
+                    Thread.sleep(delay);
+                }
+                if (!delayed) {
+                    forwardedRequests.incrementAndGet();
+                }
+                out.write(buf, 0, n);
+                out.flush();
+            }
+        } catch (IOException | InterruptedException ignore) {
+            // 한쪽이 닫히면 종료
+        } finally {
+            closeQuietly(from);
+            closeQuietly(to);
+        }
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException ignore) {
+            // ignore
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        sockets.forEach(LatencyProxy::closeQuietly);
+    }
+}
@@ -0,0 +1,104 @@
+package com.community.soap.common.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.community.soap.common.redis.config.RedisCircuitProperties;
+import com.community.soap.common.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.RedisSystemException;
+
+class RedisCircuitBreakerTest {
+
+    SimpleMeterRegistry registry;
+    RedisCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        RedisCircuitProperties props = new RedisCircuitProperties();
+        props.setWindowSize(10);
+        props.setMinCalls(4);
+        props.setOpenDuration(Duration.ofMillis(200));
+        props.setAsyncTimeout(Duration.ofMillis(50));
+        registry = new SimpleMeterRegistry();
+        breaker = new RedisCircuitBreaker(props, registry);
+    }
+
+    @Test
+    void timeoutsOpenCircuitAndRejectWithoutCalling() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> breaker.call(() -> {
+                throw new QueryTimeoutException("slow");
+            })).isInstanceOf(RedisUnavailableException.class);
+        }
+        AtomicInteger invoked = new AtomicInteger();
+
+        // when & then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.call(invoked::incrementAndGet))
+                .isInstanceOf(RedisUnavailableException.class);
+        assertThat(invoked).hasValue(0);
+        assertThat(registry.get("redis.circuit.open").gauge().value()).isEqualTo(1.0);
+        assertThat(registry.get("redis.circuit.calls").tag("result", "rejected").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void commandErrorsDoNotOpenCircuit() {
+        // given: Redis 는 응답했지만 명령이 실패 (스크립트 오류 등)
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> breaker.call(() -> {
+                throw new RedisSystemException("ERR", new IllegalStateException());
+            })).isInstanceOf(RedisSystemException.class);
+        }
+
+        // when & then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.call(() -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void asyncTimeoutCountsAsFailure() {
+        // given: 응답이 오지 않는 명령
+        for (int i = 0; i < 4; i++) {
+            CompletableFuture<String> f = breaker.<String>callAsync(CompletableFuture::new).toCompletableFuture();
+            assertThatThrownBy(f::join)
+                    .isInstanceOf(CompletionException.class)
+                    .hasCauseInstanceOf(RedisUnavailableException.class);
+        }
+
+        // when
+        CompletableFuture<String> rejected = breaker.callAsync(() -> CompletableFuture.completedFuture("x"))
+                .toCompletableFuture();
+
+        // then
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(rejected).isCompletedExceptionally();
+    }
+
+    @Test
+    void recoversAfterOpenDuration() throws InterruptedException {
+        // given
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> breaker.call(() -> {
+                throw new RedisConnectionFailureException("down");
+            })).isInstanceOf(RedisUnavailableException.class);
+        }
+
+        // when
+        Thread.sleep(250);
+
+        // then: 시험 호출 성공 → CLOSED
+        assertThat(breaker.call(() -> "ok")).isEqualTo("ok");
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,94 @@
+package com.community.soap.common.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.community.soap.common.redis.config.RedisCircuitProperties;
+import com.community.soap.common.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+/**
+ * 로컬 Redis 앞에 지연 프록시를 두고 느린 Redis 를 흉내 (REDIS_HOST 가 설정된 경우에만)
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class RedisCircuitLatencyTest {
+
+    LatencyProxy proxy;
+    LettuceConnectionFactory factory;
+    RedisCircuitBreaker breaker;
+    CircuitBreakingRedisTemplate redis;
+    String key = "user-service:TEST:CB:" + UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        proxy = new LatencyProxy(System.getenv("REDIS_HOST"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("127.0.0.1", proxy.port()),
+                LettuceClientConfiguration.builder().commandTimeout(Duration.ofMillis(100)).build());
+        factory.afterPropertiesSet();
+
+        RedisCircuitProperties props = new RedisCircuitProperties();
+        props.setWindowSize(10);
+        props.setMinCalls(5);
+        props.setOpenDuration(Duration.ofMillis(500));
+        breaker = new RedisCircuitBreaker(props, new SimpleMeterRegistry());
+        redis = new CircuitBreakingRedisTemplate(factory, breaker);
+        redis.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        proxy.setLatency(Duration.ZERO);
+        redis.delete(key);
+        factory.destroy();
+        proxy.close();
+    }
+
+    @Test
+    void slowRedisOpensCircuitAndFailsFast() {
+        // given
+        redis.opsForValue().set(key, "v");
+        proxy.setLatency(Duration.ofMillis(300));
+
+        // when: timeout 이 쌓여 회로가 열림
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> redis.opsForValue().get(key))
+                    .isInstanceOf(RedisUnavailableException.class);
+        }
+
+        // then: 이후 호출은 Redis 로 보내지 않고 바로 거부
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        long forwarded = proxy.forwardedRequests();
+        assertThatThrownBy(() -> redis.opsForValue().get(key)).isInstanceOf(RedisUnavailableException.class);
+        assertThat(proxy.forwardedRequests()).isEqualTo(forwarded);
+    }
+
+    @Test
+    void closesAgainWhenRedisRecovers() throws InterruptedException {
+        // given
+        redis.opsForValue().set(key, "v");
+        proxy.setLatency(Duration.ofMillis(300));
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> redis.opsForValue().get(key))
+                    .isInstanceOf(RedisUnavailableException.class);
+        }
+
+        // when: 지연 제거 + 밀린 응답이 빠질 때까지 대기
+        proxy.setLatency(Duration.ZERO);
+        Thread.sleep(2_000);
+
+        // then
+        assertThat(redis.opsForValue().get(key)).isEqualTo("v");
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
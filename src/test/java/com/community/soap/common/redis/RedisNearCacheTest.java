@@ -0,0 +1,113 @@
+package com.community.soap.common.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.redis.config.RedisCircuitProperties;
+import com.community.soap.common.redis.config.RedisClientProperties;
+import com.community.soap.common.redis.config.RedisConfig;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 실제 Redis(6+, RESP3) 대상 (REDIS_HOST 가 설정된 경우에만)
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class RedisNearCacheTest {
+
+    LettuceConnectionFactory factory;
+    StringRedisTemplate writer;
+    RedisNearCache cache;
+    String key = "user-service:TEST:NC:" + UUID.randomUUID();
+    // near cache 의 tracking 커넥션이 실제로 보낸 GET 수
+    AtomicInteger gets = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        RedisProperties props = new RedisProperties();
+        props.setHost(System.getenv("REDIS_HOST"));
+        props.setPort(Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        factory = new LettuceConnectionFactory(props.getHost(), props.getPort());
+        factory.afterPropertiesSet();
+        writer = new StringRedisTemplate(factory);
+        cache = new RedisConfig(props, new RedisClientProperties()).nearCache(factory, 1_000,
+                new RedisCircuitBreaker(new RedisCircuitProperties(), new SimpleMeterRegistry()),
+                new SimpleMeterRegistry(), List.of(new CommandListener() {
+                    @Override
+                    public void commandStarted(CommandStartedEvent event) {
+                        if ("GET".equals(event.getCommand().getType().toString())) {
+                            gets.incrementAndGet();
+                        }
+                    }
+                }));
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.delete(key);
+        cache.destroy();
+        factory.destroy();
+    }
+
+    @Test
+    void repeatedReadsAreServedLocally() {
+        // given
+        writer.opsForValue().set(key, "v1", Duration.ofMinutes(1));
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            assertThat(cache.get(key, RedisNearCache.STRING)).contains("v1");
+        }
+
+        // then: Redis 에는 첫 조회의 GET 한 번만 나감
+        assertThat(cache.hitRatio()).isGreaterThanOrEqualTo(0.99);
+        assertThat(gets).hasValue(1);
+    }
+
+    @Test
+    void writeFromAnotherConnectionInvalidates() throws InterruptedException {
+        // given: 없는 키도 음성 캐시
+        assertThat(cache.get(key, RedisNearCache.EXISTS)).isFalse();
+
+        // when
+        writer.opsForValue().set(key, "v1", Duration.ofMinutes(1));
+
+        // then: push invalidate 도착 후 새 값
+        assertThat(awaitExists()).isTrue();
+    }
+
+    @Test
+    void localTtlExpiresEntry() throws InterruptedException {
+        // given
+        writer.opsForValue().set(key, "v1", Duration.ofMillis(300));
+        assertThat(cache.get(key, RedisNearCache.STRING)).contains("v1");
+
+        // when
+        Thread.sleep(500);
+
+        // then
+        assertThat(cache.get(key, RedisNearCache.STRING)).isEmpty();
+    }
+
+    private boolean awaitExists() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (cache.get(key, RedisNearCache.EXISTS)) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,142 @@
+package com.community.soap.common.redis.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.lettuce.core.ClientOptions.DisconnectedBehavior;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+
+class RedisConfigTest {
+
+    ClientResources resources = DefaultClientResources.create();
+    RedisProperties redisProperties = new RedisProperties();
+    RedisClientProperties clientProperties = new RedisClientProperties();
+
+    @AfterEach
+    void tearDown() {
+        resources.shutdown();
+    }
+
+    @Test
+    void requestPathFactoryUsesConfiguredTimeoutsAndSharedConnection() {
+        // given
+        redisProperties.setPassword("secret");
+        redisProperties.setTimeout(Duration.ofMillis(700));
+        redisProperties.setConnectTimeout(Duration.ofMillis(300));
+
+        // when
+        LettuceConnectionFactory factory = new RedisConfig(redisProperties, clientProperties)
+                .redisConnectionFactory(resources);
+
+        // then
+        LettuceClientConfiguration config = factory.getClientConfiguration();
+        assertThat(factory.getShareNativeConnection()).isTrue();
+        assertThat(factory.getPassword()).isEqualTo("secret");
+        assertThat(config.getCommandTimeout()).isEqualTo(Duration.ofMillis(700));
+        assertThat(config.getClientResources()).containsSame(resources);
+        assertThat(config.getClientOptions()).get().satisfies(options -> {
+            assertThat(options.getDisconnectedBehavior()).isEqualTo(DisconnectedBehavior.REJECT_COMMANDS);
+            assertThat(options.getSocketOptions().getConnectTimeout()).isEqualTo(Duration.ofMillis(300));
+            assertThat(options.getTimeoutOptions().isTimeoutCommands()).isTrue();
+        });
+        assertThat(config).isNotInstanceOf(LettucePoolingClientConfiguration.class);
+    }
+
+    @Test
+    void poolIsUsedOnlyWhenEnabled() {
+        // given
+        redisProperties.getLettuce().getPool().setEnabled(true);
+        redisProperties.getLettuce().getPool().setMaxActive(16);
+
+        // when
+        RedisConfig redisConfig = new RedisConfig(redisProperties, clientProperties);
+        LettuceConnectionFactory main = redisConfig.redisConnectionFactory(resources);
+        LettuceConnectionFactory bulk = redisConfig.bulkRedisConnectionFactory(resources);
+
+        // then
+        assertThat(main.getClientConfiguration()).isInstanceOfSatisfying(LettucePoolingClientConfiguration.class,
+                c -> assertThat(c.getPoolConfig().getMaxTotal()).isEqualTo(16));
+        assertThat(bulk.getClientConfiguration()).isNotInstanceOf(LettucePoolingClientConfiguration.class);
+        assertThat(bulk.getShareNativeConnection()).isFalse();
+        assertThat(bulk.getClientConfiguration().getCommandTimeout()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void emptyPasswordIsNotSent() {
+        // given
+        redisProperties.setPassword("");
+
+        // when
+        LettuceConnectionFactory factory = new RedisConfig(redisProperties, clientProperties)
+                .redisConnectionFactory(resources);
+
+        // then
+        assertThat(factory.getPassword()).isNull();
+    }
+
+    @Test
+    void clusterNodesSwitchBothFactoriesToCluster() {
+        // given
+        RedisProperties.Cluster cluster = new RedisProperties.Cluster();
+        cluster.setNodes(List.of("127.0.0.1:7000", "127.0.0.1:7001"));
+        cluster.setMaxRedirects(3);
+        redisProperties.setCluster(cluster);
+        redisProperties.getLettuce().getCluster().getRefresh().setAdaptive(true);
+        redisProperties.getLettuce().getCluster().getRefresh().setPeriod(Duration.ofSeconds(30));
+
+        // when
+        RedisConfig redisConfig = new RedisConfig(redisProperties, clientProperties);
+        LettuceConnectionFactory main = redisConfig.redisConnectionFactory(resources);
+        LettuceConnectionFactory bulk = redisConfig.bulkRedisConnectionFactory(resources);
+
+        // then
+        for (LettuceConnectionFactory factory : List.of(main, bulk)) {
+            assertThat(factory.isRedisClusterAware()).isTrue();
+            assertThat(factory.getClusterConfiguration().getClusterNodes()).hasSize(2);
+            assertThat(factory.getClusterConfiguration().getMaxRedirects()).isEqualTo(3);
+            assertThat(factory.getClientConfiguration().getClientOptions()).get()
+                    .isInstanceOfSatisfying(ClusterClientOptions.class, options -> {
+                        assertThat(options.getTopologyRefreshOptions().isPeriodicRefreshEnabled()).isTrue();
+                        assertThat(options.getTopologyRefreshOptions().getAdaptiveRefreshTriggers()).isNotEmpty();
+                        assertThat(options.getDisconnectedBehavior())
+                                .isEqualTo(DisconnectedBehavior.REJECT_COMMANDS);
+                    });
+        }
+    }
+
+    @Test
+    void nearCacheTrackingUriKeepsAclSslClientNameAndTimeout() {
+        // given
+        redisProperties.setHost("redis.internal");
+        redisProperties.setPort(6380);
+        redisProperties.setDatabase(2);
+        redisProperties.setUsername("app");
+        redisProperties.setPassword("secret");
+        redisProperties.setClientName("user-service");
+        redisProperties.getSsl().setEnabled(true);
+        redisProperties.setTimeout(Duration.ofMillis(700));
+
+        // when
+        RedisURI uri = new RedisConfig(redisProperties, clientProperties).trackingUri();
+
+        // then
+        assertThat(uri.getHost()).isEqualTo("redis.internal");
+        assertThat(uri.getPort()).isEqualTo(6380);
+        assertThat(uri.getDatabase()).isEqualTo(2);
+        assertThat(uri.getUsername()).isEqualTo("app");
+        assertThat(uri.getPassword()).isEqualTo("secret".toCharArray());
+        assertThat(uri.isSsl()).isTrue();
+        assertThat(uri.getClientName()).isEqualTo("user-service");
+        assertThat(uri.getTimeout()).isEqualTo(Duration.ofMillis(700));
+    }
+}
@@ -0,0 +1,66 @@
+package com.community.soap.common.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.resilience.CircuitBreaker.State;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    AtomicLong now = new AtomicLong();
+    CircuitBreaker breaker = new CircuitBreaker("test",
+            new CircuitBreaker.Config(10, 4, 0.5, Duration.ofSeconds(30)), now::get);
+
+    @Test
+    void opensWhenFailureRateExceeded() {
+        // when
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(State.CLOSED); // minCalls 미만
+        breaker.onFailure();
+
+        // then
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void allowsSingleProbeAfterOpenDuration() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+
+        // when
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // then
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.state()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(State.CLOSED);
+        assertThat(breaker.failureRate()).isZero();
+    }
+
+    @Test
+    void reopensWhenProbeFails() {
+        // given
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        now.addAndGet(Duration.ofSeconds(30).toNanos());
+        breaker.tryAcquire();
+
+        // when
+        breaker.onFailure();
+
+        // then
+        assertThat(breaker.state()).isEqualTo(State.OPEN);
+        assertThat(breaker.isCallPermitted()).isFalse();
+    }
+}
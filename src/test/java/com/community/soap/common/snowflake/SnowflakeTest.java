@@ -10,6 +10,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Test;
 
 
@@ -76,4 +77,25 @@ class SnowflakeTest {
 
         executorService.shutdown();
     }
-}
\ No newline at end of file
+
+    @Test
+    void countsSequenceExhaustionWaits() {
+        // given: 시계는 처음 4100 번 읽힐 때까지 같은 ms (발급마다 1번 + 대기 중 spin 마다 1번 읽음)
+        long base = 1_704_067_300_000L;
+        AtomicLong reads = new AtomicLong();
+        Snowflake fresh = new Snowflake(() -> reads.incrementAndGet() <= 4100 ? base : base + 1);
+
+        // when: 같은 ms 의 sequence(4096개)를 다 쓰고 한 개 더
+        long last = 0;
+        for (int i = 0; i < 4097; i++) {
+            last = fresh.nextId();
+        }
+
+        // then: 4097 번째 발급이 다음 ms 까지 한 번 대기 (같은 ms 3번 + 다음 ms 1번 = spin 4)
+        assertThat(fresh.waitCount()).isEqualTo(1);
+        assertThat(fresh.waitSpinCount()).isEqualTo(4);
+        assertThat(fresh.waitNanos()).isNotNegative();
+        assertThat(last >>> 22).isEqualTo(base + 1 - 1704067200000L);
+        assertThat(last & 4095).isZero();
+    }
+}
@@ -0,0 +1,130 @@
+package com.community.soap.user.application.port.out;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.user.application.port.out.EmailVerificationRepositoryPort.CodeRequestResult;
+import com.community.soap.user.application.port.out.EmailVerificationRepositoryPort.CodeVerifyResult;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * EmailVerificationRepositoryPort 구현(Redis / 인메모리)이 공통으로 지켜야 하는 의미
+ */
+public abstract class EmailVerificationRepositoryPortContract {
+
+    static final Duration CODE_TTL = Duration.ofMinutes(5);
+    static final Duration COOLTIME = Duration.ofSeconds(60);
+    static final Duration WINDOW = Duration.ofMinutes(5);
+    static final Duration BLOCK = Duration.ofMinutes(10);
+    static final Duration VERIFIED = Duration.ofMinutes(10);
+
+    protected abstract EmailVerificationRepositoryPort port();
+
+    String email() {
+        return "contract-" + UUID.randomUUID() + "@soap.test";
+    }
+
+    CodeVerifyResult verify(String email, String hash, long maxAttempts) {
+        return port().verifyCode(email, hash, WINDOW, maxAttempts, BLOCK, VERIFIED);
+    }
+
+    @Test
+    void secondRequestWithinCooltimeIsRejected() {
+        // given
+        String email = email();
+
+        // when & then
+        assertThat(port().requestCode(email, "h1", CODE_TTL, COOLTIME)).isEqualTo(CodeRequestResult.ISSUED);
+        assertThat(port().requestCode(email, "h2", CODE_TTL, COOLTIME))
+                .isEqualTo(CodeRequestResult.IN_COOLTIME);
+    }
+
+    @Test
+    void requestAgainAfterCooltime() throws InterruptedException {
+        // given
+        String email = email();
+        port().requestCode(email, "h1", CODE_TTL, Duration.ofMillis(200));
+        Thread.sleep(400);
+
+        // when
+        CodeRequestResult result = port().requestCode(email, "h2", CODE_TTL, COOLTIME);
+
+        // then: 새 코드로 교체
+        assertThat(result).isEqualTo(CodeRequestResult.ISSUED);
+        assertThat(verify(email, "h1", 5)).isEqualTo(CodeVerifyResult.MISMATCH);
+        assertThat(verify(email, "h2", 5)).isEqualTo(CodeVerifyResult.VERIFIED);
+    }
+
+    @Test
+    void verifyWithoutRequest() {
+        assertThat(verify(email(), "h", 5)).isEqualTo(CodeVerifyResult.NOT_REQUESTED);
+    }
+
+    @Test
+    void expiredCodeIsNotRequested() throws InterruptedException {
+        // given
+        String email = email();
+        port().requestCode(email, "h", Duration.ofMillis(200), COOLTIME);
+
+        // when
+        Thread.sleep(400);
+
+        // then
+        assertThat(verify(email, "h", 5)).isEqualTo(CodeVerifyResult.NOT_REQUESTED);
+    }
+
+    @Test
+    void verifiedFlagUntilCleared() {
+        // given
+        String email = email();
+        port().requestCode(email, "h", CODE_TTL, COOLTIME);
+
+        // when
+        CodeVerifyResult result = verify(email, "h", 5);
+
+        // then: 코드는 1회용
+        assertThat(result).isEqualTo(CodeVerifyResult.VERIFIED);
+        assertThat(port().isVerified(email)).isTrue();
+        assertThat(verify(email, "h", 5)).isEqualTo(CodeVerifyResult.NOT_REQUESTED);
+
+        port().clearVerified(email);
+        assertThat(port().isVerified(email)).isFalse();
+    }
+
+    @Test
+    void blocksAfterMaxAttempts() {
+        // given
+        String email = email();
+        port().requestCode(email, "h", CODE_TTL, COOLTIME);
+
+        // when
+        assertThat(verify(email, "x", 3)).isEqualTo(CodeVerifyResult.MISMATCH);
+        assertThat(verify(email, "x", 3)).isEqualTo(CodeVerifyResult.MISMATCH);
+        assertThat(verify(email, "x", 3)).isEqualTo(CodeVerifyResult.MISMATCH);
+
+        // then: 차단 중에는 맞는 코드도, 재요청도 거부
+        assertThat(verify(email, "h", 3)).isEqualTo(CodeVerifyResult.BLOCKED);
+        assertThat(port().requestCode(email, "h2", CODE_TTL, Duration.ofMillis(1)))
+                .isEqualTo(CodeRequestResult.BLOCKED);
+        assertThat(port().isVerified(email)).isFalse();
+    }
+
+    @Test
+    void successResetsAttempts() throws InterruptedException {
+        // given
+        String email = email();
+        port().requestCode(email, "h", CODE_TTL, Duration.ofMillis(1));
+        verify(email, "x", 2);
+        verify(email, "h", 2);
+
+        // when: 다음 코드에서 1회 실패는 차단으로 이어지지 않음
+        Thread.sleep(10);
+        port().clearVerified(email);
+        port().requestCode(email, "h2", CODE_TTL, COOLTIME);
+
+        // then
+        assertThat(verify(email, "x", 2)).isEqualTo(CodeVerifyResult.MISMATCH);
+        assertThat(verify(email, "h2", 2)).isEqualTo(CodeVerifyResult.VERIFIED);
+    }
+}
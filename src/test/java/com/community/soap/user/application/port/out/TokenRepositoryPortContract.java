@@ -0,0 +1,280 @@
+package com.community.soap.user.application.port.out;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TokenRepositoryPort 구현(Redis / 인메모리)이 공통으로 지켜야 하는 의미.
+ * 구현별 테스트는 이 클래스를 상속해 port() 만 제공한다
+ */
+public abstract class TokenRepositoryPortContract {
+
+    protected abstract TokenRepositoryPort port();
+
+    String jti() {
+        return "contract-" + UUID.randomUUID();
+    }
+
+    Long userId() {
+        return ThreadLocalRandom.current().nextLong(1L << 40, 1L << 50);
+    }
+
+    @Test
+    void savedRefreshTokenIsReadableWithTtl() {
+        // given
+        String jti = jti();
+        Long userId = userId();
+
+        // when
+        port().saveRefreshToken(jti, userId, "hash", 60_000);
+
+        // then
+        assertThat(port().getRefreshTokenHashByJti(userId, jti)).contains("hash");
+        assertThat(port().hasUserRefreshJti(userId, jti)).isTrue();
+        assertThat(port().getRefreshTokenTtl(userId, jti)).get()
+                .satisfies(ttl -> assertThat(ttl).isBetween(Duration.ofSeconds(55), Duration.ofSeconds(60)));
+    }
+
+    @Test
+    void refreshTokenExpires() throws InterruptedException {
+        // given
+        String jti = jti();
+        Long userId = userId();
+        port().saveRefreshToken(jti, userId, "hash", 200);
+
+        // when
+        Thread.sleep(400);
+
+        // then
+        assertThat(port().getRefreshTokenHashByJti(userId, jti)).isEmpty();
+        assertThat(port().getRefreshTokenTtl(userId, jti)).isEmpty();
+    }
+
+    @Test
+    void deleteAndRemoveIndex() {
+        // given
+        String jti = jti();
+        Long userId = userId();
+        port().saveRefreshToken(jti, userId, "hash", 60_000);
+
+        // when
+        port().deleteRefreshTokenByJti(userId, jti);
+        port().removeUserRefreshIndex(userId, jti);
+
+        // then
+        assertThat(port().getRefreshTokenHashByJti(userId, jti)).isEmpty();
+        assertThat(port().hasUserRefreshJti(userId, jti)).isFalse();
+        assertThat(port().getUserRefreshJtis(userId)).isEmpty();
+    }
+
+    @Test
+    void revokeRemovesHashAndIndexTogether() {
+        // given
+        Long userId = userId();
+        String a = jti();
+        String b = jti();
+        port().saveRefreshToken(a, userId, "ha", 60_000);
+        port().saveRefreshToken(b, userId, "hb", 60_000);
+
+        // when
+        port().revokeRefreshToken(userId, a);
+
+        // then
+        assertThat(port().getRefreshTokenHashByJti(userId, a)).isEmpty();
+        assertThat(port().getUserRefreshJtis(userId)).containsExactly(b);
+        assertThat(port().getRefreshTokenHashByJti(userId, b)).contains("hb");
+    }
+
+    @Test
+    void rotateReplacesOldSessionWithNew() {
+        // given
+        Long userId = userId();
+        String oldJti = jti();
+        String newJti = jti();
+        port().saveRefreshToken(oldJti, userId, "old", 60_000);
+
+        // when
+        boolean rotated = port().rotateRefreshToken(userId, oldJti, "old", newJti, "new", 30_000);
+
+        // then
+        assertThat(rotated).isTrue();
+        assertThat(port().getRefreshTokenHashByJti(userId, oldJti)).isEmpty();
+        assertThat(port().getRefreshTokenHashByJti(userId, newJti)).contains("new");
+        assertThat(port().getUserRefreshJtis(userId)).containsExactly(newJti);
+        assertThat(port().getRefreshTokenTtl(userId, newJti)).get()
+                .satisfies(ttl -> assertThat(ttl).isBetween(Duration.ofSeconds(25), Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void rotateAfterRevokeDoesNotCreateSession() {
+        // given: 해시를 읽은 뒤 회전 전에 로그아웃
+        Long userId = userId();
+        String oldJti = jti();
+        String newJti = jti();
+        port().saveRefreshToken(oldJti, userId, "old", 60_000);
+        String read = port().getRefreshTokenHashByJti(userId, oldJti).orElseThrow();
+        port().revokeRefreshToken(userId, oldJti);
+
+        // when
+        boolean rotated = port().rotateRefreshToken(userId, oldJti, read, newJti, "new", 30_000);
+
+        // then
+        assertThat(rotated).isFalse();
+        assertThat(port().getRefreshTokenHashByJti(userId, newJti)).isEmpty();
+        assertThat(port().getUserRefreshJtis(userId)).isEmpty();
+    }
+
+    @Test
+    void rotateWithStaleHashKeepsCurrentSession() {
+        // given: 다른 노드의 오래된 캐시처럼 저장된 값과 다른 해시로 회전 시도
+        Long userId = userId();
+        String oldJti = jti();
+        String newJti = jti();
+        port().saveRefreshToken(oldJti, userId, "current", 60_000);
+
+        // when
+        boolean rotated = port().rotateRefreshToken(userId, oldJti, "stale", newJti, "new", 30_000);
+
+        // then
+        assertThat(rotated).isFalse();
+        assertThat(port().getRefreshTokenHashByJti(userId, oldJti)).contains("current");
+        assertThat(port().getUserRefreshJtis(userId)).containsExactly(oldJti);
+    }
+
+    @Test
+    void concurrentRotationsOfOneUserKeepIndexConsistent() throws Exception {
+        // given: 한 유저의 세션 8개를 동시에 회전
+        Long userId = userId();
+        List<String> olds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String jti = jti();
+            olds.add(jti);
+            port().saveRefreshToken(jti, userId, "h", 60_000);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> futures = new ArrayList<>();
+        for (String old : olds) {
+            futures.add(executor.submit(() -> {
+                String next = jti();
+                port().rotateRefreshToken(userId, old, "h", next, "n", 60_000);
+                return next;
+            }));
+        }
+        List<String> news = new ArrayList<>();
+        for (Future<String> f : futures) {
+            news.add(f.get());
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(port().getUserRefreshJtis(userId)).containsExactlyInAnyOrderElementsOf(news);
+        olds.forEach(old -> assertThat(port().getRefreshTokenHashByJti(userId, old)).isEmpty());
+    }
+
+    @Test
+    void popAllEmptiesIndexAndReturnsMembers() {
+        // given
+        Long userId = userId();
+        String a = jti();
+        String b = jti();
+        port().saveRefreshToken(a, userId, "ha", 60_000);
+        port().saveRefreshToken(b, userId, "hb", 60_000);
+
+        // when
+        Set<String> popped = port().popAllUserRefreshJtis(userId);
+        port().mdeleteRefreshTokensByJtis(userId, popped);
+
+        // then
+        assertThat(popped).containsExactlyInAnyOrder(a, b);
+        assertThat(port().getUserRefreshJtis(userId)).isEmpty();
+        assertThat(port().popAllUserRefreshJtis(userId)).isEmpty();
+        assertThat(port().getRefreshTokenHashByJti(userId, a)).isEmpty();
+        assertThat(port().getRefreshTokenHashByJti(userId, b)).isEmpty();
+    }
+
+    @Test
+    void concurrentPopAllHandsEachMemberToOneCaller() throws Exception {
+        // given
+        Long userId = userId();
+        for (int i = 0; i < 50; i++) {
+            port().addUserRefreshIndex(userId, "j" + i);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<Set<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> port().popAllUserRefreshJtis(userId)));
+        }
+
+        // then
+        int total = 0;
+        for (Future<Set<String>> f : futures) {
+            total += f.get().size();
+        }
+        assertThat(total).isEqualTo(50);
+        executor.shutdown();
+    }
+
+    @Test
+    void deleteAllRefreshTokensOfUser() {
+        // given
+        Long userId = userId();
+        String a = jti();
+        String b = jti();
+        port().saveRefreshToken(a, userId, "ha", 60_000);
+        port().saveRefreshToken(b, userId, "hb", 60_000);
+
+        // when
+        port().deleteAllRefreshTokensOfUser(userId);
+
+        // then
+        assertThat(port().getRefreshTokenHashByJti(userId, a)).isEmpty();
+        assertThat(port().getRefreshTokenHashByJti(userId, b)).isEmpty();
+        assertThat(port().getUserRefreshJtis(userId)).isEmpty();
+    }
+
+    @Test
+    void blacklistDoesNotExtendTtl() {
+        // given
+        String jti = jti();
+        port().blacklistAccessJti(jti, 10_000);
+
+        // when
+        port().blacklistAccessJti(jti, 60_000);
+
+        // then
+        assertThat(port().isAccessJtiBlacklisted(jti)).isTrue();
+        assertThat(port().getAccessBlacklistTtl(jti)).get()
+                .satisfies(ttl -> assertThat(ttl).isLessThanOrEqualTo(Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void blacklistExpiresAndCanBeSetAgain() throws InterruptedException {
+        // given
+        String jti = jti();
+        port().blacklistAccessJti(jti, 200);
+        Thread.sleep(400);
+        assertThat(port().isAccessJtiBlacklisted(jti)).isFalse();
+
+        // when
+        port().blacklistAccessJti(jti, 60_000);
+
+        // then
+        assertThat(port().isAccessJtiBlacklisted(jti)).isTrue();
+        assertThat(port().getAccessBlacklistTtl(jti)).get()
+                .satisfies(ttl -> assertThat(ttl).isGreaterThan(Duration.ofSeconds(50)));
+    }
+}
@@ -0,0 +1,316 @@
+package com.community.soap.user.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.concurrent.TimerWheel;
+import com.community.soap.user.application.policy.UserPurgePolicy;
+import com.community.soap.user.application.port.out.UserPurgeCursorPort;
+import com.community.soap.user.application.port.out.UserRepositoryPort;
+import com.community.soap.user.domain.entity.User;
+import com.community.soap.user.infrastructure.memory.InMemoryTokenStoreAdapter;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class UserPurgeServiceTest {
+
+    static final Duration RETENTION = Duration.ofDays(30);
+
+    // soft-delete 시각만 들고 있는 회원 저장소 (조회 조건은 JpaUserAdapter 쿼리와 동일: id > after, deletedAt < cutoff)
+    static class FakeUserRepository implements UserRepositoryPort {
+
+        final TreeMap<Long, LocalDateTime> deletedAt = new TreeMap<>();
+        final List<Long> queriedAfter = new ArrayList<>();
+        Runnable afterDelete = () -> {
+        };
+
+        @Override
+        public List<Long> findPurgeCandidateIds(Long afterUserId, LocalDateTime deletedBefore, int limit) {
+            queriedAfter.add(afterUserId);
+            return deletedAt.tailMap(afterUserId, false).entrySet().stream()
+                    .filter(e -> e.getValue().isBefore(deletedBefore))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+
+        @Override
+        public int deleteSoftDeletedByUserIds(List<Long> userIds) {
+            int deleted = 0;
+            for (Long id : userIds) {
+                if (deletedAt.remove(id) != null) {
+                    deleted++;
+                }
+            }
+            afterDelete.run();
+            return deleted;
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            return Optional.empty();
+        }
+
+        @Override
+        public User save(User user) {
+            return user;
+        }
+
+        @Override
+        public Optional<User> findByUserId(Long userId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            return false;
+        }
+    }
+
+    static class FakeCursorPort implements UserPurgeCursorPort {
+
+        Long cursor;
+        String lockOwner;
+        final List<Long> saved = new ArrayList<>();
+
+        @Override
+        public Optional<Long> loadCursor() {
+            return Optional.ofNullable(cursor);
+        }
+
+        @Override
+        public boolean saveCursor(String owner, Long lastUserId) {
+            if (!owner.equals(lockOwner)) {
+                return false;
+            }
+            cursor = lastUserId;
+            saved.add(lastUserId);
+            return true;
+        }
+
+        @Override
+        public boolean clearCursor(String owner) {
+            if (!owner.equals(lockOwner)) {
+                return false;
+            }
+            cursor = null;
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(String owner, Duration ttl) {
+            if (lockOwner != null) {
+                return false;
+            }
+            lockOwner = owner;
+            return true;
+        }
+
+        @Override
+        public boolean renewLock(String owner, Duration ttl) {
+            return owner.equals(lockOwner);
+        }
+
+        @Override
+        public void unlock(String owner) {
+            if (owner.equals(lockOwner)) {
+                lockOwner = null;
+            }
+        }
+    }
+
+    record Policy(int chunkSize, int maxChunksPerRun) implements UserPurgePolicy {
+
+        @Override
+        public Duration retention() {
+            return RETENTION;
+        }
+
+        @Override
+        public Duration throttle() {
+            return Duration.ZERO;
+        }
+
+        @Override
+        public Duration chunkTimeout() {
+            return Duration.ofSeconds(10);
+        }
+
+        @Override
+        public Duration lockTtl() {
+            return Duration.ofMinutes(10);
+        }
+    }
+
+    static class NoopTransactionManager implements PlatformTransactionManager {
+
+        int commits;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+
+    TimerWheel wheel = new TimerWheel("test", Duration.ofMillis(10), 64);
+    FakeUserRepository users = new FakeUserRepository();
+    FakeCursorPort cursor = new FakeCursorPort();
+    NoopTransactionManager tx = new NoopTransactionManager();
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    private UserPurgeService service(int chunkSize, int maxChunksPerRun) {
+        return new UserPurgeService(users, new InMemoryTokenStoreAdapter(wheel), cursor,
+                new Policy(chunkSize, maxChunksPerRun), tx);
+    }
+
+    private void softDeleted(long userId, Duration ago) {
+        users.deletedAt.put(userId, LocalDateTime.now().minus(ago));
+    }
+
+    @Test
+    void cursorAdvancesAcrossChunks() {
+        // given: 5명, 청크 2
+        for (long id = 1; id <= 5; id++) {
+            softDeleted(id, RETENTION.plusDays(1));
+        }
+
+        // when
+        long purged = service(2, 10).purgeSoftDeletedUsers();
+
+        // then: 청크마다 마지막 userId 뒤에서 이어 조회, 청크당 트랜잭션 1회
+        assertThat(purged).isEqualTo(5);
+        assertThat(users.queriedAfter).containsExactly(0L, 2L, 4L);
+        assertThat(cursor.saved).containsExactly(2L, 4L, 5L);
+        assertThat(tx.commits).isEqualTo(3);
+        assertThat(cursor.cursor).isNull(); // 끝까지 돌았으면 다음 실행은 처음부터
+        assertThat(users.deletedAt).isEmpty();
+    }
+
+    @Test
+    void resumesFromSavedCursorAfterMaxChunks() {
+        // given
+        for (long id = 1; id <= 6; id++) {
+            softDeleted(id, RETENTION.plusDays(1));
+        }
+        UserPurgeService service = service(2, 2);
+
+        // when
+        long first = service.purgeSoftDeletedUsers();
+
+        // then: 2청크 후 중단, 커서 유지
+        assertThat(first).isEqualTo(4);
+        assertThat(cursor.cursor).isEqualTo(4L);
+
+        // when: 다음 실행은 커서부터
+        users.queriedAfter.clear();
+        long second = service.purgeSoftDeletedUsers();
+
+        // then
+        assertThat(second).isEqualTo(2);
+        assertThat(users.queriedAfter.get(0)).isEqualTo(4L);
+        assertThat(users.deletedAt).isEmpty();
+    }
+
+    @Test
+    void keepsUsersInsideRetention() {
+        // given: 보존 기간 경계 양쪽
+        softDeleted(1L, RETENTION.plusMinutes(1));
+        softDeleted(2L, RETENTION.minusMinutes(1));
+
+        // when
+        long purged = service(10, 10).purgeSoftDeletedUsers();
+
+        // then
+        assertThat(purged).isEqualTo(1);
+        assertThat(users.deletedAt).containsOnlyKeys(2L);
+    }
+
+    @Test
+    void skipsRunWhenLockIsHeld() {
+        // given: 다른 인스턴스가 실행 중
+        softDeleted(1L, RETENTION.plusDays(1));
+        cursor.lockOwner = "other-instance";
+
+        // when
+        long purged = service(10, 10).purgeSoftDeletedUsers();
+
+        // then
+        assertThat(purged).isZero();
+        assertThat(users.queriedAfter).isEmpty();
+        assertThat(users.deletedAt).containsOnlyKeys(1L);
+        assertThat(cursor.lockOwner).isEqualTo("other-instance"); // 남의 락은 풀지 않음
+    }
+
+    @Test
+    void stopsBeforeNextChunkWhenLockIsLost() {
+        // given: 첫 청크 커서 저장 후 락 TTL 이 만료돼 다른 인스턴스가 획득
+        for (long id = 1; id <= 6; id++) {
+            softDeleted(id, RETENTION.plusDays(1));
+        }
+        int[] deletes = {0};
+        users.afterDelete = () -> {
+            if (++deletes[0] == 2) {
+                cursor.lockOwner = "other-instance";
+            }
+        };
+
+        // when
+        long purged = service(2, 10).purgeSoftDeletedUsers();
+
+        // then: 락을 잃은 청크의 커서는 전진하지 않고, 다음 청크는 조회하지 않음
+        assertThat(purged).isEqualTo(4);
+        assertThat(cursor.saved).containsExactly(2L);
+        assertThat(cursor.cursor).isEqualTo(2L);
+        assertThat(users.queriedAfter).containsExactly(0L, 2L);
+        assertThat(users.deletedAt).containsOnlyKeys(5L, 6L);
+        assertThat(cursor.lockOwner).isEqualTo("other-instance"); // 남의 락은 풀지 않음
+    }
+
+    @Test
+    void renewsLockBeforeEveryChunk() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            softDeleted(id, RETENTION.plusDays(1));
+        }
+        List<String> renewed = new ArrayList<>();
+        FakeCursorPort counting = new FakeCursorPort() {
+            @Override
+            public boolean renewLock(String owner, Duration ttl) {
+                renewed.add(owner);
+                return super.renewLock(owner, ttl);
+            }
+        };
+        UserPurgeService service = new UserPurgeService(users, new InMemoryTokenStoreAdapter(wheel), counting,
+                new Policy(2, 10), tx);
+
+        // when
+        service.purgeSoftDeletedUsers();
+
+        // then: 청크 3개 → 연장 3번, 모두 같은 소유자
+        assertThat(renewed).hasSize(3).containsOnly(renewed.get(0));
+        assertThat(counting.lockOwner).isNull();
+    }
+}
@@ -0,0 +1,633 @@
+package com.community.soap.user.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import com.community.soap.common.concurrent.TimerWheel;
+import com.community.soap.common.jwt.JwtErrorCode;
+import com.community.soap.common.jwt.JwtProvider;
+import com.community.soap.common.jwt.JwtTestSupport;
+import com.community.soap.common.jwt.RedisTokenWatermarkStore;
+import com.community.soap.common.jwt.TokenException;
+import com.community.soap.common.jwt.TokenWatermarkStore;
+import com.community.soap.common.redis.InMemoryStringRedisTemplate;
+import com.community.soap.common.redis.RedisUnavailableException;
+import com.community.soap.common.snowflake.Snowflake;
+import com.community.soap.common.util.TokenHash;
+import com.community.soap.user.application.policy.RefreshRotationPolicy;
+import com.community.soap.user.application.port.out.RefreshRotationPort;
+import com.community.soap.user.application.port.out.RefreshRotationPort.RefreshRotation;
+import com.community.soap.user.application.port.out.TokenRepositoryAsyncPort;
+import com.community.soap.user.application.port.out.UserRepositoryPort;
+import com.community.soap.user.application.request.SignInRequest;
+import com.community.soap.user.application.response.SignInResponse;
+import com.community.soap.user.domain.entity.User;
+import com.community.soap.user.infrastructure.jwt.RefreshRotationAdapter;
+import com.community.soap.user.infrastructure.memory.InMemoryTokenStoreAdapter;
+import com.community.soap.user.infrastructure.memory.InMemoryTokenStoreAsyncAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 로그인/재발급/로그아웃 흐름. Redis 대신 인메모리 저장소, 노드 간 grace 기록은 공유 InMemoryStringRedisTemplate
+ */
+class UserServiceTest {
+
+    static final String EMAIL = "user@soap.com";
+    static final String PASSWORD = "password1!";
+    static final String REFRESH_SECRET = Base64.getEncoder().encodeToString("r".repeat(64).getBytes());
+
+    record Policy(Duration graceTtl, Duration waitTimeout, Duration pollInterval)
+            implements RefreshRotationPolicy {
+
+    }
+
+    static class FakeUserRepository implements UserRepositoryPort {
+
+        final ConcurrentHashMap<Long, User> users = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            return users.values().stream().filter(u -> u.getEmail().equals(email)).findFirst();
+        }
+
+        @Override
+        public User save(User user) {
+            users.put(user.getUserId(), user);
+            return user;
+        }
+
+        @Override
+        public Optional<User> findByUserId(Long userId) {
+            return Optional.ofNullable(users.get(userId));
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            return findByEmail(email).isPresent();
+        }
+
+        @Override
+        public List<Long> findPurgeCandidateIds(Long afterUserId, LocalDateTime deletedBefore, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public int deleteSoftDeletedByUserIds(List<Long> userIds) {
+            return 0;
+        }
+    }
+
+    // 결과 기록(complete)만 실패시키는 grace 저장소
+    static class FailingCompleteRotationPort implements RefreshRotationPort {
+
+        final RefreshRotationPort delegate;
+
+        FailingCompleteRotationPort(RefreshRotationPort delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean tryClaim(String rJti, Duration ttl) {
+            return delegate.tryClaim(rJti, ttl);
+        }
+
+        @Override
+        public void complete(String rJti, String refreshHash, SignInResponse response, Duration graceTtl) {
+            throw new IllegalStateException("grace 기록 실패");
+        }
+
+        @Override
+        public void release(String rJti) {
+            delegate.release(rJti);
+        }
+
+        @Override
+        public Optional<RefreshRotation> find(String rJti) {
+            return delegate.find(rJti);
+        }
+    }
+
+    // 다른 노드가 선점한 채 결과를 남기지 않는 상태 (PENDING 이 만료되지 않음), find 횟수를 센다
+    static class StuckRotationPort implements RefreshRotationPort {
+
+        final AtomicInteger finds = new AtomicInteger();
+
+        @Override
+        public boolean tryClaim(String rJti, Duration ttl) {
+            return false;
+        }
+
+        @Override
+        public void complete(String rJti, String refreshHash, SignInResponse response, Duration graceTtl) {
+        }
+
+        @Override
+        public void release(String rJti) {
+        }
+
+        @Override
+        public Optional<RefreshRotation> find(String rJti) {
+            finds.incrementAndGet();
+            return Optional.of(new RefreshRotation(null, null));
+        }
+    }
+
+    // 지정한 명령만 Redis 장애처럼 실패시키고, 보낸 순서를 기록하는 async 저장소
+    static class FailingTokenStoreAsync extends InMemoryTokenStoreAsyncAdapter {
+
+        final Set<String> failing;
+        final List<String> sent = new CopyOnWriteArrayList<>();
+
+        FailingTokenStoreAsync(InMemoryTokenStoreAdapter store, String... failing) {
+            super(store);
+            this.failing = Set.of(failing);
+        }
+
+        // 실패시킬 명령은 저장소에 반영하지 않음 (Redis 에 도달하지 못한 명령)
+        <T> CompletionStage<T> send(String command, Supplier<CompletionStage<T>> call) {
+            sent.add(command);
+            return failing.contains(command)
+                    ? CompletableFuture.failedFuture(new RedisUnavailableException())
+                    : call.get();
+        }
+
+        @Override
+        public CompletionStage<Void> saveRefreshToken(String jti, Long userId, String refreshTokenHash,
+                long ttlMillis) {
+            return send("saveRefreshToken",
+                    () -> super.saveRefreshToken(jti, userId, refreshTokenHash, ttlMillis));
+        }
+
+        @Override
+        public CompletionStage<Optional<String>> getRefreshTokenHashByJti(Long userId, String jti) {
+            return send("getRefreshTokenHashByJti", () -> super.getRefreshTokenHashByJti(userId, jti));
+        }
+
+        @Override
+        public CompletionStage<Boolean> hasUserRefreshJti(Long userId, String jti) {
+            return send("hasUserRefreshJti", () -> super.hasUserRefreshJti(userId, jti));
+        }
+
+        @Override
+        public CompletionStage<Void> revokeRefreshToken(Long userId, String jti) {
+            return send("revokeRefreshToken", () -> super.revokeRefreshToken(userId, jti));
+        }
+
+        @Override
+        public CompletionStage<Boolean> rotateRefreshToken(Long userId, String oldJti, String expectedHash,
+                String newJti, String newRefreshTokenHash, long ttlMillis) {
+            return send("rotateRefreshToken", () -> super.rotateRefreshToken(userId, oldJti, expectedHash, newJti,
+                    newRefreshTokenHash, ttlMillis));
+        }
+
+        @Override
+        public CompletionStage<Void> blacklistAccessJti(String jti, long ttlMillis) {
+            return send("blacklistAccessJti", () -> super.blacklistAccessJti(jti, ttlMillis));
+        }
+    }
+
+    TimerWheel wheel = new TimerWheel("test", Duration.ofMillis(10), 64);
+    InMemoryTokenStoreAdapter tokenStore = new InMemoryTokenStoreAdapter(wheel);
+    InMemoryStringRedisTemplate redis = new InMemoryStringRedisTemplate();
+    JwtProvider jwtProvider = JwtTestSupport.jwtProvider();
+    TokenWatermarkStore watermarkStore = new RedisTokenWatermarkStore(redis, new RedisMessageListenerContainer(),
+            jwtProvider, Duration.ofSeconds(30), 1_000, true, new SimpleMeterRegistry());
+    RefreshRotationAdapter rotationAdapter = new RefreshRotationAdapter(redis, new ObjectMapper(), "", REFRESH_SECRET);
+    Policy policy = new Policy(Duration.ofSeconds(10), Duration.ofMillis(300), Duration.ofMillis(10));
+    PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+    FakeUserRepository users = new FakeUserRepository();
+    Snowflake snowflake = new Snowflake();
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    // 노드 하나 = UserService 하나 (SingleFlight 는 노드 로컬, 저장소는 공유)
+    UserService node(TokenRepositoryAsyncPort asyncPort, RefreshRotationPort rotationPort) {
+        return new UserService(users, passwordEncoder, snowflake, jwtProvider, tokenStore, asyncPort,
+                watermarkStore, rotationPort, policy, null, null, null);
+    }
+
+    UserService node() {
+        return node(new InMemoryTokenStoreAsyncAdapter(tokenStore), rotationAdapter);
+    }
+
+    User registered() {
+        return users.save(User.register(snowflake.nextId(), EMAIL, passwordEncoder.encode(PASSWORD), "soap"));
+    }
+
+    SignInResponse signIn(UserService service) {
+        return service.signIn(new SignInRequest(EMAIL, PASSWORD));
+    }
+
+    String rJtiOf(SignInResponse session) {
+        return jwtProvider.parseRefreshToken(session.refreshToken()).jti();
+    }
+
+    UserService failingNode(FailingTokenStoreAsync asyncPort) {
+        return node(asyncPort, rotationAdapter);
+    }
+
+    // ---- 로그인 ----
+
+    @Test
+    void signInStoresRefreshTokenHash() {
+        // given
+        registered();
+
+        // when
+        SignInResponse session = signIn(node());
+
+        // then
+        String rJti = rJtiOf(session);
+        assertThat(tokenStore.getRefreshTokenHashByJti(session.userId(), rJti))
+                .contains(TokenHash.sha256(session.refreshToken()));
+        assertThat(tokenStore.hasUserRefreshJti(session.userId(), rJti)).isTrue();
+        assertThat(jwtProvider.parseAccessToken(session.accessToken()).userId()).isEqualTo(session.userId());
+        assertThat(session.refreshTokenExpiresIn()).isPositive()
+                .isLessThanOrEqualTo(JwtTestSupport.REFRESH_TTL.toMillis());
+    }
+
+    @Test
+    void signInFailsWhenRefreshTokenCannotBeStored() {
+        // given
+        registered();
+        FailingTokenStoreAsync asyncPort = new FailingTokenStoreAsync(tokenStore, "saveRefreshToken");
+
+        // when & then: 저장소 예외가 CompletionException 으로 감싸이지 않고 그대로 (→ 503)
+        assertThatThrownBy(() -> signIn(failingNode(asyncPort)))
+                .isExactlyInstanceOf(RedisUnavailableException.class);
+    }
+
+    // ---- 로그아웃 ----
+
+    @Test
+    void logoutRevokesSessionAndBlacklistsAccessToken() {
+        // given
+        registered();
+        SignInResponse session = signIn(node());
+        FailingTokenStoreAsync asyncPort = new FailingTokenStoreAsync(tokenStore);
+
+        // when
+        failingNode(asyncPort).logout("Bearer " + session.accessToken(), session.refreshToken(), session.userId());
+
+        // then: 인덱스 확인과 해시 조회는 함께 보내고, 블랙리스트/폐기는 그 뒤
+        String rJti = rJtiOf(session);
+        assertThat(tokenStore.getRefreshTokenHashByJti(session.userId(), rJti)).isEmpty();
+        assertThat(tokenStore.hasUserRefreshJti(session.userId(), rJti)).isFalse();
+        assertThat(tokenStore.isAccessJtiBlacklisted(jwtProvider.parseAccessToken(session.accessToken()).jti()))
+                .isTrue();
+        assertThat(asyncPort.sent).containsExactly("hasUserRefreshJti", "getRefreshTokenHashByJti",
+                "blacklistAccessJti", "revokeRefreshToken");
+    }
+
+    @Test
+    void logoutFailsWhenIndexLookupFails() {
+        // given
+        registered();
+        SignInResponse session = signIn(node());
+        FailingTokenStoreAsync asyncPort = new FailingTokenStoreAsync(tokenStore, "hasUserRefreshJti");
+
+        // when & then: 함께 보낸 해시 조회가 있어도 폐기 명령은 보내지 않음
+        assertThatThrownBy(() -> failingNode(asyncPort).logout(
+                "Bearer " + session.accessToken(), session.refreshToken(), session.userId()))
+                .isExactlyInstanceOf(RedisUnavailableException.class);
+        assertThat(asyncPort.sent).containsExactly("hasUserRefreshJti", "getRefreshTokenHashByJti");
+        assertThat(tokenStore.hasUserRefreshJti(session.userId(), rJtiOf(session))).isTrue();
+    }
+
+    @Test
+    void logoutFailsWhenHashLookupFails() {
+        // given
+        registered();
+        SignInResponse session = signIn(node());
+        FailingTokenStoreAsync asyncPort = new FailingTokenStoreAsync(tokenStore, "getRefreshTokenHashByJti");
+
+        // when & then: 해시를 비교하지 못했으므로 RT 는 폐기하지 않음
+        assertThatThrownBy(() -> failingNode(asyncPort).logout(
+                "Bearer " + session.accessToken(), session.refreshToken(), session.userId()))
+                .isExactlyInstanceOf(RedisUnavailableException.class);
+        assertThat(asyncPort.sent).doesNotContain("revokeRefreshToken");
+        assertThat(tokenStore.getRefreshTokenHashByJti(session.userId(), rJtiOf(session))).isPresent();
+    }
+
+    @Test
+    void logoutReportsBlacklistFailureAfterRevoking() {
+        // given
+        registered();
+        SignInResponse session = signIn(node());
+        FailingTokenStoreAsync asyncPort = new FailingTokenStoreAsync(tokenStore, "blacklistAccessJti");
+
+        // when & then: 병렬로 보낸 RT 폐기는 끝까지 기다린 뒤 실패를 알림
+        assertThatThrownBy(() -> failingNode(asyncPort).logout(
+                "Bearer " + session.accessToken(), session.refreshToken(), session.userId()))
+                .isExactlyInstanceOf(RedisUnavailableException.class);
+        assertThat(tokenStore.getRefreshTokenHashByJti(session.userId(), rJtiOf(session))).isEmpty();
+    }
+
+    @Test
+    void logoutFailsWhenRevokeFails() {
+        // given
+        registered();
+        SignInResponse session = signIn(node());
+        FailingTokenStoreAsync asyncPort = new FailingTokenStoreAsync(tokenStore, "revokeRefreshToken");
+
+        // when & then
+        assertThatThrownBy(() -> failingNode(asyncPort).logout(
+                "Bearer " + session.accessToken(), session.refreshToken(), session.userId()))
+                .isExactlyInstanceOf(RedisUnavailableException.class);
+        assertThat(tokenStore.getRefreshTokenHashByJti(session.userId(), rJtiOf(session))).isPresent();
+    }
+
+    @Test
+    void logoutSendsNoRefreshBlacklistWrite() {
+        // given
+        registered();
+        SignInResponse session = signIn(node());
+        FailingTokenStoreAsync asyncPort = new FailingTokenStoreAsync(tokenStore);
+
+        // when
+        failingNode(asyncPort).logout("Bearer " + session.accessToken(), session.refreshToken(), session.userId());
+
+        // then: RT 는 해시 삭제(스크립트 1회)만, 블랙리스트는 AT 만
+        assertThat(asyncPort.sent).containsExactlyInAnyOrder(
+                "hasUserRefreshJti", "getRefreshTokenHashByJti", "blacklistAccessJti", "revokeRefreshToken");
+    }
+
+    @Test
+    void logoutRejectsTamperedRefreshToken() {
+        // given: 저장된 해시가 제시한 RT 와 다름
+        registered();
+        SignInResponse session = signIn(node());
+        tokenStore.saveRefreshToken(rJtiOf(session), session.userId(), "other-hash", 60_000);
+
+        // when & then
+        assertThatThrownBy(() -> node().logout(null, session.refreshToken(), session.userId()))
+                .isInstanceOf(TokenException.class)
+                .extracting("errorCode")
+                .isEqualTo(JwtErrorCode.TAMPERED_TOKEN);
+        assertThat(tokenStore.getRefreshTokenHashByJti(session.userId(), rJtiOf(session))).contains("other-hash");
+    }
+
+    @Test
+    void logoutRejectsRefreshTokenOfAnotherUser() {
+        // given
+        registered();
+        SignInResponse session = signIn(node());
+
+        // when & then
+        assertThatThrownBy(() -> node().logout(null, session.refreshToken(), session.userId() + 1))
+                .isInstanceOf(TokenException.class)
+                .extracting("errorCode")
+                .isEqualTo(JwtErrorCode.INVALID_BEARER_TOKEN);
+        assertThat(tokenStore.hasUserRefreshJti(session.userId(), rJtiOf(session))).isTrue();
+    }
+
+    // ---- 재발급 ----
+
+    @Test
+    void refreshFailureOnHashLookupKeepsSessionAndReleasesClaim() {
+        // given
+        registered();
+        SignInResponse session = signIn(node());
+        FailingTokenStoreAsync asyncPort = new FailingTokenStoreAsync(tokenStore, "getRefreshTokenHashByJti");
+
+        // when
+        assertThatThrownBy(() -> failingNode(asyncPort).refresh(session.refreshToken()))
+                .isExactlyInstanceOf(RedisUnavailableException.class);
+
+        // then: 선점이 풀려 있어 장애 복구 후 같은 RT 로 재시도 가능
+        assertThat(rotationAdapter.find(rJtiOf(session))).isEmpty();
+        assertThat(node().refresh(session.refreshToken()).userId()).isEqualTo(session.userId());
+    }
+
+    @Test
+    void refreshSendsOneHashLookupAndOneRotateScript() {
+        // given
+        registered();
+        SignInResponse session = signIn(node());
+        FailingTokenStoreAsync asyncPort = new FailingTokenStoreAsync(tokenStore);
+
+        // when
+        failingNode(asyncPort).refresh(session.refreshToken());
+
+        // then: 검증은 RT 해시 존재 여부만 (BL:R 조회/기록 없음) → 토큰 저장소 round trip 2회
+        assertThat(asyncPort.sent).containsExactly("getRefreshTokenHashByJti", "rotateRefreshToken");
+    }
+
+    @Test
+    void refreshFailureOnRotateKeepsSessionAndReleasesClaim() {
+        // given
+        registered();
+        SignInResponse session = signIn(node());
+        FailingTokenStoreAsync asyncPort = new FailingTokenStoreAsync(tokenStore, "rotateRefreshToken");
+
+        // when
+        assertThatThrownBy(() -> failingNode(asyncPort).refresh(session.refreshToken()))
+                .isExactlyInstanceOf(RedisUnavailableException.class);
+
+        // then
+        assertThat(rotationAdapter.find(rJtiOf(session))).isEmpty();
+        assertThat(tokenStore.getRefreshTokenHashByJti(session.userId(), rJtiOf(session)))
+                .contains(TokenHash.sha256(session.refreshToken()));
+        assertThat(node().refresh(session.refreshToken()).userId()).isEqualTo(session.userId());
+    }
+
+    @Test
+    void refreshRevokedBetweenLookupAndRotateIsRejected() {
+        // given: 해시를 읽은 직후 다른 요청이 같은 세션을 로그아웃
+        registered();
+        SignInResponse session = signIn(node());
+        String rJti = rJtiOf(session);
+        FailingTokenStoreAsync asyncPort = new FailingTokenStoreAsync(tokenStore) {
+            @Override
+            public CompletionStage<Optional<String>> getRefreshTokenHashByJti(Long userId, String jti) {
+                CompletionStage<Optional<String>> read = super.getRefreshTokenHashByJti(userId, jti);
+                tokenStore.revokeRefreshToken(userId, jti);
+                return read;
+            }
+        };
+
+        // when & then
+        assertThatThrownBy(() -> failingNode(asyncPort).refresh(session.refreshToken()))
+                .isInstanceOf(TokenException.class)
+                .extracting("errorCode")
+                .isEqualTo(JwtErrorCode.INVALID_BEARER_TOKEN);
+
+        // then: 폐기된 세션에서 새 세션이 만들어지지 않고, 선점도 풀림
+        assertThat(asyncPort.sent).containsExactly("getRefreshTokenHashByJti", "rotateRefreshToken");
+        assertThat(tokenStore.getUserRefreshJtis(session.userId())).isEmpty();
+        assertThat(rotationAdapter.find(rJti)).isEmpty();
+    }
+
+    @Test
+    void leaderRotatesAndFollowerOnAnotherNodeGetsSameTokens() {
+        // given
+        registered();
+        SignInResponse session = signIn(node());
+
+        // when: 같은 RT 로 두 노드에 연달아 재발급 (grace 안)
+        SignInResponse leader = node().refresh(session.refreshToken());
+        SignInResponse follower = node().refresh(session.refreshToken());
+
+        // then: 회전은 한 번, 두 요청 모두 같은 새 토큰 쌍
+        assertThat(follower).isEqualTo(leader);
+        assertThat(leader.refreshToken()).isNotEqualTo(session.refreshToken());
+        String oldJti = jwtProvider.parseRefreshToken(session.refreshToken()).jti();
+        String newJti = jwtProvider.parseRefreshToken(leader.refreshToken()).jti();
+        assertThat(tokenStore.getRefreshTokenHashByJti(session.userId(), oldJti)).isEmpty();
+        assertThat(tokenStore.getRefreshTokenHashByJti(session.userId(), newJti))
+                .contains(TokenHash.sha256(leader.refreshToken()));
+    }
+
+    @Test
+    void followerWaitsForPendingRotation() throws Exception {
+        // given: 다른 노드가 선점만 하고 아직 회전 중
+        registered();
+        SignInResponse session = signIn(node());
+        String rJti = jwtProvider.parseRefreshToken(session.refreshToken()).jti();
+        rotationAdapter.tryClaim(rJti, policy.graceTtl());
+
+        // when: 대기 중에 다른 노드가 결과를 기록
+        CompletableFuture<SignInResponse> waiting = CompletableFuture.supplyAsync(
+                () -> node().refresh(session.refreshToken()));
+        Thread.sleep(50);
+        rotationAdapter.complete(rJti, TokenHash.sha256(session.refreshToken()), session, policy.graceTtl());
+
+        // then
+        assertThat(waiting.get(2, TimeUnit.SECONDS)).isEqualTo(session);
+    }
+
+    @Test
+    void followerWithDifferentTokenHashIsRejected() {
+        // given: 같은 rJti 로 기록된 회전 결과의 해시가 제시한 토큰과 다름
+        registered();
+        SignInResponse session = signIn(node());
+        String rJti = jwtProvider.parseRefreshToken(session.refreshToken()).jti();
+        rotationAdapter.complete(rJti, "other-hash", session, policy.graceTtl());
+
+        // when & then
+        assertThatThrownBy(() -> node().refresh(session.refreshToken()))
+                .isInstanceOf(TokenException.class)
+                .extracting("errorCode")
+                .isEqualTo(JwtErrorCode.TAMPERED_TOKEN);
+    }
+
+    @Test
+    void leaderWithDifferentStoredHashIsRejectedAndReleasesClaim() {
+        // given: 저장된 해시가 제시한 토큰과 다름
+        registered();
+        SignInResponse session = signIn(node());
+        String rJti = jwtProvider.parseRefreshToken(session.refreshToken()).jti();
+        tokenStore.saveRefreshToken(rJti, session.userId(), "other-hash", 60_000);
+
+        // when & then
+        assertThatThrownBy(() -> node().refresh(session.refreshToken()))
+                .isInstanceOf(TokenException.class)
+                .extracting("errorCode")
+                .isEqualTo(JwtErrorCode.TAMPERED_TOKEN);
+        assertThat(rotationAdapter.find(rJti)).isEmpty();
+    }
+
+    @Test
+    void pendingRotationTimesOut() {
+        // given: 선점한 노드가 결과를 남기지 못함
+        registered();
+        SignInResponse session = signIn(node());
+        String rJti = jwtProvider.parseRefreshToken(session.refreshToken()).jti();
+        rotationAdapter.tryClaim(rJti, policy.graceTtl());
+
+        // when & then
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> node().refresh(session.refreshToken()))
+                .isInstanceOf(TokenException.class)
+                .extracting("errorCode")
+                .isEqualTo(JwtErrorCode.INVALID_BEARER_TOKEN);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(policy.waitTimeout());
+    }
+
+    @Test
+    void followerPollsWithBackoff() {
+        // given: waitTimeout 300ms, pollInterval 10ms
+        registered();
+        SignInResponse session = signIn(node());
+        StuckRotationPort stuck = new StuckRotationPort();
+
+        // when & then: 고정 간격이면 ~30회, 두 배씩 늘리면 (10, 20, 40, 80, 80, 70ms) 7회
+        assertThatThrownBy(() -> node(new InMemoryTokenStoreAsyncAdapter(tokenStore), stuck)
+                .refresh(session.refreshToken()))
+                .isInstanceOf(TokenException.class)
+                .extracting("errorCode")
+                .isEqualTo(JwtErrorCode.INVALID_BEARER_TOKEN);
+        assertThat(stuck.finds.get()).isBetween(2, 8);
+    }
+
+    @Test
+    void followerWaitIsBoundedByGraceTtl() {
+        // given: grace(100ms) 가 waitTimeout(1분) 보다 짧음 → PENDING 이 남아 있어도 grace 까지만 기다림
+        registered();
+        SignInResponse session = signIn(node());
+        policy = new Policy(Duration.ofMillis(100), Duration.ofMinutes(1), Duration.ofMillis(10));
+        UserService follower = node(new InMemoryTokenStoreAsyncAdapter(tokenStore), new StuckRotationPort());
+
+        // when & then: 요청 스레드를 waitTimeout 동안 붙잡지 않고 INVALID_BEARER_TOKEN
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertThatThrownBy(() -> follower.refresh(session.refreshToken()))
+                        .isInstanceOf(TokenException.class)
+                        .extracting("errorCode")
+                        .isEqualTo(JwtErrorCode.INVALID_BEARER_TOKEN));
+    }
+
+    @Test
+    void rotationSucceedsWhenGraceRecordFails() {
+        // given
+        registered();
+        SignInResponse session = signIn(node());
+        UserService service = node(new InMemoryTokenStoreAsyncAdapter(tokenStore),
+                new FailingCompleteRotationPort(rotationAdapter));
+
+        // when
+        SignInResponse rotated = service.refresh(session.refreshToken());
+
+        // then: 새 토큰 쌍은 유효하고, 선점은 해제되어 동시 요청이 PENDING 으로 기다리지 않음
+        String rJti = jwtProvider.parseRefreshToken(session.refreshToken()).jti();
+        assertThat(rotationAdapter.find(rJti)).isEmpty();
+        assertThat(node().refresh(rotated.refreshToken()).userId()).isEqualTo(session.userId());
+    }
+
+    @Test
+    void revokedSessionCannotRefresh() {
+        // given: 로그인 이후 전체 세션 폐기 (다음 초로 워터마크)
+        User user = registered();
+        SignInResponse session = signIn(node());
+        watermarkStore.revokeAllIssuedBefore(user.getUserId(), Instant.now());
+
+        // when & then
+        assertThatThrownBy(() -> node().refresh(session.refreshToken()))
+                .isInstanceOf(TokenException.class)
+                .extracting("errorCode")
+                .isEqualTo(JwtErrorCode.REVOKED_TOKEN);
+    }
+}
@@ -0,0 +1,51 @@
+package com.community.soap.user.infrastructure.email;
+
+import com.community.soap.common.redis.RedisCircuitBreaker;
+import com.community.soap.common.redis.RedisNearCache;
+import com.community.soap.common.redis.config.RedisCircuitProperties;
+import com.community.soap.common.redis.config.RedisClientProperties;
+import com.community.soap.common.redis.config.RedisConfig;
+import com.community.soap.user.application.port.out.EmailVerificationRepositoryPort;
+import com.community.soap.user.application.port.out.EmailVerificationRepositoryPortContract;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 실제 Redis(7.4+, HPEXPIRE) 대상 계약 테스트 (REDIS_HOST 가 설정된 경우에만)
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class EmailVerificationRepositoryAdapterTest extends EmailVerificationRepositoryPortContract {
+
+    static LettuceConnectionFactory factory;
+    static RedisNearCache nearCache;
+    static EmailVerificationRepositoryAdapter adapter;
+
+    @Override
+    protected EmailVerificationRepositoryPort port() {
+        if (adapter == null) {
+            RedisProperties props = new RedisProperties();
+            props.setHost(System.getenv("REDIS_HOST"));
+            props.setPort(Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+            factory = new LettuceConnectionFactory(props.getHost(), props.getPort());
+            factory.afterPropertiesSet();
+            nearCache = new RedisConfig(props, new RedisClientProperties()).nearCache(factory, 1_000,
+                    new RedisCircuitBreaker(new RedisCircuitProperties(), new SimpleMeterRegistry()),
+                    new SimpleMeterRegistry(), List.of());
+            adapter = new EmailVerificationRepositoryAdapter(new StringRedisTemplate(factory), nearCache);
+        }
+        return adapter;
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (factory != null) {
+            nearCache.destroy();
+            factory.destroy();
+        }
+    }
+}
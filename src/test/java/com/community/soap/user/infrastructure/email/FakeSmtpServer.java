@@ -0,0 +1,159 @@
+package com.community.soap.user.infrastructure.email;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 인메모리 SMTP 서버 (AUTH/TLS 없음).
+ * - 받은 메일을 메모리에 보관
+ * - failNext(n): 다음 n 건의 DATA 에 451(일시 오류) 응답
+ * - setResponseDelay: 모든 응답 지연 (느린 provider 흉내)
+ */
+public class FakeSmtpServer implements Closeable {
+
+    public record Received(String from, List<String> to, String data) {
+
+    }
+
+    private final ServerSocket serverSocket;
+    private final List<Received> received = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failNext = new AtomicInteger();
+    private final AtomicInteger connections = new AtomicInteger();
+    private volatile long responseDelayMs;
+    private volatile boolean closed;
+
+    public FakeSmtpServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread.ofPlatform().name("fake-smtp-accept").daemon().start(this::acceptLoop);
+    }
+
+    public int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    public List<Received> received() {
+        return List.copyOf(received);
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    public void failNext(int n) {
+        failNext.set(n);
+    }
+
+    public void setResponseDelay(Duration delay) {
+        this.responseDelayMs = delay.toMillis();
+    }
+
+    public boolean awaitReceived(int count, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (received.size() < count) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    private void acceptLoop() {
+        while (!closed) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                Thread.ofPlatform().name("fake-smtp-conn").daemon().start(() -> handle(socket));
+            } catch (IOException e) {
+                if (!closed) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+                BufferedReader in = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                OutputStream out = socket.getOutputStream()) {
+            reply(out, "220 fake ESMTP ready");
+            String from = null;
+            List<String> to = new ArrayList<>();
+            String line;
+            while ((line = in.readLine()) != null) {
+                String cmd = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line;
+                switch (cmd) {
+                    case "EHLO" -> reply(out, "250-fake\r\n250 8BITMIME");
+                    case "HELO", "NOOP" -> reply(out, "250 OK");
+                    case "MAIL" -> {
+                        from = line.substring(line.indexOf(':') + 1).trim();
+                        to = new ArrayList<>();
+                        reply(out, "250 OK");
+                    }
+                    case "RCPT" -> {
+                        to.add(line.substring(line.indexOf(':') + 1).trim());
+                        reply(out, "250 OK");
+                    }
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        String data = readData(in);
+                        if (failNext.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                            reply(out, "451 4.3.0 Temporary failure");
+                        } else {
+                            received.add(new Received(from, List.copyOf(to), data));
+                            reply(out, "250 OK queued");
+                        }
+                    }
+                    case "RSET" -> {
+                        from = null;
+                        to = new ArrayList<>();
+                        reply(out, "250 OK");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException | InterruptedException ignored) {
+            // 클라이언트 종료
+        }
+    }
+
+    private static String readData(BufferedReader in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        String line;
+        while ((line = in.readLine()) != null && !line.equals(".")) {
+            sb.append(line.startsWith("..") ? line.substring(1) : line).append("\r\n");
+        }
+        return sb.toString();
+    }
+
+    private void reply(OutputStream out, String s) throws IOException, InterruptedException {
+        if (responseDelayMs > 0) {
+            Thread.sleep(responseDelayMs);
+        }
+        out.write((s + "\r\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+    }
+}
@@ -0,0 +1,42 @@
+package com.community.soap.user.infrastructure.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+
+class HashFieldTtlVersionCheckTest {
+
+    @Test
+    void requiresRedis74OrLater() {
+        // when & then
+        assertThat(HashFieldTtlVersionCheck.supportsHashFieldTtl("7.4.0")).isTrue();
+        assertThat(HashFieldTtlVersionCheck.supportsHashFieldTtl("7.4.2")).isTrue();
+        assertThat(HashFieldTtlVersionCheck.supportsHashFieldTtl("8.0.1")).isTrue();
+        assertThat(HashFieldTtlVersionCheck.supportsHashFieldTtl("7.2.5")).isFalse();
+        assertThat(HashFieldTtlVersionCheck.supportsHashFieldTtl("6.2.14")).isFalse();
+        assertThat(HashFieldTtlVersionCheck.supportsHashFieldTtl("unknown")).isFalse();
+    }
+
+    @Test
+    void readsEveryClusterNodeVersion() {
+        // given
+        Properties info = new Properties();
+        info.setProperty("127.0.0.1:7000.redis_version", "7.4.1");
+        info.setProperty("127.0.0.1:7001.redis_version", "7.2.4");
+        info.setProperty("127.0.0.1:7000.redis_mode", "cluster");
+
+        // when & then
+        assertThat(HashFieldTtlVersionCheck.versions(info)).containsExactlyInAnyOrder("7.4.1", "7.2.4");
+    }
+
+    @Test
+    void readsStandaloneVersion() {
+        // given
+        Properties info = new Properties();
+        info.setProperty("redis_version", "7.4.0");
+
+        // when & then
+        assertThat(HashFieldTtlVersionCheck.versions(info)).containsExactly("7.4.0");
+    }
+}
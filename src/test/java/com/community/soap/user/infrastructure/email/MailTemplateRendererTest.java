@@ -0,0 +1,82 @@
+package com.community.soap.user.infrastructure.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.user.infrastructure.email.config.MailTemplateConfig;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+class MailTemplateRendererTest {
+
+    MailTemplateRenderer renderer = new MailTemplateRenderer(engine());
+
+    @Test
+    void skeletonMatchesFullRender() {
+        // given
+        Map<String, Object> model = Map.of("brand", "Community SOAP", "minutes", 5L);
+
+        // when
+        String full = renderer.render("verification-code",
+                Map.of("brand", "Community SOAP", "minutes", 5L, "code", "123456"));
+        String first = renderer.renderWithSlot("verification-code", model, "code", "123456");
+        String cached = renderer.renderWithSlot("verification-code", model, "code", "123456");
+
+        // then
+        assertThat(first).isEqualTo(full);
+        assertThat(cached).isEqualTo(full);
+    }
+
+    @Test
+    void escapesSlotValue() {
+        // given & when
+        String html = renderer.renderWithSlot("verification-code",
+                Map.of("brand", "Community SOAP", "minutes", 5L), "code", "<b>1</b>");
+
+        // then
+        assertThat(html).contains("&lt;b&gt;1&lt;/b&gt;").doesNotContain("<b>1</b>");
+    }
+
+    @Test
+    void skeletonRenderAllocatesLess() {
+        // given
+        Map<String, Object> model = Map.of("brand", "Community SOAP", "minutes", 5L);
+        int repeatCount = 2_000;
+        com.sun.management.ThreadMXBean mx =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long tid = Thread.currentThread().threadId();
+
+        for (int i = 0; i < repeatCount / 10; i++) {
+            renderer.render("verification-code", Map.of("brand", "Community SOAP", "minutes", 5L,
+                    "code", String.valueOf(100000 + i)));
+            renderer.renderWithSlot("verification-code", model, "code", String.valueOf(100000 + i));
+        }
+
+        // when
+        long bytes = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < repeatCount; i++) {
+            renderer.render("verification-code", Map.of("brand", "Community SOAP", "minutes", 5L,
+                    "code", String.valueOf(100000 + i)));
+        }
+        long fullBytes = mx.getThreadAllocatedBytes(tid) - bytes;
+
+        bytes = mx.getThreadAllocatedBytes(tid);
+        for (int i = 0; i < repeatCount; i++) {
+            renderer.renderWithSlot("verification-code", model, "code", String.valueOf(100000 + i));
+        }
+        long skeletonBytes = mx.getThreadAllocatedBytes(tid) - bytes;
+
+        // then: 캐시 적중 후에는 Thymeleaf 를 거치지 않고 결과 문자열 하나만 만든다
+        assertThat(skeletonBytes / repeatCount)
+                .as("thymeleaf = %d B/op, skeleton = %d B/op",
+                        fullBytes / repeatCount, skeletonBytes / repeatCount)
+                .isLessThan(fullBytes / repeatCount);
+    }
+
+    private static SpringTemplateEngine engine() {
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(new MailTemplateConfig().emailTemplateResolver());
+        return engine;
+    }
+}
@@ -0,0 +1,159 @@
+package com.community.soap.user.infrastructure.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.user.infrastructure.email.config.MailPoolProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+class PooledJavaMailSenderTest {
+
+    FakeSmtpServer smtp;
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtp = new FakeSmtpServer();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        smtp.close();
+    }
+
+    @Test
+    void reusesConnections() throws Exception {
+        // given
+        PooledJavaMailSender sender = pooled(2);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            sender.send(message(i));
+        }
+
+        // then
+        assertThat(smtp.awaitReceived(10, Duration.ofSeconds(5))).isTrue();
+        assertThat(smtp.connectionCount()).isEqualTo(1);
+        assertThat(registry.get("mail.smtp.send").tag("outcome", "success").timer().count())
+                .isEqualTo(10);
+        sender.destroy();
+    }
+
+    @Test
+    void recyclesConnectionOnError() throws Exception {
+        // given
+        PooledJavaMailSender sender = pooled(2);
+        sender.send(message(0));
+        smtp.failNext(1);
+
+        // when
+        try {
+            sender.send(message(1));
+        } catch (MailSendException expected) {
+            // 일시 오류
+        }
+        sender.send(message(2));
+
+        // then
+        assertThat(smtp.awaitReceived(2, Duration.ofSeconds(5))).isTrue();
+        assertThat(smtp.connectionCount()).isEqualTo(2);
+        assertThat(registry.get("mail.smtp.send").tag("outcome", "failure").timer().count())
+                .isEqualTo(1);
+        sender.destroy();
+    }
+
+    @Test
+    void keepsInterruptFlagWhenBorrowIsInterrupted() {
+        // given
+        PooledJavaMailSender sender = pooled(1);
+        Thread.currentThread().interrupt();
+
+        // when
+        Throwable thrown;
+        try {
+            sender.send(message(0));
+            thrown = null;
+        } catch (MailSendException e) {
+            thrown = e;
+        }
+
+        // then: 인터럽트 플래그가 살아 있어야 호출자가 종료를 감지
+        boolean interrupted = Thread.interrupted(); // 다음 테스트를 위해 플래그 정리
+        assertThat(interrupted).isTrue();
+        assertThat(thrown).isInstanceOf(MailSendException.class)
+                .hasCauseInstanceOf(InterruptedException.class);
+        assertThat(smtp.connectionCount()).isZero();
+        sender.destroy();
+    }
+
+    @Test
+    void concurrentSendsShareBoundedConnections() throws Exception {
+        // given
+        int threads = 4;
+        int perThread = 25;
+        JavaMailSenderImpl plain = new JavaMailSenderImpl();
+        plain.setHost("127.0.0.1");
+        plain.setPort(smtp.port());
+        PooledJavaMailSender pooled = pooled(threads);
+
+        // when
+        run(plain, threads, perThread, 0);
+        int plainConnections = smtp.connectionCount();
+        run(pooled, threads, perThread, 10_000);
+        int pooledConnections = smtp.connectionCount() - plainConnections;
+
+        // then: 기존 방식은 메시지마다 연결(핸드셰이크), 풀은 스레드 수 이하의 연결을 재사용
+        int total = threads * perThread;
+        assertThat(smtp.awaitReceived(total * 2, Duration.ofSeconds(10))).isTrue();
+        assertThat(plainConnections).isEqualTo(total);
+        assertThat(pooledConnections).isBetween(1, threads);
+        pooled.destroy();
+    }
+
+    private void run(JavaMailSenderImpl sender, int threads, int perThread, int offset)
+            throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int base = offset + t * perThread;
+            futures.add(pool.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    sender.send(message(base + i));
+                }
+            }));
+        }
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        pool.shutdown();
+    }
+
+    private PooledJavaMailSender pooled(int maxConnections) {
+        MailPoolProperties props = new MailPoolProperties();
+        props.setMaxConnections(maxConnections);
+        PooledJavaMailSender sender = new PooledJavaMailSender("fake", props, registry);
+        sender.setHost("127.0.0.1");
+        sender.setPort(smtp.port());
+        return sender;
+    }
+
+    private SimpleMailMessage message(int n) {
+        SimpleMailMessage msg = new SimpleMailMessage();
+        msg.setFrom("noreply@soap.test");
+        msg.setTo("user" + n + "@soap.test");
+        msg.setSubject("[Community SOAP] 이메일 인증코드");
+        msg.setText("인증코드: " + (100000 + n));
+        return msg;
+    }
+}
@@ -0,0 +1,133 @@
+package com.community.soap.user.infrastructure.email.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.user.application.port.out.EmailSenderPort;
+import com.community.soap.user.infrastructure.email.FakeSmtpServer;
+import com.community.soap.user.infrastructure.email.outbox.config.EmailOutboxProperties;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+class EmailOutboxWorkerTest {
+
+    FakeSmtpServer smtp;
+    InMemoryEmailOutboxStore store;
+    EmailOutboxAdapter outbox;
+    EmailOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtp = new FakeSmtpServer();
+        store = new InMemoryEmailOutboxStore();
+        outbox = new EmailOutboxAdapter(store);
+
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtp.port());
+        EmailSenderPort sender = (to, code, ttl, brand) -> {
+            SimpleMailMessage msg = new SimpleMailMessage();
+            msg.setFrom("noreply@soap.test");
+            msg.setTo(to);
+            msg.setSubject("[" + brand + "] 이메일 인증코드");
+            msg.setText("인증코드: " + code);
+            mailSender.send(msg);
+        };
+
+        EmailOutboxProperties props = new EmailOutboxProperties();
+        props.setWorkers(2);
+        props.setPollInterval(Duration.ofMillis(10));
+        props.setInitialBackoff(Duration.ofMillis(20));
+        props.setMaxBackoff(Duration.ofMillis(100));
+        props.setMaxAttempts(3);
+        props.setLeaseTtl(Duration.ofMillis(50));
+        worker = new EmailOutboxWorker(store, sender, props);
+        worker.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        worker.stop();
+        smtp.close();
+    }
+
+    @Test
+    void deliversEnqueuedMail() throws Exception {
+        // when
+        outbox.enqueueVerificationCode("k1", "user@soap.test", "123456", Duration.ofMinutes(5),
+                "Community SOAP");
+
+        // then
+        assertThat(smtp.awaitReceived(1, Duration.ofSeconds(5))).isTrue();
+        assertThat(smtp.received().get(0).to()).containsExactly("<user@soap.test>");
+        assertThat(smtp.received().get(0).data()).contains("123456");
+    }
+
+    @Test
+    void retriesTransientFailures() throws Exception {
+        // given
+        smtp.failNext(2);
+
+        // when
+        outbox.enqueueVerificationCode("k2", "user@soap.test", "222222", Duration.ofMinutes(5),
+                "Community SOAP");
+
+        // then
+        assertThat(smtp.awaitReceived(1, Duration.ofSeconds(5))).isTrue();
+        assertThat(store.deadLetters()).isEmpty();
+    }
+
+    @Test
+    void deadLettersAfterMaxAttempts() throws Exception {
+        // given
+        smtp.failNext(100);
+
+        // when
+        outbox.enqueueVerificationCode("k3", "user@soap.test", "333333", Duration.ofMinutes(5),
+                "Community SOAP");
+
+        // then
+        assertThat(await(() -> store.deadLetters().size() == 1)).isTrue();
+        assertThat(smtp.received()).isEmpty();
+    }
+
+    @Test
+    void sendsOnceForSameIdempotencyKey() throws Exception {
+        // when
+        for (int i = 0; i < 3; i++) {
+            outbox.enqueueVerificationCode("k4", "user@soap.test", "444444",
+                    Duration.ofMinutes(5), "Community SOAP");
+        }
+
+        // then
+        assertThat(smtp.awaitReceived(1, Duration.ofSeconds(5))).isTrue();
+        assertThat(await(store::isDrained)).isTrue();
+        assertThat(smtp.received()).hasSize(1);
+    }
+
+    @Test
+    void dropsExpiredCode() throws Exception {
+        // when
+        outbox.enqueueVerificationCode("k5", "user@soap.test", "555555", Duration.ZERO,
+                "Community SOAP");
+
+        // then
+        assertThat(await(() -> store.deadLetters().contains("expired"))).isTrue();
+        assertThat(smtp.received()).isEmpty();
+    }
+
+    private boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+}
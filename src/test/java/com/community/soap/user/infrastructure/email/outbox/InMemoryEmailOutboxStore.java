@@ -0,0 +1,107 @@
+package com.community.soap.user.infrastructure.email.outbox;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 outbox 저장소 (Redis 없이 워커 파이프라인 검증)
+ */
+class InMemoryEmailOutboxStore implements EmailOutboxStore {
+
+    private record Due(long dueAtMs, EmailOutboxMessage message) {
+
+    }
+
+    private final Deque<EmailOutboxMessage> queue = new ConcurrentLinkedDeque<>();
+    private final Map<String, EmailOutboxMessage> inflight = new ConcurrentHashMap<>();
+    private final PriorityQueue<Due> retries = new PriorityQueue<>(
+            (a, b) -> Long.compare(a.dueAtMs(), b.dueAtMs()));
+    private final List<String> deadLetters = new CopyOnWriteArrayList<>();
+    private final Map<String, String> idempotency = new ConcurrentHashMap<>();
+    private final AtomicLong seq = new AtomicLong();
+
+    List<String> deadLetters() {
+        return deadLetters;
+    }
+
+    boolean isDrained() {
+        synchronized (retries) {
+            return queue.isEmpty() && inflight.isEmpty() && retries.isEmpty();
+        }
+    }
+
+    @Override
+    public void append(EmailOutboxMessage message) {
+        queue.add(message);
+    }
+
+    @Override
+    public List<Claimed> poll(int max) {
+        List<Claimed> out = new ArrayList<>();
+        EmailOutboxMessage m;
+        while (out.size() < max && (m = queue.poll()) != null) {
+            String handle = m.id() + "#" + seq.incrementAndGet();
+            inflight.put(handle, m);
+            out.add(new Claimed(handle, m));
+        }
+        return out;
+    }
+
+    @Override
+    public void ack(Claimed claimed) {
+        inflight.remove(claimed.handle());
+    }
+
+    @Override
+    public void retryLater(Claimed claimed, EmailOutboxMessage next, long dueAtMs) {
+        synchronized (retries) {
+            retries.add(new Due(dueAtMs, next));
+            inflight.remove(claimed.handle());
+        }
+    }
+
+    @Override
+    public int promoteDueRetries(long nowMs, int max) {
+        int n = 0;
+        synchronized (retries) {
+            while (n < max && !retries.isEmpty() && retries.peek().dueAtMs() <= nowMs) {
+                queue.add(retries.poll().message());
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public void deadLetter(Claimed claimed, String reason) {
+        deadLetters.add(reason);
+        inflight.remove(claimed.handle());
+    }
+
+    @Override
+    public IdempotencyState begin(String idempotencyKey, Duration lease) {
+        String prev = idempotency.putIfAbsent(idempotencyKey, "SENDING");
+        if (prev == null) {
+            return IdempotencyState.ACQUIRED;
+        }
+        return "SENT".equals(prev) ? IdempotencyState.ALREADY_SENT : IdempotencyState.IN_PROGRESS;
+    }
+
+    @Override
+    public void markSent(String idempotencyKey, Duration ttl) {
+        idempotency.put(idempotencyKey, "SENT");
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+        idempotency.remove(idempotencyKey);
+    }
+}
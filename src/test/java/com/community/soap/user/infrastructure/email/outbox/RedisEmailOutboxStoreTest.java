@@ -0,0 +1,133 @@
+package com.community.soap.user.infrastructure.email.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.user.infrastructure.email.outbox.EmailOutboxStore.Claimed;
+import com.community.soap.user.infrastructure.email.outbox.config.EmailOutboxProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 실제 Redis 대상 (REDIS_HOST 가 설정된 경우에만).
+ * 큐/재시도 대기/DLQ 어디에도 인증 코드 원문이 남지 않는지 확인
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class RedisEmailOutboxStoreTest {
+
+    static final String STREAM = "user-service:{OUTBOX:EMAIL}";
+    static final String RETRY = STREAM + ":RETRY";
+    static final String DLQ = STREAM + ":DLQ";
+    static final String SECRET = Base64.getEncoder().encodeToString("r".repeat(64).getBytes());
+
+    static LettuceConnectionFactory factory;
+    static StringRedisTemplate redis;
+    static RedisEmailOutboxStore store;
+
+    @BeforeAll
+    static void setUp() {
+        factory = new LettuceConnectionFactory(System.getenv("REDIS_HOST"),
+                Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        factory.afterPropertiesSet();
+        redis = new StringRedisTemplate(factory);
+        redis.afterPropertiesSet();
+        store = new RedisEmailOutboxStore(redis, new ObjectMapper(), new EmailOutboxProperties(), SECRET);
+        store.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.destroy();
+    }
+
+    EmailOutboxMessage message(String code) {
+        String id = UUID.randomUUID().toString();
+        return new EmailOutboxMessage(id, "idem-" + id, "user@soap.com", code, 300_000, "soap",
+                System.currentTimeMillis() + 300_000, 0);
+    }
+
+    // 다른 테스트가 남긴 메시지는 바로 ack
+    Claimed pollOwn(String id) {
+        Claimed own = null;
+        for (Claimed c : store.poll(1_000)) {
+            if (c.message().id().equals(id)) {
+                own = c;
+            } else {
+                store.ack(c);
+            }
+        }
+        return own;
+    }
+
+    String rawStream() {
+        return String.valueOf(redis.opsForStream().range(STREAM, Range.unbounded()));
+    }
+
+    @Test
+    void queuedCodeIsSealed() {
+        // given
+        String code = "C-" + UUID.randomUUID();
+        EmailOutboxMessage message = message(code);
+
+        // when
+        store.append(message);
+
+        // then: Redis 에는 봉인된 값만, 꺼낼 때는 원래 코드
+        assertThat(rawStream()).doesNotContain(code).contains("v1:");
+        Claimed claimed = pollOwn(message.id());
+        assertThat(claimed).isNotNull();
+        assertThat(claimed.message()).isEqualTo(message);
+        store.ack(claimed);
+    }
+
+    @Test
+    void retryingCodeIsSealed() {
+        // given
+        String code = "C-" + UUID.randomUUID();
+        EmailOutboxMessage message = message(code);
+        store.append(message);
+        Claimed claimed = pollOwn(message.id());
+
+        // when
+        store.retryLater(claimed, message.nextAttempt(), 0);
+
+        // then
+        Set<String> retries = redis.opsForZSet().range(RETRY, 0, -1);
+        assertThat(String.valueOf(retries)).doesNotContain(code);
+        store.promoteDueRetries(System.currentTimeMillis(), 1_000);
+        Claimed retried = pollOwn(message.id());
+        assertThat(retried.message().code()).isEqualTo(code);
+        assertThat(retried.message().attempt()).isEqualTo(1);
+        store.ack(retried);
+    }
+
+    @Test
+    void unreadableMessageIsDeadLetteredWithoutCode() {
+        // given: attempt 형식이 깨진 메시지 (봉인 도입 전 평문 코드)
+        String code = "C-" + UUID.randomUUID();
+        String json = "{\"id\":\"" + UUID.randomUUID() + "\",\"code\":\"" + code + "\",\"attempt\":\"x\"}";
+        redis.opsForStream().add(StreamRecords.mapBacked(Map.of("json", json)).withStreamKey(STREAM));
+
+        // when
+        List<Claimed> claimed = store.poll(1_000);
+        claimed.forEach(store::ack);
+
+        // then: 원문은 코드만 빠진 채 DLQ 로
+        List<MapRecord<String, Object, Object>> dlq = redis.opsForStream().reverseRange(DLQ, Range.unbounded());
+        assertThat(String.valueOf(dlq)).doesNotContain(code);
+        assertThat(dlq).anySatisfy(r -> assertThat(r.getValue()).containsEntry("reason", "unreadable"));
+        assertThat(rawStream()).doesNotContain(code);
+    }
+}
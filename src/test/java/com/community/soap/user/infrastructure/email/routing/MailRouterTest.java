@@ -0,0 +1,132 @@
+package com.community.soap.user.infrastructure.email.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.community.soap.common.resilience.CircuitBreaker;
+import com.community.soap.common.resilience.CircuitBreaker.State;
+import com.community.soap.user.infrastructure.email.FakeSmtpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+class MailRouterTest {
+
+    FakeSmtpServer slow;
+    FakeSmtpServer fast;
+    MailProvider slowProvider;
+    MailProvider fastProvider;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        slow = new FakeSmtpServer();
+        fast = new FakeSmtpServer();
+        slowProvider = provider("slow", slow);
+        fastProvider = provider("fast", fast);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        slow.close();
+        fast.close();
+    }
+
+    @Test
+    void prefersLowerLatencyProvider() throws Exception {
+        // given
+        slow.setResponseDelay(Duration.ofMillis(20));
+        MailRouter router = router(Duration.ofSeconds(5));
+        router.send(message("warmup-1@soap.test"));
+        router.send(message("warmup-2@soap.test"));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            router.send(message("user" + i + "@soap.test"));
+        }
+
+        // then
+        assertThat(fastProvider.latencyEwmaMs()).isLessThan(slowProvider.latencyEwmaMs());
+        assertThat(fast.received()).hasSizeGreaterThanOrEqualTo(10);
+        router.destroy();
+    }
+
+    @Test
+    void failsOverAndOpensBreaker() throws Exception {
+        // given
+        slow.failNext(100);
+        fast.setResponseDelay(Duration.ofMillis(5)); // 처음엔 slow 가 1순위가 되도록
+        MailRouter router = router(Duration.ofSeconds(5));
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            router.send(message("user" + i + "@soap.test"));
+        }
+
+        // then: 모두 fast 로 전달, slow 회로는 열림
+        assertThat(fast.awaitReceived(6, Duration.ofSeconds(5))).isTrue();
+        assertThat(slow.received()).isEmpty();
+        assertThat(slowProvider.breaker().state()).isEqualTo(State.OPEN);
+        router.destroy();
+    }
+
+    @Test
+    void hedgesSlowProvider() throws Exception {
+        // given: 측정 전이라 slow 가 1순위 (등록 순서)
+        slow.setResponseDelay(Duration.ofMillis(200));
+        MailRouter router = router(Duration.ofMillis(50));
+
+        // when
+        long start = System.nanoTime();
+        router.send(message("user@soap.test"));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        // then: hedge 된 fast 결과로 먼저 반환 (slow 는 SMTP 왕복마다 200ms)
+        assertThat(fast.awaitReceived(1, Duration.ofSeconds(5))).isTrue();
+        assertThat(elapsedMs).isLessThan(1_000);
+        router.destroy();
+    }
+
+    @Test
+    void throwsWhenAllProvidersFail() throws Exception {
+        // given
+        slow.failNext(100);
+        fast.failNext(100);
+        MailRouter router = router(Duration.ofSeconds(5));
+
+        // when & then
+        assertThatThrownBy(() -> router.send(message("user@soap.test")))
+                .isInstanceOf(MailSendException.class);
+        router.destroy();
+    }
+
+    private MailRouter router(Duration hedgeAfter) {
+        return new MailRouter(List.of(slowProvider, fastProvider), hedgeAfter, 0.0,
+                new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+    }
+
+    private MailProvider provider(String name, FakeSmtpServer server) {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("127.0.0.1");
+        sender.setPort(server.port());
+        CircuitBreaker breaker = new CircuitBreaker(name,
+                new CircuitBreaker.Config(10, 3, 0.5, Duration.ofMinutes(1)));
+        return new MailProvider(name, sender, "noreply@" + name + ".test", 1.0, 0.5, breaker);
+    }
+
+    private ProviderMessagePreparator message(String to) {
+        return (mime, from) -> {
+            MimeMessageHelper h = new MimeMessageHelper(mime, false, "UTF-8");
+            h.setFrom(from);
+            h.setTo(to);
+            h.setSubject("[Community SOAP] 이메일 인증코드");
+            h.setText("인증코드: 123456");
+        };
+    }
+}
@@ -0,0 +1,102 @@
+package com.community.soap.user.infrastructure.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.user.domain.entity.User;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never"
+})
+class JpaUserAdapterTest {
+
+    @Autowired
+    JpaUserAdapter adapter;
+
+    @Autowired
+    EntityManager em;
+
+    private final LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    private void user(long userId, LocalDateTime deletedAt) {
+        adapter.save(User.register(userId, "u" + userId + "@soap.com", "pw", "user" + userId));
+        if (deletedAt != null) {
+            em.flush();
+            em.createNativeQuery("update s_user set is_deleted = true, deleted_at = ?1 where user_id = ?2")
+                    .setParameter(1, deletedAt)
+                    .setParameter(2, userId)
+                    .executeUpdate();
+        }
+        em.clear();
+    }
+
+    @Test
+    void excludesUsersDeletedAtCutoff() {
+        // given
+        user(1L, cutoff.minusSeconds(1));
+        user(2L, cutoff);               // 경계: deletedAt == cutoff 는 아직 보존
+        user(3L, cutoff.plusSeconds(1));
+        user(4L, null);                 // 탈퇴하지 않은 회원
+
+        // when
+        var ids = adapter.findPurgeCandidateIds(0L, cutoff, 10);
+
+        // then
+        assertThat(ids).containsExactly(1L);
+    }
+
+    @Test
+    void keysetCursorAdvancesAcrossChunks() {
+        // given: 활성 회원이 사이사이 끼어 있어도 커서는 userId 기준
+        for (long id = 1; id <= 7; id++) {
+            user(id, id % 3 == 0 ? null : cutoff.minusDays(1));
+        }
+
+        // when
+        var first = adapter.findPurgeCandidateIds(0L, cutoff, 2);
+        var second = adapter.findPurgeCandidateIds(first.get(first.size() - 1), cutoff, 2);
+        var third = adapter.findPurgeCandidateIds(second.get(second.size() - 1), cutoff, 2);
+        var done = adapter.findPurgeCandidateIds(third.get(third.size() - 1), cutoff, 2);
+
+        // then
+        assertThat(first).containsExactly(1L, 2L);
+        assertThat(second).containsExactly(4L, 5L);
+        assertThat(third).containsExactly(7L);
+        assertThat(done).isEmpty();
+    }
+
+    @Test
+    void deletesOnlySoftDeletedUsers() {
+        // given
+        user(1L, cutoff.minusDays(1));
+        user(2L, null);
+
+        // when
+        int deleted = adapter.deleteSoftDeletedByUserIds(List.of(1L, 2L));
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(adapter.findById(2L)).isPresent();
+    }
+
+    @Test
+    void purgeIndexLeadsWithKeysetColumn() {
+        // when
+        List<?> columns = em.createNativeQuery("""
+                        select column_name from information_schema.index_columns
+                        where table_name = 'S_USER' and index_name = 'IDX_USER_PURGE'
+                        order by ordinal_position
+                        """)
+                .getResultList();
+
+        // then: is_deleted 동등 조건 다음이 커서/정렬 컬럼(user_id) 이어야 범위 스캔 + 정렬 생략이 가능
+        assertThat(columns).containsExactly("IS_DELETED", "USER_ID", "DELETED_AT");
+    }
+}
@@ -0,0 +1,138 @@
+package com.community.soap.user.infrastructure.jwt;
+
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kLegacyRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kLegacyUserRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kUserRt;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.redis.RedisCircuitBreaker;
+import com.community.soap.common.redis.RedisNearCache;
+import com.community.soap.common.redis.config.RedisCircuitProperties;
+import com.community.soap.common.redis.config.RedisClientProperties;
+import com.community.soap.common.redis.config.RedisConfig;
+import com.community.soap.user.application.port.out.TokenRepositoryPort;
+import com.community.soap.user.application.port.out.TokenRepositoryPortContract;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 실제 Redis 대상 계약 테스트 (REDIS_HOST 가 설정된 경우에만)
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class JwtTokenStoreAdapterTest extends TokenRepositoryPortContract {
+
+    static LettuceConnectionFactory factory;
+    static RedisNearCache nearCache;
+    static StringRedisTemplate template;
+    static JwtTokenStoreAdapter adapter;
+
+    @Override
+    protected TokenRepositoryPort port() {
+        if (adapter == null) {
+            RedisProperties props = new RedisProperties();
+            props.setHost(System.getenv("REDIS_HOST"));
+            props.setPort(Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+            factory = new LettuceConnectionFactory(props.getHost(), props.getPort());
+            factory.afterPropertiesSet();
+            nearCache = new RedisConfig(props, new RedisClientProperties()).nearCache(factory, 1_000,
+                    new RedisCircuitBreaker(new RedisCircuitProperties(), new SimpleMeterRegistry()),
+                    new SimpleMeterRegistry(), List.of());
+            template = new StringRedisTemplate(factory);
+            template.afterPropertiesSet();
+            adapter = new JwtTokenStoreAdapter(template, template, nearCache, true);
+        }
+        return adapter;
+    }
+
+    private void saveLegacy(Long userId, String jti, String hash) {
+        template.opsForValue().set(kLegacyRt(jti), hash, Duration.ofMinutes(1));
+        template.opsForSet().add(kLegacyUserRt(userId), jti);
+    }
+
+    @Test
+    void readsLegacySessionUntilMigrated() {
+        // given: 키 레이아웃 전환 전에 발급된 세션
+        port();
+        Long userId = ThreadLocalRandom.current().nextLong(1L << 40, 1L << 50);
+        String jti = "legacy-" + UUID.randomUUID();
+        saveLegacy(userId, jti, "h");
+
+        // when & then
+        assertThat(adapter.hasUserRefreshJti(userId, jti)).isTrue();
+        assertThat(adapter.getRefreshTokenHashByJti(userId, jti)).contains("h");
+    }
+
+    @Test
+    void revokeRemovesLegacyKeys() {
+        // given
+        port();
+        Long userId = ThreadLocalRandom.current().nextLong(1L << 40, 1L << 50);
+        String jti = "legacy-" + UUID.randomUUID();
+        saveLegacy(userId, jti, "h");
+
+        // when
+        adapter.revokeRefreshToken(userId, jti);
+
+        // then
+        assertThat(adapter.hasUserRefreshJti(userId, jti)).isFalse();
+        assertThat(adapter.getRefreshTokenHashByJti(userId, jti)).isEmpty();
+        assertThat(template.hasKey(kLegacyRt(jti))).isFalse();
+    }
+
+    @Test
+    void rotateRemovesLegacySession() {
+        // given
+        port();
+        Long userId = ThreadLocalRandom.current().nextLong(1L << 40, 1L << 50);
+        String oldJti = "legacy-" + UUID.randomUUID();
+        String newJti = "new-" + UUID.randomUUID();
+        saveLegacy(userId, oldJti, "old");
+
+        // when
+        boolean rotated = adapter.rotateRefreshToken(userId, oldJti, "old", newJti, "new", 60_000);
+
+        // then: 레거시 RT 로 다시 재발급할 수 없음
+        assertThat(rotated).isTrue();
+        assertThat(adapter.getRefreshTokenHashByJti(userId, oldJti)).isEmpty();
+        assertThat(template.opsForSet().isMember(kLegacyUserRt(userId), oldJti)).isFalse();
+        assertThat(adapter.getRefreshTokenHashByJti(userId, newJti)).contains("new");
+    }
+
+    @Test
+    void revokeAllRemovesBothLayouts() {
+        // given
+        port();
+        Long userId = ThreadLocalRandom.current().nextLong(1L << 40, 1L << 50);
+        String legacy = "legacy-" + UUID.randomUUID();
+        String current = "new-" + UUID.randomUUID();
+        saveLegacy(userId, legacy, "h1");
+        adapter.saveRefreshToken(current, userId, "h2", 60_000);
+
+        // when
+        adapter.deleteAllRefreshTokensOfUser(userId);
+
+        // then
+        assertThat(template.hasKey(kLegacyRt(legacy))).isFalse();
+        assertThat(template.hasKey(kLegacyUserRt(userId))).isFalse();
+        assertThat(template.hasKey(kRt(userId, current))).isFalse();
+        assertThat(template.hasKey(kUserRt(userId))).isFalse();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (factory != null) {
+            nearCache.destroy();
+            factory.destroy();
+        }
+    }
+}
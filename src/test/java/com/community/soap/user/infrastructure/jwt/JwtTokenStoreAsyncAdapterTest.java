@@ -0,0 +1,217 @@
+package com.community.soap.user.infrastructure.jwt;
+
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kBlA;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kLegacyRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kLegacyUserRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kUserRt;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.redis.RedisCircuitBreaker;
+import com.community.soap.common.redis.RedisNearCache;
+import com.community.soap.common.redis.config.RedisCircuitProperties;
+import com.community.soap.common.redis.config.RedisClientProperties;
+import com.community.soap.common.redis.config.RedisConfig;
+import com.community.soap.user.infrastructure.jwt.config.TokenStoreAsyncConfig;
+import io.lettuce.core.api.StatefulConnection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 실제 Redis 대상 async 저장소 테스트 (REDIS_HOST 가 설정된 경우에만).
+ * 키 구조는 JwtTokenStoreAdapter 와 같아야 하므로 동기 어댑터/템플릿으로 교차 확인한다
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class JwtTokenStoreAsyncAdapterTest {
+
+    static LettuceConnectionFactory factory;
+    static RedisNearCache nearCache;
+    static StringRedisTemplate template;
+    static StatefulConnection<String, String> connection;
+    static JwtTokenStoreAdapter syncAdapter;
+    static JwtTokenStoreAsyncAdapter adapter;
+    static JwtTokenStoreAsyncAdapter noFallback;
+
+    @BeforeAll
+    static void setUp() {
+        RedisProperties props = new RedisProperties();
+        props.setHost(System.getenv("REDIS_HOST"));
+        props.setPort(Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        factory = new LettuceConnectionFactory(props.getHost(), props.getPort());
+        factory.afterPropertiesSet();
+        RedisCircuitBreaker breaker = new RedisCircuitBreaker(new RedisCircuitProperties(), new SimpleMeterRegistry());
+        nearCache = new RedisConfig(props, new RedisClientProperties()).nearCache(factory, 1_000, breaker, new SimpleMeterRegistry(), List.of());
+        template = new StringRedisTemplate(factory);
+        template.afterPropertiesSet();
+        connection = new TokenStoreAsyncConfig().tokenStoreConnection(factory);
+        syncAdapter = new JwtTokenStoreAdapter(template, template, nearCache, true);
+        adapter = new JwtTokenStoreAsyncAdapter(connection, nearCache, breaker, true);
+        noFallback = new JwtTokenStoreAsyncAdapter(connection, nearCache, breaker, false);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (factory != null) {
+            connection.close();
+            nearCache.destroy();
+            factory.destroy();
+        }
+    }
+
+    static <T> T await(CompletionStage<T> stage) throws Exception {
+        return stage.toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    Long userId() {
+        return ThreadLocalRandom.current().nextLong(1L << 40, 1L << 50);
+    }
+
+    String jti() {
+        return "async-" + UUID.randomUUID();
+    }
+
+    @Test
+    void savedTokenIsVisibleToSyncAdapter() throws Exception {
+        // given
+        Long userId = userId();
+        String jti = jti();
+
+        // when
+        await(adapter.saveRefreshToken(jti, userId, "hash", 60_000));
+
+        // then
+        assertThat(syncAdapter.getRefreshTokenHashByJti(userId, jti)).contains("hash");
+        assertThat(syncAdapter.getRefreshTokenTtl(userId, jti)).get()
+                .satisfies(ttl -> assertThat(ttl).isBetween(Duration.ofSeconds(55), Duration.ofSeconds(60)));
+        assertThat(template.opsForSet().isMember(kUserRt(userId), jti)).isTrue();
+    }
+
+    @Test
+    void independentReadsSentTogether() throws Exception {
+        // given
+        Long userId = userId();
+        String jti = jti();
+        syncAdapter.saveRefreshToken(jti, userId, "hash", 60_000);
+
+        // when: 응답을 기다리지 않고 두 명령을 연달아 보냄 (UserService.logout 과 같은 순서)
+        CompletionStage<Boolean> indexed = adapter.hasUserRefreshJti(userId, jti);
+        CompletionStage<Optional<String>> hash = adapter.getRefreshTokenHashByJti(userId, jti);
+
+        // then
+        assertThat(await(indexed)).isTrue();
+        assertThat(await(hash)).contains("hash");
+    }
+
+    @Test
+    void missingTokenReadsAsEmpty() throws Exception {
+        // given
+        Long userId = userId();
+        String jti = jti();
+
+        // when & then
+        assertThat(await(adapter.getRefreshTokenHashByJti(userId, jti))).isEmpty();
+        assertThat(await(adapter.hasUserRefreshJti(userId, jti))).isFalse();
+    }
+
+    @Test
+    void revokeRemovesTokenAndIndex() throws Exception {
+        // given
+        Long userId = userId();
+        String jti = jti();
+        await(adapter.saveRefreshToken(jti, userId, "hash", 60_000));
+        await(adapter.getRefreshTokenHashByJti(userId, jti)); // near cache 적재
+
+        // when
+        await(adapter.revokeRefreshToken(userId, jti));
+
+        // then: near cache 도 무효화되어 바로 보이지 않음
+        assertThat(await(adapter.getRefreshTokenHashByJti(userId, jti))).isEmpty();
+        assertThat(await(adapter.hasUserRefreshJti(userId, jti))).isFalse();
+    }
+
+    @Test
+    void rotateReplacesOldToken() throws Exception {
+        // given
+        Long userId = userId();
+        String oldJti = jti();
+        String newJti = jti();
+        await(adapter.saveRefreshToken(oldJti, userId, "old", 60_000));
+
+        // when
+        boolean rotated = await(adapter.rotateRefreshToken(userId, oldJti, "old", newJti, "new", 60_000));
+
+        // then
+        assertThat(rotated).isTrue();
+        assertThat(await(adapter.getRefreshTokenHashByJti(userId, oldJti))).isEmpty();
+        assertThat(await(adapter.hasUserRefreshJti(userId, oldJti))).isFalse();
+        assertThat(await(adapter.getRefreshTokenHashByJti(userId, newJti))).contains("new");
+        assertThat(await(adapter.hasUserRefreshJti(userId, newJti))).isTrue();
+    }
+
+    @Test
+    void rotateAfterRevokeIsRejectedEvenWithCachedHash() throws Exception {
+        // given: 해시가 near cache 에 있는 상태에서, 다른 커넥션(다른 노드)이 로그아웃
+        Long userId = userId();
+        String oldJti = jti();
+        String newJti = jti();
+        await(adapter.saveRefreshToken(oldJti, userId, "old", 60_000));
+        String read = await(adapter.getRefreshTokenHashByJti(userId, oldJti)).orElseThrow();
+        template.delete(kRt(userId, oldJti));
+        template.opsForSet().remove(kUserRt(userId), oldJti);
+
+        // when
+        boolean rotated = await(adapter.rotateRefreshToken(userId, oldJti, read, newJti, "new", 60_000));
+
+        // then
+        assertThat(rotated).isFalse();
+        assertThat(template.hasKey(kRt(userId, newJti))).isFalse();
+        assertThat(template.opsForSet().isMember(kUserRt(userId), newJti)).isFalse();
+    }
+
+    @Test
+    void blacklistDoesNotExtendTtl() throws Exception {
+        // given
+        String jti = jti();
+        await(adapter.blacklistAccessJti(jti, 60_000));
+
+        // when
+        await(adapter.blacklistAccessJti(jti, 600_000));
+
+        // then
+        assertThat(await(adapter.isAccessJtiBlacklisted(jti))).isTrue();
+        assertThat(template.getExpire(kBlA(jti), TimeUnit.SECONDS)).isBetween(1L, 60L);
+    }
+
+    @Test
+    void readsAndRevokesLegacySession() throws Exception {
+        // given: 키 레이아웃 전환 전에 발급된 세션
+        Long userId = userId();
+        String jti = "legacy-" + UUID.randomUUID();
+        template.opsForValue().set(kLegacyRt(jti), "h", Duration.ofMinutes(1));
+        template.opsForSet().add(kLegacyUserRt(userId), jti);
+
+        // when & then
+        assertThat(await(adapter.hasUserRefreshJti(userId, jti))).isTrue();
+        assertThat(await(adapter.getRefreshTokenHashByJti(userId, jti))).contains("h");
+        assertThat(await(noFallback.hasUserRefreshJti(userId, jti))).isFalse();
+        assertThat(await(noFallback.getRefreshTokenHashByJti(userId, jti))).isEmpty();
+
+        await(adapter.revokeRefreshToken(userId, jti));
+        assertThat(template.hasKey(kLegacyRt(jti))).isFalse();
+        assertThat(template.opsForSet().isMember(kLegacyUserRt(userId), jti)).isFalse();
+        assertThat(template.hasKey(kRt(userId, jti))).isFalse();
+    }
+}
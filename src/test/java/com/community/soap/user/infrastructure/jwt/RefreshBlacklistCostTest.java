@@ -0,0 +1,217 @@
+package com.community.soap.user.infrastructure.jwt;
+
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kUserRt;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.redis.RedisCircuitBreaker;
+import com.community.soap.common.redis.RedisNearCache;
+import com.community.soap.common.redis.config.RedisCircuitProperties;
+import com.community.soap.common.redis.config.RedisClientProperties;
+import com.community.soap.common.redis.config.RedisCommandListenerInstaller;
+import com.community.soap.common.redis.config.RedisConfig;
+import com.community.soap.user.infrastructure.jwt.config.TokenStoreAsyncConfig;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * 실제 Redis 대상 (REDIS_HOST 가 설정된 경우에만).
+ * RT 블랙리스트(BL:R) 제거 전/후의 refresh·logout 1회당 Redis 명령 수와 남는 키 메모리 비교.
+ * - 이후: 현재 어댑터의 rotate/revoke 스크립트만
+ * - 이전: 같은 스크립트 + 제거된 BL:R 조회(EXISTS)/기록(SET NX PX) 을 기존 UserService 순서대로 보냄
+ * RT 해시 조회와 AT 블랙리스트는 전/후가 같아 비교에서 뺀다
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class RefreshBlacklistCostTest {
+
+    static final Set<String> WRITES = Set.of("SET", "DEL", "UNLINK", "SADD", "SREM", "EVAL", "EVALSHA");
+    static final long TTL_MILLIS = 14L * 24 * 60 * 60 * 1000;
+
+    static final CommandRecorder recorder = new CommandRecorder();
+    static LettuceConnectionFactory factory;
+    static RedisNearCache nearCache;
+    static StringRedisTemplate template;
+    static StatefulConnection<String, String> connection;
+    static JwtTokenStoreAsyncAdapter adapter;
+
+    @BeforeAll
+    static void setUp() {
+        RedisProperties props = new RedisProperties();
+        props.setHost(System.getenv("REDIS_HOST"));
+        props.setPort(Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        factory = new LettuceConnectionFactory(props.getHost(), props.getPort());
+        factory.afterPropertiesSet();
+        // 리스너는 첫 커넥션 생성 전에 붙여야 한다
+        new RedisCommandListenerInstaller(new StaticListableBeanFactory(Map.of("recorder", recorder))
+                .getBeanProvider(CommandListener.class)).postProcessAfterInitialization(factory, "factory");
+        RedisCircuitBreaker breaker = new RedisCircuitBreaker(new RedisCircuitProperties(), new SimpleMeterRegistry());
+        nearCache = new RedisConfig(props, new RedisClientProperties()).nearCache(factory, 1_000, breaker,
+                new SimpleMeterRegistry(), List.of());
+        template = new StringRedisTemplate(factory);
+        template.afterPropertiesSet();
+        template.hasKey(kBlR("warm-up")); // 연결 수립(HELLO 등)은 측정 구간 밖에서
+        connection = new TokenStoreAsyncConfig().tokenStoreConnection(factory);
+        // 레거시 키 레이아웃 fallback 명령은 전/후 비교와 무관하므로 끈다
+        adapter = new JwtTokenStoreAsyncAdapter(connection, nearCache, breaker, false);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (factory != null) {
+            connection.close();
+            nearCache.destroy();
+            factory.destroy();
+        }
+    }
+
+    static <T> T await(CompletionStage<T> stage) throws Exception {
+        return stage.toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    static String kBlR(String jti) {
+        return "user-service:BL:R:" + jti;
+    }
+
+    Long userId() {
+        return ThreadLocalRandom.current().nextLong(1L << 40, 1L << 50);
+    }
+
+    String jti() {
+        return "cost-" + UUID.randomUUID();
+    }
+
+    long memoryUsage(String... keys) {
+        long total = 0;
+        for (String key : keys) {
+            Object bytes = template.execute((RedisCallback<Object>) c -> c.execute("MEMORY",
+                    "USAGE".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8)));
+            total += bytes instanceof Long n ? n : 0;
+        }
+        return total;
+    }
+
+    long writes(List<String> commands) {
+        return commands.stream().filter(WRITES::contains).count();
+    }
+
+    @Test
+    void refreshSendsOneWriteAndLeavesNoBlacklistKey() throws Exception {
+        // given: 같은 상태의 세션 2개
+        Long before = userId();
+        Long after = userId();
+        String oldBefore = jti();
+        String oldAfter = jti();
+        String newBefore = jti();
+        String newAfter = jti();
+        await(adapter.saveRefreshToken(oldBefore, before, "old", TTL_MILLIS));
+        await(adapter.saveRefreshToken(oldAfter, after, "old", TTL_MILLIS));
+
+        // when: 이전 = BL:R 조회 → BL:R 기록 → 회전, 이후 = 회전만
+        List<String> legacy = recorder.record(() -> {
+            template.hasKey(kBlR(oldBefore));
+            template.opsForValue().setIfAbsent(kBlR(oldBefore), "1", Duration.ofMillis(TTL_MILLIS));
+            await(adapter.rotateRefreshToken(before, oldBefore, "old", newBefore, "new", TTL_MILLIS));
+        });
+        List<String> current = recorder.record(() ->
+                await(adapter.rotateRefreshToken(after, oldAfter, "old", newAfter, "new", TTL_MILLIS)));
+
+        // then: 명령 3 → 1 (쓰기 2 → 1), refresh 마다 토큰 수명 동안 남던 BL:R 키 1개가 사라짐
+        assertThat(legacy).containsExactly("EXISTS", "SET", "EVAL");
+        assertThat(current).containsExactly("EVAL");
+        assertThat(writes(legacy)).isEqualTo(2);
+        assertThat(writes(current)).isEqualTo(1);
+
+        long blacklistBytes = memoryUsage(kBlR(oldBefore));
+        assertThat(blacklistBytes).isPositive();
+        assertThat(template.hasKey(kBlR(oldAfter))).isFalse();
+        assertThat(memoryUsage(kRt(after, newAfter), kUserRt(after)))
+                .isLessThan(memoryUsage(kRt(before, newBefore), kUserRt(before), kBlR(oldBefore)));
+        template.delete(kBlR(oldBefore));
+    }
+
+    @Test
+    void logoutSendsOneWriteAndLeavesNoBlacklistKey() throws Exception {
+        // given
+        Long before = userId();
+        Long after = userId();
+        String jtiBefore = jti();
+        String jtiAfter = jti();
+        await(adapter.saveRefreshToken(jtiBefore, before, "hash", TTL_MILLIS));
+        await(adapter.saveRefreshToken(jtiAfter, after, "hash", TTL_MILLIS));
+
+        // when: 이전 = BL:R 기록 → 폐기, 이후 = 폐기만
+        List<String> legacy = recorder.record(() -> {
+            template.opsForValue().setIfAbsent(kBlR(jtiBefore), "1", Duration.ofMillis(TTL_MILLIS));
+            await(adapter.revokeRefreshToken(before, jtiBefore));
+        });
+        List<String> current = recorder.record(() -> await(adapter.revokeRefreshToken(after, jtiAfter)));
+
+        // then: 쓰기 2 → 1, 로그아웃 후 남는 키 없음
+        assertThat(legacy).containsExactly("SET", "EVAL");
+        assertThat(current).containsExactly("EVAL");
+        assertThat(writes(legacy)).isEqualTo(2);
+        assertThat(writes(current)).isEqualTo(1);
+
+        assertThat(memoryUsage(kBlR(jtiBefore))).isPositive();
+        assertThat(template.hasKey(kRt(after, jtiAfter))).isFalse();
+        assertThat(template.hasKey(kBlR(jtiAfter))).isFalse();
+        template.delete(kBlR(jtiBefore));
+    }
+
+    /**
+     * 구간 안에서 클라이언트가 보낸 명령 이름 (스크립트는 EVAL 1개로 센다)
+     */
+    static final class CommandRecorder implements CommandListener {
+
+        interface Flow {
+
+            void run() throws Exception;
+        }
+
+        private volatile List<String> commands;
+
+        synchronized List<String> record(Flow flow) throws Exception {
+            List<String> recorded = new ArrayList<>();
+            commands = recorded;
+            try {
+                flow.run();
+            } finally {
+                commands = null;
+            }
+            synchronized (recorded) {
+                return List.copyOf(recorded);
+            }
+        }
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            List<String> recorded = commands;
+            if (recorded != null) {
+                synchronized (recorded) {
+                    recorded.add(event.getCommand().getType().toString());
+                }
+            }
+        }
+    }
+}
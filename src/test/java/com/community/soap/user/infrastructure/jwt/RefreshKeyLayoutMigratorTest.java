@@ -0,0 +1,149 @@
+package com.community.soap.user.infrastructure.jwt;
+
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kLegacyRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kLegacyUserRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kUserRt;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.jwt.JwtTestSupport;
+import com.community.soap.common.jwt.TokenWatermarkStore;
+import com.community.soap.common.redis.RedisCircuitBreaker;
+import com.community.soap.common.redis.RedisNearCache;
+import com.community.soap.common.redis.config.RedisCircuitProperties;
+import com.community.soap.common.redis.config.RedisClientProperties;
+import com.community.soap.common.redis.config.RedisConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 실제 Redis 대상 (REDIS_HOST 가 설정된 경우에만). 폐기된 레거시 세션을 되살리지 않는지 확인
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class RefreshKeyLayoutMigratorTest {
+
+    static LettuceConnectionFactory factory;
+    static StringRedisTemplate redis;
+    static RedisMessageListenerContainer container;
+    static RedisNearCache nearCache;
+    static TokenWatermarkStore watermarks;
+    static RefreshKeyLayoutMigrator migrator;
+    static JwtTokenStoreAdapter adapter;
+
+    @BeforeAll
+    static void setUp() {
+        RedisProperties props = new RedisProperties();
+        props.setHost(System.getenv("REDIS_HOST"));
+        props.setPort(Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379")));
+        factory = new LettuceConnectionFactory(props.getHost(), props.getPort());
+        factory.afterPropertiesSet();
+        redis = new StringRedisTemplate(factory);
+        redis.afterPropertiesSet();
+        container = JwtTestSupport.listenerContainer(factory);
+        watermarks = JwtTestSupport.watermarkStore(factory, container, Duration.ofSeconds(30));
+        migrator = new RefreshKeyLayoutMigrator(redis, watermarks, JwtTestSupport.jwtProvider());
+        nearCache = new RedisConfig(props, new RedisClientProperties()).nearCache(factory, 1_000,
+                new RedisCircuitBreaker(new RedisCircuitProperties(), new SimpleMeterRegistry()),
+                new SimpleMeterRegistry(), List.of());
+        adapter = new JwtTokenStoreAdapter(redis, redis, nearCache, true);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        container.stop();
+        nearCache.destroy();
+        factory.destroy();
+    }
+
+    Long userId() {
+        return ThreadLocalRandom.current().nextLong(1L << 40, 1L << 50);
+    }
+
+    String jti() {
+        return "migrate-" + UUID.randomUUID();
+    }
+
+    // 발급 시각 issuedAt 인 RT 를 레거시 키로 저장 (TTL = exp - now)
+    void saveLegacy(Long userId, String jti, Instant issuedAt) {
+        Instant exp = issuedAt.plus(JwtTestSupport.REFRESH_TTL);
+        redis.opsForValue().set(kLegacyRt(jti), "h", Duration.between(Instant.now(), exp));
+        redis.opsForSet().add(kLegacyUserRt(userId), jti);
+    }
+
+    @Test
+    void movesLiveSession() {
+        // given
+        Long userId = userId();
+        String jti = jti();
+        saveLegacy(userId, jti, Instant.now());
+
+        // when
+        long moved = migrator.migrateUser(userId);
+
+        // then
+        assertThat(moved).isEqualTo(1);
+        assertThat(redis.opsForValue().get(kRt(userId, jti))).isEqualTo("h");
+        assertThat(redis.opsForSet().isMember(kUserRt(userId), jti)).isTrue();
+        assertThat(redis.hasKey(kLegacyRt(jti))).isFalse();
+    }
+
+    @Test
+    void skipsSessionsIssuedBeforeWatermark() {
+        // given: 10분 전 발급 세션 → 전체 로그아웃 → 그 뒤 발급 세션
+        Long userId = userId();
+        String revoked = jti();
+        String alive = jti();
+        saveLegacy(userId, revoked, Instant.now().minus(Duration.ofMinutes(10)));
+        watermarks.revokeAllIssuedBefore(userId, Instant.now().minus(Duration.ofMinutes(5)));
+        saveLegacy(userId, alive, Instant.now());
+
+        // when
+        long moved = migrator.migrateUser(userId);
+
+        // then
+        assertThat(moved).isEqualTo(1);
+        assertThat(redis.hasKey(kRt(userId, revoked))).isFalse();
+        assertThat(redis.opsForSet().members(kUserRt(userId))).containsExactly(alive);
+        assertThat(redis.hasKey(kLegacyRt(revoked))).isFalse();
+    }
+
+    @Test
+    void doesNotResurrectLoggedOutSession() {
+        // given: 마이그레이션 전에 레거시 세션으로 로그아웃
+        Long userId = userId();
+        String jti = jti();
+        saveLegacy(userId, jti, Instant.now());
+        adapter.revokeRefreshToken(userId, jti);
+
+        // when
+        long moved = migrator.migrateUser(userId);
+
+        // then
+        assertThat(moved).isZero();
+        assertThat(redis.hasKey(kRt(userId, jti))).isFalse();
+        assertThat(adapter.hasUserRefreshJti(userId, jti)).isFalse();
+    }
+
+    @Test
+    void derivesIssuedAtFromRemainingTtl() {
+        // given: iat 를 초 단위로 잘라 발급한 RT 의 남은 TTL
+        Instant iat = Instant.ofEpochSecond(1_700_000_000L);
+        long now = iat.toEpochMilli() + 1_234;
+        long ttl = iat.plus(JwtTestSupport.REFRESH_TTL).toEpochMilli() - now;
+
+        // when & then
+        assertThat(migrator.issuedAtOf(now, ttl)).isEqualTo(iat);
+    }
+}
@@ -0,0 +1,92 @@
+package com.community.soap.user.infrastructure.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.redis.InMemoryStringRedisTemplate;
+import com.community.soap.user.application.port.out.RefreshRotationPort.RefreshRotation;
+import com.community.soap.user.application.response.SignInResponse;
+import com.community.soap.user.domain.entity.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class RefreshRotationAdapterTest {
+
+    static final String SECRET = Base64.getEncoder().encodeToString("r".repeat(64).getBytes());
+    static final Duration GRACE = Duration.ofSeconds(10);
+
+    InMemoryStringRedisTemplate redis = new InMemoryStringRedisTemplate();
+    RefreshRotationAdapter adapter = new RefreshRotationAdapter(redis, new ObjectMapper(), "", SECRET);
+
+    SignInResponse response() {
+        User user = User.register(7L, "user@soap.com", "pw", "soap");
+        return SignInResponse.of(user, "access-token-value", 1_800_000, "refresh-token-value", 1_209_600_000);
+    }
+
+    @Test
+    void onlyFirstClaimWins() {
+        // when
+        boolean leader = adapter.tryClaim("r1", GRACE);
+        boolean follower = adapter.tryClaim("r1", GRACE);
+
+        // then: 회전 중 기록은 결과 없음(PENDING)
+        assertThat(leader).isTrue();
+        assertThat(follower).isFalse();
+        assertThat(adapter.find("r1")).hasValueSatisfying(r -> assertThat(r.completed()).isFalse());
+    }
+
+    @Test
+    void completedRecordIsEncryptedAndReadable() {
+        // given
+        adapter.tryClaim("r1", GRACE);
+
+        // when
+        adapter.complete("r1", "hash-1", response(), GRACE);
+
+        // then: Redis 에는 토큰이 평문으로 남지 않음
+        String raw = redis.raw(RefreshRotationAdapter.kGrace("r1"));
+        assertThat(raw).startsWith("v1:")
+                .doesNotContain("access-token-value")
+                .doesNotContain("refresh-token-value");
+        RefreshRotation found = adapter.find("r1").orElseThrow();
+        assertThat(found.completed()).isTrue();
+        assertThat(found.refreshHash()).isEqualTo("hash-1");
+        assertThat(found.response()).isEqualTo(response());
+        assertThat(redis.ttl(RefreshRotationAdapter.kGrace("r1"))).isLessThanOrEqualTo(GRACE);
+    }
+
+    @Test
+    void recordMovedToAnotherJtiIsRejected() {
+        // given: r1 의 기록을 r2 키로 복사 (AAD = rJti)
+        adapter.complete("r1", "hash-1", response(), GRACE);
+        redis.opsForValue().set(RefreshRotationAdapter.kGrace("r2"), redis.raw(RefreshRotationAdapter.kGrace("r1")));
+
+        // when & then
+        assertThat(adapter.find("r2")).isEmpty();
+    }
+
+    @Test
+    void recordSealedWithAnotherKeyIsRejected() {
+        // given: 다른 키를 쓰는 노드가 남긴 기록
+        RefreshRotationAdapter other = new RefreshRotationAdapter(redis, new ObjectMapper(),
+                Base64.getEncoder().encodeToString(new byte[32]), SECRET);
+        other.complete("r1", "hash-1", response(), GRACE);
+
+        // when & then
+        assertThat(adapter.find("r1")).isEmpty();
+    }
+
+    @Test
+    void releaseRemovesClaim() {
+        // given
+        adapter.tryClaim("r1", GRACE);
+
+        // when
+        adapter.release("r1");
+
+        // then
+        assertThat(adapter.find("r1")).isEmpty();
+        assertThat(adapter.tryClaim("r1", GRACE)).isTrue();
+    }
+}
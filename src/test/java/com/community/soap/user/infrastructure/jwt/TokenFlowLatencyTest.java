@@ -0,0 +1,145 @@
+package com.community.soap.user.infrastructure.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.user.application.port.out.TokenRepositoryAsyncPort;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * logout 흐름(SISMEMBER, GET, SET NX, 폐기 스크립트)이 기다리는 Redis 왕복 수 비교 (RTT 별 지연은 TokenFlowBenchmark).
+ * - sequential: 명령마다 응답을 기다림 (기존 동기 포트) → 4 RTT
+ * - concurrent: 독립 명령을 함께 보냄 (조회 2건 → 쓰기 2건) → 2 RTT
+ */
+class TokenFlowLatencyTest {
+
+    ScheduledExecutorService network = Executors.newScheduledThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        network.shutdownNow();
+    }
+
+    @Test
+    void concurrentLogoutWaitsTwoRoundTrips() {
+        // given
+        DelayedTokenRepository sequentialPort = new DelayedTokenRepository(network, 5_000);
+        DelayedTokenRepository concurrentPort = new DelayedTokenRepository(network, 5_000);
+
+        // when
+        logoutSequential(sequentialPort);
+        logoutConcurrent(concurrentPort);
+
+        // then
+        assertThat(sequentialPort.roundTrips()).isEqualTo(4);
+        assertThat(concurrentPort.roundTrips()).isEqualTo(2);
+    }
+
+    private void logoutSequential(TokenRepositoryAsyncPort port) {
+        join(port.hasUserRefreshJti(1L, "r"));
+        join(port.blacklistAccessJti("a", 60_000));
+        join(port.getRefreshTokenHashByJti(1L, "r"));
+        join(port.revokeRefreshToken(1L, "r"));
+    }
+
+    private void logoutConcurrent(TokenRepositoryAsyncPort port) {
+        CompletionStage<Boolean> indexed = port.hasUserRefreshJti(1L, "r");
+        CompletionStage<Optional<String>> stored = port.getRefreshTokenHashByJti(1L, "r");
+        join(indexed);
+        join(stored);
+        CompletableFuture.allOf(
+                port.blacklistAccessJti("a", 60_000).toCompletableFuture(),
+                port.revokeRefreshToken(1L, "r").toCompletableFuture()
+        ).join();
+    }
+
+    private static <T> T join(CompletionStage<T> stage) {
+        return stage.toCompletableFuture().join();
+    }
+
+    /**
+     * 모든 명령이 RTT 후에 완료되는 저장소 (한 커넥션에서 pipelining 되는 Lettuce 를 흉내).
+     * 대기 중인 명령이 없을 때 보낸 명령을 새 왕복으로 센다
+     */
+    static final class DelayedTokenRepository implements TokenRepositoryAsyncPort {
+
+        private final ScheduledExecutorService network;
+        private final long rttMicros;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger roundTrips = new AtomicInteger();
+
+        DelayedTokenRepository(ScheduledExecutorService network, long rttMicros) {
+            this.network = network;
+            this.rttMicros = rttMicros;
+        }
+
+        private <T> CompletionStage<T> reply(T value) {
+            if (pending.getAndIncrement() == 0) {
+                roundTrips.incrementAndGet();
+            }
+            CompletableFuture<T> f = new CompletableFuture<>();
+            network.schedule(() -> {
+                pending.decrementAndGet();
+                f.complete(value);
+            }, rttMicros, TimeUnit.MICROSECONDS);
+            return f;
+        }
+
+        int roundTrips() {
+            return roundTrips.get();
+        }
+
+        @Override
+        public CompletionStage<Void> saveRefreshToken(String jti, Long userId, String hash, long ttlMillis) {
+            return reply(null);
+        }
+
+        @Override
+        public CompletionStage<Optional<String>> getRefreshTokenHashByJti(Long userId, String jti) {
+            return reply(Optional.of("hash"));
+        }
+
+        @Override
+        public CompletionStage<Void> deleteRefreshTokenByJti(Long userId, String jti) {
+            return reply(null);
+        }
+
+        @Override
+        public CompletionStage<Void> revokeRefreshToken(Long userId, String jti) {
+            return reply(null);
+        }
+
+        @Override
+        public CompletionStage<Boolean> rotateRefreshToken(Long userId, String oldJti, String expectedHash,
+                String newJti, String hash, long ttlMillis) {
+            return reply(true);
+        }
+
+        @Override
+        public CompletionStage<Boolean> hasUserRefreshJti(Long userId, String jti) {
+            return reply(true);
+        }
+
+        @Override
+        public CompletionStage<Void> removeUserRefreshIndex(Long userId, String jti) {
+            return reply(null);
+        }
+
+        @Override
+        public CompletionStage<Void> blacklistAccessJti(String jti, long ttlMillis) {
+            return reply(null);
+        }
+
+        @Override
+        public CompletionStage<Boolean> isAccessJtiBlacklisted(String jti) {
+            return reply(false);
+        }
+    }
+}
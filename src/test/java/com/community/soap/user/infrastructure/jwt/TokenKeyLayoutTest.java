@@ -0,0 +1,41 @@
+package com.community.soap.user.infrastructure.jwt;
+
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kUserRt;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.lettuce.core.cluster.SlotHash;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TokenKeyLayoutTest {
+
+    @Test
+    void userKeysShareOneSlot() {
+        for (long userId = 1; userId <= 1_000; userId++) {
+            // given
+            int indexSlot = SlotHash.getSlot(kUserRt(userId));
+
+            // when & then
+            for (int i = 0; i < 5; i++) {
+                assertThat(SlotHash.getSlot(kRt(userId, UUID.randomUUID().toString()))).isEqualTo(indexSlot);
+            }
+        }
+    }
+
+    @Test
+    void usersSpreadAcrossSlots() {
+        // given
+        Set<Integer> slots = new HashSet<>();
+
+        // when
+        for (long userId = 1; userId <= 10_000; userId++) {
+            slots.add(SlotHash.getSlot(kUserRt(userId)));
+        }
+
+        // then: 3-master 기준 shard 당 ~5461 slot → 유저가 고르게 퍼지는지
+        assertThat(slots.size()).isGreaterThan(5_000);
+    }
+}
@@ -0,0 +1,291 @@
+package com.community.soap.user.infrastructure.jwt;
+
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.REVOKE_ALL_LUA;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.REVOKE_LUA;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.ROTATE_LUA;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kLegacyRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kLegacyUserRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kRt;
+import static com.community.soap.user.infrastructure.jwt.JwtTokenStoreAdapter.kUserRt;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.community.soap.common.jwt.JwtTestSupport;
+import com.community.soap.common.redis.LettuceConnections;
+import com.community.soap.common.redis.RedisCircuitBreaker;
+import com.community.soap.common.redis.RedisNearCache;
+import com.community.soap.common.redis.config.RedisCircuitProperties;
+import com.community.soap.common.redis.config.RedisClientProperties;
+import com.community.soap.common.redis.config.RedisConfig;
+import io.lettuce.core.api.StatefulConnection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 로컬 Redis Cluster 대상 (REDIS_CLUSTER_NODES=127.0.0.1:7000,127.0.0.1:7001,127.0.0.1:7002 등이 설정된 경우에만).
+ * 유저 키가 한 slot 에 모이므로 폐기/회전 스크립트가 CROSSSLOT 없이 한 shard 에서 실행되는지 확인.
+ * 스크립트는 템플릿으로 직접 실행하고, async 어댑터는 Cluster 커넥션 + near cache 없이(Cluster 모드) 확인한다.
+ * 마이그레이션 배치(SCAN)는 여러 마스터에 흩어진 키를 모두 처리하는지 확인
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_CLUSTER_NODES", matches = ".+")
+class TokenStoreClusterTest {
+
+    static final RedisScript<Long> REVOKE = RedisScript.of(REVOKE_LUA, Long.class);
+    static final RedisScript<Long> ROTATE = RedisScript.of(ROTATE_LUA, Long.class);
+    static final RedisScript<Long> REVOKE_ALL = RedisScript.of(REVOKE_ALL_LUA, Long.class);
+
+    static LettuceConnectionFactory factory;
+    static StringRedisTemplate redis;
+    static StatefulConnection<String, String> connection;
+    static RedisNearCache nearCache;
+    static JwtTokenStoreAsyncAdapter asyncAdapter;
+
+    @BeforeAll
+    static void setUp() {
+        List<String> nodes = Arrays.asList(System.getenv("REDIS_CLUSTER_NODES").split(","));
+        factory = new LettuceConnectionFactory(new RedisClusterConfiguration(nodes));
+        factory.afterPropertiesSet();
+        redis = new StringRedisTemplate(factory);
+        redis.afterPropertiesSet();
+        RedisCircuitBreaker breaker = new RedisCircuitBreaker(new RedisCircuitProperties(), new SimpleMeterRegistry());
+        nearCache = new RedisConfig(new RedisProperties(), new RedisClientProperties())
+                .nearCache(factory, 1_000, breaker, new SimpleMeterRegistry(), List.of());
+        connection = LettuceConnections.connect(factory);
+        asyncAdapter = new JwtTokenStoreAsyncAdapter(connection, nearCache, breaker, false);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        connection.close();
+        nearCache.destroy();
+        factory.destroy();
+    }
+
+    Long userId() {
+        return ThreadLocalRandom.current().nextLong(1L << 40, 1L << 50);
+    }
+
+    String jti() {
+        return "cluster-" + UUID.randomUUID();
+    }
+
+    void save(Long userId, String jti, String hash) {
+        redis.opsForValue().set(kRt(userId, jti), hash, Duration.ofMinutes(1));
+        redis.opsForSet().add(kUserRt(userId), jti);
+    }
+
+    @Test
+    void revokeRunsOnOneShard() {
+        // given
+        Long userId = userId();
+        String jti = jti();
+        save(userId, jti, "h");
+
+        // when
+        redis.execute(REVOKE, List.of(kRt(userId, jti), kUserRt(userId)), jti);
+
+        // then
+        assertThat(redis.hasKey(kRt(userId, jti))).isFalse();
+        assertThat(redis.opsForSet().isMember(kUserRt(userId), jti)).isFalse();
+    }
+
+    @Test
+    void rotateRunsOnOneShard() {
+        // given
+        Long userId = userId();
+        String oldJti = jti();
+        String newJti = jti();
+        save(userId, oldJti, "old");
+
+        // when
+        redis.execute(ROTATE, List.of(kRt(userId, oldJti), kUserRt(userId), kRt(userId, newJti)),
+                oldJti, newJti, "new", "30000", "old", "0");
+
+        // then
+        assertThat(redis.hasKey(kRt(userId, oldJti))).isFalse();
+        assertThat(redis.opsForValue().get(kRt(userId, newJti))).isEqualTo("new");
+        assertThat(redis.getExpire(kRt(userId, newJti), TimeUnit.MILLISECONDS)).isBetween(25_000L, 30_000L);
+        assertThat(redis.opsForSet().members(kUserRt(userId))).containsExactly(newJti);
+    }
+
+    @Test
+    void revokeAllRemovesEverySessionOfUser() {
+        // given
+        Long userId = userId();
+        List<String> jtis = List.of(jti(), jti(), jti());
+        jtis.forEach(jti -> save(userId, jti, "h"));
+
+        List<String> keys = new ArrayList<>();
+        keys.add(kUserRt(userId));
+        jtis.forEach(jti -> keys.add(kRt(userId, jti)));
+
+        // when: 스크립트가 건드리는 키는 모두 KEYS 로 선언
+        Long left = redis.execute(REVOKE_ALL, keys, jtis.toArray());
+
+        // then
+        assertThat(left).isZero();
+        assertThat(redis.hasKey(kUserRt(userId))).isFalse();
+        jtis.forEach(jti -> assertThat(redis.hasKey(kRt(userId, jti))).isFalse());
+    }
+
+    @Test
+    void concurrentRotationsAcrossUsersStayConsistent() throws Exception {
+        // given: 여러 유저(여러 shard)에 걸친 동시 회전
+        List<Long> users = new ArrayList<>();
+        List<String> olds = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            Long userId = userId();
+            String jti = jti();
+            save(userId, jti, "h");
+            users.add(userId);
+            olds.add(jti);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            Long userId = users.get(i);
+            String old = olds.get(i);
+            futures.add(executor.submit(() -> {
+                String next = jti();
+                redis.execute(ROTATE, List.of(kRt(userId, old), kUserRt(userId), kRt(userId, next)),
+                        old, next, "n", "60000", "h", "0");
+                return next;
+            }));
+        }
+
+        // then
+        for (int i = 0; i < users.size(); i++) {
+            String next = futures.get(i).get();
+            assertThat(redis.opsForSet().members(kUserRt(users.get(i)))).containsExactly(next);
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void asyncAdapterRotatesOverClusterConnection() {
+        // given
+        Long userId = userId();
+        String oldJti = jti();
+        String newJti = jti();
+        save(userId, oldJti, "old");
+
+        // when: near cache 는 Cluster 에서 꺼지고 조회는 Cluster 커넥션으로 바로
+        asyncAdapter.rotateRefreshToken(userId, oldJti, "old", newJti, "new", 30_000).toCompletableFuture().join();
+
+        // then
+        assertThat(asyncAdapter.getRefreshTokenHashByJti(userId, newJti).toCompletableFuture().join())
+                .contains("new");
+        assertThat(asyncAdapter.getRefreshTokenHashByJti(userId, oldJti).toCompletableFuture().join())
+                .isEmpty();
+        assertThat(nearCache.size()).isZero();
+    }
+
+    @Test
+    void legacyLayoutCannotRunMultiKeyScript() {
+        // given: 레거시 키는 hash tag 가 없어 slot 이 갈린다
+        String jti = jti();
+        Long userId = userId();
+        String legacyRt = kLegacyRt(jti);
+        String legacyIdx = kLegacyUserRt(userId);
+
+        // when & then
+        assertThatThrownBy(() -> redis.execute(REVOKE, List.of(legacyRt, legacyIdx), jti))
+                .isInstanceOf(DataAccessException.class);
+    }
+
+    @Test
+    void migratorMovesLegacySessionsIntoUserSlot() {
+        // given
+        Long userId = userId();
+        String jti = jti();
+        redis.opsForValue().set(kLegacyRt(jti), "h", Duration.ofMinutes(1));
+        redis.opsForSet().add(kLegacyUserRt(userId), jti);
+        RedisMessageListenerContainer container = JwtTestSupport.listenerContainer(factory);
+        RefreshKeyLayoutMigrator migrator = new RefreshKeyLayoutMigrator(redis,
+                JwtTestSupport.watermarkStore(factory, container, Duration.ofSeconds(30)),
+                JwtTestSupport.jwtProvider());
+
+        // when
+        long moved = migrator.migrateUser(userId);
+
+        // then
+        assertThat(moved).isEqualTo(1);
+        assertThat(redis.opsForValue().get(kRt(userId, jti))).isEqualTo("h");
+        assertThat(redis.opsForSet().members(kUserRt(userId))).isEqualTo(Set.of(jti));
+        assertThat(redis.hasKey(kLegacyRt(jti))).isFalse();
+        assertThat(redis.hasKey(kLegacyUserRt(userId))).isFalse();
+        container.stop();
+    }
+
+    @Test
+    void migrateAllScansEveryMaster() {
+        // given: 레거시 인덱스 키는 hash tag 가 없어 여러 마스터에 흩어진다
+        List<Long> users = new ArrayList<>();
+        List<String> jtis = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            Long userId = userId();
+            String jti = jti();
+            redis.opsForValue().set(kLegacyRt(jti), "h", Duration.ofMinutes(1));
+            redis.opsForSet().add(kLegacyUserRt(userId), jti);
+            users.add(userId);
+            jtis.add(jti);
+        }
+        RedisMessageListenerContainer container = JwtTestSupport.listenerContainer(factory);
+        RefreshKeyLayoutMigrator migrator = new RefreshKeyLayoutMigrator(redis,
+                JwtTestSupport.watermarkStore(factory, container, Duration.ofSeconds(30)),
+                JwtTestSupport.jwtProvider());
+
+        // when
+        long moved = migrator.migrateAll();
+
+        // then: 다른 테스트가 남긴 레거시 키가 있을 수 있어 하한만 확인
+        assertThat(moved).isGreaterThanOrEqualTo(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            assertThat(redis.opsForValue().get(kRt(users.get(i), jtis.get(i)))).isEqualTo("h");
+            assertThat(redis.hasKey(kLegacyUserRt(users.get(i)))).isFalse();
+            assertThat(redis.hasKey(kLegacyRt(jtis.get(i)))).isFalse();
+        }
+        container.stop();
+    }
+
+    @Test
+    void blacklistCleanerScansEveryMaster() {
+        // given
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            String key = "user-service:BL:R:" + jti();
+            redis.opsForValue().set(key, "1", Duration.ofMinutes(1));
+            keys.add(key);
+        }
+
+        // when
+        long removed = new LegacyRefreshBlacklistCleaner(redis).clean();
+
+        // then
+        assertThat(removed).isGreaterThanOrEqualTo(keys.size());
+        keys.forEach(key -> assertThat(redis.hasKey(key)).isFalse());
+    }
+}
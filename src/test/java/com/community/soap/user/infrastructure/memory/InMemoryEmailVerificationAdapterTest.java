@@ -0,0 +1,23 @@
+package com.community.soap.user.infrastructure.memory;
+
+import com.community.soap.common.concurrent.TimerWheel;
+import com.community.soap.user.application.port.out.EmailVerificationRepositoryPort;
+import com.community.soap.user.application.port.out.EmailVerificationRepositoryPortContract;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+
+class InMemoryEmailVerificationAdapterTest extends EmailVerificationRepositoryPortContract {
+
+    TimerWheel wheel = new TimerWheel("test", Duration.ofMillis(10), 64);
+    InMemoryEmailVerificationAdapter adapter = new InMemoryEmailVerificationAdapter(wheel);
+
+    @Override
+    protected EmailVerificationRepositoryPort port() {
+        return adapter;
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+}
@@ -0,0 +1,62 @@
+package com.community.soap.user.infrastructure.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.concurrent.TimerWheel;
+import com.community.soap.user.application.response.SignInResponse;
+import com.community.soap.user.domain.entity.User;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRefreshRotationAdapterTest {
+
+    TimerWheel wheel = new TimerWheel("test", Duration.ofMillis(10), 64);
+    InMemoryRefreshRotationAdapter adapter = new InMemoryRefreshRotationAdapter(wheel);
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @Test
+    void onlyFirstClaimWinsUntilReleased() {
+        // when
+        boolean first = adapter.tryClaim("r1", Duration.ofSeconds(5));
+        boolean second = adapter.tryClaim("r1", Duration.ofSeconds(5));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(adapter.find("r1")).get().matches(r -> !r.completed());
+
+        // when
+        adapter.release("r1");
+
+        // then
+        assertThat(adapter.find("r1")).isEmpty();
+        assertThat(adapter.tryClaim("r1", Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    void completedRotationIsReturnedUntilGraceExpires() throws InterruptedException {
+        // given
+        User user = User.register(7L, "user@soap.com", "pw", "soap");
+        SignInResponse response = SignInResponse.of(user, "access-token-value", 1_800_000, "refresh-token-value",
+                1_209_600_000);
+        adapter.tryClaim("r1", Duration.ofSeconds(5));
+
+        // when
+        adapter.complete("r1", "hash", response, Duration.ofMillis(50));
+
+        // then
+        assertThat(adapter.find("r1")).get().satisfies(r -> {
+            assertThat(r.completed()).isTrue();
+            assertThat(r.refreshHash()).isEqualTo("hash");
+            assertThat(r.response()).isEqualTo(response);
+        });
+        Thread.sleep(100);
+        assertThat(adapter.find("r1")).isEmpty();
+        assertThat(adapter.tryClaim("r1", Duration.ofSeconds(5))).isTrue();
+    }
+}
@@ -0,0 +1,42 @@
+package com.community.soap.user.infrastructure.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.concurrent.TimerWheel;
+import com.community.soap.user.application.port.out.TokenRepositoryPort;
+import com.community.soap.user.application.port.out.TokenRepositoryPortContract;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class InMemoryTokenStoreAdapterTest extends TokenRepositoryPortContract {
+
+    TimerWheel wheel = new TimerWheel("test", Duration.ofMillis(10), 64);
+    InMemoryTokenStoreAdapter adapter = new InMemoryTokenStoreAdapter(wheel);
+
+    @Override
+    protected TokenRepositoryPort port() {
+        return adapter;
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @Test
+    void wheelReclaimsExpiredEntries() throws InterruptedException {
+        // given
+        for (int i = 0; i < 1_000; i++) {
+            adapter.saveRefreshToken("j" + i, 1L, "h", 50);
+            adapter.blacklistAccessJti("a" + i, 50);
+        }
+
+        // when: 조회하지 않아도
+        Thread.sleep(300);
+
+        // then
+        assertThat(wheel.pending()).isZero();
+        assertThat(adapter.getRefreshTokenHashByJti(1L, "j0")).isEmpty();
+    }
+}
@@ -0,0 +1,43 @@
+package com.community.soap.user.infrastructure.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class InMemoryUserPurgeCursorAdapterTest {
+
+    InMemoryUserPurgeCursorAdapter adapter = new InMemoryUserPurgeCursorAdapter();
+
+    @Test
+    void onlyLockOwnerAdvancesCursor() {
+        // given
+        assertThat(adapter.tryLock("a", Duration.ofSeconds(5))).isTrue();
+        assertThat(adapter.tryLock("b", Duration.ofSeconds(5))).isFalse();
+
+        // when
+        boolean byOwner = adapter.saveCursor("a", 10L);
+        boolean byOther = adapter.saveCursor("b", 20L);
+
+        // then
+        assertThat(byOwner).isTrue();
+        assertThat(byOther).isFalse();
+        assertThat(adapter.loadCursor()).contains(10L);
+    }
+
+    @Test
+    void expiredLockCanBeTakenAndOldOwnerIsFenced() throws InterruptedException {
+        // given
+        adapter.tryLock("a", Duration.ofMillis(20));
+        Thread.sleep(50);
+
+        // when
+        boolean taken = adapter.tryLock("b", Duration.ofSeconds(5));
+
+        // then
+        assertThat(taken).isTrue();
+        assertThat(adapter.renewLock("a", Duration.ofSeconds(5))).isFalse();
+        assertThat(adapter.clearCursor("a")).isFalse();
+        assertThat(adapter.renewLock("b", Duration.ofSeconds(5))).isTrue();
+    }
+}
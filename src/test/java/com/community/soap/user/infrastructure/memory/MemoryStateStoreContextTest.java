@@ -0,0 +1,66 @@
+package com.community.soap.user.infrastructure.memory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.community.soap.common.jwt.InMemoryTokenWatermarkStore;
+import com.community.soap.common.jwt.TokenWatermarkStore;
+import com.community.soap.common.redis.RedisCircuitBreaker;
+import com.community.soap.common.redis.RedisNearCache;
+import com.community.soap.user.application.port.out.RefreshRotationPort;
+import com.community.soap.user.application.port.out.UserPurgeCursorPort;
+import com.community.soap.user.infrastructure.email.outbox.EmailOutboxStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * user.state-store=memory 는 Redis 없이 기동해야 한다.
+ * Redis 주소는 닫힌 포트라 기동 중 접속을 시도하는 빈이 있으면 실패한다
+ */
+@SpringBootTest(properties = {
+        "user.state-store=memory",
+        "spring.data.redis.host=localhost",
+        "spring.data.redis.port=1",
+        "management.health.redis.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:memory-state-store;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.sql.init.mode=never",
+        "ACCESS_SECRET=YWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYQ==",
+        "REFRESH_SECRET=cnJycnJycnJycnJycnJycnJycnJycnJycnJycnJycnJycnJycnJycnJycnJycnJycnJycnJycnJycnJycg==",
+        "ACCESS-TOKEN-EXPIRATION=1800000",
+        "REFRESH-TOKEN-EXPIRATION=1209600000",
+        "NAVER_MAIL_PORT=465",
+        "NAVER_ID=test@soap.com",
+        "NAVER_PW=test",
+        "TIMEOUT=1000",
+        "JFR_ENABLED=false",
+        "user.mail-outbox.enabled=false",
+        "user.purge.enabled=false"
+})
+class MemoryStateStoreContextTest {
+
+    @Autowired
+    ApplicationContext context;
+
+    @Test
+    void bootsWithInMemoryStoresAndNoRedisBeans() {
+        // then
+        assertThat(targetClass(TokenWatermarkStore.class)).isEqualTo(InMemoryTokenWatermarkStore.class);
+        assertThat(targetClass(RefreshRotationPort.class)).isEqualTo(InMemoryRefreshRotationAdapter.class);
+        assertThat(targetClass(EmailOutboxStore.class)).isEqualTo(InMemoryEmailOutboxStore.class);
+        assertThat(targetClass(UserPurgeCursorPort.class)).isEqualTo(InMemoryUserPurgeCursorAdapter.class);
+        assertThat(context.getBeansOfType(RedisNearCache.class)).isEmpty();
+        assertThat(context.getBeansOfType(RedisCircuitBreaker.class)).isEmpty();
+        assertThat(context.getBeansOfType(RedisMessageListenerContainer.class)).isEmpty();
+    }
+
+    private Class<?> targetClass(Class<?> type) {
+        return AopUtils.getTargetClass(context.getBean(type));
+    }
+}